@@ -15,3 +15,25 @@
 -- limitations under the License.
 --
 
+
+-- riff_trigger_log
+CREATE INDEX `idx_job_id_planned_at` ON `riff_trigger_log` (`job_id`, `planned_at`);
+CREATE INDEX `idx_planned_at` ON `riff_trigger_log` (`planned_at`);
+
+-- riff_job_group
+CREATE UNIQUE INDEX `uk_app` ON `riff_job_group` (`app`);
+
+-- riff_job
+CREATE INDEX `idx_app` ON `riff_job` (`app`);
+
+-- riff_change_log
+CREATE INDEX `idx_changed_at` ON `riff_change_log` (`changed_at`);
+
+-- riff_executor_registry
+CREATE UNIQUE INDEX `uk_app_address` ON `riff_executor_registry` (`app`, `address`);
+
+-- riff_workflow_run
+CREATE INDEX `idx_status` ON `riff_workflow_run` (`status`);
+
+-- riff_workflow_node_run
+CREATE UNIQUE INDEX `uk_run_id_job_id` ON `riff_workflow_node_run` (`run_id`, `job_id`);
@@ -15,3 +15,148 @@
 -- limitations under the License.
 --
 
+
+-- ----------------------------------------------------------------
+-- riff_trigger_log
+--
+-- One partition per UTC day of planned_at, named pYYYYMMDD. TriggerLogRetention splits the
+-- always-empty p_max into the coming days ahead of time, and purges expired days with
+-- ALTER TABLE ... DROP PARTITION instead of row-by-row DELETE.
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_trigger_log`
+(
+    `id`              BIGINT       NOT NULL AUTO_INCREMENT COMMENT 'id',
+    `job_id`          BIGINT       NOT NULL COMMENT 'job id',
+    `planned_at`      BIGINT       NOT NULL COMMENT 'planned fire time, epoch millis',
+    `triggered_at`    BIGINT       NOT NULL COMMENT 'actual dispatch time, epoch millis',
+    `executor`        VARCHAR(255)          DEFAULT NULL COMMENT 'executor address',
+    `trigger_code`    INT          NOT NULL DEFAULT 0 COMMENT 'trigger result code',
+    `trigger_message` VARCHAR(1024)         DEFAULT NULL COMMENT 'trigger result message',
+    PRIMARY KEY (`id`, `planned_at`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff trigger log'
+    PARTITION BY RANGE (`planned_at`) (
+        PARTITION `p_max` VALUES LESS THAN MAXVALUE
+        );
+
+-- ----------------------------------------------------------------
+-- riff_job_group
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_job_group`
+(
+    `id`             BIGINT       NOT NULL AUTO_INCREMENT COMMENT 'id',
+    `app`            VARCHAR(64)  NOT NULL COMMENT 'executor application name',
+    `title`          VARCHAR(128)          DEFAULT NULL COMMENT 'title',
+    `route_strategy` VARCHAR(32)           DEFAULT NULL COMMENT 'default route strategy of the group',
+    `version`        BIGINT       NOT NULL DEFAULT 1 COMMENT 'row version, bumped by every write',
+    `updated_at`     BIGINT       NOT NULL COMMENT 'last write time, epoch millis',
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff executor group';
+
+-- ----------------------------------------------------------------
+-- riff_job
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_job`
+(
+    `id`             BIGINT        NOT NULL AUTO_INCREMENT COMMENT 'id',
+    `app`            VARCHAR(64)   NOT NULL COMMENT 'executor application name',
+    `name`           VARCHAR(128)  NOT NULL COMMENT 'job name',
+    `handler`        VARCHAR(255)  NOT NULL COMMENT 'rifflet handler name',
+    `cron`           VARCHAR(128)           DEFAULT NULL COMMENT 'cron expression',
+    `params`         VARCHAR(4096)          DEFAULT NULL COMMENT 'handler parameters',
+    `route_strategy` VARCHAR(32)            DEFAULT NULL COMMENT 'route strategy',
+    `block_strategy` VARCHAR(32)            DEFAULT NULL COMMENT 'block strategy',
+    `misfire_policy` VARCHAR(32)            DEFAULT NULL COMMENT 'FIRE_ONCE_NOW | FIRE_ALL_MISSED | SKIP',
+    `priority`       VARCHAR(16)            DEFAULT NULL COMMENT 'HIGH | NORMAL | LOW, NULL for NORMAL',
+    `timeout_millis` INT           NOT NULL DEFAULT 0 COMMENT 'execution timeout, 0 for none',
+    `enabled`        TINYINT(1)    NOT NULL DEFAULT 1 COMMENT 'whether the job is scheduled',
+    `version`        BIGINT        NOT NULL DEFAULT 1 COMMENT 'row version, bumped by every write',
+    `updated_at`     BIGINT        NOT NULL COMMENT 'last write time, epoch millis',
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff job';
+
+-- ----------------------------------------------------------------
+-- riff_change_log
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_change_log`
+(
+    `id`         BIGINT      NOT NULL AUTO_INCREMENT COMMENT 'id, tailing cursor',
+    `entity`     VARCHAR(32) NOT NULL COMMENT 'JOB | JOB_GROUP',
+    `entity_id`  BIGINT      NOT NULL COMMENT 'changed row id',
+    `version`    BIGINT      NOT NULL COMMENT 'row version after the change',
+    `operation`  VARCHAR(16) NOT NULL COMMENT 'UPSERT | DELETE | TRIGGER',
+    `changed_at` BIGINT      NOT NULL COMMENT 'change time, epoch millis',
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff job and group change log';
+
+-- ----------------------------------------------------------------
+-- riff_executor_registry
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_executor_registry`
+(
+    `id`            BIGINT       NOT NULL AUTO_INCREMENT COMMENT 'id',
+    `app`           VARCHAR(64)  NOT NULL COMMENT 'executor application name',
+    `address`       VARCHAR(255) NOT NULL COMMENT 'rifflet address, host:port',
+    `owner`         VARCHAR(128)          DEFAULT NULL COMMENT 'scheduler node receiving the heartbeats',
+    `registered_at` BIGINT       NOT NULL COMMENT 'join time, epoch millis',
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff executor membership, written on join and leave only';
+
+-- ----------------------------------------------------------------
+-- riff_workflow_run
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_workflow_run`
+(
+    `id`          BIGINT      NOT NULL AUTO_INCREMENT COMMENT 'id',
+    `dag`         TEXT        NOT NULL COMMENT 'encoded job graph, e.g. 1,2,3;1>3,2>3',
+    `status`      VARCHAR(16) NOT NULL COMMENT 'RUNNING | SUCCESS | FAILED',
+    `started_at`  BIGINT      NOT NULL COMMENT 'start time, epoch millis',
+    `finished_at` BIGINT      NOT NULL DEFAULT 0 COMMENT 'finish time, epoch millis',
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff workflow run';
+
+-- ----------------------------------------------------------------
+-- riff_workflow_node_run
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_workflow_node_run`
+(
+    `id`         BIGINT      NOT NULL AUTO_INCREMENT COMMENT 'id, dispatch correlation id',
+    `run_id`     BIGINT      NOT NULL COMMENT 'riff_workflow_run.id',
+    `job_id`     BIGINT      NOT NULL COMMENT 'riff_job.id',
+    `status`     VARCHAR(16) NOT NULL COMMENT 'PENDING | RUNNING | SUCCESS | FAILED | SKIPPED',
+    `updated_at` BIGINT      NOT NULL COMMENT 'last transition time, epoch millis',
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff workflow node state, one row per job of a run';
+
+-- ----------------------------------------------------------------
+-- riff_shard_lease
+--
+-- One row per job shard, claimed and renewed with a conditional UPDATE on the primary key.
+-- epoch increases whenever the owner changes and fences a scheduler that lost the lease.
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_shard_lease`
+(
+    `shard`      INT          NOT NULL COMMENT 'shard number, 0 to shardCount - 1',
+    `owner`      VARCHAR(128)          DEFAULT NULL COMMENT 'scheduler node holding the lease',
+    `epoch`      BIGINT       NOT NULL DEFAULT 0 COMMENT 'fencing token, bumped on every owner change',
+    `expires_at` BIGINT       NOT NULL DEFAULT 0 COMMENT 'lease expiry, epoch millis',
+    PRIMARY KEY (`shard`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff job shard lease';
+
+-- ----------------------------------------------------------------
+-- riff_scheduler_node
+-- ----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS `riff_scheduler_node`
+(
+    `node`       VARCHAR(128) NOT NULL COMMENT 'scheduler node id',
+    `expires_at` BIGINT       NOT NULL COMMENT 'keep-alive expiry, epoch millis',
+    PRIMARY KEY (`node`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='riff scheduler node keep-alive, sizes the fair shard share';
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.batch;
+
+/**
+ * {@code JobBatchResult}.
+ *
+ * @param matched the jobs read or selected
+ * @param written the jobs stored or triggered; jobs already in the requested state are skipped
+ * @param batches the number of batches written
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public record JobBatchResult(long matched, long written, int batches) {
+}
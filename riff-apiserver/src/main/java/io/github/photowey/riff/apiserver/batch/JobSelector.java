@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import io.github.photowey.riff.storage.api.domain.Job;
+
+/**
+ * {@code JobSelector}.
+ *
+ * <p>Selects jobs by a comma-separated list of {@code key=value} or {@code key!=value} terms, all of
+ * which must hold, e.g. {@code app=billing,name=report-*,enabled=true}. Keys are {@code id},
+ * {@code app}, {@code name}, {@code handler}, {@code cron} and {@code enabled}; a value ending in
+ * {@code *} matches by prefix, so {@code app=*} selects every job.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public final class JobSelector implements Predicate<Job> {
+
+    private static final Set<String> KEYS = Set.of("id", "app", "name", "handler", "cron", "enabled");
+
+    private final String expression;
+    private final List<Term> terms;
+
+    private JobSelector(String expression, List<Term> terms) {
+        this.expression = expression;
+        this.terms = terms;
+    }
+
+    /**
+     * Parses a selector.
+     *
+     * @param expression the selector
+     * @return the selector
+     * @throws IllegalArgumentException if {@code expression} is blank or has an invalid term
+     */
+    public static JobSelector parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("riff: job selector is required, use app=* to select every job");
+        }
+
+        List<Term> terms = new ArrayList<>();
+        for (String raw : expression.split(",")) {
+            terms.add(Term.parse(raw.trim()));
+        }
+
+        return new JobSelector(expression, List.copyOf(terms));
+    }
+
+    @Override
+    public boolean test(Job job) {
+        for (Term term : this.terms) {
+            if (!term.test(job)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code Term}.
+     *
+     * @param key     the job attribute
+     * @param value   the expected value, without a trailing {@code *}
+     * @param prefix  whether {@code value} is a prefix
+     * @param negated whether the term is a {@code !=}
+     */
+    private record Term(String key, String value, boolean prefix, boolean negated) {
+
+        static Term parse(String term) {
+            int equals = term.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("riff: invalid job selector term:[" + term + "]");
+            }
+
+            boolean negated = term.charAt(equals - 1) == '!';
+            String key = term.substring(0, negated ? equals - 1 : equals).trim();
+            String value = term.substring(equals + 1).trim();
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("riff: unknown job selector key:[" + key + "], one of " + KEYS);
+            }
+            boolean prefix = value.endsWith("*");
+
+            return new Term(key, prefix ? value.substring(0, value.length() - 1) : value, prefix, negated);
+        }
+
+        boolean test(Job job) {
+            String actual = switch (this.key) {
+                case "id" -> String.valueOf(job.getId());
+                case "app" -> job.getApp();
+                case "name" -> job.getName();
+                case "handler" -> job.getHandler();
+                case "cron" -> job.getCron();
+                default -> String.valueOf(job.isEnabled());
+            };
+            boolean matches = actual != null
+                && (this.prefix ? actual.startsWith(this.value) : actual.equals(this.value));
+
+            return matches != this.negated;
+        }
+    }
+}
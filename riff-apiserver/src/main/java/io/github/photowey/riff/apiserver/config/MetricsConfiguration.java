@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.config;
+
+import io.github.photowey.riff.core.metric.MicrometerRiffMetrics;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code MetricsConfiguration}.
+ *
+ * <p>Publishes riff metrics through the Actuator {@link MeterRegistry}, e.g. the log reads of
+ * {@code JobLogService} under {@code /actuator/metrics/riff.log.read}; without a registry they
+ * are discarded. The scheduler and rifflet components take the same {@link RiffMetrics} as a
+ * constructor argument, so a process that embeds them next to the apiserver passes this bean.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfiguration {
+
+    @Bean
+    public RiffMetrics riffMetrics(ObjectProvider<MeterRegistry> registry) {
+        MeterRegistry available = registry.getIfAvailable();
+
+        return available == null ? RiffMetrics.NOOP : new MicrometerRiffMetrics(available);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.config;
+
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.startup.app.fast.BackgroundInit;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code RemotingConfiguration}.
+ *
+ * <p>The multiplexed client the apiserver uses to reach rifflets, e.g. to tail job logs. Its event
+ * loop starts in the background in fast-start mode.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Configuration(proxyBeanMethods = false)
+public class RemotingConfiguration {
+
+    @BackgroundInit
+    @Bean(destroyMethod = "shutdown")
+    public NettyRemotingClient remotingClient() {
+        NettyRemotingClient client = new NettyRemotingClient();
+        client.start();
+
+        return client;
+    }
+}
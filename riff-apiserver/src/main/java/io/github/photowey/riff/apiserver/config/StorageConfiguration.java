@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.config;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.startup.app.fast.BackgroundInit;
+import io.github.photowey.riff.startup.app.fast.FastStart;
+import io.github.photowey.riff.storage.api.memory.InMemoryChangeLogRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobGroupRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryTriggerLogRepository;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+import io.github.photowey.riff.storage.api.repository.JobGroupRepository;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.github.photowey.riff.storage.local.repository.LocalChangeLogRepository;
+import io.github.photowey.riff.storage.local.repository.LocalJobGroupRepository;
+import io.github.photowey.riff.storage.local.repository.LocalJobRepository;
+import io.github.photowey.riff.storage.local.repository.LocalTriggerLogRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcChangeLogRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcJobGroupRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcJobRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcTriggerLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code StorageConfiguration}.
+ *
+ * <p>Backs the repositories with MySQL when a {@link DataSource} is configured, with an embedded
+ * {@link LocalStore} when {@code riff.storage.local.path} is set, in memory otherwise. Either way
+ * every job and group write appends to the change log that scheduler nodes tail.
+ *
+ * <p>Recovering the {@link LocalStore} and opening the first pooled connection are the slow parts
+ * of booting; in fast-start mode both run in the background, in parallel.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class StorageConfiguration {
+
+    @BackgroundInit
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty("riff.storage.local.path")
+    public LocalStore localStore(@Value("${riff.storage.local.path}") String path) {
+        return new LocalStore(Path.of(path));
+    }
+
+    @Bean
+    public ChangeLogRepository changeLogRepository(
+        ObjectProvider<DataSource> dataSource, ObjectProvider<LocalStore> localStore) {
+        DataSource available = dataSource.getIfAvailable();
+        if (available != null) {
+            return new JdbcChangeLogRepository(available);
+        }
+
+        LocalStore store = localStore.getIfAvailable();
+
+        return store == null ? new InMemoryChangeLogRepository() : new LocalChangeLogRepository(store);
+    }
+
+    @Bean
+    public JobRepository jobRepository(
+        ObjectProvider<DataSource> dataSource, ObjectProvider<LocalStore> localStore, ChangeLogRepository changeLog) {
+        DataSource available = dataSource.getIfAvailable();
+        if (available != null) {
+            return new JdbcJobRepository(available);
+        }
+
+        LocalStore store = localStore.getIfAvailable();
+
+        return store == null ? new InMemoryJobRepository(changeLog) : new LocalJobRepository(store);
+    }
+
+    @Bean
+    public JobGroupRepository jobGroupRepository(
+        ObjectProvider<DataSource> dataSource, ObjectProvider<LocalStore> localStore, ChangeLogRepository changeLog) {
+        DataSource available = dataSource.getIfAvailable();
+        if (available != null) {
+            return new JdbcJobGroupRepository(available);
+        }
+
+        LocalStore store = localStore.getIfAvailable();
+
+        return store == null ? new InMemoryJobGroupRepository(changeLog) : new LocalJobGroupRepository(store);
+    }
+
+    /**
+     * Trigger logs, read by the apiserver and written by scheduler nodes.
+     *
+     * @param fetchSize the JDBC fetch size of log queries; the default makes MySQL Connector/J
+     *                  stream rows, other drivers may need a positive value
+     */
+    @Bean
+    public TriggerLogRepository triggerLogRepository(
+        ObjectProvider<DataSource> dataSource,
+        ObjectProvider<LocalStore> localStore,
+        @Value("${riff.storage.trigger-log.fetch-size:-2147483648}") int fetchSize) {
+        DataSource available = dataSource.getIfAvailable();
+        if (available != null) {
+            return new JdbcTriggerLogRepository(
+                available, JdbcTriggerLogRepository.DEFAULT_ROWS_PER_STATEMENT, fetchSize);
+        }
+
+        LocalStore store = localStore.getIfAvailable();
+
+        return store == null ? new InMemoryTriggerLogRepository() : new LocalTriggerLogRepository(store);
+    }
+
+    @BackgroundInit
+    @Bean
+    @ConditionalOnProperty(FastStart.ENABLED_PROPERTY)
+    public PoolWarmup poolWarmup(ObjectProvider<DataSource> dataSource) {
+        DataSource available = dataSource.getIfAvailable();
+        if (available != null) {
+            try (Connection ignored = available.getConnection()) {
+                log.info("riff: storage pool warmed up");
+            } catch (SQLException e) {
+                log.warn("riff: storage pool warm-up failed, connecting on first use", e);
+            }
+        }
+
+        return new PoolWarmup();
+    }
+
+    /**
+     * {@code PoolWarmup}.
+     *
+     * <p>Marks that the connection pool was started ahead of the first request, in fast-start mode.
+     */
+    public static final class PoolWarmup {
+    }
+}
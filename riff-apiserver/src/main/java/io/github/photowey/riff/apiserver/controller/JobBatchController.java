@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Predicate;
+
+import io.github.photowey.riff.apiserver.batch.JobAction;
+import io.github.photowey.riff.apiserver.batch.JobBatchResult;
+import io.github.photowey.riff.apiserver.batch.JobSelector;
+import io.github.photowey.riff.apiserver.service.JobBatchService;
+import io.github.photowey.riff.storage.api.domain.Job;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * {@code JobBatchController}.
+ *
+ * <p>{@code POST /import} reads NDJSON from the request body as it arrives and {@code GET /export}
+ * streams it back, so a migration moves every job in one call each way. {@code pause},
+ * {@code resume} and {@code trigger} act on the jobs a {@link JobSelector} matches.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class JobBatchController {
+
+    private final JobBatchService service;
+
+    public JobBatchController(JobBatchService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/import")
+    public JobBatchResult importJobs(
+        InputStream body,
+        @RequestParam(name = "batchSize", defaultValue = "500") int batchSize) throws IOException {
+        return this.service.importJobs(body, batchSize);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+        @RequestParam(name = "selector", required = false) String selector) {
+        Predicate<Job> filter = selector == null ? job -> true : JobSelector.parse(selector);
+        StreamingResponseBody body = out -> this.service.exportJobs(filter, out);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @PostMapping("/pause")
+    public JobBatchResult pause(
+        @RequestParam("selector") String selector,
+        @RequestParam(name = "batchSize", defaultValue = "500") int batchSize) {
+        return this.service.apply(JobAction.PAUSE, JobSelector.parse(selector), batchSize);
+    }
+
+    @PostMapping("/resume")
+    public JobBatchResult resume(
+        @RequestParam("selector") String selector,
+        @RequestParam(name = "batchSize", defaultValue = "500") int batchSize) {
+        return this.service.apply(JobAction.RESUME, JobSelector.parse(selector), batchSize);
+    }
+
+    @PostMapping("/trigger")
+    public JobBatchResult trigger(
+        @RequestParam("selector") String selector,
+        @RequestParam(name = "batchSize", defaultValue = "500") int batchSize) {
+        return this.service.apply(JobAction.TRIGGER, JobSelector.parse(selector), batchSize);
+    }
+}
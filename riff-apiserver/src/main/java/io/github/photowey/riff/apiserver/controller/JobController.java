@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.controller;
+
+import java.util.List;
+
+import io.github.photowey.riff.apiserver.service.JobService;
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.domain.Job;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * {@code JobController}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class JobController {
+
+    private final JobService service;
+
+    public JobController(JobService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public Job create(@RequestBody Job job) {
+        return this.service.create(job);
+    }
+
+    @PutMapping("/{id}")
+    public Job update(@PathVariable("id") long id, @RequestBody Job job) {
+        return this.service.update(id, job);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable("id") long id) {
+        return this.service.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Job> get(@PathVariable("id") long id) {
+        return ResponseEntity.of(this.service.find(id));
+    }
+
+    @GetMapping
+    public List<Job> list() {
+        return this.service.list();
+    }
+
+    @GetMapping("/page")
+    public Page<Job> page(
+        @RequestParam(name = "after", defaultValue = "0") long afterId,
+        @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return this.service.page(afterId, limit);
+    }
+}
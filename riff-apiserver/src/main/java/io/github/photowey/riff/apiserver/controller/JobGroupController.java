@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.controller;
+
+import java.util.List;
+
+import io.github.photowey.riff.apiserver.service.JobGroupService;
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * {@code JobGroupController}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("/api/v1/groups")
+public class JobGroupController {
+
+    private final JobGroupService service;
+
+    public JobGroupController(JobGroupService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public JobGroup create(@RequestBody JobGroup group) {
+        return this.service.create(group);
+    }
+
+    @PutMapping("/{id}")
+    public JobGroup update(@PathVariable("id") long id, @RequestBody JobGroup group) {
+        return this.service.update(id, group);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable("id") long id) {
+        return this.service.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<JobGroup> get(@PathVariable("id") long id) {
+        return ResponseEntity.of(this.service.find(id));
+    }
+
+    @GetMapping
+    public List<JobGroup> list() {
+        return this.service.list();
+    }
+}
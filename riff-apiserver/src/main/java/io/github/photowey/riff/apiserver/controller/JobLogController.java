@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import io.github.photowey.riff.apiserver.service.JobLogService;
+import io.github.photowey.riff.riffctl.core.log.LogChunk;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * {@code JobLogController}.
+ *
+ * <p>{@code GET /{logId}} returns one chunk with its offsets in headers; {@code GET /{logId}/tail}
+ * streams the log until the job finishes. A tail cut short, e.g. by the async request timeout,
+ * is resumed by passing the number of bytes already received as {@code offset}. The rifflet to
+ * read from is the one the trigger log of {@code logId} records, never one named by the caller.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("/api/v1/logs")
+public class JobLogController {
+
+    public static final String OFFSET_HEADER = "X-Riff-Log-Offset";
+    public static final String NEXT_OFFSET_HEADER = "X-Riff-Log-Next-Offset";
+    public static final String END_OFFSET_HEADER = "X-Riff-Log-End-Offset";
+    public static final String FINISHED_HEADER = "X-Riff-Log-Finished";
+
+    private static final MediaType TEXT_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final JobLogService service;
+
+    public JobLogController(JobLogService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/{logId}")
+    public ResponseEntity<byte[]> read(
+        @PathVariable("logId") long logId,
+        @RequestParam(name = "offset", defaultValue = "0") long offset,
+        @RequestParam(name = "maxBytes", defaultValue = "65536") int maxBytes) {
+        LogChunk chunk = this.service.read(logId, offset, maxBytes);
+
+        return ResponseEntity.ok()
+            .contentType(TEXT_UTF8)
+            .header(OFFSET_HEADER, Long.toString(chunk.offset()))
+            .header(NEXT_OFFSET_HEADER, Long.toString(chunk.nextOffset()))
+            .header(END_OFFSET_HEADER, Long.toString(chunk.endOffset()))
+            .header(FINISHED_HEADER, Boolean.toString(chunk.finished()))
+            .body(chunk.data());
+    }
+
+    @GetMapping("/{logId}/tail")
+    public ResponseEntity<StreamingResponseBody> tail(
+        @PathVariable("logId") long logId,
+        @RequestParam(name = "offset", defaultValue = "0") long offset) {
+        StreamingResponseBody body = out -> this.service.tail(logId, offset, out);
+
+        return ResponseEntity.ok().contentType(TEXT_UTF8).body(body);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.controller;
+
+import io.github.photowey.riff.apiserver.service.TriggerLogService;
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * {@code TriggerLogController}.
+ *
+ * <p>{@code GET} returns one keyset page, continued by passing its {@code next} as {@code cursor}.
+ * {@code GET /stream} writes every selected log as NDJSON and {@code GET /events} as server-sent
+ * events, both straight from the store's cursor. Omitted bounds select every job and all time.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@RestController
+@RequestMapping("/api/v1/trigger-logs")
+public class TriggerLogController {
+
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private static final String UNBOUNDED_TO = "9223372036854775807";
+    private static final String UNBOUNDED_LIMIT = "2147483647";
+
+    private final TriggerLogService service;
+
+    public TriggerLogController(TriggerLogService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public Page<TriggerLog> page(
+        @RequestParam(name = "jobId", required = false) Long jobId,
+        @RequestParam(name = "from", defaultValue = "0") long from,
+        @RequestParam(name = "to", defaultValue = UNBOUNDED_TO) long to,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return this.service.page(query(jobId, from, to, cursor, limit));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream(
+        @RequestParam(name = "jobId", required = false) Long jobId,
+        @RequestParam(name = "from", defaultValue = "0") long from,
+        @RequestParam(name = "to", defaultValue = UNBOUNDED_TO) long to,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "limit", defaultValue = UNBOUNDED_LIMIT) int limit) {
+        TriggerLogQuery query = query(jobId, from, to, cursor, limit);
+        StreamingResponseBody body = out -> this.service.streamNdjson(query, out);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/events")
+    public ResponseEntity<StreamingResponseBody> events(
+        @RequestParam(name = "jobId", required = false) Long jobId,
+        @RequestParam(name = "from", defaultValue = "0") long from,
+        @RequestParam(name = "to", defaultValue = UNBOUNDED_TO) long to,
+        @RequestParam(name = "limit", defaultValue = UNBOUNDED_LIMIT) int limit,
+        @RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        TriggerLogQuery query = query(jobId, from, to, lastEventId, limit);
+        StreamingResponseBody body = out -> this.service.streamEvents(query, out);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .cacheControl(CacheControl.noCache())
+            .body(body);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static TriggerLogQuery query(Long jobId, long from, long to, String cursor, int limit) {
+        if (limit <= 0 || from > to) {
+            throw new IllegalArgumentException("riff: limit must be positive and from at most to");
+        }
+
+        return TriggerLogQuery.builder()
+            .jobId(jobId)
+            .from(from)
+            .to(to)
+            .after(cursor == null || cursor.isBlank() ? null : TriggerLogCursor.parse(cursor))
+            .limit(limit)
+            .build();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Predicate;
+
+import io.github.photowey.riff.apiserver.batch.JobAction;
+import io.github.photowey.riff.apiserver.batch.JobBatchResult;
+import io.github.photowey.riff.storage.api.domain.Job;
+
+/**
+ * {@code JobBatchService}.
+ *
+ * <p>Bulk counterparts of {@link JobService}, for moving and operating on hundreds of thousands of
+ * jobs. Jobs are streamed in NDJSON, one JSON object per line, read and written one keyset page at
+ * a time and stored in batches, so neither side ever holds the whole job set.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public interface JobBatchService {
+
+    int DEFAULT_BATCH_SIZE = 500;
+    int MAX_BATCH_SIZE = 5_000;
+
+    /**
+     * Imports jobs, storing every {@code batchSize} of them in one batch. A job replaces the stored
+     * job with the same {@code app} and {@code name}, or is created if there is none; the {@code id}
+     * and {@code version} in the input are ignored, so an export can be imported into any cluster,
+     * including the one it came from. Of two lines naming the same job, the later one wins.
+     *
+     * <p>Batches stored before a failing line stay stored; the error names the line, so the import
+     * can be resumed after it.
+     *
+     * @param ndjson    the jobs, one per line, blank lines are skipped
+     * @param batchSize the jobs per batch, at most {@link #MAX_BATCH_SIZE}
+     * @return what was read and stored
+     * @throws IOException if reading {@code ndjson} fails
+     */
+    JobBatchResult importJobs(InputStream ndjson, int batchSize) throws IOException;
+
+    /**
+     * Exports jobs in id order, in the format {@link #importJobs} reads.
+     *
+     * @param filter selects the jobs to export
+     * @param out    the destination, flushed after every page
+     * @return the number of exported jobs
+     * @throws IOException if {@code out} fails, e.g. because the reader went away
+     */
+    long exportJobs(Predicate<Job> filter, OutputStream out) throws IOException;
+
+    /**
+     * Applies an action to every selected job, a batch at a time.
+     *
+     * @param action    the action
+     * @param selector  selects the jobs
+     * @param batchSize the jobs per batch, at most {@link #MAX_BATCH_SIZE}
+     * @return what was selected and changed
+     */
+    JobBatchResult apply(JobAction action, Predicate<Job> selector, int batchSize);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+
+/**
+ * {@code JobGroupService}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface JobGroupService {
+
+    JobGroup create(JobGroup group);
+
+    JobGroup update(long id, JobGroup group);
+
+    boolean delete(long id);
+
+    Optional<JobGroup> find(long id);
+
+    List<JobGroup> list();
+}
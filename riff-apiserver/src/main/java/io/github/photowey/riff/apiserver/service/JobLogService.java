@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.github.photowey.riff.riffctl.core.log.LogChunk;
+
+/**
+ * {@code JobLogService}.
+ *
+ * <p>Reads job logs from the rifflet that ran the job, by offset and in bounded chunks, so the
+ * apiserver never holds more than one chunk of a log however large it grows. The rifflet is the
+ * executor recorded on the trigger log with the same id.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface JobLogService {
+
+    int DEFAULT_CHUNK_BYTES = 64 * 1024;
+
+    /**
+     * Reads one chunk.
+     *
+     * @param logId    the log id, i.e. the trigger log id
+     * @param offset   the log offset to read from
+     * @param maxBytes the maximum chunk length
+     * @return the chunk, empty if nothing was written after {@code offset} yet
+     * @throws IllegalArgumentException if there is no such trigger log, or it records no executor
+     * @throws IllegalStateException    if the rifflet is unreachable or has no such log
+     */
+    LogChunk read(long logId, long offset, int maxBytes);
+
+    /**
+     * Copies the log from {@code offset} to {@code out} chunk by chunk, following a running job
+     * until its log is finished.
+     *
+     * @param logId   the log id, i.e. the trigger log id
+     * @param offset  the log offset to start from
+     * @param out     the destination, flushed after every chunk
+     * @return the offset after the last byte written
+     * @throws IOException if {@code out} fails, e.g. because the reader went away
+     */
+    long tail(long logId, long offset, OutputStream out) throws IOException;
+}
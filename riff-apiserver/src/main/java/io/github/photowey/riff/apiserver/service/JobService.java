@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.domain.Job;
+
+/**
+ * {@code JobService}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface JobService {
+
+    int MAX_PAGE_SIZE = 1_000;
+
+    Job create(Job job);
+
+    /**
+     * Updates a job.
+     *
+     * @param id  the job id
+     * @param job the new definition; a positive {@code version} enables optimistic locking
+     * @return the stored job with its new version
+     */
+    Job update(long id, Job job);
+
+    boolean delete(long id);
+
+    Optional<Job> find(long id);
+
+    List<Job> list();
+
+    /**
+     * Reads one keyset page of jobs in id order.
+     *
+     * @param afterId the last id already read, {@code 0} for the first page
+     * @param limit   the page size, at most {@link #MAX_PAGE_SIZE}
+     * @return the page; its {@code next} is the {@code afterId} of the following one
+     */
+    Page<Job> page(long afterId, int limit);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+
+/**
+ * {@code TriggerLogService}.
+ *
+ * <p>Lists trigger logs newest first by keyset, seeking past a {@code (plannedAt, id)} cursor
+ * rather than skipping rows, so the thousandth page costs what the first one does. Streams pass
+ * rows from the store's cursor straight to the response without collecting pages.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public interface TriggerLogService {
+
+    int DEFAULT_PAGE_SIZE = 100;
+    int MAX_PAGE_SIZE = 1_000;
+
+    /**
+     * Reads one page.
+     *
+     * @param query the query, {@code limit} at most {@link #MAX_PAGE_SIZE}
+     * @return the page; its {@code next} is the cursor of the following one
+     */
+    Page<TriggerLog> page(TriggerLogQuery query);
+
+    /**
+     * Streams the selected logs as NDJSON, one log per line.
+     *
+     * @param query the query, {@code limit} is not capped
+     * @param out   the destination, flushed every {@code 100} logs and at the end
+     * @return the number of streamed logs
+     * @throws IOException if {@code out} fails, e.g. because the reader went away
+     */
+    long streamNdjson(TriggerLogQuery query, OutputStream out) throws IOException;
+
+    /**
+     * Streams the selected logs as server-sent events whose id is the log's cursor, so an
+     * {@code EventSource} that reconnects resumes after the last event it got through
+     * {@code Last-Event-ID}. A final {@code end} event carries the number of streamed logs.
+     *
+     * @param query the query, {@code limit} is not capped
+     * @param out   the destination, flushed every {@code 100} logs and at the end
+     * @return the number of streamed logs
+     * @throws IOException if {@code out} fails, e.g. because the reader went away
+     */
+    long streamEvents(TriggerLogQuery query, OutputStream out) throws IOException;
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.photowey.riff.apiserver.batch.JobAction;
+import io.github.photowey.riff.apiserver.batch.JobBatchResult;
+import io.github.photowey.riff.apiserver.service.JobBatchService;
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@code JobBatchServiceImpl}.
+ *
+ * <p>Imports and pause or resume batches go through {@link JobRepository#saveAll}, a JDBC batch on
+ * MySQL. Imports match jobs by {@code (app, name)}: ids are local to the cluster that exported them,
+ * so they are resolved against the target store once, before the first batch. Triggers are
+ * batches of {@link ChangeOperation#TRIGGER} change log rows, picked up by the scheduler node that
+ * owns each job.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Slf4j
+@Service
+public class JobBatchServiceImpl implements JobBatchService {
+
+    public static final int PAGE_SIZE = 1_000;
+
+    private final JobRepository jobRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public JobBatchServiceImpl(
+        JobRepository jobRepository, ChangeLogRepository changeLogRepository, ObjectMapper objectMapper) {
+        this.jobRepository = jobRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.reader = objectMapper.readerFor(Job.class);
+        this.writer = objectMapper.writerFor(Job.class);
+    }
+
+    @Override
+    public JobBatchResult importJobs(InputStream ndjson, int batchSize) throws IOException {
+        int size = checkBatchSize(batchSize);
+        BufferedReader lines = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        Progress progress = new Progress();
+        Map<String, Long> ids = this.idsByName();
+        Map<String, Integer> pending = new HashMap<>(size * 2);
+        List<Job> batch = new ArrayList<>(size);
+        long firstLine = 1L;
+        long line = 0L;
+        String text;
+        while ((text = lines.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+
+            Job job = this.parse(text, line);
+            progress.matched++;
+            Integer duplicate = pending.putIfAbsent(nameOf(job), batch.size());
+            if (duplicate != null) {
+                batch.set(duplicate, job);
+                continue;
+            }
+
+            batch.add(job);
+            if (batch.size() == size) {
+                this.importBatch(batch, ids, firstLine, line, progress);
+                pending.clear();
+                firstLine = line + 1;
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.importBatch(batch, ids, firstLine, line, progress);
+        }
+        log.info("riff: imported jobs:[{}] in batches:[{}]", progress.written, progress.batches);
+
+        return progress.result();
+    }
+
+    @Override
+    public long exportJobs(Predicate<Job> filter, OutputStream out) throws IOException {
+        long exported = 0L;
+        long afterId = 0L;
+        while (true) {
+            List<Job> page = this.jobRepository.findAfter(afterId, PAGE_SIZE);
+            for (Job job : page) {
+                if (filter.test(job)) {
+                    out.write(this.writer.writeValueAsBytes(job));
+                    out.write('\n');
+                    exported++;
+                }
+            }
+            out.flush();
+            if (page.size() < PAGE_SIZE) {
+                return exported;
+            }
+
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    @Override
+    public JobBatchResult apply(JobAction action, Predicate<Job> selector, int batchSize) {
+        int size = checkBatchSize(batchSize);
+        Progress progress = new Progress();
+        List<Job> batch = new ArrayList<>(size);
+        long afterId = 0L;
+        while (true) {
+            List<Job> page = this.jobRepository.findAfter(afterId, PAGE_SIZE);
+            for (Job job : page) {
+                if (!selector.test(job)) {
+                    continue;
+                }
+
+                progress.matched++;
+                if (action == JobAction.TRIGGER || job.isEnabled() != (action == JobAction.RESUME)) {
+                    batch.add(job);
+                }
+                if (batch.size() == size) {
+                    this.applyBatch(action, batch, progress);
+                }
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+
+            afterId = page.get(page.size() - 1).getId();
+        }
+        if (!batch.isEmpty()) {
+            this.applyBatch(action, batch, progress);
+        }
+        log.info("riff: job batch:[{}] selector:[{}] matched:[{}] changed:[{}]",
+            action, selector, progress.matched, progress.written);
+
+        return progress.result();
+    }
+
+    // ----------------------------------------------------------------
+
+    private Job parse(String text, long line) {
+        try {
+            Job job = this.reader.readValue(text);
+            JobServiceImpl.validate(job);
+
+            return job;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("riff: invalid job at line:" + line + ", " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Indexes the ids of the stored jobs by {@code (app, name)}, one keyset page at a time.
+     *
+     * @return the ids, keyed by {@link #nameOf(Job)}
+     */
+    private Map<String, Long> idsByName() {
+        Map<String, Long> ids = new HashMap<>();
+        long afterId = 0L;
+        while (true) {
+            List<Job> page = this.jobRepository.findAfter(afterId, PAGE_SIZE);
+            for (Job job : page) {
+                ids.put(nameOf(job), job.getId());
+            }
+            if (page.size() < PAGE_SIZE) {
+                return ids;
+            }
+
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    private void importBatch(List<Job> batch, Map<String, Long> ids, long firstLine, long lastLine, Progress progress) {
+        for (Job job : batch) {
+            // the imported job wins over the stored one, whatever either version says
+            job.setId(ids.get(nameOf(job)));
+            job.setVersion(0L);
+        }
+
+        List<Job> stored;
+        try {
+            stored = this.jobRepository.saveAll(batch);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("riff: import of lines [" + firstLine + ", " + lastLine
+                + "] failed after " + progress.written + " stored jobs, " + e.getMessage(), e);
+        }
+        for (Job job : stored) {
+            ids.put(nameOf(job), job.getId());
+        }
+        progress.stored(batch.size());
+        batch.clear();
+    }
+
+    private void applyBatch(JobAction action, List<Job> batch, Progress progress) {
+        if (action == JobAction.TRIGGER) {
+            long now = System.currentTimeMillis();
+            List<ChangeLog> triggers = new ArrayList<>(batch.size());
+            for (Job job : batch) {
+                triggers.add(ChangeLog.builder()
+                    .entity(ChangeEntity.JOB)
+                    .entityId(job.getId())
+                    .version(job.getVersion())
+                    .operation(ChangeOperation.TRIGGER)
+                    .changedAt(now)
+                    .build());
+            }
+            this.changeLogRepository.appendAll(triggers);
+        } else {
+            for (Job job : batch) {
+                job.setEnabled(action == JobAction.RESUME);
+            }
+            this.jobRepository.saveAll(batch);
+        }
+        progress.stored(batch.size());
+        batch.clear();
+    }
+
+    private static String nameOf(Job job) {
+        return job.getApp() + '\u0000' + job.getName();
+    }
+
+    private static int checkBatchSize(int batchSize) {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("riff: batchSize must be in [1, " + MAX_BATCH_SIZE + "]");
+        }
+
+        return batchSize;
+    }
+
+    /**
+     * {@code Progress}.
+     */
+    private static final class Progress {
+
+        long matched;
+        long written;
+        int batches;
+
+        void stored(int count) {
+            this.written += count;
+            this.batches++;
+        }
+
+        JobBatchResult result() {
+            return new JobBatchResult(this.matched, this.written, this.batches);
+        }
+    }
+}
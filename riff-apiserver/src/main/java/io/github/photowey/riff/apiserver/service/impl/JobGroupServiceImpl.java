@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.apiserver.service.JobGroupService;
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+import io.github.photowey.riff.storage.api.repository.JobGroupRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@code JobGroupServiceImpl}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Service
+public class JobGroupServiceImpl implements JobGroupService {
+
+    private final JobGroupRepository repository;
+
+    public JobGroupServiceImpl(JobGroupRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public JobGroup create(JobGroup group) {
+        validate(group);
+        group.setId(null);
+        group.setVersion(0L);
+
+        return this.repository.save(group);
+    }
+
+    @Override
+    public JobGroup update(long id, JobGroup group) {
+        validate(group);
+        group.setId(id);
+
+        return this.repository.save(group);
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return this.repository.delete(id);
+    }
+
+    @Override
+    public Optional<JobGroup> find(long id) {
+        return this.repository.findById(id);
+    }
+
+    @Override
+    public List<JobGroup> list() {
+        return this.repository.findAll();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void validate(JobGroup group) {
+        if (group.getApp() == null || group.getApp().isBlank()) {
+            throw new IllegalArgumentException("riff: group app is required");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.apiserver.service.JobLogService;
+import io.github.photowey.riff.core.metric.MetricNames;
+import io.github.photowey.riff.core.metric.MetricTimer;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.log.LogChunk;
+import io.github.photowey.riff.riffctl.core.log.LogReadRequest;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@code JobLogServiceImpl}.
+ *
+ * <p>Each chunk is one {@code LOG_READ} round trip on the shared {@link NettyRemotingClient}; the
+ * rifflet sends the log bytes from its segment file with {@code transferTo}. Tailing an idle
+ * running log backs off for {@link #IDLE_POLL_MILLIS} between reads. The rifflet address comes
+ * from {@link TriggerLog#getExecutor()}, so the apiserver only ever connects to an executor it
+ * dispatched to. Every round trip is timed as {@value MetricNames#LOG_READ}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Service
+public class JobLogServiceImpl implements JobLogService {
+
+    public static final long IDLE_POLL_MILLIS = 500L;
+
+    private final TriggerLogRepository triggerLogs;
+    private final NettyRemotingClient client;
+    private final MetricTimer readTimer;
+
+    public JobLogServiceImpl(TriggerLogRepository triggerLogs, NettyRemotingClient client, RiffMetrics metrics) {
+        this.triggerLogs = triggerLogs;
+        this.client = client;
+        this.readTimer = metrics.timer(MetricNames.LOG_READ);
+    }
+
+    @Override
+    public LogChunk read(long logId, long offset, int maxBytes) {
+        return this.readFrom(this.addressOf(logId), logId, offset, maxBytes);
+    }
+
+    @Override
+    public long tail(long logId, long offset, OutputStream out) throws IOException {
+        String address = this.addressOf(logId);
+        long next = offset;
+        while (true) {
+            LogChunk chunk = this.readFrom(address, logId, next, DEFAULT_CHUNK_BYTES);
+            if (chunk.data().length > 0) {
+                out.write(chunk.data());
+                out.flush();
+            }
+            next = chunk.nextOffset();
+            if (chunk.isComplete()) {
+                return next;
+            }
+            if (chunk.data().length == 0 && !this.idle()) {
+                return next;
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private String addressOf(long logId) {
+        TriggerLog log = this.triggerLogs.findById(logId)
+            .orElseThrow(() -> new IllegalArgumentException("riff: unknown job log:" + logId));
+        if (log.getExecutor() == null || log.getExecutor().isBlank()) {
+            throw new IllegalArgumentException("riff: job log:" + logId + " was not dispatched to any executor");
+        }
+
+        return log.getExecutor();
+    }
+
+    private LogChunk readFrom(String address, long logId, long offset, int maxBytes) {
+        RemotingCommand response;
+        long start = System.nanoTime();
+        try {
+            response = this.client.invoke(
+                address, RequestCode.LOG_READ, new LogReadRequest(logId, offset, maxBytes).encode()).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException(
+                "riff: read job log:[" + logId + "] from:[" + address + "] failed: " + e.getCause().getMessage(), e);
+        } finally {
+            this.readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        return LogChunk.decode(response.body());
+    }
+
+    private boolean idle() {
+        try {
+            Thread.sleep(IDLE_POLL_MILLIS);
+
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+}
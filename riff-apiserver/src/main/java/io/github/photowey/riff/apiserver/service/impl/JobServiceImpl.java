@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.apiserver.service.JobService;
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@code JobServiceImpl}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Service
+public class JobServiceImpl implements JobService {
+
+    private final JobRepository repository;
+
+    public JobServiceImpl(JobRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Job create(Job job) {
+        validate(job);
+        job.setId(null);
+        job.setVersion(0L);
+
+        return this.repository.save(job);
+    }
+
+    @Override
+    public Job update(long id, Job job) {
+        validate(job);
+        job.setId(id);
+
+        return this.repository.save(job);
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return this.repository.delete(id);
+    }
+
+    @Override
+    public Optional<Job> find(long id) {
+        return this.repository.findById(id);
+    }
+
+    @Override
+    public List<Job> list() {
+        return this.repository.findAll();
+    }
+
+    @Override
+    public Page<Job> page(long afterId, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                "riff: limit must be in [1, " + MAX_PAGE_SIZE + "]: " + limit);
+        }
+
+        List<Job> jobs = this.repository.findAfter(afterId, limit);
+        if (jobs.size() < limit) {
+            return new Page<>(jobs, null);
+        }
+
+        return new Page<>(jobs, Long.toString(jobs.get(jobs.size() - 1).getId()));
+    }
+
+    // ----------------------------------------------------------------
+
+    static void validate(Job job) {
+        if (isBlank(job.getApp()) || isBlank(job.getName()) || isBlank(job.getHandler())) {
+            throw new IllegalArgumentException("riff: job app, name and handler are required");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.photowey.riff.apiserver.service.TriggerLogService;
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@code TriggerLogServiceImpl}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Service
+public class TriggerLogServiceImpl implements TriggerLogService {
+
+    public static final int FLUSH_EVERY = 100;
+
+    private static final byte[] EVENT_ID = "id: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EVENT_DATA = "\ndata: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EVENT_END = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final TriggerLogRepository repository;
+    private final ObjectWriter writer;
+
+    public TriggerLogServiceImpl(TriggerLogRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.writer = objectMapper.writerFor(TriggerLog.class);
+    }
+
+    @Override
+    public Page<TriggerLog> page(TriggerLogQuery query) {
+        if (query.getLimit() <= 0 || query.getLimit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                "riff: limit must be in [1, " + MAX_PAGE_SIZE + "]: " + query.getLimit());
+        }
+
+        return this.repository.findPage(query);
+    }
+
+    @Override
+    public long streamNdjson(TriggerLogQuery query, OutputStream out) throws IOException {
+        return this.stream(query, out, new Streamer(out, false));
+    }
+
+    @Override
+    public long streamEvents(TriggerLogQuery query, OutputStream out) throws IOException {
+        long streamed = this.stream(query, out, new Streamer(out, true));
+        out.write(("event: end\ndata: " + streamed + "\n\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+
+        return streamed;
+    }
+
+    // ----------------------------------------------------------------
+
+    private long stream(TriggerLogQuery query, OutputStream out, Streamer streamer) throws IOException {
+        try {
+            long streamed = this.repository.forEach(query, streamer);
+            out.flush();
+
+            return streamed;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * {@code Streamer}.
+     *
+     * <p>Writes each log as it comes off the store's cursor; an {@link IOException} is rethrown
+     * unchecked so the store stops reading.
+     */
+    private final class Streamer implements Consumer<TriggerLog> {
+
+        private final OutputStream out;
+        private final boolean events;
+        private long written;
+
+        private Streamer(OutputStream out, boolean events) {
+            this.out = out;
+            this.events = events;
+        }
+
+        @Override
+        public void accept(TriggerLog log) {
+            try {
+                if (this.events) {
+                    this.out.write(EVENT_ID);
+                    this.out.write(TriggerLogCursor.of(log).encode().getBytes(StandardCharsets.US_ASCII));
+                    this.out.write(EVENT_DATA);
+                    this.out.write(TriggerLogServiceImpl.this.writer.writeValueAsBytes(log));
+                    this.out.write(EVENT_END);
+                } else {
+                    this.out.write(TriggerLogServiceImpl.this.writer.writeValueAsBytes(log));
+                    this.out.write('\n');
+                }
+                if (++this.written % FLUSH_EVERY == 0) {
+                    this.out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.config;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.apiserver.ApiServer;
+import io.github.photowey.riff.core.metric.MetricNames;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+/**
+ * {@code MetricsConfigurationTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@SpringBootTest(classes = ApiServer.class)
+@AutoConfigureMockMvc
+class MetricsConfigurationTest {
+
+    @Autowired
+    private RiffMetrics metrics;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void testRiffMetrics_publishesToActuatorRegistryAndEndpoint() throws Exception {
+        this.metrics.timer(MetricNames.TRIGGER_LAG).record(5L, TimeUnit.MILLISECONDS);
+
+        Timer lag = this.registry.find(MetricNames.TRIGGER_LAG).timer();
+        Assertions.assertNotNull(lag);
+        Assertions.assertEquals(1L, lag.count());
+        Assertions.assertNotNull(this.registry.find(MetricNames.LOG_READ).timer());
+        this.mvc.perform(MockMvcRequestBuilders.get("/actuator/metrics/" + MetricNames.TRIGGER_LAG))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.name").value(MetricNames.TRIGGER_LAG));
+    }
+}
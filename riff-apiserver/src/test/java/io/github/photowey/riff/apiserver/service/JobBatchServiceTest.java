@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.riff.apiserver.batch.JobAction;
+import io.github.photowey.riff.apiserver.batch.JobBatchResult;
+import io.github.photowey.riff.apiserver.batch.JobSelector;
+import io.github.photowey.riff.apiserver.service.impl.JobBatchServiceImpl;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.memory.InMemoryChangeLogRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JobBatchServiceTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class JobBatchServiceTest {
+
+    private final InMemoryChangeLogRepository changeLog = new InMemoryChangeLogRepository();
+    private final InMemoryJobRepository jobs = new InMemoryJobRepository(this.changeLog);
+    private final JobBatchService service = new JobBatchServiceImpl(this.jobs, this.changeLog, new ObjectMapper());
+
+    @Test
+    void testImportExport_roundTripsAcrossPagesAndBatches() throws IOException {
+        int count = JobBatchServiceImpl.PAGE_SIZE + 5;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ndjson.append("{\"app\":\"").append(i % 2 == 0 ? "billing" : "reports")
+                .append("\",\"name\":\"job-").append(i).append("\",\"handler\":\"run\",\"enabled\":true}\n\n");
+        }
+
+        JobBatchResult imported = this.service.importJobs(stream(ndjson.toString()), 200);
+        Assertions.assertEquals(new JobBatchResult(count, count, 6), imported);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assertions.assertEquals(count, this.service.exportJobs(job -> true, out));
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        Assertions.assertEquals(count, lines.size());
+        Assertions.assertTrue(lines.get(count - 1).contains("\"name\":\"job-" + (count - 1) + "\""));
+
+        ByteArrayOutputStream billing = new ByteArrayOutputStream();
+        Assertions.assertEquals(503, this.service.exportJobs(JobSelector.parse("app=billing"), billing));
+
+        // into a fresh cluster, whose store has none of the exported ids
+        InMemoryChangeLogRepository targetLog = new InMemoryChangeLogRepository();
+        InMemoryJobRepository target = new InMemoryJobRepository(targetLog);
+        JobBatchService fresh = new JobBatchServiceImpl(target, targetLog, new ObjectMapper());
+        target.save(Job.builder().app("other").name("seed").handler("h").build());
+        String exported = out.toString(StandardCharsets.UTF_8);
+        Assertions.assertEquals(new JobBatchResult(count, count, 3), fresh.importJobs(stream(exported), 500));
+        Assertions.assertEquals(count + 1, target.findAll().size());
+
+        // back into the same cluster after a job changed: matched by (app, name), not by id or version
+        Job changed = this.jobs.findAll().get(0);
+        changed.setHandler("changed");
+        this.jobs.save(changed);
+        JobBatchResult reimported = this.service.importJobs(stream(exported), 200);
+        Assertions.assertEquals(new JobBatchResult(count, count, 6), reimported);
+        Assertions.assertEquals(count, this.jobs.findAll().size());
+        Assertions.assertEquals("run", this.jobs.findById(changed.getId()).orElseThrow().getHandler());
+    }
+
+    @Test
+    void testImport_laterLineForTheSameJobWins() throws IOException {
+        JobBatchResult imported = this.service.importJobs(stream("""
+            {"app":"billing","name":"settle","handler":"first"}
+            {"app":"billing","name":"settle","handler":"second"}
+            {"app":"billing","name":"report","handler":"h"}
+            {"app":"billing","name":"settle","handler":"third"}
+            """), 2);
+
+        Assertions.assertEquals(new JobBatchResult(4, 3, 2), imported);
+        Assertions.assertEquals(2, this.jobs.findAll().size());
+        Assertions.assertEquals("third", this.jobs.findAll().get(0).getHandler());
+    }
+
+    @Test
+    void testImport_namesTheFailingLine() throws IOException {
+        String ndjson = "{\"app\":\"a\",\"name\":\"n\",\"handler\":\"h\"}\n{\"app\":\"a\"}\n";
+
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> this.service.importJobs(stream(ndjson), 1));
+        Assertions.assertTrue(e.getMessage().contains("line:2"));
+        Assertions.assertEquals(1, this.jobs.findAll().size());
+    }
+
+    @Test
+    void testApply_pausesResumesAndTriggersSelectedJobs() throws IOException {
+        this.service.importJobs(stream("""
+            {"app":"billing","name":"report-daily","handler":"h","enabled":true}
+            {"app":"billing","name":"report-weekly","handler":"h","enabled":false}
+            {"app":"billing","name":"settle","handler":"h","enabled":true}
+            {"app":"orders","name":"report-daily","handler":"h","enabled":true}
+            """), 10);
+        long before = this.changeLog.maxId();
+
+        JobSelector reports = JobSelector.parse("app=billing, name=report-*");
+        Assertions.assertEquals(new JobBatchResult(2, 1, 1), this.service.apply(JobAction.PAUSE, reports, 10));
+        Assertions.assertEquals(1, this.jobs.findAll().stream().filter(Job::isEnabled).filter(
+            job -> job.getApp().equals("billing")).count());
+        Assertions.assertEquals(new JobBatchResult(2, 2, 2), this.service.apply(JobAction.RESUME, reports, 1));
+
+        JobSelector notBilling = JobSelector.parse("app!=billing");
+        Assertions.assertEquals(new JobBatchResult(1, 1, 1), this.service.apply(JobAction.TRIGGER, notBilling, 10));
+        ChangeLog trigger = this.changeLog.findAfter(this.changeLog.maxId() - 1, 1).get(0);
+        Assertions.assertEquals(ChangeOperation.TRIGGER, trigger.getOperation());
+        Assertions.assertEquals(4L, trigger.getEntityId());
+        Assertions.assertEquals(before + 4, this.changeLog.maxId());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JobSelector.parse(" "));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JobSelector.parse("owner=me"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> this.service.apply(JobAction.PAUSE, reports, JobBatchService.MAX_BATCH_SIZE + 1));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import io.github.photowey.riff.apiserver.service.impl.JobLogServiceImpl;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.log.JobLogAppender;
+import io.github.photowey.riff.riffctl.core.log.JobLogStore;
+import io.github.photowey.riff.riffctl.core.log.LogChunk;
+import io.github.photowey.riff.riffctl.core.log.LogReadProcessor;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.memory.InMemoryTriggerLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code JobLogServiceTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JobLogServiceTest {
+
+    @TempDir
+    Path root;
+
+    private final InMemoryTriggerLogRepository triggerLogs = new InMemoryTriggerLogRepository();
+
+    private JobLogStore store;
+    private NettyRemotingServer server;
+    private NettyRemotingClient client;
+    private JobLogService service;
+    private String address;
+
+    @BeforeEach
+    void setUp() {
+        this.store = new JobLogStore(this.root, 4 * 1024);
+        this.server = new NettyRemotingServer("127.0.0.1", 0, 1);
+        this.server.registerProcessor(RequestCode.LOG_READ, new LogReadProcessor(this.store));
+        this.server.start();
+        this.client = new NettyRemotingClient();
+        this.client.start();
+        this.service = new JobLogServiceImpl(this.triggerLogs, this.client, RiffMetrics.NOOP);
+        this.address = "127.0.0.1:" + this.server.port();
+        // trigger logs 1..6 ran on the rifflet under test
+        for (int i = 0; i < 6; i++) {
+            this.triggerLogs.save(TriggerLog.builder().jobId(1L).plannedAt(i).executor(this.address).build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.client.shutdown();
+        this.server.shutdown();
+    }
+
+    @Test
+    void testTail_followsRunningJobUntilFinished() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            expected.append("line-").append(i).append('\n');
+        }
+        JobLogAppender appender = this.store.open(3L);
+        appender.append("line-0");
+        Thread writer = Thread.ofVirtual().start(() -> {
+            expected.toString().lines().skip(1).forEach(appender::append);
+            appender.close();
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long end = this.service.tail(3L, 0L, out);
+        writer.join();
+
+        Assertions.assertEquals(expected.toString(), out.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(expected.length(), end);
+    }
+
+    @Test
+    void testRead_resumesFromOffset() {
+        try (JobLogAppender appender = this.store.open(5L)) {
+            appender.append("hello");
+            appender.append("world");
+        }
+
+        LogChunk chunk = this.service.read(5L, 6L, 1_024);
+        Assertions.assertEquals("world\n", new String(chunk.data(), StandardCharsets.UTF_8));
+        Assertions.assertTrue(chunk.isComplete());
+        Assertions.assertThrows(IllegalStateException.class, () -> this.service.read(6L, 0L, 16));
+    }
+
+    @Test
+    void testRead_resolvesTheRiffletFromTheTriggerLogOnly() {
+        this.triggerLogs.save(TriggerLog.builder().jobId(1L).plannedAt(7L).build());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.service.read(7L, 0L, 16));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.service.read(99L, 0L, 16));
+    }
+}
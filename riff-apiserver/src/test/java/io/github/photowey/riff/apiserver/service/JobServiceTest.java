@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.util.List;
+
+import io.github.photowey.riff.apiserver.service.impl.JobServiceImpl;
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.memory.InMemoryChangeLogRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JobServiceTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JobServiceTest {
+
+    private final InMemoryChangeLogRepository changeLog = new InMemoryChangeLogRepository();
+    private final JobService service = new JobServiceImpl(new InMemoryJobRepository(this.changeLog));
+
+    @Test
+    void testWrites_appendToChangeLog() {
+        Job created = this.service.create(job());
+        created.setCron("0 0 * * * *");
+        Job updated = this.service.update(created.getId(), created);
+        Assertions.assertTrue(this.service.delete(created.getId()));
+
+        List<ChangeLog> changes = this.changeLog.findAfter(0L, 10);
+        Assertions.assertEquals(3, changes.size());
+        Assertions.assertEquals(updated.getVersion(), changes.get(1).getVersion());
+        Assertions.assertEquals(ChangeOperation.DELETE, changes.get(2).getOperation());
+        Assertions.assertTrue(this.service.find(created.getId()).isEmpty());
+    }
+
+    @Test
+    void testWrites_rejectInvalidAndStale() {
+        Job invalid = job();
+        invalid.setHandler(" ");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.service.create(invalid));
+
+        Job created = this.service.create(job());
+        this.service.update(created.getId(), job());
+        Assertions.assertThrows(IllegalStateException.class, () -> this.service.update(created.getId(), created));
+        Assertions.assertEquals(1, this.service.list().size());
+    }
+
+    @Test
+    void testPage_seeksPastLastId() {
+        for (int i = 0; i < 5; i++) {
+            this.service.create(job());
+        }
+
+        Page<Job> first = this.service.page(0L, 3);
+        Assertions.assertEquals(3, first.items().size());
+        Page<Job> second = this.service.page(Long.parseLong(first.next()), 3);
+        Assertions.assertEquals(2, second.items().size());
+        Assertions.assertFalse(second.hasNext());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> this.service.page(0L, JobService.MAX_PAGE_SIZE + 1));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Job job() {
+        return Job.builder()
+            .app("orders")
+            .name("settle")
+            .handler("settle")
+            .enabled(true)
+            .build();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.apiserver.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.riff.apiserver.service.impl.TriggerLogServiceImpl;
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.memory.InMemoryTriggerLogRepository;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code TriggerLogServiceTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class TriggerLogServiceTest {
+
+    private final InMemoryTriggerLogRepository repository = new InMemoryTriggerLogRepository();
+    private final TriggerLogService service = new TriggerLogServiceImpl(this.repository, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        List<TriggerLog> logs = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            logs.add(TriggerLog.builder()
+                .jobId(i % 5)
+                .plannedAt(10_000L + i / 2)
+                .triggeredAt(10_001L + i / 2)
+                .executor("10.0.0.1:7070")
+                .triggerMessage("ok")
+                .build());
+        }
+        this.repository.saveAll(logs);
+    }
+
+    @Test
+    void testPage_walksEveryLogOnceByCursor() {
+        TriggerLogQuery query = TriggerLogQuery.builder().limit(TriggerLogService.MAX_PAGE_SIZE).build();
+        List<TriggerLog> all = this.service.page(query).items();
+        Assertions.assertEquals(250, all.size());
+
+        List<TriggerLog> paged = new ArrayList<>();
+        query.setLimit(33);
+        Page<TriggerLog> page = this.service.page(query);
+        int pages = 1;
+        while (page.hasNext()) {
+            paged.addAll(page.items());
+            query.setAfter(TriggerLogCursor.parse(page.next()));
+            page = this.service.page(query);
+            pages++;
+        }
+        paged.addAll(page.items());
+
+        Assertions.assertEquals(all, paged);
+        Assertions.assertEquals(8, pages);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> this.service.page(TriggerLogQuery.builder().limit(TriggerLogService.MAX_PAGE_SIZE + 1).build()));
+    }
+
+    @Test
+    void testStreamNdjson_writesOneLinePerLogInRange() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TriggerLogQuery query = TriggerLogQuery.builder().jobId(2L).from(10_020L).to(10_100L).limit(1_000).build();
+
+        long streamed = this.service.streamNdjson(query, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        Assertions.assertEquals(32L, streamed);
+        Assertions.assertEquals(32, lines.size());
+        Assertions.assertTrue(lines.get(0).contains("\"plannedAt\":10098"));
+        Assertions.assertTrue(lines.stream().allMatch(line -> line.contains("\"jobId\":2")));
+    }
+
+    @Test
+    void testStreamEvents_carriesCursorsForResume() throws IOException {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        this.service.streamEvents(TriggerLogQuery.builder().limit(3).build(), first);
+
+        String[] events = first.toString(StandardCharsets.UTF_8).split("\n\n");
+        Assertions.assertEquals(4, events.length);
+        Assertions.assertTrue(events[0].startsWith("id: 10124:250\ndata: {"));
+        Assertions.assertEquals("event: end\ndata: 3", events[3]);
+
+        String lastEventId = events[2].substring("id: ".length(), events[2].indexOf('\n'));
+        ByteArrayOutputStream resumed = new ByteArrayOutputStream();
+        long streamed = this.service.streamEvents(
+            TriggerLogQuery.builder().after(TriggerLogCursor.parse(lastEventId)).limit(1_000).build(), resumed);
+        Assertions.assertEquals(247L, streamed);
+        Assertions.assertTrue(resumed.toString(StandardCharsets.UTF_8).startsWith("id: 10123:247\n"));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.codec;
+
+import io.github.photowey.riff.core.protocol.MessageType;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code AbstractMessageCodec}.
+ *
+ * <p>Writes and validates the envelope; subclasses only deal with the body.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public abstract class AbstractMessageCodec implements MessageCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final int ENVELOPE_HEADER = 2;
+
+    @Override
+    public final void encode(RiffMessage message, ByteBuf out) {
+        int start = out.writerIndex();
+        out.writeInt(0)
+            .writeByte(VERSION)
+            .writeByte(message.type().id());
+        this.encodeBody(message, out);
+        out.setInt(start, out.writerIndex() - start - Integer.BYTES);
+    }
+
+    @Override
+    public final RiffMessage decode(ByteBuf in) {
+        if (in.readableBytes() < Integer.BYTES + ENVELOPE_HEADER) {
+            throw new CodecException("riff: truncated envelope, readable:" + in.readableBytes());
+        }
+
+        int length = in.readInt();
+        if (length < ENVELOPE_HEADER || length > in.readableBytes()) {
+            throw new CodecException("riff: bad envelope length:" + length + ", readable:" + in.readableBytes());
+        }
+
+        ByteBuf body = in.readSlice(length);
+        byte version = body.readByte();
+        if (version < 1) {
+            throw new CodecException("riff: bad message version:" + version);
+        }
+
+        MessageType type = MessageType.of(body.readByte());
+        if (type == null) {
+            throw new CodecException("riff: unknown message type");
+        }
+
+        try {
+            return this.decodeBody(type, body);
+        } catch (IndexOutOfBoundsException e) {
+            throw new CodecException("riff: truncated " + type + " body", e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    protected abstract void encodeBody(RiffMessage message, ByteBuf out);
+
+    /**
+     * Decodes a body; bytes left unread in {@code body} are fields of a newer version.
+     *
+     * @param type the message type
+     * @param body the body, bounded by the envelope length
+     * @return the message
+     */
+    protected abstract RiffMessage decodeBody(MessageType type, ByteBuf body);
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.codec;
+
+import io.github.photowey.riff.core.protocol.BlockStrategy;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.core.protocol.MessageType;
+import io.github.photowey.riff.core.protocol.RegistryRequest;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.netty.buffer.ByteBuf;
+
+import static io.github.photowey.riff.core.codec.WireFormat.readSignedVarInt;
+import static io.github.photowey.riff.core.codec.WireFormat.readString;
+import static io.github.photowey.riff.core.codec.WireFormat.readVarInt;
+import static io.github.photowey.riff.core.codec.WireFormat.readVarLong;
+import static io.github.photowey.riff.core.codec.WireFormat.writeSignedVarInt;
+import static io.github.photowey.riff.core.codec.WireFormat.writeString;
+import static io.github.photowey.riff.core.codec.WireFormat.writeVarInt;
+import static io.github.photowey.riff.core.codec.WireFormat.writeVarLong;
+
+/**
+ * {@code BinaryMessageCodec}.
+ *
+ * <p>Fields are written positionally in declaration order with {@link WireFormat} primitives.
+ * New fields must only ever be appended.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class BinaryMessageCodec extends AbstractMessageCodec {
+
+    public static final BinaryMessageCodec INSTANCE = new BinaryMessageCodec();
+
+    private BinaryMessageCodec() {
+    }
+
+    @Override
+    public byte id() {
+        return BINARY;
+    }
+
+    @Override
+    public String name() {
+        return "binary";
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected void encodeBody(RiffMessage message, ByteBuf out) {
+        switch (message.type()) {
+            case TRIGGER_REQUEST -> encodeTrigger((TriggerRequest) message, out);
+            case CALLBACK_RESULT -> encodeCallback((CallbackResult) message, out);
+            case HEARTBEAT -> encodeHeartbeat((Heartbeat) message, out);
+            case REGISTRY -> encodeRegistry((RegistryRequest) message, out);
+            default -> throw new CodecException("riff: unsupported message type:" + message.type());
+        }
+    }
+
+    @Override
+    protected RiffMessage decodeBody(MessageType type, ByteBuf body) {
+        return switch (type) {
+            case TRIGGER_REQUEST -> decodeTrigger(body);
+            case CALLBACK_RESULT -> decodeCallback(body);
+            case HEARTBEAT -> decodeHeartbeat(body);
+            case REGISTRY -> decodeRegistry(body);
+        };
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void encodeTrigger(TriggerRequest message, ByteBuf out) {
+        writeVarLong(out, message.getJobId());
+        writeVarLong(out, message.getLogId());
+        writeString(out, message.getHandler());
+        writeString(out, message.getParams());
+        writeVarLong(out, message.getPlannedAt());
+        writeVarInt(out, message.getShardIndex());
+        writeVarInt(out, message.getShardTotal());
+        writeVarInt(out, message.getTimeoutMillis());
+        writeSignedVarInt(out, message.getBlockStrategy() == null ? -1 : message.getBlockStrategy().id());
+    }
+
+    private static TriggerRequest decodeTrigger(ByteBuf in) {
+        TriggerRequest message = new TriggerRequest();
+        message.setJobId(readVarLong(in));
+        message.setLogId(readVarLong(in));
+        message.setHandler(readString(in));
+        message.setParams(readString(in));
+        message.setPlannedAt(readVarLong(in));
+        message.setShardIndex(readVarInt(in));
+        message.setShardTotal(readVarInt(in));
+        message.setTimeoutMillis(readVarInt(in));
+        if (in.isReadable()) {
+            int strategy = readSignedVarInt(in);
+            message.setBlockStrategy(strategy < 0 ? null : BlockStrategy.of(strategy));
+        }
+
+        return message;
+    }
+
+    private static void encodeCallback(CallbackResult message, ByteBuf out) {
+        writeVarLong(out, message.getJobId());
+        writeVarLong(out, message.getLogId());
+        writeSignedVarInt(out, message.getCode());
+        writeString(out, message.getMessage());
+        writeVarLong(out, message.getStartedAt());
+        writeVarLong(out, message.getFinishedAt());
+        writeVarInt(out, message.getShardIndex());
+    }
+
+    private static CallbackResult decodeCallback(ByteBuf in) {
+        CallbackResult message = new CallbackResult();
+        message.setJobId(readVarLong(in));
+        message.setLogId(readVarLong(in));
+        message.setCode(readSignedVarInt(in));
+        message.setMessage(readString(in));
+        message.setStartedAt(readVarLong(in));
+        message.setFinishedAt(readVarLong(in));
+        if (in.isReadable()) {
+            message.setShardIndex(readVarInt(in));
+        }
+
+        return message;
+    }
+
+    private static void encodeHeartbeat(Heartbeat message, ByteBuf out) {
+        writeString(out, message.getApp());
+        writeString(out, message.getAddress());
+        writeVarLong(out, message.getTimestamp());
+        writeVarInt(out, message.getInFlight());
+        writeVarInt(out, message.getCapacity());
+        writeVarLong(out, message.getLatencyMicros());
+        writeVarInt(out, message.getConcurrencyLimit());
+    }
+
+    private static Heartbeat decodeHeartbeat(ByteBuf in) {
+        Heartbeat message = new Heartbeat();
+        message.setApp(readString(in));
+        message.setAddress(readString(in));
+        message.setTimestamp(readVarLong(in));
+        message.setInFlight(readVarInt(in));
+        message.setCapacity(readVarInt(in));
+        if (in.isReadable()) {
+            message.setLatencyMicros(readVarLong(in));
+        }
+        if (in.isReadable()) {
+            message.setConcurrencyLimit(readVarInt(in));
+        }
+
+        return message;
+    }
+
+    private static void encodeRegistry(RegistryRequest message, ByteBuf out) {
+        writeString(out, message.getApp());
+        writeString(out, message.getAddress());
+        out.writeBoolean(message.isUnregister());
+        writeVarLong(out, message.getTimestamp());
+    }
+
+    private static RegistryRequest decodeRegistry(ByteBuf in) {
+        RegistryRequest message = new RegistryRequest();
+        message.setApp(readString(in));
+        message.setAddress(readString(in));
+        message.setUnregister(in.readBoolean());
+        message.setTimestamp(readVarLong(in));
+
+        return message;
+    }
+}
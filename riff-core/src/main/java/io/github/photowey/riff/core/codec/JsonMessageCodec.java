@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.riff.core.protocol.MessageType;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * {@code JsonMessageCodec}.
+ *
+ * <p>Human-readable bodies for debugging and packet captures. Requires Jackson on the classpath.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class JsonMessageCodec extends AbstractMessageCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonMessageCodec() {
+        this(new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    public JsonMessageCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte id() {
+        return JSON;
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected void encodeBody(RiffMessage message, ByteBuf out) {
+        try {
+            this.objectMapper.writeValue((OutputStream) new ByteBufOutputStream(out), message);
+        } catch (IOException e) {
+            throw new CodecException("riff: json encode " + message.type() + " failed", e);
+        }
+    }
+
+    @Override
+    protected RiffMessage decodeBody(MessageType type, ByteBuf body) {
+        try {
+            return this.objectMapper.readValue((InputStream) new ByteBufInputStream(body), type.messageClass());
+        } catch (IOException e) {
+            throw new CodecException("riff: json decode " + type + " failed", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.codec;
+
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code MessageCodec}.
+ *
+ * <p>Every codec writes the same envelope around its body, so that messages are self-delimiting
+ * and several of them can be concatenated in one frame:
+ *
+ * <pre>
+ * +--------+---------+------+--------------+
+ * | length | version | type | body         |
+ * | int    | byte    | byte | length - 2   |
+ * +--------+---------+------+--------------+
+ * </pre>
+ *
+ * <p>Newer versions only ever append fields; a decoder skips whatever trails the fields it knows.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface MessageCodec {
+
+    byte BINARY = 1;
+    byte JSON = 2;
+
+    /**
+     * @return the codec id carried on the wire, in {@code [1, 127]}
+     */
+    byte id();
+
+    String name();
+
+    /**
+     * Appends one enveloped message to {@code out}.
+     *
+     * @param message the message
+     * @param out     the target buffer
+     */
+    void encode(RiffMessage message, ByteBuf out);
+
+    /**
+     * Reads one enveloped message and advances {@code in} past it.
+     *
+     * @param in the source buffer
+     * @return the message
+     * @throws CodecException if the bytes do not hold a valid message
+     */
+    RiffMessage decode(ByteBuf in);
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.codec;
+
+/**
+ * {@code MessageCodecs}.
+ *
+ * <p>Registry of codecs by wire id. The binary codec is always present; the JSON codec is
+ * registered when Jackson is on the classpath.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class MessageCodecs {
+
+    private static final MessageCodec[] CODECS = new MessageCodec[128];
+
+    static {
+        register(BinaryMessageCodec.INSTANCE);
+        if (isPresent("com.fasterxml.jackson.databind.ObjectMapper")) {
+            register(new JsonMessageCodec());
+        }
+    }
+
+    private MessageCodecs() {
+        throw new AssertionError("No " + MessageCodecs.class.getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static synchronized void register(MessageCodec codec) {
+        if (codec.id() <= 0) {
+            throw new IllegalArgumentException("riff: codec id must be in [1, 127], but was " + codec.id());
+        }
+
+        CODECS[codec.id()] = codec;
+    }
+
+    /**
+     * Resolves a codec by wire id.
+     *
+     * @param id the codec id
+     * @return the codec
+     * @throws CodecException if no codec is registered under {@code id}
+     */
+    public static MessageCodec get(byte id) {
+        MessageCodec codec = id > 0 ? CODECS[id] : null;
+        if (codec == null) {
+            throw new CodecException("riff: unknown codec id:" + id);
+        }
+
+        return codec;
+    }
+
+    public static MessageCodec binary() {
+        return BinaryMessageCodec.INSTANCE;
+    }
+
+    public static MessageCodec json() {
+        return get(MessageCodec.JSON);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, MessageCodecs.class.getClassLoader());
+
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.codec;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * {@code WireFormat}.
+ *
+ * <p>Varint and string primitives written straight into a {@link ByteBuf}. Varints use 7 bits per
+ * byte, least significant group first; signed values are zigzag-encoded so small negatives stay
+ * short. Strings are a varint of {@code utf8Length + 1} ({@code 0} for {@code null}) followed by the
+ * UTF-8 bytes, encoded in place without an intermediate {@code byte[]}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class WireFormat {
+
+    private static final int MAX_VARINT_BYTES = 5;
+    private static final int MAX_VARLONG_BYTES = 10;
+
+    private WireFormat() {
+        throw new AssertionError("No " + WireFormat.class.getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static void writeVarInt(ByteBuf out, int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    public static void writeVarLong(ByteBuf out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    public static void writeSignedVarInt(ByteBuf out, int value) {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    public static void writeString(ByteBuf out, String value) {
+        if (value == null) {
+            out.writeByte(0);
+
+            return;
+        }
+
+        int length = ByteBufUtil.utf8Bytes(value);
+        writeVarInt(out, length + 1);
+        ByteBufUtil.reserveAndWriteUtf8(out, value, length);
+    }
+
+    // ----------------------------------------------------------------
+
+    public static int readVarInt(ByteBuf in) {
+        int value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new CodecException("riff: malformed varint");
+    }
+
+    public static long readVarLong(ByteBuf in) {
+        long value = 0;
+        for (int i = 0; i < MAX_VARLONG_BYTES; i++) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new CodecException("riff: malformed varlong");
+    }
+
+    public static int readSignedVarInt(ByteBuf in) {
+        int raw = readVarInt(in);
+
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public static String readString(ByteBuf in) {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            if (length == -1) {
+                return null;
+            }
+
+            throw new CodecException("riff: bad string length:" + length);
+        }
+        if (length > in.readableBytes()) {
+            throw new CodecException("riff: string length:" + length + " exceeds readable:" + in.readableBytes());
+        }
+
+        String value = in.toString(in.readerIndex(), length, StandardCharsets.UTF_8);
+        in.skipBytes(length);
+
+        return value;
+    }
+}
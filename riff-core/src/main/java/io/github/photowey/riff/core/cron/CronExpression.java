@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.cron;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import io.github.photowey.riff.core.schedule.Schedule;
+
+/**
+ * {@code CronExpression}.
+ *
+ * <p>A cron expression compiled once into bitsets for seconds, minutes, hours, days of month,
+ * months and days of week. {@link #nextFireTime(long)} works on primitive civil-date arithmetic
+ * and bit scans, and does not allocate: the zone offset is cached for the span between two
+ * transitions of the zone and only refreshed when an instant falls outside of it. A fire time
+ * skipped by a daylight-saving gap is shifted forward by the gap's length, and one repeated by an
+ * overlap fires once, at the earlier offset, as {@code ZonedDateTime} resolves local times.
+ *
+ * <p>Supports six fields ({@code second minute hour day-of-month month day-of-week}), five fields
+ * (seconds default to {@code 0}), {@code * ? , - /}, month and day names, and the {@code @daily}
+ * style macros. As in Spring's {@code CronExpression}, day-of-month and day-of-week must both match.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class CronExpression implements Schedule {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MAX_SEARCH_YEARS = 400;
+
+    private final String expression;
+    private final ZoneId zone;
+    private final ZoneRules rules;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+
+    private volatile OffsetWindow window;
+
+    private CronExpression(String expression, ZoneId zone) {
+        final String[] fields = CronParser.fields(expression);
+
+        this.expression = expression;
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.seconds = CronParser.seconds(fields[0]);
+        this.minutes = CronParser.minutes(fields[1]);
+        this.hours = CronParser.hours(fields[2]);
+        this.daysOfMonth = CronParser.daysOfMonth(fields[3]);
+        this.months = CronParser.months(fields[4]);
+        this.daysOfWeek = CronParser.daysOfWeek(fields[5]);
+        this.window = OffsetWindow.of(this.rules, Instant.EPOCH);
+    }
+
+    public static CronExpression compile(String expression) {
+        return compile(expression, ZoneOffset.UTC);
+    }
+
+    public static CronExpression compile(String expression, ZoneId zone) {
+        return new CronExpression(expression, zone);
+    }
+
+    public static boolean isValid(String expression) {
+        try {
+            compile(expression);
+
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public long nextFireTime(long epochMillis) {
+        long fromSecond = Math.floorDiv(epochMillis, 1000L) + 1;
+        for (int attempt = 0; attempt < 3; attempt++) {
+            int offset = this.offsetSeconds(fromSecond);
+            long local = this.nextLocal(fromSecond + offset);
+            if (local == NEVER) {
+                return NEVER;
+            }
+
+            long epochSecond = this.toEpochSecond(local, offset);
+            if (epochSecond >= fromSecond) {
+                return epochSecond * 1000L;
+            }
+
+            fromSecond = epochSecond + 1;
+        }
+
+        return NEVER;
+    }
+
+    public String expression() {
+        return this.expression;
+    }
+
+    public ZoneId zone() {
+        return this.zone;
+    }
+
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Finds the first matching local second at or after {@code localSecond}.
+     *
+     * @param localSecond the local wall-clock second, counted from 1970-01-01T00:00:00
+     * @return the matching local second, or {@link #NEVER}
+     */
+    private long nextLocal(long localSecond) {
+        long days = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        long civil = civilFromDays(days);
+        int year = (int) (civil >> 9);
+        int month = (int) (civil >> 5) & 0xF;
+        int day = (int) civil & 0x1F;
+        int yearLimit = year + MAX_SEARCH_YEARS;
+
+        while (year <= yearLimit) {
+            int nextMonth = nextBit(this.months, month);
+            if (nextMonth != month || day > daysInMonth(year, month)) {
+                nextMonth = nextMonth == month ? nextBit(this.months, month + 1) : nextMonth;
+                if (nextMonth > 12) {
+                    year++;
+                    nextMonth = nextBit(this.months, 1);
+                }
+                month = nextMonth;
+                day = 1;
+                days = daysFromCivil(year, month, day);
+                secondOfDay = 0;
+                continue;
+            }
+
+            int hour = secondOfDay / 3600;
+            int nextHour = nextBit(this.hours, hour);
+            if (nextHour > 23 || !this.matchesDay(day, days)) {
+                int nextDay = nextBit(this.daysOfMonth, day + 1);
+                days += nextDay - day;
+                day = nextDay;
+                secondOfDay = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                secondOfDay = hour * 3600;
+            }
+
+            int minute = secondOfDay / 60 % 60;
+            int nextMinute = nextBit(this.minutes, minute);
+            if (nextMinute > 59) {
+                secondOfDay = (hour + 1) * 3600;
+                continue;
+            }
+            if (nextMinute != minute) {
+                secondOfDay = hour * 3600 + nextMinute * 60;
+            }
+
+            int nextSecond = nextBit(this.seconds, secondOfDay % 60);
+            if (nextSecond > 59) {
+                secondOfDay = (secondOfDay / 60 + 1) * 60;
+                continue;
+            }
+
+            return days * SECONDS_PER_DAY + secondOfDay - secondOfDay % 60 + nextSecond;
+        }
+
+        return NEVER;
+    }
+
+    /**
+     * Resolves a local second the way {@code ZonedDateTime} does: a time repeated by an overlap
+     * takes the earlier offset, and a time skipped by a gap is shifted forward by the gap's length.
+     * The transition is only looked up when the offset differs from {@code offsetHint}.
+     *
+     * @param localSecond the local wall-clock second, counted from 1970-01-01T00:00:00
+     * @param offsetHint  the offset in effect at the start of the search
+     * @return the epoch second
+     */
+    private long toEpochSecond(long localSecond, int offsetHint) {
+        long epochSecond = localSecond - offsetHint;
+        int actual = this.offsetSeconds(epochSecond);
+        if (actual == offsetHint) {
+            return epochSecond;
+        }
+
+        ZoneOffsetTransition transition =
+            this.rules.getTransition(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC));
+        if (transition != null && transition.isGap()) {
+            return localSecond - transition.getOffsetBefore().getTotalSeconds();
+        }
+
+        return localSecond - actual;
+    }
+
+    private boolean matchesDay(int day, long days) {
+        int dayOfWeek = (int) Math.floorMod(days + 4, 7L);
+
+        return (this.daysOfMonth & (1L << day)) != 0 && (this.daysOfWeek & (1L << dayOfWeek)) != 0;
+    }
+
+    private int offsetSeconds(long epochSecond) {
+        OffsetWindow current = this.window;
+        if (epochSecond >= current.fromSecond && epochSecond < current.untilSecond) {
+            return current.offsetSeconds;
+        }
+
+        current = OffsetWindow.of(this.rules, Instant.ofEpochSecond(epochSecond));
+        this.window = current;
+
+        return current.offsetSeconds;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static int nextBit(long bits, int from) {
+        return Long.numberOfTrailingZeros(bits & (-1L << from));
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isLeap(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date (H. Hinnant's algorithm).
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Packs the civil date of {@code days} since 1970-01-01 as {@code year << 9 | month << 5 | day}.
+     */
+    private static long civilFromDays(long days) {
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097L);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * {@code OffsetWindow}.
+     *
+     * <p>The zone offset valid within {@code [fromSecond, untilSecond)}.
+     *
+     * @param fromSecond    the first epoch second of the window, inclusive
+     * @param untilSecond   the last epoch second of the window, exclusive
+     * @param offsetSeconds the total zone offset in seconds
+     * @author photowey
+     * @version 1.0.0
+     * @since 2026/10/17
+     */
+    private record OffsetWindow(long fromSecond, long untilSecond, int offsetSeconds) {
+
+        static OffsetWindow of(ZoneRules rules, Instant instant) {
+            int offset = rules.getOffset(instant).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                return new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, offset);
+            }
+
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusNanos(1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+
+            return new OffsetWindow(
+                previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+                next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+                offset
+            );
+        }
+    }
+}
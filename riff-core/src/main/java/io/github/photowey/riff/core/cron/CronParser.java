@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.cron;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code CronParser}.
+ *
+ * <p>Compiles the textual fields of a cron expression into bitsets, bit {@code n} set meaning
+ * value {@code n} matches.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+final class CronParser {
+
+    private static final String[] MONTHS = {
+        "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC",
+    };
+    private static final String[] DAYS_OF_WEEK = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private static final Map<String, String> MACROS = Map.of(
+        "@yearly", "0 0 0 1 1 *",
+        "@annually", "0 0 0 1 1 *",
+        "@monthly", "0 0 0 1 * *",
+        "@weekly", "0 0 0 * * 0",
+        "@daily", "0 0 0 * * *",
+        "@midnight", "0 0 0 * * *",
+        "@hourly", "0 0 * * * *"
+    );
+
+    private CronParser() {
+        throw new AssertionError("No " + CronParser.class.getName() + " instances for you!");
+    }
+
+    static String[] fields(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Cron expression must not be blank");
+        }
+
+        String normalized = MACROS.getOrDefault(expression.trim().toLowerCase(Locale.ROOT), expression.trim());
+        String[] fields = normalized.split("\\s+");
+        if (fields.length == 5) {
+            String[] withSeconds = new String[6];
+            withSeconds[0] = "0";
+            System.arraycopy(fields, 0, withSeconds, 1, 5);
+
+            return withSeconds;
+        }
+        if (fields.length != 6) {
+            throw new IllegalArgumentException(
+                "Cron expression must consist of 5 or 6 fields, found " + fields.length + " in: " + expression);
+        }
+
+        return fields;
+    }
+
+    static long seconds(String field) {
+        return parse(field, 0, 59, null, false);
+    }
+
+    static long minutes(String field) {
+        return parse(field, 0, 59, null, false);
+    }
+
+    static long hours(String field) {
+        return parse(field, 0, 23, null, false);
+    }
+
+    static long daysOfMonth(String field) {
+        return parse(field, 1, 31, null, true);
+    }
+
+    static long months(String field) {
+        return parse(field, 1, 12, MONTHS, false);
+    }
+
+    /**
+     * Ranges and steps run over {@code MON=1 .. SUN=7} as in {@code java.time} and Spring, so
+     * {@code *}{@code /2} is MON, WED, FRI, SUN. {@code 0} is still accepted for Sunday, and Sunday
+     * is folded into bit {@code 0} afterwards.
+     */
+    static long daysOfWeek(String field) {
+        long bits = parse(field.replace("*", "1-7"), 0, 7, DAYS_OF_WEEK, true);
+        if ((bits & (1L << 7)) != 0) {
+            bits = (bits | 1L) & ~(1L << 7);
+        }
+
+        return bits;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static long parse(String field, int min, int max, String[] names, boolean question) {
+        if (question && "?".equals(field)) {
+            return range(min, max, 1);
+        }
+
+        long bits = 0L;
+        for (String part : field.split(",")) {
+            bits |= parsePart(part, min, max, names, field);
+        }
+
+        return bits;
+    }
+
+    private static long parsePart(String part, int min, int max, String[] names, String field) {
+        int slash = part.indexOf('/');
+        String rangePart = slash < 0 ? part : part.substring(0, slash);
+        int step = slash < 0 ? 1 : parseValue(part.substring(slash + 1), 1, max, null, field);
+
+        int start;
+        int end;
+        if ("*".equals(rangePart)) {
+            start = min;
+            end = max;
+        } else {
+            int dash = rangePart.indexOf('-');
+            start = parseValue(dash < 0 ? rangePart : rangePart.substring(0, dash), min, max, names, field);
+            if (dash >= 0) {
+                end = parseValue(rangePart.substring(dash + 1), min, max, names, field);
+            } else {
+                end = slash < 0 ? start : max;
+            }
+        }
+
+        if (start > end) {
+            throw new IllegalArgumentException("Illegal range: " + part + " in field: " + field);
+        }
+
+        return range(start, end, step);
+    }
+
+    private static int parseValue(String value, int min, int max, String[] names, String field) {
+        if (names != null) {
+            String upper = value.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) {
+                    return max - names.length + 1 + i;
+                }
+            }
+        }
+
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unsupported value: " + value + " in field: " + field, e);
+        }
+        if (parsed < min || parsed > max) {
+            throw new IllegalArgumentException(
+                "Value: " + parsed + " out of range [" + min + ", " + max + "] in field: " + field);
+        }
+
+        return parsed;
+    }
+
+    private static long range(int start, int end, int step) {
+        long bits = 0L;
+        for (int value = start; value <= end; value += step) {
+            bits |= 1L << value;
+        }
+
+        return bits;
+    }
+}
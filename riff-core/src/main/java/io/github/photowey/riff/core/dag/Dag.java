@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.dag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code Dag}.
+ *
+ * <p>An immutable job dependency graph: an edge {@code A -> B} means B runs after A succeeded.
+ * Nodes are job ids, addressed internally by dense indexes in insertion order, with adjacency
+ * kept as {@code int[]} so that walking a node's children on every callback does not allocate.
+ *
+ * <p>{@link #encode()} produces {@code "1,2,3;1>3,2>3"}, which {@link #parse(String)} reads back,
+ * so that a run can persist the exact graph it was started with.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class Dag {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final long[] nodes;
+    private final Map<Long, Integer> indexes;
+    private final int[][] parents;
+    private final int[][] children;
+    private final int[] roots;
+
+    private Dag(long[] nodes, Map<Long, Integer> indexes, int[][] parents, int[][] children) {
+        this.nodes = nodes;
+        this.indexes = indexes;
+        this.parents = parents;
+        this.children = children;
+        this.roots = Arrays.stream(indexOrder(nodes.length)).filter(node -> parents[node].length == 0).toArray();
+    }
+
+    // ----------------------------------------------------------------
+
+    public int size() {
+        return this.nodes.length;
+    }
+
+    public long jobId(int node) {
+        return this.nodes[node];
+    }
+
+    /**
+     * Resolves a job id.
+     *
+     * @param jobId the job id
+     * @return the node index, or {@code -1} if the job is not part of the graph
+     */
+    public int indexOf(long jobId) {
+        Integer index = this.indexes.get(jobId);
+
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the direct parents of a node.
+     *
+     * @param node the node index
+     * @return the parents, must not be modified
+     */
+    public int[] parents(int node) {
+        return this.parents[node];
+    }
+
+    /**
+     * Returns the direct children of a node.
+     *
+     * @param node the node index
+     * @return the children, must not be modified
+     */
+    public int[] children(int node) {
+        return this.children[node];
+    }
+
+    /**
+     * Returns the nodes without parents.
+     *
+     * @return the roots, must not be modified
+     */
+    public int[] roots() {
+        return this.roots;
+    }
+
+    public long[] jobIds() {
+        return this.nodes.clone();
+    }
+
+    public String encode() {
+        StringBuilder out = new StringBuilder(this.nodes.length * 8);
+        for (int node = 0; node < this.nodes.length; node++) {
+            if (node > 0) {
+                out.append(',');
+            }
+            out.append(this.nodes[node]);
+        }
+
+        out.append(';');
+        boolean first = true;
+        for (int node = 0; node < this.nodes.length; node++) {
+            for (int child : this.children[node]) {
+                if (!first) {
+                    out.append(',');
+                }
+                out.append(this.nodes[node]).append('>').append(this.nodes[child]);
+                first = false;
+            }
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Reads a graph written by {@link #encode()}.
+     *
+     * @param encoded the encoded graph
+     * @return the graph
+     * @throws IllegalArgumentException if the text is malformed or the graph has a cycle
+     */
+    public static Dag parse(String encoded) {
+        int separator = encoded.indexOf(';');
+        if (separator < 0) {
+            throw new IllegalArgumentException("riff: malformed dag:" + encoded);
+        }
+
+        Builder builder = builder();
+        try {
+            for (String node : split(encoded.substring(0, separator))) {
+                builder.node(Long.parseLong(node));
+            }
+            for (String edge : split(encoded.substring(separator + 1))) {
+                int arrow = edge.indexOf('>');
+                builder.edge(Long.parseLong(edge.substring(0, arrow)), Long.parseLong(edge.substring(arrow + 1)));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("riff: malformed dag:" + encoded, e);
+        }
+
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "Dag{" + this.encode() + "}";
+    }
+
+    // ----------------------------------------------------------------
+
+    private static int[] indexOrder(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+
+        return order;
+    }
+
+    private static String[] split(String text) {
+        return text.isEmpty() ? new String[0] : text.split(",");
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code Builder}.
+     *
+     * @author photowey
+     * @version 1.0.0
+     * @since 2026/10/17
+     */
+    public static final class Builder {
+
+        private final Map<Long, Set<Long>> edges = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder node(long jobId) {
+            this.edges.computeIfAbsent(jobId, key -> new LinkedHashSet<>());
+
+            return this;
+        }
+
+        /**
+         * Adds {@code parent -> child}, adding either node if needed.
+         *
+         * @param parent the job that must succeed first
+         * @param child  the job that runs after it
+         * @return this builder
+         */
+        public Builder edge(long parent, long child) {
+            if (parent == child) {
+                throw new IllegalArgumentException("riff: dag self-loop on job:" + parent);
+            }
+
+            this.node(parent).node(child);
+            this.edges.get(parent).add(child);
+
+            return this;
+        }
+
+        /**
+         * Builds the graph.
+         *
+         * @return the graph
+         * @throws IllegalArgumentException if the graph is empty or has a cycle
+         */
+        public Dag build() {
+            int size = this.edges.size();
+            if (size == 0) {
+                throw new IllegalArgumentException("riff: dag has no nodes");
+            }
+
+            long[] nodes = new long[size];
+            Map<Long, Integer> indexes = new HashMap<>(size * 2);
+            int next = 0;
+            for (Long jobId : this.edges.keySet()) {
+                nodes[next] = jobId;
+                indexes.put(jobId, next++);
+            }
+
+            List<List<Integer>> parentLists = new ArrayList<>(size);
+            int[][] children = new int[size][];
+            for (int node = 0; node < size; node++) {
+                parentLists.add(new ArrayList<>());
+            }
+            for (int node = 0; node < size; node++) {
+                Set<Long> targets = this.edges.get(nodes[node]);
+                children[node] = targets.isEmpty() ? EMPTY : new int[targets.size()];
+                int i = 0;
+                for (Long target : targets) {
+                    int child = indexes.get(target);
+                    children[node][i++] = child;
+                    parentLists.get(child).add(node);
+                }
+            }
+
+            int[][] parents = new int[size][];
+            for (int node = 0; node < size; node++) {
+                parents[node] = parentLists.get(node).stream().mapToInt(Integer::intValue).toArray();
+            }
+            requireAcyclic(nodes, parents, children);
+
+            return new Dag(nodes, Map.copyOf(indexes), parents, children);
+        }
+
+        private static void requireAcyclic(long[] nodes, int[][] parents, int[][] children) {
+            int[] inDegree = new int[nodes.length];
+            int[] queue = new int[nodes.length];
+            int tail = 0;
+            for (int node = 0; node < nodes.length; node++) {
+                inDegree[node] = parents[node].length;
+                if (inDegree[node] == 0) {
+                    queue[tail++] = node;
+                }
+            }
+            for (int head = 0; head < tail; head++) {
+                for (int child : children[queue[head]]) {
+                    if (--inDegree[child] == 0) {
+                        queue[tail++] = child;
+                    }
+                }
+            }
+            if (tail < nodes.length) {
+                for (int node = 0; node < nodes.length; node++) {
+                    if (inDegree[node] > 0) {
+                        throw new IllegalArgumentException("riff: dag has a cycle through job:" + nodes[node]);
+                    }
+                }
+            }
+        }
+    }
+}
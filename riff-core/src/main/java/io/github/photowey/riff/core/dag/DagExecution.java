@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.dag;
+
+import java.util.Arrays;
+
+/**
+ * {@code DagExecution}.
+ *
+ * <p>The state machine of one run of a {@link Dag}. Readiness is event-driven: every node keeps
+ * the count of parents that have not succeeded yet, and {@link #complete(int, boolean)} only
+ * walks the children of the completed node, so a callback costs {@code O(out-degree)} instead of
+ * a scan of the whole graph. A failed node skips all of its descendants.
+ *
+ * <p>Not thread-safe; callers serialize transitions of one run, typically under a per-run lock.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class DagExecution {
+
+    private final Dag dag;
+    private final DagNodeStatus[] statuses;
+    private final int[] waiting;
+
+    private int terminal;
+    private boolean failed;
+
+    public DagExecution(Dag dag) {
+        this.dag = dag;
+        this.statuses = new DagNodeStatus[dag.size()];
+        this.waiting = new int[dag.size()];
+        Arrays.fill(this.statuses, DagNodeStatus.PENDING);
+        for (int node = 0; node < dag.size(); node++) {
+            this.waiting[node] = dag.parents(node).length;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public Dag dag() {
+        return this.dag;
+    }
+
+    public DagNodeStatus status(int node) {
+        return this.statuses[node];
+    }
+
+    public boolean isFinished() {
+        return this.terminal == this.statuses.length;
+    }
+
+    public boolean isSucceeded() {
+        return this.isFinished() && !this.failed;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Restores a persisted node status, e.g. after a scheduler failover. Call for every
+     * persisted node before {@link #advance()}.
+     *
+     * @param node   the node index
+     * @param status the persisted status
+     */
+    public void restore(int node, DagNodeStatus status) {
+        DagNodeStatus previous = this.statuses[node];
+        if (previous == status) {
+            return;
+        }
+        if (previous.isTerminal()) {
+            throw new IllegalStateException("riff: dag node:[" + node + "] is already " + previous);
+        }
+
+        this.statuses[node] = status;
+        if (status == DagNodeStatus.SUCCESS) {
+            for (int child : this.dag.children(node)) {
+                this.waiting[child]--;
+            }
+        }
+        if (status.isTerminal()) {
+            this.terminal++;
+            this.failed |= status != DagNodeStatus.SUCCESS;
+        }
+    }
+
+    /**
+     * Moves every pending node whose parents all succeeded to {@link DagNodeStatus#RUNNING} and
+     * skips the pending descendants of failed or skipped nodes. On a fresh run this starts the
+     * roots; after {@link #restore(int, DagNodeStatus)} it picks up where the run left off,
+     * re-readying nodes that were due but never marked running. Nodes restored as running are not
+     * part of the step; whether to dispatch them again is up to the caller.
+     *
+     * @return the transition
+     */
+    public DagStep advance() {
+        int[] ready = new int[this.statuses.length];
+        int readyCount = 0;
+        int[] skipped = new int[this.statuses.length];
+        int skippedCount = 0;
+        for (int node = 0; node < this.statuses.length; node++) {
+            DagNodeStatus status = this.statuses[node];
+            if (status == DagNodeStatus.FAILED || status == DagNodeStatus.SKIPPED) {
+                skippedCount = this.skipDescendants(node, skipped, skippedCount);
+            }
+        }
+        for (int node = 0; node < this.statuses.length; node++) {
+            if (this.statuses[node] == DagNodeStatus.PENDING && this.waiting[node] == 0) {
+                this.statuses[node] = DagNodeStatus.RUNNING;
+                ready[readyCount++] = node;
+            }
+        }
+
+        return step(ready, readyCount, skipped, skippedCount);
+    }
+
+    /**
+     * Applies the outcome of a running node.
+     *
+     * @param node    the node index
+     * @param success whether the job succeeded
+     * @return the children that became ready, and the descendants skipped by a failure;
+     *     {@link DagStep#NONE} if the node was not running, e.g. on a duplicate callback
+     */
+    public DagStep complete(int node, boolean success) {
+        if (this.statuses[node] != DagNodeStatus.RUNNING) {
+            return DagStep.NONE;
+        }
+
+        this.terminal++;
+        if (!success) {
+            this.statuses[node] = DagNodeStatus.FAILED;
+            this.failed = true;
+            int[] skipped = new int[this.statuses.length];
+            int skippedCount = this.skipDescendants(node, skipped, 0);
+
+            return step(skipped, 0, skipped, skippedCount);
+        }
+
+        this.statuses[node] = DagNodeStatus.SUCCESS;
+        int[] children = this.dag.children(node);
+        int[] ready = new int[children.length];
+        int readyCount = 0;
+        for (int child : children) {
+            if (--this.waiting[child] == 0 && this.statuses[child] == DagNodeStatus.PENDING) {
+                this.statuses[child] = DagNodeStatus.RUNNING;
+                ready[readyCount++] = child;
+            }
+        }
+
+        return step(ready, readyCount, ready, 0);
+    }
+
+    // ----------------------------------------------------------------
+
+    private int skipDescendants(int node, int[] skipped, int count) {
+        int next = count;
+        for (int child : this.dag.children(node)) {
+            if (this.statuses[child] == DagNodeStatus.PENDING) {
+                this.statuses[child] = DagNodeStatus.SKIPPED;
+                this.terminal++;
+                this.failed = true;
+                skipped[next++] = child;
+                next = this.skipDescendants(child, skipped, next);
+            }
+        }
+
+        return next;
+    }
+
+    private static DagStep step(int[] ready, int readyCount, int[] skipped, int skippedCount) {
+        if (readyCount == 0 && skippedCount == 0) {
+            return DagStep.NONE;
+        }
+
+        return new DagStep(Arrays.copyOf(ready, readyCount), Arrays.copyOf(skipped, skippedCount));
+    }
+}
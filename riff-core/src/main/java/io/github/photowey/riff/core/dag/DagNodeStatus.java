@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.dag;
+
+/**
+ * {@code DagNodeStatus}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public enum DagNodeStatus {
+
+    /**
+     * Waiting for its parents.
+     */
+    PENDING,
+
+    /**
+     * Dispatched, waiting for its callback.
+     */
+    RUNNING,
+
+    SUCCESS,
+
+    FAILED,
+
+    /**
+     * Never runs because an ancestor failed or was skipped.
+     */
+    SKIPPED;
+
+    public boolean isTerminal() {
+        return this == SUCCESS || this == FAILED || this == SKIPPED;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.dag;
+
+/**
+ * {@code DagStep}.
+ *
+ * <p>The effect of one {@link DagExecution} transition, as node indexes.
+ *
+ * @param ready   the nodes that became ready and are now {@link DagNodeStatus#RUNNING}
+ * @param skipped the nodes that became {@link DagNodeStatus#SKIPPED}
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public record DagStep(int[] ready, int[] skipped) {
+
+    public static final DagStep NONE = new DagStep(new int[0], new int[0]);
+
+    public boolean isEmpty() {
+        return this.ready.length == 0 && this.skipped.length == 0;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code AdaptiveLimit}.
+ *
+ * <p>A concurrency limit that follows measured latency instead of being configured, in the
+ * gradient style: a long-term average of the round-trip time stands in for the latency without
+ * queueing, and each sample moves the limit towards {@code limit * gradient + sqrt(limit)}, where
+ * {@code gradient = tolerance * longRtt / rtt} clamped to {@code [0.5, 1]}. While latency holds the
+ * limit keeps probing upwards by the {@code sqrt(limit)} queue allowance; once requests start
+ * queueing and latency rises, the gradient drops below one and the limit shrinks at once, long
+ * before the long-term average catches up with the new latency.
+ *
+ * <p>{@link #tryAcquire()} and {@link #release()} are a CAS each. Samples are applied under a
+ * lock that is only ever tried, never waited for: a sample that finds it held is skipped, which
+ * costs nothing statistically and never parks a virtual thread.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public final class AdaptiveLimit {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 1_000;
+
+    private static final double TOLERANCE = 1.5D;
+    private static final double SMOOTHING = 0.2D;
+    private static final double MIN_GRADIENT = 0.5D;
+    private static final int LONG_WINDOW = 600;
+    private static final double LONG_DECAY = 0.95D;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+
+    // guarded by lock
+    private double estimate;
+    private double longRtt;
+
+    public AdaptiveLimit() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(
+                "limits must satisfy 0 < min <= initial <= max: " + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.estimate = initialLimit;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Admits a request if fewer than {@link #limit()} are in flight.
+     *
+     * @return {@code false} if the limit is reached, in which case nothing is taken
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= this.limit) {
+                return false;
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        this.inFlight.decrementAndGet();
+    }
+
+    /**
+     * Feeds the round-trip time of a request that held a permit.
+     *
+     * @param rttNanos the measured time in nanoseconds
+     */
+    public void onSample(long rttNanos) {
+        if (rttNanos <= 0 || !this.lock.tryLock()) {
+            return;
+        }
+
+        try {
+            this.update(rttNanos, this.inFlight.get());
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int limit() {
+        return this.limit;
+    }
+
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void update(double rtt, int current) {
+        if (this.longRtt == 0D) {
+            this.longRtt = rtt;
+        } else {
+            this.longRtt += (rtt - this.longRtt) / LONG_WINDOW;
+        }
+        // latency dropped well below the average, e.g. after a recovery: let the average follow
+        if (this.longRtt > 2 * rtt) {
+            this.longRtt *= LONG_DECAY;
+        }
+        // far from the limit the sample says nothing about it
+        if (current < this.estimate / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1D, TOLERANCE * this.longRtt / rtt));
+        double target = this.estimate * gradient + Math.sqrt(this.estimate);
+        this.estimate = Math.max(this.minLimit,
+            Math.min(this.maxLimit, this.estimate * (1 - SMOOTHING) + target * SMOOTHING));
+        this.limit = (int) this.estimate;
+    }
+}
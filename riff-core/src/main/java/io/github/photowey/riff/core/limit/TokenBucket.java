@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * {@code TokenBucket}.
+ *
+ * <p>A lock-free token bucket in its GCRA form: the only state is the theoretical time at which
+ * the bucket is full again, advanced with one CAS per acquisition. Refill is implicit in the
+ * passage of time, so an idle bucket costs nothing and no timer thread is needed.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final int burst;
+    private final LongSupplier nanoClock;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (!(permitsPerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException(
+                "permitsPerSecond and burst must be positive: " + permitsPerSecond + ", " + burst);
+        }
+
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.capacityNanos = this.intervalNanos * burst;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.fullAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean tryAcquire() {
+        return this.tryAcquire(1);
+    }
+
+    /**
+     * Takes {@code permits} tokens if they are all available.
+     *
+     * @param permits the number of tokens, at most {@code burst}
+     * @return {@code false} if the bucket holds fewer tokens, in which case none are taken
+     */
+    public boolean tryAcquire(int permits) {
+        long cost = this.intervalNanos * permits;
+        long now = this.nanoClock.getAsLong();
+        while (true) {
+            long current = this.fullAt.get();
+            long next = (current - now > 0 ? current : now) + cost;
+            if (next - now > this.capacityNanos) {
+                return false;
+            }
+            if (this.fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public int availablePermits() {
+        long debt = Math.max(0L, this.fullAt.get() - this.nanoClock.getAsLong());
+
+        return (int) ((this.capacityNanos - debt) / this.intervalNanos);
+    }
+
+    public int burst() {
+        return this.burst;
+    }
+
+    public double permitsPerSecond() {
+        return (double) TimeUnit.SECONDS.toNanos(1) / this.intervalNanos;
+    }
+}
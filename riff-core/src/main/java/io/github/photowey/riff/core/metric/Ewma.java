@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code Ewma}.
+ *
+ * <p>A lock-free exponentially weighted moving average. The first sample seeds the average;
+ * every later one moves it by {@code alpha} of the difference.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class Ewma {
+
+    private static final long UNSET = Double.doubleToRawLongBits(Double.NaN);
+
+    private final double alpha;
+    private final AtomicLong bits = new AtomicLong(UNSET);
+
+    public Ewma(double alpha) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1]: " + alpha);
+        }
+
+        this.alpha = alpha;
+    }
+
+    public void update(double sample) {
+        while (true) {
+            long current = this.bits.get();
+            double average = Double.longBitsToDouble(current);
+            double next = Double.isNaN(average) ? sample : average + this.alpha * (sample - average);
+            if (this.bits.compareAndSet(current, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the current average.
+     *
+     * @return the average, {@code 0} before the first sample
+     */
+    public double value() {
+        double average = Double.longBitsToDouble(this.bits.get());
+
+        return Double.isNaN(average) ? 0D : average;
+    }
+}
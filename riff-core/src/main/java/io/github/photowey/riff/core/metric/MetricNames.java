@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.metric;
+
+/**
+ * {@code MetricNames}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public final class MetricNames {
+
+    /**
+     * Timer: how late a trigger fired compared to its planned fire time.
+     */
+    public static final String TRIGGER_LAG = "riff.trigger.lag";
+    /**
+     * Timer: time spent handing a due trigger to the dispatcher.
+     */
+    public static final String TRIGGER_DISPATCH = "riff.trigger.dispatch";
+    /**
+     * Gauge: triggers armed in the timing wheel, tagged by {@code level}.
+     */
+    public static final String WHEEL_OCCUPANCY = "riff.wheel.occupancy";
+    /**
+     * Gauge: due triggers waiting to be dispatched, tagged by {@code priority}.
+     */
+    public static final String DISPATCH_QUEUE_DEPTH = "riff.dispatch.queue.depth";
+
+    /**
+     * Gauge: triggers admitted by a rifflet that wait for their turn.
+     */
+    public static final String RIFFLET_QUEUE_DEPTH = "riff.rifflet.queue.depth";
+    /**
+     * Gauge: triggers a rifflet is executing.
+     */
+    public static final String RIFFLET_IN_FLIGHT = "riff.rifflet.in.flight";
+    /**
+     * Gauge: the adaptive limit on triggers a rifflet admits at once.
+     */
+    public static final String RIFFLET_CONCURRENCY_LIMIT = "riff.rifflet.concurrency.limit";
+    /**
+     * Timer: time spent delivering a job result to the rifflet's callback.
+     */
+    public static final String RIFFLET_CALLBACK = "riff.rifflet.callback";
+    /**
+     * Summary: job results per callback batch a rifflet sends.
+     */
+    public static final String RIFFLET_CALLBACK_BATCH_SIZE = "riff.rifflet.callback.batch.size";
+    /**
+     * Gauge: callback batches a rifflet spooled to disk and has not delivered yet.
+     */
+    public static final String RIFFLET_CALLBACK_SPOOLED = "riff.rifflet.callback.spooled";
+
+    /**
+     * Timer: one job log chunk the apiserver reads from a rifflet, round trip included.
+     */
+    public static final String LOG_READ = "riff.log.read";
+
+    /**
+     * Summary: rows per storage batch write, tagged by {@code table}.
+     */
+    public static final String STORAGE_BATCH_SIZE = "riff.storage.batch.size";
+    /**
+     * Timer: duration of one storage batch write, retries included, tagged by {@code table}.
+     */
+    public static final String STORAGE_FLUSH = "riff.storage.flush";
+    /**
+     * Gauge: rows queued for a storage batch write, tagged by {@code table}.
+     */
+    public static final String STORAGE_QUEUE_DEPTH = "riff.storage.queue.depth";
+
+    private MetricNames() {
+        throw new AssertionError("No " + MetricNames.class.getName() + " instances for you!");
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.metric;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code MetricTimer}.
+ *
+ * <p>A pre-registered timer. Obtain it once from {@link RiffMetrics#timer(String, String...)} and
+ * keep it in a field; {@link #record(long, TimeUnit)} then looks nothing up and allocates nothing.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@FunctionalInterface
+public interface MetricTimer {
+
+    MetricTimer NOOP = (amount, unit) -> {
+    };
+
+    void record(long amount, TimeUnit unit);
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.metric;
+
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@code MicrometerRiffMetrics}.
+ *
+ * <p>Binds {@link RiffMetrics} to a Micrometer {@link MeterRegistry}. The returned handles wrap
+ * the registered {@link Timer} and {@link DistributionSummary} directly, so recording is one
+ * interface call on top of Micrometer's own lock-free accumulators.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public final class MicrometerRiffMetrics implements RiffMetrics {
+
+    private final MeterRegistry registry;
+
+    public MicrometerRiffMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public MetricTimer timer(String name, String... tags) {
+        Timer timer = Timer.builder(name)
+            .tags(tags)
+            .register(this.registry);
+
+        return timer::record;
+    }
+
+    @Override
+    public MetricSummary summary(String name, String... tags) {
+        DistributionSummary summary = DistributionSummary.builder(name)
+            .tags(tags)
+            .register(this.registry);
+
+        return summary::record;
+    }
+
+    @Override
+    public <T> void gauge(String name, T target, ToDoubleFunction<T> value, String... tags) {
+        Gauge.builder(name, target, value)
+            .tags(tags)
+            .register(this.registry);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.metric;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@code RiffMetrics}.
+ *
+ * <p>The metrics facade of riff components. Components register their meters once, at
+ * construction, and record through the returned handles on the hot path; gauges are sampled by
+ * the backend when it publishes, so they cost the measured component nothing in between.
+ *
+ * <p>{@link #NOOP} is the default everywhere; {@link MicrometerRiffMetrics} binds the facade to a
+ * Micrometer {@code MeterRegistry}, e.g. the one Spring Boot Actuator exposes.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public interface RiffMetrics {
+
+    RiffMetrics NOOP = new RiffMetrics() {
+
+        @Override
+        public MetricTimer timer(String name, String... tags) {
+            return MetricTimer.NOOP;
+        }
+
+        @Override
+        public MetricSummary summary(String name, String... tags) {
+            return MetricSummary.NOOP;
+        }
+
+        @Override
+        public <T> void gauge(String name, T target, ToDoubleFunction<T> value, String... tags) {
+            // nothing to sample
+        }
+    };
+
+    /**
+     * @param name the meter name, see {@link MetricNames}
+     * @param tags tag keys and values, alternating
+     * @return the timer
+     */
+    MetricTimer timer(String name, String... tags);
+
+    MetricSummary summary(String name, String... tags);
+
+    /**
+     * Registers a gauge sampled from {@code target} when published. The backend may hold
+     * {@code target} weakly.
+     *
+     * @param name   the meter name, see {@link MetricNames}
+     * @param target the measured object
+     * @param value  reads the value from {@code target}
+     * @param tags   tag keys and values, alternating
+     * @param <T>    the target type
+     */
+    <T> void gauge(String name, T target, ToDoubleFunction<T> value, String... tags);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.protocol;
+
+/**
+ * {@code BlockStrategy}.
+ *
+ * <p>What an executor does when a job is triggered while an earlier run of the same job is still
+ * executing. {@code id} is part of the wire format.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public enum BlockStrategy {
+
+    /**
+     * Queue the trigger and run it after the earlier runs, in trigger order.
+     */
+    SERIAL_EXECUTION(0),
+
+    /**
+     * Drop the new trigger.
+     */
+    DISCARD_LATER(1),
+
+    /**
+     * Cancel the running and queued runs and run the new trigger.
+     */
+    COVER_EARLY(2);
+
+    private final int id;
+
+    BlockStrategy(int id) {
+        this.id = id;
+    }
+
+    public int id() {
+        return this.id;
+    }
+
+    /**
+     * Resolves a wire id, falling back to {@link #SERIAL_EXECUTION} for unknown ids.
+     *
+     * @param id the wire id
+     * @return the strategy
+     */
+    public static BlockStrategy of(int id) {
+        for (BlockStrategy strategy : values()) {
+            if (strategy.id == id) {
+                return strategy;
+            }
+        }
+
+        return SERIAL_EXECUTION;
+    }
+}
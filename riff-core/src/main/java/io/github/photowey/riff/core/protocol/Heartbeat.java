@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.protocol;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code Heartbeat}.
+ *
+ * <p>Rifflet -> scheduler: liveness plus the executor's current load, which the scheduler's
+ * load-aware routing reads: {@code inFlight} running jobs and the moving average job latency.
+ * {@code concurrencyLimit} is the executor's adaptive limit on admitted triggers, {@code 0} if it
+ * does not run one; schedulers stop sending once their estimate of its load reaches it.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Heartbeat implements RiffMessage, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -5213359270873402114L;
+
+    private String app;
+    private String address;
+    private long timestamp;
+    private int inFlight;
+    private int capacity;
+    private long latencyMicros;
+    private int concurrencyLimit;
+
+    @Override
+    public MessageType type() {
+        return MessageType.HEARTBEAT;
+    }
+}
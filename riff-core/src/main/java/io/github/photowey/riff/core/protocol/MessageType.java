@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.protocol;
+
+/**
+ * {@code MessageType}.
+ *
+ * <p>{@code id} is part of the wire format and must never be reused.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public enum MessageType {
+
+    TRIGGER_REQUEST(1, TriggerRequest.class),
+    CALLBACK_RESULT(2, CallbackResult.class),
+    HEARTBEAT(3, Heartbeat.class),
+    REGISTRY(4, RegistryRequest.class);
+
+    private static final MessageType[] BY_ID = new MessageType[8];
+
+    static {
+        for (MessageType type : values()) {
+            BY_ID[type.id] = type;
+        }
+    }
+
+    private final int id;
+    private final Class<? extends RiffMessage> messageClass;
+
+    MessageType(int id, Class<? extends RiffMessage> messageClass) {
+        this.id = id;
+        this.messageClass = messageClass;
+    }
+
+    public int id() {
+        return this.id;
+    }
+
+    public Class<? extends RiffMessage> messageClass() {
+        return this.messageClass;
+    }
+
+    /**
+     * Resolves a wire id.
+     *
+     * @param id the wire id
+     * @return the type, or {@code null} if unknown
+     */
+    public static MessageType of(int id) {
+        return id > 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+}
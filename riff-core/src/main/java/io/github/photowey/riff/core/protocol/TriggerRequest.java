@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.protocol;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code TriggerRequest}.
+ *
+ * <p>Scheduler -> rifflet: run {@code handler} once for the fire planned at {@code plannedAt}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TriggerRequest implements RiffMessage, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2419570218693451387L;
+
+    private long jobId;
+    private long logId;
+    private String handler;
+    private String params;
+    private long plannedAt;
+    private int shardIndex;
+    private int shardTotal;
+    private int timeoutMillis;
+    private BlockStrategy blockStrategy;
+
+    @Override
+    public MessageType type() {
+        return MessageType.TRIGGER_REQUEST;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.queue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code MpscLinkedQueue}.
+ *
+ * <p>An unbounded, lock-free multi-producer single-consumer queue (D. Vyukov's linked MPSC).
+ * Producers pay one {@code getAndSet}; an empty queue is a single stub node, which makes it cheap
+ * enough to keep one per job. {@link #poll()} may briefly return {@code null} while a concurrent
+ * {@link #offer(Object)} is half done; callers that know an element is coming should retry.
+ *
+ * @param <E> the element type
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class MpscLinkedQueue<E> {
+
+    private final AtomicReference<Node<E>> head;
+    private Node<E> tail;
+
+    public MpscLinkedQueue() {
+        Node<E> stub = new Node<>(null);
+        this.head = new AtomicReference<>(stub);
+        this.tail = stub;
+    }
+
+    public void offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+
+        Node<E> node = new Node<>(element);
+        Node<E> previous = this.head.getAndSet(node);
+        previous.next = node;
+    }
+
+    /**
+     * Must only be called by the single consumer.
+     *
+     * @return the oldest element, or {@code null}
+     */
+    public E poll() {
+        Node<E> next = this.tail.next;
+        if (next == null) {
+            return null;
+        }
+
+        E element = next.value;
+        next.value = null;
+        this.tail = next;
+
+        return element;
+    }
+
+    public boolean isEmpty() {
+        return this.tail.next == null && this.head.get() == this.tail;
+    }
+
+    /**
+     * {@code Node}.
+     *
+     * @param <E> the element type
+     */
+    private static final class Node<E> {
+
+        private E value;
+        private volatile Node<E> next;
+
+        private Node(E value) {
+            this.value = value;
+        }
+    }
+}
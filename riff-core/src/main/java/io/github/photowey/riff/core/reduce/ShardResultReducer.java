@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.reduce;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.photowey.riff.core.protocol.CallbackResult;
+
+/**
+ * {@code ShardResultReducer}.
+ *
+ * <p>Aggregates the callbacks of a sharded job into one {@link CallbackResult}: the job succeeds
+ * only if every shard succeeded, spans the earliest start to the latest finish, and reports the
+ * first few failed shards in its message.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class ShardResultReducer implements StreamingReducer<CallbackResult, CallbackResult> {
+
+    private static final int MAX_REPORTED_FAILURES = 8;
+
+    private final long jobId;
+    private final long logId;
+    private final int shardTotal;
+    private final List<String> failures = new ArrayList<>(MAX_REPORTED_FAILURES);
+
+    private int succeeded;
+    private int failed;
+    private int worstCode = CallbackResult.SUCCESS;
+    private long startedAt = Long.MAX_VALUE;
+    private long finishedAt;
+
+    public ShardResultReducer(long jobId, long logId, int shardTotal) {
+        this.jobId = jobId;
+        this.logId = logId;
+        this.shardTotal = shardTotal;
+    }
+
+    @Override
+    public synchronized void accept(CallbackResult partial) {
+        if (partial.getStartedAt() > 0) {
+            this.startedAt = Math.min(this.startedAt, partial.getStartedAt());
+        }
+        this.finishedAt = Math.max(this.finishedAt, partial.getFinishedAt());
+        if (partial.getCode() == CallbackResult.SUCCESS) {
+            this.succeeded++;
+
+            return;
+        }
+
+        this.failed++;
+        this.worstCode = Math.max(this.worstCode, partial.getCode());
+        if (this.failures.size() < MAX_REPORTED_FAILURES) {
+            this.failures.add(partial.getShardIndex() + ":" + partial.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized CallbackResult result() {
+        int missing = this.shardTotal - this.succeeded - this.failed;
+        int code = missing > 0 && this.worstCode == CallbackResult.SUCCESS ? CallbackResult.FAILURE : this.worstCode;
+        String message = code == CallbackResult.SUCCESS
+            ? null
+            : "shards:[" + this.succeeded + "/" + this.shardTotal + "] succeeded, failures:" + this.failures;
+
+        return CallbackResult.builder()
+            .jobId(this.jobId)
+            .logId(this.logId)
+            .code(code)
+            .message(message)
+            .startedAt(this.startedAt == Long.MAX_VALUE ? 0L : this.startedAt)
+            .finishedAt(this.finishedAt)
+            .build();
+    }
+
+    public synchronized int received() {
+        return this.succeeded + this.failed;
+    }
+}
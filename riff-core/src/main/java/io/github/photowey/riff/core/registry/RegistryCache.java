@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.registry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code RegistryCache}.
+ *
+ * <p>A read-through cache of versioned definitions, e.g. jobs and executor groups. Misses load
+ * through {@code loader}; afterwards the cache is kept current by change notifications rather
+ * than by expiry or re-reading everything:
+ *
+ * <ul>
+ *   <li>{@link #invalidate(Object, long, long)} marks an entry as older than a known version; the
+ *   next read reloads it,</li>
+ *   <li>{@link #refresh(Object, long, long)} reloads a cached entry at once,</li>
+ *   <li>{@link #evict(Object, long, long)} records a deletion.</li>
+ * </ul>
+ *
+ * <p>Every entry carries the version it was loaded at, and a load never replaces a newer entry,
+ * so a slow read racing with a change notification cannot resurrect stale data. Keys that were
+ * never read are not tracked at all.
+ *
+ * <p>Absent keys and deletions are cached as {@code null} entries for {@code absentTtlMillis}
+ * only; that is long enough to outlive a racing load, and lookups of ids that do not exist, e.g.
+ * from stale callbacks, cannot grow the cache without bound. Expired {@code null} entries are
+ * reloaded when read and swept every {@value #SWEEP_EVERY} stored ones.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class RegistryCache<K, V> {
+
+    public static final long DEFAULT_ABSENT_TTL_MILLIS = 60_000L;
+
+    static final int SWEEP_EVERY = 1_024;
+
+    private final Function<K, V> loader;
+    private final ToLongFunction<V> versionOf;
+    private final long absentTtlMillis;
+    private final LongSupplier clock;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger absentStores = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleLoads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    /**
+     * @param loader    reads the current value, {@code null} if it does not exist
+     * @param versionOf extracts a value's version
+     */
+    public RegistryCache(Function<K, V> loader, ToLongFunction<V> versionOf) {
+        this(loader, versionOf, DEFAULT_ABSENT_TTL_MILLIS, System::currentTimeMillis);
+    }
+
+    /**
+     * @param loader          reads the current value, {@code null} if it does not exist
+     * @param versionOf       extracts a value's version
+     * @param absentTtlMillis how long an absent or deleted key is cached
+     * @param clock           the epoch milliseconds clock
+     */
+    public RegistryCache(Function<K, V> loader, ToLongFunction<V> versionOf, long absentTtlMillis, LongSupplier clock) {
+        this.loader = loader;
+        this.versionOf = versionOf;
+        this.absentTtlMillis = absentTtlMillis;
+        this.clock = clock;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Returns the cached value, loading it on a miss.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if it does not exist
+     */
+    public V get(K key) {
+        Entry<V> entry = this.entries.get(key);
+        if (entry != null && entry.loaded) {
+            if (!entry.isExpired(this.clock.getAsLong())) {
+                this.hits.increment();
+
+                return entry.value;
+            }
+
+            this.entries.remove(key, entry);
+        }
+
+        this.misses.increment();
+
+        return this.load(key);
+    }
+
+    /**
+     * Seeds the cache, e.g. from a bulk read at start-up.
+     */
+    public void put(K key, V value) {
+        this.entries.merge(key, this.loaded(value, this.versionOf.applyAsLong(value)),
+            (current, next) -> current.version > next.version ? current : next);
+    }
+
+    /**
+     * Marks the entry as older than {@code version}, if it is cached.
+     *
+     * @param key       the key
+     * @param version   the version written by the change
+     * @param changedAt when the change was written, for the staleness lag
+     */
+    public void invalidate(K key, long version, long changedAt) {
+        this.entries.computeIfPresent(key,
+            (k, current) -> current.version >= version ? current : Entry.invalid(version));
+        this.invalidations.increment();
+        this.recordLag(changedAt);
+    }
+
+    /**
+     * Reloads the entry at once if it is cached and older than {@code version}.
+     */
+    public void refresh(K key, long version, long changedAt) {
+        Entry<V> current = this.entries.get(key);
+        if (current == null || current.version >= version) {
+            this.recordLag(changedAt);
+
+            return;
+        }
+
+        this.invalidate(key, version, changedAt);
+        this.refreshes.increment();
+        this.load(key);
+    }
+
+    /**
+     * Records that the value was deleted by the change at {@code version}.
+     */
+    public void evict(K key, long version, long changedAt) {
+        Entry<V> stored = this.entries.computeIfPresent(key,
+            (k, current) -> current.version >= version ? current : this.loaded(null, version));
+        this.invalidations.increment();
+        this.recordLag(changedAt);
+        if (stored != null && stored.value == null) {
+            this.onAbsentStored();
+        }
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public RegistryCacheMetrics metrics() {
+        long hitCount = this.hits.sum();
+        long missCount = this.misses.sum();
+        long total = hitCount + missCount;
+
+        return RegistryCacheMetrics.builder()
+            .size(this.entries.size())
+            .hits(hitCount)
+            .misses(missCount)
+            .hitRate(total == 0 ? 0D : (double) hitCount / total)
+            .staleLoads(this.staleLoads.sum())
+            .invalidations(this.invalidations.sum())
+            .refreshes(this.refreshes.sum())
+            .lastLagMillis(this.lastLagMillis.get())
+            .maxLagMillis(this.maxLagMillis.get())
+            .build();
+    }
+
+    // ----------------------------------------------------------------
+
+    private V load(K key) {
+        V value = this.loader.apply(key);
+        long version = value == null ? 0L : this.versionOf.applyAsLong(value);
+        Entry<V> stored = this.entries.merge(key, this.loaded(value, version),
+            (current, next) -> current.version > next.version ? current : next);
+        if (value == null) {
+            this.onAbsentStored();
+        }
+        if (stored.loaded) {
+            return stored.value;
+        }
+
+        this.staleLoads.increment();
+
+        return value;
+    }
+
+    private Entry<V> loaded(V value, long version) {
+        long expiresAt = value == null ? this.clock.getAsLong() + this.absentTtlMillis : Long.MAX_VALUE;
+
+        return new Entry<>(value, version, true, expiresAt);
+    }
+
+    private void onAbsentStored() {
+        if (this.absentStores.incrementAndGet() % SWEEP_EVERY != 0) {
+            return;
+        }
+
+        long now = this.clock.getAsLong();
+        this.entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private void recordLag(long changedAt) {
+        long lag = Math.max(0L, this.clock.getAsLong() - changedAt);
+        this.lastLagMillis.set(lag);
+        this.maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    /**
+     * {@code Entry}.
+     *
+     * @param value     the value, {@code null} if absent
+     * @param version   the version of {@code value}, or the minimum version to load if not loaded
+     * @param loaded    whether {@code value} is usable
+     * @param expiresAt when a {@code null} value stops being usable, in epoch milliseconds
+     * @param <V>       the value type
+     */
+    private record Entry<V>(V value, long version, boolean loaded, long expiresAt) {
+
+        private static <V> Entry<V> invalid(long version) {
+            return new Entry<>(null, version, false, Long.MAX_VALUE);
+        }
+
+        private boolean isExpired(long now) {
+            return this.loaded && this.value == null && now >= this.expiresAt;
+        }
+    }
+}
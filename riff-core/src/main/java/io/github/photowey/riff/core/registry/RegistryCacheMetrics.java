@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.registry;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code RegistryCacheMetrics}.
+ *
+ * <p>A point-in-time snapshot. {@code lastLagMillis} and {@code maxLagMillis} measure staleness:
+ * the time from a change being written to the cache learning about it. {@code staleLoads} counts
+ * loads that returned a version older than an already-announced change.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistryCacheMetrics {
+
+    private int size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long staleLoads;
+    private long invalidations;
+    private long refreshes;
+    private long lastLagMillis;
+    private long maxLagMillis;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.schedule;
+
+/**
+ * {@code FixedRateSchedule}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class FixedRateSchedule implements Schedule {
+
+    private final long initialMillis;
+    private final long periodMillis;
+
+    public FixedRateSchedule(long initialMillis, long periodMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("periodMillis must be positive: " + periodMillis);
+        }
+
+        this.initialMillis = initialMillis;
+        this.periodMillis = periodMillis;
+    }
+
+    @Override
+    public long nextFireTime(long epochMillis) {
+        if (epochMillis < this.initialMillis) {
+            return this.initialMillis;
+        }
+
+        long periods = (epochMillis - this.initialMillis) / this.periodMillis + 1;
+
+        return this.initialMillis + periods * this.periodMillis;
+    }
+
+    public static FixedRateSchedule of(long initialMillis, long periodMillis) {
+        return new FixedRateSchedule(initialMillis, periodMillis);
+    }
+}
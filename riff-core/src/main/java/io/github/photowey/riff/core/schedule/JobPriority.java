@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.schedule;
+
+/**
+ * {@code JobPriority}.
+ *
+ * <p>The class a job's triggers are dispatched in when the scheduler has more due triggers than it
+ * can hand to executors at once. Declared from the highest to the lowest, so {@link #ordinal()} is
+ * the service order of a strict dispatch queue.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public enum JobPriority {
+
+    /**
+     * Latency-sensitive work that must not wait behind bulk jobs, e.g. payment reconciliation.
+     */
+    HIGH,
+
+    /**
+     * The default.
+     */
+    NORMAL,
+
+    /**
+     * Bulk work that may be delayed, e.g. nightly reports.
+     */
+    LOW;
+
+    private static final JobPriority[] VALUES = values();
+
+    /**
+     * Resolves a stored priority name, falling back to {@link #NORMAL} for {@code null} and unknown
+     * names, so a typo never blocks a job from firing.
+     *
+     * @param name the name, case-insensitive
+     * @return the priority
+     */
+    public static JobPriority of(String name) {
+        if (name == null) {
+            return NORMAL;
+        }
+        for (JobPriority priority : VALUES) {
+            if (priority.name().equalsIgnoreCase(name)) {
+                return priority;
+            }
+        }
+
+        return NORMAL;
+    }
+
+    /**
+     * @param ordinal the ordinal
+     * @return the priority with that ordinal, without copying {@link #values()}
+     */
+    public static JobPriority of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+}
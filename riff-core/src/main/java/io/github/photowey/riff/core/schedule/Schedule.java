@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.schedule;
+
+/**
+ * {@code Schedule}.
+ *
+ * <p>Computes the fire times of a job. Implementations must be immutable and thread-safe,
+ * so that a single instance can be evaluated once per fire without any per-call allocation.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface Schedule {
+
+    /**
+     * Sentinel returned when the schedule will never fire again.
+     */
+    long NEVER = -1L;
+
+    /**
+     * Computes the next fire time strictly after the given instant.
+     *
+     * @param epochMillis the reference instant, in epoch milliseconds
+     * @return the next fire time in epoch milliseconds, or {@link #NEVER}
+     */
+    long nextFireTime(long epochMillis);
+}
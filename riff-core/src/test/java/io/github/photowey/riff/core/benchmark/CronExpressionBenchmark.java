@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.benchmark;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.core.cron.CronExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code CronExpressionBenchmark}.
+ *
+ * <p>Compares the compiled riff {@link CronExpression} with Spring's
+ * {@link org.springframework.scheduling.support.CronExpression}, both pre-parsed and parsed per
+ * trigger. Run with {@code -prof gc} to see the allocation rate per operation.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CronExpressionBenchmark {
+
+    @Param({"*/15 * * * * *", "0 */5 9-17 * * MON-FRI", "0 0 2 1 * ?"})
+    String expression;
+
+    CronExpression riff;
+    org.springframework.scheduling.support.CronExpression spring;
+    long epochMillis;
+    ZonedDateTime dateTime;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.riff = CronExpression.compile(this.expression, ZoneOffset.UTC);
+        this.spring = org.springframework.scheduling.support.CronExpression.parse(this.expression);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        this.epochMillis = 1_767_225_600_000L;
+        this.dateTime = Instant.ofEpochMilli(this.epochMillis).atZone(ZoneOffset.UTC);
+    }
+
+    @Benchmark
+    public long riffNext() {
+        this.epochMillis = this.riff.nextFireTime(this.epochMillis);
+
+        return this.epochMillis;
+    }
+
+    @Benchmark
+    public ZonedDateTime springNext() {
+        this.dateTime = this.spring.next(this.dateTime);
+
+        return this.dateTime;
+    }
+
+    @Benchmark
+    public ZonedDateTime springParseAndNext() {
+        this.dateTime = org.springframework.scheduling.support.CronExpression.parse(this.expression)
+            .next(this.dateTime);
+
+        return this.dateTime;
+    }
+}
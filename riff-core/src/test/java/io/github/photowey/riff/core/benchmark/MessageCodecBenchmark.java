@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code MessageCodecBenchmark}.
+ *
+ * <p>Encodes and decodes a typical {@link TriggerRequest} with the binary codec, the JSON codec
+ * and a plain Jackson {@code byte[]} round trip, which is what an HTTP/JSON transport pays per fire.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final MessageCodec binary = MessageCodecs.binary();
+    final MessageCodec json = MessageCodecs.json();
+
+    TriggerRequest request;
+    ByteBuf buffer;
+    ByteBuf binaryEncoded;
+    ByteBuf jsonEncoded;
+    byte[] jacksonEncoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.request = TriggerRequest.builder()
+            .jobId(1_024L)
+            .logId(987_654_321L)
+            .handler("demoJobHandler")
+            .params("{\"region\":\"cn-east\",\"batch\":500}")
+            .plannedAt(1_760_000_000_000L)
+            .shardIndex(3)
+            .shardTotal(16)
+            .timeoutMillis(30_000)
+            .build();
+        this.buffer = PooledByteBufAllocator.DEFAULT.directBuffer(256);
+        this.binaryEncoded = PooledByteBufAllocator.DEFAULT.directBuffer(256);
+        this.binary.encode(this.request, this.binaryEncoded);
+        this.jsonEncoded = PooledByteBufAllocator.DEFAULT.directBuffer(256);
+        this.json.encode(this.request, this.jsonEncoded);
+        this.jacksonEncoded = this.objectMapper.writeValueAsBytes(this.request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.buffer.release();
+        this.binaryEncoded.release();
+        this.jsonEncoded.release();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public int binaryEncode() {
+        this.buffer.clear();
+        this.binary.encode(this.request, this.buffer);
+
+        return this.buffer.writerIndex();
+    }
+
+    @Benchmark
+    public int jsonCodecEncode() {
+        this.buffer.clear();
+        this.json.encode(this.request, this.buffer);
+
+        return this.buffer.writerIndex();
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.request);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Benchmark
+    public RiffMessage binaryDecode() {
+        this.binaryEncoded.readerIndex(0);
+
+        return this.binary.decode(this.binaryEncoded);
+    }
+
+    @Benchmark
+    public RiffMessage jsonCodecDecode() {
+        this.jsonEncoded.readerIndex(0);
+
+        return this.json.decode(this.jsonEncoded);
+    }
+
+    @Benchmark
+    public TriggerRequest jacksonDecode() throws IOException {
+        return this.objectMapper.readValue(this.jacksonEncoded, TriggerRequest.class);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import io.github.photowey.riff.core.protocol.BlockStrategy;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.core.protocol.RegistryRequest;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code MessageCodecTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class MessageCodecTest {
+
+    private static final int ROUNDS = 20_000;
+
+    @Test
+    void testRoundTrip_fuzzBinary() {
+        this.fuzzRoundTrip(MessageCodecs.binary(), 7L);
+    }
+
+    @Test
+    void testRoundTrip_fuzzJson() {
+        this.fuzzRoundTrip(MessageCodecs.json(), 11L);
+    }
+
+    @Test
+    void testDecode_concatenatedMessages() {
+        SplittableRandom random = new SplittableRandom(13L);
+        List<RiffMessage> messages = new ArrayList<>();
+        ByteBuf buffer = Unpooled.buffer();
+        for (int i = 0; i < 100; i++) {
+            RiffMessage message = randomMessage(random);
+            messages.add(message);
+            MessageCodecs.binary().encode(message, buffer);
+        }
+
+        for (RiffMessage message : messages) {
+            Assertions.assertEquals(message, MessageCodecs.binary().decode(buffer));
+        }
+        Assertions.assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    void testDecode_skipsFieldsOfNewerVersions() {
+        TriggerRequest request = TriggerRequest.builder().jobId(1L).handler("demo").build();
+        ByteBuf buffer = Unpooled.buffer();
+        MessageCodecs.binary().encode(request, buffer);
+        buffer.writeBytes(new byte[] {1, 2, 3});
+        buffer.setInt(0, buffer.getInt(0) + 3);
+        buffer.setByte(4, AbstractMessageCodec.VERSION + 1);
+        MessageCodecs.binary().encode(request, buffer);
+
+        Assertions.assertEquals(request, MessageCodecs.binary().decode(buffer));
+        Assertions.assertEquals(request, MessageCodecs.binary().decode(buffer));
+    }
+
+    @Test
+    void testDecode_garbageFailsWithCodecException() {
+        SplittableRandom random = new SplittableRandom(17L);
+        for (MessageCodec codec : List.of(MessageCodecs.binary(), MessageCodecs.json())) {
+            for (int i = 0; i < ROUNDS; i++) {
+                ByteBuf encoded = Unpooled.buffer();
+                codec.encode(randomMessage(random), encoded);
+                int index = Integer.BYTES + 2 + random.nextInt(Math.max(1, encoded.readableBytes() - 6));
+                if (index < encoded.writerIndex()) {
+                    encoded.setByte(index, random.nextInt(256));
+                }
+                if (random.nextBoolean()) {
+                    encoded.writerIndex(random.nextInt(encoded.writerIndex()));
+                }
+
+                try {
+                    codec.decode(encoded);
+                } catch (CodecException expected) {
+                    // corrupted input is reported, never anything else
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEncode_binaryIsSmallerThanJson() {
+        TriggerRequest request = TriggerRequest.builder()
+            .jobId(1_024L)
+            .logId(987_654_321L)
+            .handler("demoJobHandler")
+            .params("{\"k\":1}")
+            .plannedAt(1_760_000_000_000L)
+            .shardTotal(1)
+            .timeoutMillis(30_000)
+            .build();
+        ByteBuf binary = Unpooled.buffer();
+        ByteBuf json = Unpooled.buffer();
+        MessageCodecs.binary().encode(request, binary);
+        MessageCodecs.json().encode(request, json);
+
+        Assertions.assertTrue(binary.readableBytes() * 3 < json.readableBytes(),
+            binary.readableBytes() + " vs " + json.readableBytes());
+    }
+
+    @Test
+    void testWireFormat_varintBoundaries() {
+        ByteBuf buffer = Unpooled.buffer();
+        long[] longs = {0L, 1L, 127L, 128L, 16_383L, 16_384L, Long.MAX_VALUE, Long.MIN_VALUE, -1L};
+        int[] ints = {0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (long value : longs) {
+            WireFormat.writeVarLong(buffer, value);
+        }
+        for (int value : ints) {
+            WireFormat.writeSignedVarInt(buffer, value);
+            WireFormat.writeVarInt(buffer, value);
+        }
+
+        for (long value : longs) {
+            Assertions.assertEquals(value, WireFormat.readVarLong(buffer));
+        }
+        for (int value : ints) {
+            Assertions.assertEquals(value, WireFormat.readSignedVarInt(buffer));
+            Assertions.assertEquals(value, WireFormat.readVarInt(buffer));
+        }
+        Assertions.assertThrows(CodecException.class,
+            () -> WireFormat.readVarInt(Unpooled.wrappedBuffer(new byte[] {-1, -1, -1, -1, -1, 1})));
+    }
+
+    // ----------------------------------------------------------------
+
+    private void fuzzRoundTrip(MessageCodec codec, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer();
+        try {
+            for (int i = 0; i < ROUNDS; i++) {
+                RiffMessage message = randomMessage(random);
+                buffer.clear();
+                codec.encode(message, buffer);
+
+                Assertions.assertEquals(message, codec.decode(buffer));
+                Assertions.assertEquals(0, buffer.readableBytes());
+            }
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static RiffMessage randomMessage(SplittableRandom random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> new TriggerRequest(randomLong(random), randomLong(random), randomString(random),
+                randomString(random), randomLong(random), randomInt(random), randomInt(random), randomInt(random),
+                random.nextBoolean() ? null : BlockStrategy.values()[random.nextInt(BlockStrategy.values().length)]);
+            case 1 -> new CallbackResult(randomLong(random), randomLong(random), randomInt(random),
+                randomString(random), randomLong(random), randomLong(random), randomInt(random));
+            case 2 -> new Heartbeat(randomString(random), randomString(random), randomLong(random),
+                randomInt(random), randomInt(random), randomLong(random), randomInt(random));
+            default -> new RegistryRequest(randomString(random), randomString(random), random.nextBoolean(),
+                randomLong(random));
+        };
+    }
+
+    private static long randomLong(SplittableRandom random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> 0L;
+            case 1 -> random.nextLong(128L);
+            case 2 -> random.nextLong(Long.MAX_VALUE);
+            default -> random.nextLong();
+        };
+    }
+
+    private static int randomInt(SplittableRandom random) {
+        return random.nextBoolean() ? random.nextInt(1 << 16) : random.nextInt();
+    }
+
+    private static String randomString(SplittableRandom random) {
+        int length = random.nextInt(-1, 40);
+        if (length < 0) {
+            return null;
+        }
+
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            int codePoint = switch (random.nextInt(3)) {
+                case 0 -> random.nextInt(0x20, 0x7F);
+                case 1 -> random.nextInt(0xA0, 0xD800);
+                default -> random.nextInt(0x10000, 0x10FFFF);
+            };
+            value.appendCodePoint(codePoint);
+        }
+
+        return value.toString();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.cron;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.SplittableRandom;
+
+import io.github.photowey.riff.core.schedule.Schedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@code CronExpressionTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class CronExpressionTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "* * * * * *",
+        "0 0 * * * *",
+        "*/15 * * * * *",
+        "0 */5 9-17 * * MON-FRI",
+        "30 10 2 1 * ?",
+        "0 0 0 29 2 *",
+        "0 0 12 ? JAN,JUN,DEC SUN",
+        "0 0 0 31 * *",
+        "5-20/5 7 3 * 3-11/2 *",
+        "0 0 9 * * */2",
+        "0 0 9 * * MON-FRI/2",
+        "0 0 9 * * 0,FRI-SUN",
+        "@daily",
+        "@hourly",
+    })
+    void testNextFireTime_sameAsSpring(String expression) {
+        for (ZoneId zone : new ZoneId[] {ZoneOffset.UTC, ZoneId.of("Asia/Shanghai")}) {
+            CronExpression cron = CronExpression.compile(expression, zone);
+            org.springframework.scheduling.support.CronExpression spring =
+                org.springframework.scheduling.support.CronExpression.parse(expression);
+
+            SplittableRandom random = new SplittableRandom(expression.hashCode());
+            for (int i = 0; i < 500; i++) {
+                long epochMillis = random.nextLong(0L, 4_102_444_800_000L);
+                ZonedDateTime expected = spring.next(Instant.ofEpochMilli(epochMillis).atZone(zone));
+
+                Assertions.assertEquals(expected.toInstant().toEpochMilli(), cron.nextFireTime(epochMillis),
+                    () -> expression + " after " + Instant.ofEpochMilli(epochMillis) + " in " + zone);
+            }
+        }
+    }
+
+    @Test
+    void testNextFireTime_acrossDaylightSaving() {
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        CronExpression cron = CronExpression.compile("0 0 12 * * *", zone);
+        long before = ZonedDateTime.of(2026, 3, 28, 13, 0, 0, 0, zone).toInstant().toEpochMilli();
+
+        Assertions.assertEquals(
+            ZonedDateTime.of(2026, 3, 29, 12, 0, 0, 0, zone).toInstant().toEpochMilli(),
+            cron.nextFireTime(before));
+    }
+
+    @Test
+    void testNextFireTime_skippedByGap() {
+        CronExpression berlin = CronExpression.compile("0 30 2 * * *", ZoneId.of("Europe/Berlin"));
+        CronExpression newYork = CronExpression.compile("0 30 2 * * *", ZoneId.of("America/New_York"));
+
+        Assertions.assertEquals(
+            millis("2026-03-29T03:30+02:00"), berlin.nextFireTime(millis("2026-03-29T00:00+01:00")));
+        Assertions.assertEquals(
+            millis("2026-03-30T02:30+02:00"), berlin.nextFireTime(millis("2026-03-29T03:30+02:00")));
+        Assertions.assertEquals(
+            millis("2026-03-08T03:30-04:00"), newYork.nextFireTime(millis("2026-03-08T00:00-05:00")));
+    }
+
+    @Test
+    void testNextFireTime_repeatedByOverlap() {
+        CronExpression berlin = CronExpression.compile("0 30 2 * * *", ZoneId.of("Europe/Berlin"));
+
+        Assertions.assertEquals(
+            millis("2026-10-25T02:30+02:00"), berlin.nextFireTime(millis("2026-10-25T00:00+02:00")));
+        Assertions.assertEquals(
+            millis("2026-10-26T02:30+01:00"), berlin.nextFireTime(millis("2026-10-25T02:30+02:00")));
+
+        CronExpression every20 = CronExpression.compile("0 */20 * * * *", ZoneId.of("Europe/Berlin"));
+        Assertions.assertEquals(
+            millis("2026-10-25T03:00+01:00"), every20.nextFireTime(millis("2026-10-25T02:40+02:00")));
+    }
+
+    @Test
+    void testDaysOfWeek_stepsStartOnMonday() {
+        long monWedFri = 1L << 1 | 1L << 3 | 1L << 5;
+
+        Assertions.assertEquals(monWedFri | 1L, CronParser.daysOfWeek("*/2"));
+        Assertions.assertEquals(monWedFri, CronParser.daysOfWeek("MON-FRI/2"));
+        Assertions.assertEquals(monWedFri, CronParser.daysOfWeek("1-5/2"));
+        Assertions.assertEquals(1L, CronParser.daysOfWeek("SUN"));
+        Assertions.assertEquals(1L, CronParser.daysOfWeek("0"));
+    }
+
+    @Test
+    void testNextFireTime_never() {
+        Assertions.assertEquals(Schedule.NEVER, CronExpression.compile("0 0 0 30 2 *").nextFireTime(0L));
+    }
+
+    @Test
+    void testCompile_invalid() {
+        Assertions.assertFalse(CronExpression.isValid("0 0 0 * *  * *"));
+        Assertions.assertFalse(CronExpression.isValid("60 * * * * *"));
+        Assertions.assertFalse(CronExpression.isValid("0 0 0 L * *"));
+        Assertions.assertFalse(CronExpression.isValid("0 0 5-1 * * *"));
+        Assertions.assertTrue(CronExpression.isValid("0 0 0 * * 7"));
+    }
+
+    @Test
+    void testNextFireTime_allocationFree() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CronExpression cron = CronExpression.compile("0 */5 9-17 * * MON-FRI");
+
+        long fireTime = 0L;
+        for (int i = 0; i < 10_000; i++) {
+            fireTime = cron.nextFireTime(fireTime);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            fireTime = cron.nextFireTime(fireTime);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        Assertions.assertTrue(fireTime > 0L);
+        Assertions.assertTrue(allocated < 1024L, "allocated " + allocated + " bytes");
+    }
+
+    // ----------------------------------------------------------------
+
+    private static long millis(String dateTime) {
+        return OffsetDateTime.parse(dateTime).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.dag;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code DagExecutionTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class DagExecutionTest {
+
+    /**
+     * {@code 1 -> 3, 2 -> 3, 3 -> 4}.
+     */
+    private final Dag dag = Dag.builder().edge(1, 3).edge(2, 3).edge(3, 4).node(5).build();
+
+    @Test
+    void testBuild_encodeRoundTripAndCycle() {
+        Assertions.assertEquals("1,3,2,4,5;1>3,3>4,2>3", this.dag.encode());
+        Dag parsed = Dag.parse(this.dag.encode());
+        Assertions.assertEquals(this.dag.encode(), parsed.encode());
+        Assertions.assertArrayEquals(new int[] {0, 2, 4}, parsed.roots());
+        Assertions.assertEquals(-1, parsed.indexOf(9));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Dag.builder().edge(1, 2).edge(2, 3).edge(3, 1).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Dag.parse("1,2;1-2"));
+    }
+
+    @Test
+    void testComplete_childReadyOnlyAfterAllParentsSucceed() {
+        DagExecution execution = new DagExecution(this.dag);
+        Assertions.assertArrayEquals(this.jobs(1, 2, 5), execution.advance().ready());
+
+        Assertions.assertArrayEquals(new int[0], execution.complete(this.dag.indexOf(1), true).ready());
+        Assertions.assertSame(DagStep.NONE, execution.complete(this.dag.indexOf(1), true));
+        Assertions.assertArrayEquals(this.jobs(3), execution.complete(this.dag.indexOf(2), true).ready());
+        Assertions.assertArrayEquals(this.jobs(4), execution.complete(this.dag.indexOf(3), true).ready());
+        execution.complete(this.dag.indexOf(4), true);
+        Assertions.assertFalse(execution.isFinished());
+
+        execution.complete(this.dag.indexOf(5), true);
+        Assertions.assertTrue(execution.isSucceeded());
+    }
+
+    @Test
+    void testComplete_failureSkipsDescendants() {
+        DagExecution execution = new DagExecution(this.dag);
+        execution.advance();
+
+        DagStep step = execution.complete(this.dag.indexOf(2), false);
+        Assertions.assertArrayEquals(new int[0], step.ready());
+        Assertions.assertArrayEquals(this.jobs(3, 4), step.skipped());
+        Assertions.assertEquals(DagNodeStatus.SKIPPED, execution.status(this.dag.indexOf(4)));
+
+        Assertions.assertTrue(execution.complete(this.dag.indexOf(1), true).isEmpty());
+        execution.complete(this.dag.indexOf(5), true);
+        Assertions.assertTrue(execution.isFinished());
+        Assertions.assertFalse(execution.isSucceeded());
+    }
+
+    @Test
+    void testRestore_resumesWithoutRerunningCompletedNodes() {
+        DagExecution execution = new DagExecution(this.dag);
+        execution.restore(this.dag.indexOf(1), DagNodeStatus.SUCCESS);
+        execution.restore(this.dag.indexOf(2), DagNodeStatus.SUCCESS);
+        execution.restore(this.dag.indexOf(5), DagNodeStatus.RUNNING);
+
+        DagStep step = execution.advance();
+        Assertions.assertArrayEquals(this.jobs(3), step.ready());
+        Assertions.assertEquals(DagNodeStatus.RUNNING, execution.status(this.dag.indexOf(5)));
+
+        DagExecution failed = new DagExecution(this.dag);
+        failed.restore(this.dag.indexOf(1), DagNodeStatus.FAILED);
+        Assertions.assertArrayEquals(this.jobs(3, 4), failed.advance().skipped());
+    }
+
+    private int[] jobs(long... jobIds) {
+        int[] nodes = new int[jobIds.length];
+        for (int i = 0; i < jobIds.length; i++) {
+            nodes[i] = this.dag.indexOf(jobIds[i]);
+        }
+
+        return nodes;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.limit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code AdaptiveLimitTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class AdaptiveLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    void testTryAcquire_stopsAtLimit() {
+        AdaptiveLimit limit = new AdaptiveLimit(4, 1, 10);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(limit.tryAcquire());
+        }
+        Assertions.assertFalse(limit.tryAcquire());
+
+        limit.release();
+        Assertions.assertTrue(limit.tryAcquire());
+        Assertions.assertEquals(4, limit.inFlight());
+    }
+
+    @Test
+    void testOnSample_growsWhileLatencyHolds() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 1, 100);
+        for (int i = 0; i < 200; i++) {
+            this.saturate(limit);
+            limit.onSample(FAST);
+        }
+
+        Assertions.assertEquals(100, limit.limit());
+    }
+
+    @Test
+    void testOnSample_shrinksWhenLatencyJumps() {
+        AdaptiveLimit limit = new AdaptiveLimit(50, 2, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST);
+        }
+        Assertions.assertEquals(50, limit.limit(), "idle samples must not move the limit");
+
+        this.saturate(limit);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW);
+        }
+
+        Assertions.assertTrue(limit.limit() < 25, "limit:" + limit.limit());
+        Assertions.assertTrue(limit.limit() >= 2);
+    }
+
+    @Test
+    void testNew_rejectsBadBounds() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 2, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(20, 1, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 0, 10));
+    }
+
+    // ----------------------------------------------------------------
+
+    private void saturate(AdaptiveLimit limit) {
+        while (limit.tryAcquire()) {
+            // fill up to the current limit
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code TokenBucketTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class TokenBucketTest {
+
+    private final AtomicLong nanos = new AtomicLong(42L);
+
+    @Test
+    void testTryAcquire_burstThenRate() {
+        TokenBucket bucket = new TokenBucket(100, 10, this.nanos::get);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(bucket.tryAcquire());
+        }
+        Assertions.assertFalse(bucket.tryAcquire());
+        Assertions.assertEquals(0, bucket.availablePermits());
+
+        this.nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        Assertions.assertEquals(5, bucket.availablePermits());
+        Assertions.assertFalse(bucket.tryAcquire(6));
+        Assertions.assertTrue(bucket.tryAcquire(5));
+        Assertions.assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void testTryAcquire_idleBucketCapsAtBurst() {
+        TokenBucket bucket = new TokenBucket(1_000, 4, this.nanos::get);
+        this.nanos.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        Assertions.assertEquals(4, bucket.availablePermits());
+        int acquired = 0;
+        while (bucket.tryAcquire()) {
+            acquired++;
+        }
+        Assertions.assertEquals(4, acquired);
+        Assertions.assertEquals(1_000.0, bucket.permitsPerSecond(), 0.001);
+    }
+
+    @Test
+    void testTryAcquire_concurrentCallersNeverExceedBudget() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 1_000, this.nanos::get);
+        AtomicLong acquired = new AtomicLong();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    if (bucket.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(1_000L, acquired.get());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.metric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code MicrometerRiffMetricsTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class MicrometerRiffMetricsTest {
+
+    @Test
+    void testRecord_reachesRegisteredMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RiffMetrics metrics = new MicrometerRiffMetrics(registry);
+        MetricTimer timer = metrics.timer(MetricNames.STORAGE_FLUSH, "table", "t");
+        final MetricSummary summary = metrics.summary(MetricNames.STORAGE_BATCH_SIZE, "table", "t");
+        AtomicInteger depth = new AtomicInteger(3);
+        metrics.gauge(MetricNames.STORAGE_QUEUE_DEPTH, depth, AtomicInteger::get, "table", "t");
+
+        timer.record(2L, TimeUnit.MILLISECONDS);
+        timer.record(4L, TimeUnit.MILLISECONDS);
+        summary.record(500D);
+        depth.set(7);
+
+        Assertions.assertEquals(2L, registry.get(MetricNames.STORAGE_FLUSH).tag("table", "t").timer().count());
+        Assertions.assertEquals(6D,
+            registry.get(MetricNames.STORAGE_FLUSH).timer().totalTime(TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(500D, registry.get(MetricNames.STORAGE_BATCH_SIZE).summary().totalAmount());
+        Assertions.assertEquals(7D, registry.get(MetricNames.STORAGE_QUEUE_DEPTH).gauge().value());
+    }
+
+    @Test
+    void testNoop_registersNothing() {
+        RiffMetrics.NOOP.gauge(MetricNames.RIFFLET_IN_FLIGHT, this, it -> 1D);
+
+        Assertions.assertSame(MetricTimer.NOOP, RiffMetrics.NOOP.timer(MetricNames.TRIGGER_LAG));
+        Assertions.assertSame(MetricSummary.NOOP, RiffMetrics.NOOP.summary(MetricNames.STORAGE_BATCH_SIZE));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code MpscArrayQueueTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class MpscArrayQueueTest {
+
+    @Test
+    void testOffer_boundedAndFifo() {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(3);
+        Assertions.assertEquals(4, queue.capacity());
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(queue.offer(i));
+        }
+        Assertions.assertFalse(queue.offer(4));
+        Assertions.assertEquals(4, queue.size());
+
+        Assertions.assertEquals(0, queue.poll());
+        Assertions.assertTrue(queue.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(4, queue.drain(drained::add, 10));
+        Assertions.assertEquals(List.of(1, 2, 3, 4), drained);
+        Assertions.assertNull(queue.poll());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testOffer_concurrentProducersKeepPerProducerOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscArrayQueue<Long> queue = new MpscArrayQueue<>(1 << 10);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p << 32;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(base | i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+
+        long[] next = new long[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            Long value = queue.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) (value >>> 32);
+            Assertions.assertEquals(next[producer]++, value & 0xFFFFFFFFL);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.reduce;
+
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code ShardResultReducerTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class ShardResultReducerTest {
+
+    @Test
+    void testResult_allShardsSucceeded() {
+        ShardResultReducer reducer = new ShardResultReducer(1L, 2L, 3);
+        reducer.accept(shard(2, CallbackResult.SUCCESS, 30L, 90L));
+        reducer.accept(shard(0, CallbackResult.SUCCESS, 10L, 50L));
+        reducer.accept(shard(1, CallbackResult.SUCCESS, 20L, 70L));
+
+        CallbackResult result = reducer.result();
+        Assertions.assertEquals(3, reducer.received());
+        Assertions.assertEquals(CallbackResult.SUCCESS, result.getCode());
+        Assertions.assertEquals(1L, result.getJobId());
+        Assertions.assertEquals(2L, result.getLogId());
+        Assertions.assertEquals(10L, result.getStartedAt());
+        Assertions.assertEquals(90L, result.getFinishedAt());
+        Assertions.assertNull(result.getMessage());
+    }
+
+    @Test
+    void testResult_reportsWorstCodeAndFailedShards() {
+        ShardResultReducer reducer = new ShardResultReducer(1L, 2L, 3);
+        reducer.accept(shard(0, CallbackResult.SUCCESS, 10L, 50L));
+        reducer.accept(shard(1, CallbackResult.REJECTED, 0L, 20L));
+        reducer.accept(shard(2, CallbackResult.FAILURE, 15L, 60L));
+
+        CallbackResult result = reducer.result();
+        Assertions.assertEquals(CallbackResult.FAILURE, result.getCode());
+        Assertions.assertTrue(result.getMessage().startsWith("shards:[1/3]"));
+        Assertions.assertTrue(result.getMessage().contains("1:"));
+        Assertions.assertTrue(result.getMessage().contains("2:"));
+    }
+
+    @Test
+    void testResult_missingShardsFail() {
+        ShardResultReducer reducer = new ShardResultReducer(1L, 2L, 2);
+        reducer.accept(shard(0, CallbackResult.SUCCESS, 10L, 50L));
+
+        Assertions.assertEquals(CallbackResult.FAILURE, reducer.result().getCode());
+    }
+
+    private static CallbackResult shard(int shardIndex, int code, long startedAt, long finishedAt) {
+        return CallbackResult.builder()
+            .code(code)
+            .message("code:" + code)
+            .startedAt(startedAt)
+            .finishedAt(finishedAt)
+            .shardIndex(shardIndex)
+            .build();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.core.registry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code RegistryCacheTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class RegistryCacheTest {
+
+    private final Map<String, Versioned> store = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final RegistryCache<String, Versioned> cache = new RegistryCache<>(key -> {
+        this.loads.incrementAndGet();
+
+        return this.store.get(key);
+    }, Versioned::version);
+
+    @Test
+    void testGet_readsThroughOnce() {
+        this.store.put("a", new Versioned("a1", 1L));
+
+        Assertions.assertEquals("a1", this.cache.get("a").value());
+        Assertions.assertEquals("a1", this.cache.get("a").value());
+        Assertions.assertNull(this.cache.get("missing"));
+        Assertions.assertNull(this.cache.get("missing"));
+
+        RegistryCacheMetrics metrics = this.cache.metrics();
+        Assertions.assertEquals(2, this.loads.get());
+        Assertions.assertEquals(2L, metrics.getHits());
+        Assertions.assertEquals(2L, metrics.getMisses());
+        Assertions.assertEquals(0.5D, metrics.getHitRate());
+    }
+
+    @Test
+    void testRefresh_reloadsOnlyOlderCachedEntries() {
+        this.store.put("a", new Versioned("a1", 1L));
+        this.cache.get("a");
+
+        this.store.put("a", new Versioned("a2", 2L));
+        this.cache.refresh("a", 2L, System.currentTimeMillis() - 5L);
+        this.cache.refresh("a", 2L, System.currentTimeMillis());
+        this.cache.refresh("b", 1L, System.currentTimeMillis());
+
+        Assertions.assertEquals(2, this.loads.get());
+        Assertions.assertEquals("a2", this.cache.get("a").value());
+        Assertions.assertEquals(1, this.cache.size());
+        Assertions.assertTrue(this.cache.metrics().getMaxLagMillis() >= 5L);
+    }
+
+    @Test
+    void testInvalidate_staleLoadDoesNotOverwriteNewerChange() {
+        this.store.put("a", new Versioned("a1", 1L));
+        this.cache.get("a");
+
+        this.cache.invalidate("a", 3L, System.currentTimeMillis());
+        Assertions.assertEquals("a1", this.cache.get("a").value());
+        Assertions.assertEquals(1L, this.cache.metrics().getStaleLoads());
+
+        this.store.put("a", new Versioned("a3", 3L));
+        Assertions.assertEquals("a3", this.cache.get("a").value());
+        this.cache.put("a", new Versioned("a2", 2L));
+        Assertions.assertEquals("a3", this.cache.get("a").value());
+    }
+
+    @Test
+    void testEvict_recordsDeletion() {
+        this.store.put("a", new Versioned("a1", 1L));
+        this.cache.get("a");
+
+        this.cache.evict("a", 2L, System.currentTimeMillis());
+        Assertions.assertNull(this.cache.get("a"));
+        Assertions.assertEquals(1, this.loads.get());
+    }
+
+    @Test
+    void testGet_absentKeysExpireAndAreSwept() {
+        AtomicLong now = new AtomicLong(1_000L);
+        RegistryCache<String, Versioned> expiring = new RegistryCache<>(key -> {
+            this.loads.incrementAndGet();
+
+            return this.store.get(key);
+        }, Versioned::version, 100L, now::get);
+
+        Assertions.assertNull(expiring.get("missing"));
+        Assertions.assertNull(expiring.get("missing"));
+        Assertions.assertEquals(1, this.loads.get());
+        now.addAndGet(100L);
+        this.store.put("missing", new Versioned("created", 1L));
+        Assertions.assertEquals("created", expiring.get("missing").value());
+
+        for (int i = 1; i < RegistryCache.SWEEP_EVERY; i++) {
+            expiring.get("old-" + i);
+        }
+        now.addAndGet(100L);
+        for (int i = 0; i < RegistryCache.SWEEP_EVERY; i++) {
+            expiring.get("new-" + i);
+        }
+        Assertions.assertEquals(RegistryCache.SWEEP_EVERY + 1, expiring.size());
+    }
+
+    /**
+     * {@code Versioned}.
+     *
+     * @param value   the value
+     * @param version the version
+     */
+    private record Versioned(String value, long version) {
+    }
+}
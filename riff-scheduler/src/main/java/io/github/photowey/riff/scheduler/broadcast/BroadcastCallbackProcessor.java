@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.broadcast;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.core.codec.CodecException;
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.RequestProcessor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code BroadcastCallbackProcessor}.
+ *
+ * <p>Serves {@link RequestCode#CALLBACK} and {@link RequestCode#CALLBACK_BATCH} on the scheduler:
+ * shard callbacks go to the {@link BroadcastDispatcher}, all others to {@code fallback}. Duplicate
+ * and late shard callbacks of a broadcast that already completed are dropped rather than handed to
+ * {@code fallback}, which would take them for a regular trigger. A batch is acknowledged only after
+ * every result in it was handed on.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class BroadcastCallbackProcessor implements RequestProcessor {
+
+    private static final CompletableFuture<byte[]> ACCEPTED = CompletableFuture.completedFuture(new byte[0]);
+
+    private final BroadcastDispatcher dispatcher;
+    private final Consumer<CallbackResult> fallback;
+
+    public BroadcastCallbackProcessor(BroadcastDispatcher dispatcher, Consumer<CallbackResult> fallback) {
+        this.dispatcher = dispatcher;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public CompletionStage<?> process(RemotingCommand request) {
+        if (request.code() == RequestCode.CALLBACK_BATCH) {
+            return this.batch(request.body());
+        }
+
+        if (!(request.message() instanceof CallbackResult result)) {
+            return CompletableFuture.failedFuture(new CodecException("riff: expected a CallbackResult"));
+        }
+
+        this.onCallback(result);
+
+        return ACCEPTED;
+    }
+
+    // ----------------------------------------------------------------
+
+    private CompletionStage<?> batch(byte[] body) {
+        MessageCodec codec = MessageCodecs.binary();
+        ByteBuf in = Unpooled.wrappedBuffer(body);
+        while (in.isReadable()) {
+            if (!(codec.decode(in) instanceof CallbackResult result)) {
+                return CompletableFuture.failedFuture(new CodecException("riff: expected a batch of CallbackResult"));
+            }
+
+            this.onCallback(result);
+        }
+
+        return ACCEPTED;
+    }
+
+    private void onCallback(CallbackResult result) {
+        if (this.dispatcher.onCallback(result)) {
+            return;
+        }
+        if (this.dispatcher.isBroadcast(result.getLogId())) {
+            log.debug("riff: dropped callback of finished broadcast, job:[{}] log:[{}] shard:[{}]",
+                result.getJobId(), result.getLogId(), result.getShardIndex());
+
+            return;
+        }
+
+        this.fallback.accept(result);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.broadcast;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.core.reduce.ShardResultReducer;
+import io.github.photowey.riff.core.reduce.StreamingReducer;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code BroadcastDispatcher}.
+ *
+ * <p>Fans one trigger out to every given rifflet, shard {@code i} of {@code N} to the i-th address,
+ * and folds the N callbacks into a single job result as they arrive. All shards are sent before any
+ * acknowledgement is awaited. A shard that cannot be delivered, or whose callback does not arrive
+ * within the timeout, counts as failed; duplicate and late callbacks are ignored. The timeout is a
+ * {@link Timer} entry that is cancelled as soon as the broadcast completes, so finished broadcasts
+ * do not hold their reducer until the timeout would have fired.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class BroadcastDispatcher {
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 60 * 60 * 1_000L;
+
+    /**
+     * How many completed broadcasts {@link #isBroadcast(long)} still recognizes.
+     */
+    public static final int RETIRED_CAPACITY = 4_096;
+
+    private static final long TIMER_TICK_MILLIS = 100L;
+
+    private final ShardTransport transport;
+    private final long defaultTimeoutMillis;
+    private final Timer timer;
+    private final boolean ownsTimer;
+    private final ConcurrentMap<Long, Broadcast<?>> broadcasts = new ConcurrentHashMap<>();
+    private final Set<Long> retired = ConcurrentHashMap.newKeySet();
+    private final AtomicLongArray retiredRing = new AtomicLongArray(RETIRED_CAPACITY);
+    private final AtomicLong retiredSequence = new AtomicLong();
+
+    public BroadcastDispatcher(ShardTransport transport) {
+        this(transport, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public BroadcastDispatcher(ShardTransport transport, long defaultTimeoutMillis) {
+        this(transport, defaultTimeoutMillis, new HashedWheelTimer(
+            new DefaultThreadFactory("riff-broadcast-timeout", true), TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS), true);
+    }
+
+    /**
+     * @param transport            sends the shards
+     * @param defaultTimeoutMillis the timeout of triggers without their own
+     * @param timer                schedules the timeouts, stopped by its owner
+     */
+    public BroadcastDispatcher(ShardTransport transport, long defaultTimeoutMillis, Timer timer) {
+        this(transport, defaultTimeoutMillis, timer, false);
+    }
+
+    private BroadcastDispatcher(ShardTransport transport, long defaultTimeoutMillis, Timer timer, boolean ownsTimer) {
+        this.transport = transport;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.timer = timer;
+        this.ownsTimer = ownsTimer;
+    }
+
+    // ----------------------------------------------------------------
+
+    public CompletableFuture<CallbackResult> broadcast(TriggerRequest trigger, List<String> addresses) {
+        return this.broadcast(trigger, addresses,
+            new ShardResultReducer(trigger.getJobId(), trigger.getLogId(), addresses.size()));
+    }
+
+    /**
+     * Sends {@code trigger} to all {@code addresses} as {@code addresses.size()} shards.
+     *
+     * @param trigger   the trigger, its {@code logId} identifies the broadcast until it completes
+     * @param addresses the rifflets, one shard each
+     * @param reducer   folds the shard callbacks
+     * @param <R>       the job result type
+     * @return completes with the reduced result once every shard reported or timed out
+     */
+    public <R> CompletableFuture<R> broadcast(
+        TriggerRequest trigger, List<String> addresses, StreamingReducer<CallbackResult, R> reducer) {
+        if (addresses.isEmpty()) {
+            return CompletableFuture.failedFuture(
+                new IllegalStateException("riff: no executor for job:" + trigger.getJobId()));
+        }
+
+        Broadcast<R> broadcast = new Broadcast<>(trigger.getJobId(), trigger.getLogId(), addresses.size(), reducer);
+        if (this.broadcasts.putIfAbsent(trigger.getLogId(), broadcast) != null) {
+            return CompletableFuture.failedFuture(
+                new IllegalStateException("riff: broadcast already in flight, log:" + trigger.getLogId()));
+        }
+
+        // armed before the first send, so a broadcast that completes during the sends cancels it
+        long timeoutMillis = trigger.getTimeoutMillis() > 0 ? trigger.getTimeoutMillis() : this.defaultTimeoutMillis;
+        broadcast.timeout = this.timer.newTimeout(it -> this.expire(broadcast), timeoutMillis, TimeUnit.MILLISECONDS);
+        for (int shard = 0; shard < addresses.size(); shard++) {
+            this.send(broadcast, shard(trigger, shard, addresses.size()), addresses.get(shard));
+        }
+
+        return broadcast.future;
+    }
+
+    /**
+     * Accepts a shard callback.
+     *
+     * @param result the callback
+     * @return {@code false} if it belongs to no in-flight broadcast or repeats a reported shard
+     */
+    public boolean onCallback(CallbackResult result) {
+        Broadcast<?> broadcast = this.broadcasts.get(result.getLogId());
+        if (broadcast == null) {
+            return false;
+        }
+
+        return this.accept(broadcast, result);
+    }
+
+    /**
+     * Tells a callback of a broadcast that is in flight or completed recently, i.e. a duplicate or
+     * a shard reporting after the timeout, from a callback that was never part of a broadcast.
+     *
+     * @param logId the log id of a callback
+     * @return {@code true} if {@code logId} belongs to one of the last {@link #RETIRED_CAPACITY}
+     *     completed broadcasts, or to one in flight
+     */
+    public boolean isBroadcast(long logId) {
+        return this.broadcasts.containsKey(logId) || this.retired.contains(logId);
+    }
+
+    public int inFlight() {
+        return this.broadcasts.size();
+    }
+
+    /**
+     * Stops the timer this dispatcher created; a timer passed in is left to its owner.
+     */
+    public void shutdown() {
+        if (this.ownsTimer) {
+            this.timer.stop();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private void send(Broadcast<?> broadcast, TriggerRequest shard, String address) {
+        try {
+            this.transport.send(address, shard).whenComplete((ack, error) -> {
+                if (error != null) {
+                    this.accept(broadcast, broadcast.failure(shard.getShardIndex(), address + " " + unwrap(error)));
+                }
+            });
+        } catch (RuntimeException e) {
+            this.accept(broadcast, broadcast.failure(shard.getShardIndex(), address + " " + e));
+        }
+    }
+
+    private void expire(Broadcast<?> broadcast) {
+        if (broadcast.future.isDone()) {
+            return;
+        }
+
+        log.warn("riff: broadcast of job:[{}] log:[{}] timed out, missing shards:[{}]",
+            broadcast.jobId, broadcast.logId, broadcast.remaining.get());
+        for (int shard = 0; shard < broadcast.total; shard++) {
+            this.accept(broadcast, broadcast.failure(shard, "timed out"));
+        }
+    }
+
+    private boolean accept(Broadcast<?> broadcast, CallbackResult result) {
+        int remaining = broadcast.accept(result);
+        if (remaining < 0) {
+            return false;
+        }
+        if (remaining == 0) {
+            this.retire(broadcast.logId);
+            this.broadcasts.remove(broadcast.logId, broadcast);
+            broadcast.complete();
+        }
+
+        return true;
+    }
+
+    /**
+     * Remembers a completed broadcast, evicting the oldest one beyond {@link #RETIRED_CAPACITY}.
+     */
+    private void retire(long logId) {
+        this.retired.add(logId);
+        int slot = (int) (this.retiredSequence.getAndIncrement() % RETIRED_CAPACITY);
+        long evicted = this.retiredRing.getAndSet(slot, logId);
+        if (evicted != 0L && evicted != logId) {
+            this.retired.remove(evicted);
+        }
+    }
+
+    private static TriggerRequest shard(TriggerRequest trigger, int shardIndex, int shardTotal) {
+        return TriggerRequest.builder()
+            .jobId(trigger.getJobId())
+            .logId(trigger.getLogId())
+            .handler(trigger.getHandler())
+            .params(trigger.getParams())
+            .plannedAt(trigger.getPlannedAt())
+            .shardIndex(shardIndex)
+            .shardTotal(shardTotal)
+            .timeoutMillis(trigger.getTimeoutMillis())
+            .blockStrategy(trigger.getBlockStrategy())
+            .build();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * {@code Broadcast}.
+     *
+     * @param <R> the job result type
+     */
+    private static final class Broadcast<R> {
+
+        private final long jobId;
+        private final long logId;
+        private final int total;
+        private final StreamingReducer<CallbackResult, R> reducer;
+        private final AtomicIntegerArray reported;
+        private final AtomicInteger remaining;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private volatile Timeout timeout;
+
+        private Broadcast(long jobId, long logId, int total, StreamingReducer<CallbackResult, R> reducer) {
+            this.jobId = jobId;
+            this.logId = logId;
+            this.total = total;
+            this.reducer = reducer;
+            this.reported = new AtomicIntegerArray(total);
+            this.remaining = new AtomicInteger(total);
+        }
+
+        /**
+         * Folds a shard's callback.
+         *
+         * @return the shards still outstanding, or {@code -1} if the shard was already reported
+         */
+        private int accept(CallbackResult result) {
+            int shard = result.getShardIndex();
+            if (shard < 0 || shard >= this.total || !this.reported.compareAndSet(shard, 0, 1)) {
+                return -1;
+            }
+
+            try {
+                this.reducer.accept(result);
+            } catch (Throwable e) {
+                log.error("riff: broadcast reducer failed, log:[{}] shard:[{}]", this.logId, shard, e);
+            }
+
+            return this.remaining.decrementAndGet();
+        }
+
+        private void complete() {
+            Timeout pending = this.timeout;
+            if (pending != null) {
+                pending.cancel();
+            }
+            try {
+                this.future.complete(this.reducer.result());
+            } catch (Throwable e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+
+        private CallbackResult failure(int shard, String message) {
+            return CallbackResult.builder()
+                .jobId(this.jobId)
+                .logId(this.logId)
+                .code(CallbackResult.FAILURE)
+                .message(message)
+                .finishedAt(System.currentTimeMillis())
+                .shardIndex(shard)
+                .build();
+        }
+    }
+}
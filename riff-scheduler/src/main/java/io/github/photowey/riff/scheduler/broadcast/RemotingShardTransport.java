@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.broadcast;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.client.RemotingException;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+
+/**
+ * {@code RemotingShardTransport}.
+ *
+ * <p>Sends shards over the client's multiplexed connections: every call only enqueues a frame, so
+ * a broadcast to N rifflets costs N writes pipelined on already-open channels rather than N
+ * sequential round trips.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class RemotingShardTransport implements ShardTransport {
+
+    private final NettyRemotingClient client;
+    private final long ackTimeoutMillis;
+
+    public RemotingShardTransport(NettyRemotingClient client) {
+        this(client, NettyRemotingClient.DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public RemotingShardTransport(NettyRemotingClient client, long ackTimeoutMillis) {
+        this.client = client;
+        this.ackTimeoutMillis = ackTimeoutMillis;
+    }
+
+    @Override
+    public CompletableFuture<RemotingCommand> send(String address, TriggerRequest request) {
+        return this.client.invoke(address, RequestCode.TRIGGER, request, this.ackTimeoutMillis)
+            .thenApply(response -> {
+                if (response.isError()) {
+                    throw new RemotingException(response.errorMessage());
+                }
+
+                return response;
+            });
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.broadcast;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+
+/**
+ * {@code ShardTransport}.
+ *
+ * <p>Delivers one shard of a broadcast to a rifflet. The returned future only acknowledges the
+ * delivery; the shard's outcome arrives later as a callback.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@FunctionalInterface
+public interface ShardTransport {
+
+    /**
+     * Sends a shard without blocking.
+     *
+     * @param address the rifflet, {@code host:port}
+     * @param request the shard's trigger
+     * @return completes once the rifflet accepted the trigger, or fails if it could not be delivered
+     */
+    CompletableFuture<?> send(String address, TriggerRequest request);
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.cluster;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.github.photowey.riff.storage.api.domain.ShardLease;
+import io.github.photowey.riff.storage.api.repository.ShardLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code ShardCoordinator}.
+ *
+ * <p>Partitions jobs into {@code shardCount} shards and keeps this node's fair share of them
+ * through renewable leases. Nodes never contend on a shared lock: each one renews its own lease
+ * rows, picks up free or expired rows, and hands back rows above its share when peers join.
+ * A dead peer's shards are taken over by the first heartbeat after its leases expire.
+ *
+ * <p>{@link #owns(int)} is answered from a local copy of the lease expiry, shortened by a safety
+ * margin, so a node that can no longer renew stops firing before a peer can acquire its shards.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class ShardCoordinator {
+
+    private static final String COORDINATOR_THREAD_NAME = "riff-shard-coordinator";
+
+    private final String nodeId;
+    private final int shardCount;
+    private final long leaseTtlMillis;
+    private final long renewIntervalMillis;
+    private final ShardLeaseRepository repository;
+    private final ShardListener listener;
+    private final Clock clock;
+
+    private final AtomicLongArray localExpiresAt;
+    private final long[] epochs;
+
+    private ScheduledExecutorService executor;
+
+    public ShardCoordinator(
+        String nodeId,
+        int shardCount,
+        long leaseTtlMillis,
+        ShardLeaseRepository repository,
+        ShardListener listener,
+        Clock clock) {
+        if (shardCount <= 0 || leaseTtlMillis <= 0) {
+            throw new IllegalArgumentException("shardCount and leaseTtlMillis must be positive");
+        }
+
+        this.nodeId = nodeId;
+        this.shardCount = shardCount;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.renewIntervalMillis = Math.max(1L, leaseTtlMillis / 3);
+        this.repository = repository;
+        this.listener = listener;
+        this.clock = clock;
+        this.localExpiresAt = new AtomicLongArray(shardCount);
+        this.epochs = new long[shardCount];
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean owns(int shard) {
+        return this.localExpiresAt.get(shard) > this.clock.millis();
+    }
+
+    public boolean ownsJob(long jobId) {
+        return this.owns(Shards.shardOf(jobId, this.shardCount));
+    }
+
+    public int ownedCount() {
+        int owned = 0;
+        for (int shard = 0; shard < this.shardCount; shard++) {
+            if (this.localExpiresAt.get(shard) != 0) {
+                owned++;
+            }
+        }
+
+        return owned;
+    }
+
+    public String nodeId() {
+        return this.nodeId;
+    }
+
+    public int shardCount() {
+        return this.shardCount;
+    }
+
+    // ----------------------------------------------------------------
+
+    public synchronized void start() {
+        if (this.executor != null) {
+            return;
+        }
+
+        this.repository.initialize(this.shardCount);
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, COORDINATOR_THREAD_NAME);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(
+            this::heartbeatSafely, 0L, this.renewIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (this.executor == null) {
+            return;
+        }
+
+        this.executor.shutdownNow();
+        this.executor = null;
+        for (int shard = 0; shard < this.shardCount; shard++) {
+            if (this.localExpiresAt.get(shard) != 0) {
+                this.revoke(shard);
+                this.repository.release(shard, this.nodeId, this.epochs[shard]);
+            }
+        }
+    }
+
+    /**
+     * Runs one coordination round: keep-alive, renew, then acquire or release towards the fair
+     * share of {@code ceil(shardCount / liveNodes)}.
+     */
+    public synchronized void heartbeat() {
+        long now = this.clock.millis();
+        this.revokeExpired(now);
+        this.repository.keepAlive(this.nodeId, now + this.leaseTtlMillis);
+        this.renewOwned(now);
+
+        List<String> liveNodes = this.repository.findLiveNodes(now);
+        int target = (this.shardCount + Math.max(1, liveNodes.size()) - 1) / Math.max(1, liveNodes.size());
+        int owned = this.ownedCount();
+        if (owned < target) {
+            this.acquire(now, target - owned);
+        } else if (owned > target) {
+            this.releaseExcess(owned - target);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private void heartbeatSafely() {
+        try {
+            this.heartbeat();
+        } catch (Throwable e) {
+            log.error("riff: shard coordinator:[{}] heartbeat failed", this.nodeId, e);
+        }
+    }
+
+    private void revokeExpired(long now) {
+        for (int shard = 0; shard < this.shardCount; shard++) {
+            long expiresAt = this.localExpiresAt.get(shard);
+            if (expiresAt != 0 && expiresAt <= now) {
+                log.warn("riff: node:[{}] lost shard:[{}], lease expired locally", this.nodeId, shard);
+                this.revoke(shard);
+            }
+        }
+    }
+
+    private void renewOwned(long now) {
+        for (int shard = 0; shard < this.shardCount; shard++) {
+            if (this.localExpiresAt.get(shard) == 0) {
+                continue;
+            }
+            if (this.repository.renew(shard, this.nodeId, this.epochs[shard], now, this.leaseTtlMillis)) {
+                this.localExpiresAt.set(shard, this.localDeadline(now));
+            } else {
+                log.warn("riff: node:[{}] lost shard:[{}], lease taken over", this.nodeId, shard);
+                this.revoke(shard);
+            }
+        }
+    }
+
+    private void acquire(long now, int wanted) {
+        int start = Math.floorMod(this.nodeId.hashCode(), this.shardCount);
+        List<ShardLease> leases = this.repository.findAll();
+        int acquired = 0;
+        for (int i = 0; i < leases.size() && acquired < wanted; i++) {
+            ShardLease lease = leases.get((start + i) % leases.size());
+            int shard = lease.getShard();
+            if (this.localExpiresAt.get(shard) != 0 || !lease.isExpired(now)) {
+                continue;
+            }
+
+            Optional<ShardLease> granted = this.repository.tryAcquire(shard, this.nodeId, now, this.leaseTtlMillis);
+            if (granted.isPresent()) {
+                this.epochs[shard] = granted.get().getEpoch();
+                this.localExpiresAt.set(shard, this.localDeadline(now));
+                this.listener.onAssigned(shard, this.epochs[shard]);
+                acquired++;
+            }
+        }
+    }
+
+    private void releaseExcess(int excess) {
+        int released = 0;
+        for (int shard = this.shardCount - 1; shard >= 0 && released < excess; shard--) {
+            if (this.localExpiresAt.get(shard) == 0) {
+                continue;
+            }
+
+            this.revoke(shard);
+            this.repository.release(shard, this.nodeId, this.epochs[shard]);
+            released++;
+        }
+    }
+
+    private void revoke(int shard) {
+        this.localExpiresAt.set(shard, 0L);
+        this.listener.onRevoked(shard);
+    }
+
+    private long localDeadline(long now) {
+        return now + this.leaseTtlMillis - this.renewIntervalMillis / 2;
+    }
+}
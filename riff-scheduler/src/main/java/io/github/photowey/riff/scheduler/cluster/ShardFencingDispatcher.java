@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.cluster;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.photowey.riff.scheduler.trigger.TriggerDispatcher;
+
+/**
+ * {@code ShardFencingDispatcher}.
+ *
+ * <p>Drops triggers of jobs whose shard this node no longer owns, so a node that lost its lease
+ * never fires concurrently with the peer that took the shard over.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class ShardFencingDispatcher implements TriggerDispatcher {
+
+    private final ShardCoordinator coordinator;
+    private final TriggerDispatcher delegate;
+    private final LongAdder fenced = new LongAdder();
+
+    public ShardFencingDispatcher(ShardCoordinator coordinator, TriggerDispatcher delegate) {
+        this.coordinator = coordinator;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void dispatch(long jobId, long plannedMillis) {
+        if (!this.coordinator.ownsJob(jobId)) {
+            this.fenced.increment();
+
+            return;
+        }
+
+        this.delegate.dispatch(jobId, plannedMillis);
+    }
+
+    public long fencedCount() {
+        return this.fenced.sum();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.cluster;
+
+/**
+ * {@code Shards}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class Shards {
+
+    private Shards() {
+        throw new AssertionError("No " + Shards.class.getName() + " instances for you!");
+    }
+
+    /**
+     * Maps a job onto one of {@code shardCount} shards with a murmur3 finalizer, so that
+     * sequential job ids spread evenly.
+     *
+     * @param jobId      the job id
+     * @param shardCount the number of shards
+     * @return the shard in {@code [0, shardCount)}
+     */
+    public static int shardOf(long jobId, int shardCount) {
+        long hash = jobId;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return (int) Math.floorMod(hash, (long) shardCount);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.dispatch;
+
+/**
+ * {@code DispatchMode}.
+ *
+ * <p>How a {@link PriorityDispatchQueue} shares dispatch capacity between priority classes.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public enum DispatchMode {
+
+    /**
+     * Always serve the highest non-empty class. Lower classes wait for as long as higher ones have
+     * work, so a sustained high-priority load starves them.
+     */
+    STRICT,
+
+    /**
+     * Serve every non-empty class in turn, up to its weight per turn. A class is delayed by at most
+     * the weights of the others, and an idle class leaves its share to the busy ones.
+     */
+    WEIGHTED
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.dispatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.photowey.riff.core.queue.MpscLinkedQueue;
+import io.github.photowey.riff.core.schedule.JobPriority;
+
+/**
+ * {@code PriorityDispatchQueue}.
+ *
+ * <p>A multi-level queue with one unbounded {@link MpscLinkedQueue} per {@link JobPriority}, so a
+ * burst of low-priority triggers never sits in front of a high-priority one. Producers offer from
+ * any thread with one atomic exchange plus a depth increment; the single consumer polls by the
+ * {@link DispatchMode}. Neither side locks or allocates beyond the queue node, and within a class
+ * triggers leave in the order they arrived.
+ *
+ * @param <E> the element type
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public final class PriorityDispatchQueue<E> {
+
+    /**
+     * Weights of {@link JobPriority#HIGH}, {@link JobPriority#NORMAL} and {@link JobPriority#LOW}.
+     */
+    public static final int[] DEFAULT_WEIGHTS = {8, 4, 1};
+
+    private final DispatchMode mode;
+    private final int[] weights;
+    private final Level<E>[] levels;
+
+    // confined to the consumer
+    private int cursor;
+    private int credits;
+
+    public PriorityDispatchQueue(DispatchMode mode) {
+        this(mode, DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * @param mode    the service discipline
+     * @param weights the polls per turn of each priority class, in {@link JobPriority} order; only
+     *                used by {@link DispatchMode#WEIGHTED}
+     */
+    @SuppressWarnings("unchecked")
+    public PriorityDispatchQueue(DispatchMode mode, int[] weights) {
+        if (weights.length != JobPriority.count()) {
+            throw new IllegalArgumentException("expected one weight per priority, got:" + weights.length);
+        }
+        for (int weight : weights) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weights must be positive: " + weight);
+            }
+        }
+
+        this.mode = mode;
+        this.weights = weights.clone();
+        this.levels = new Level[weights.length];
+        for (int i = 0; i < this.levels.length; i++) {
+            this.levels[i] = new Level<>();
+        }
+        this.credits = this.weights[0];
+    }
+
+    // ----------------------------------------------------------------
+
+    public void offer(E element, JobPriority priority) {
+        Level<E> level = this.levels[priority.ordinal()];
+        // count first, so the consumer never sees a negative depth
+        level.depth.incrementAndGet();
+        level.queue.offer(element);
+    }
+
+    /**
+     * Takes the next element. Must only be called by the single consumer.
+     *
+     * @return the element, or {@code null} if every class is empty
+     */
+    public E poll() {
+        return this.mode == DispatchMode.STRICT ? this.pollStrict() : this.pollWeighted();
+    }
+
+    /**
+     * @param priority the priority class
+     * @return the number of queued elements of the class
+     */
+    public int depth(JobPriority priority) {
+        return Math.max(0, this.levels[priority.ordinal()].depth.get());
+    }
+
+    public int size() {
+        int size = 0;
+        for (Level<E> level : this.levels) {
+            size += Math.max(0, level.depth.get());
+        }
+
+        return size;
+    }
+
+    /**
+     * Must only be called by the single consumer.
+     *
+     * @return {@code true} if no element is queued or being offered
+     */
+    public boolean isEmpty() {
+        for (Level<E> level : this.levels) {
+            if (!level.queue.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public DispatchMode mode() {
+        return this.mode;
+    }
+
+    // ----------------------------------------------------------------
+
+    private E pollStrict() {
+        for (Level<E> level : this.levels) {
+            E element = level.poll();
+            if (element != null) {
+                return element;
+            }
+        }
+
+        return null;
+    }
+
+    private E pollWeighted() {
+        // one more visit than levels, so the current class gets a fresh turn after the wrap
+        for (int visited = 0; visited <= this.levels.length; visited++) {
+            if (this.credits > 0) {
+                E element = this.levels[this.cursor].poll();
+                if (element != null) {
+                    this.credits--;
+
+                    return element;
+                }
+            }
+
+            this.cursor = (this.cursor + 1) % this.levels.length;
+            this.credits = this.weights[this.cursor];
+        }
+
+        return null;
+    }
+
+    /**
+     * {@code Level}.
+     *
+     * @param <E> the element type
+     */
+    private static final class Level<E> {
+
+        private final MpscLinkedQueue<E> queue = new MpscLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+
+        private E poll() {
+            E element = this.queue.poll();
+            if (element != null) {
+                this.depth.decrementAndGet();
+            }
+
+            return element;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code ChangeLogTailer}.
+ *
+ * <p>Polls the change log past the last applied id and hands each change to the
+ * {@link JobRegistry}, replacing per-tick full scans of the job table with one primary-key range
+ * read that is usually empty.
+ *
+ * <p>Auto-increment ids become visible in commit order, not id order, so a gap in the ids may be
+ * a transaction that has not committed yet. The cursor stops before such a gap; the rows behind it
+ * are applied right away and remembered so they are not applied twice. A gap still open after
+ * {@code gapTimeoutMillis} is a rolled-back transaction and is skipped. The same holds at startup,
+ * which is why the cursor starts {@code rewind} ids behind the head rather than at it.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class ChangeLogTailer {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final long DEFAULT_GAP_TIMEOUT_MILLIS = 10_000L;
+    public static final int DEFAULT_REWIND = 256;
+
+    private static final String TAILER_THREAD_NAME = "riff-change-log-tailer";
+
+    private final ChangeLogRepository repository;
+    private final JobRegistry registry;
+    private final Clock clock;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final int rewind;
+    private final NavigableSet<Long> appliedAboveCursor = new TreeSet<>();
+
+    private volatile long cursor;
+    private ScheduledExecutorService executor;
+
+    public ChangeLogTailer(ChangeLogRepository repository, JobRegistry registry) {
+        this(repository, registry, Clock.systemUTC(), DEFAULT_BATCH_SIZE, DEFAULT_GAP_TIMEOUT_MILLIS);
+    }
+
+    public ChangeLogTailer(
+        ChangeLogRepository repository, JobRegistry registry, Clock clock, int batchSize, long gapTimeoutMillis) {
+        this(repository, registry, clock, batchSize, gapTimeoutMillis, DEFAULT_REWIND);
+    }
+
+    /**
+     * @param repository       the change log
+     * @param registry         receives the changes
+     * @param clock            decides when a gap has expired
+     * @param batchSize        the changes read per query
+     * @param gapTimeoutMillis how long a gap may stay open before it is skipped
+     * @param rewind           the ids before the head to read again at startup, at least the number
+     *                         of changes that can be in flight at once
+     */
+    public ChangeLogTailer(
+        ChangeLogRepository repository,
+        JobRegistry registry,
+        Clock clock,
+        int batchSize,
+        long gapTimeoutMillis,
+        int rewind) {
+        this.repository = repository;
+        this.registry = registry;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.rewind = rewind;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Positions the cursor {@code rewind} ids behind the log's head and preloads the registry. A
+     * change with a lower id than the head may still be uncommitted; starting at the head would
+     * leave it behind the cursor for good, while starting behind it lets the first poll wait for
+     * it like for any other gap. The changes read again are harmless: applying is idempotent, and
+     * listeners skip triggers requested before they started.
+     */
+    public synchronized void initialize() {
+        this.cursor = Math.max(0L, this.repository.maxId() - this.rewind);
+        this.appliedAboveCursor.clear();
+        this.registry.preload();
+    }
+
+    public synchronized void start(long intervalMillis) {
+        if (this.executor != null) {
+            return;
+        }
+
+        this.initialize();
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, TAILER_THREAD_NAME);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::pollSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (this.executor == null) {
+            return;
+        }
+
+        this.executor.shutdownNow();
+        this.executor = null;
+    }
+
+    /**
+     * Applies every change visible after the cursor.
+     *
+     * @return the number of newly applied changes
+     */
+    public synchronized int poll() {
+        int applied = 0;
+        while (true) {
+            List<ChangeLog> changes = this.repository.findAfter(this.cursor, this.batchSize);
+            boolean blocked = false;
+            for (ChangeLog change : changes) {
+                long id = change.getId();
+                if (!blocked && id != this.cursor + 1 && !this.gapExpired(change)) {
+                    blocked = true;
+                }
+                if (this.appliedAboveCursor.add(id)) {
+                    this.registry.apply(change);
+                    applied++;
+                }
+                if (!blocked) {
+                    this.advance(id);
+                }
+            }
+            if (blocked || changes.size() < this.batchSize) {
+                return applied;
+            }
+        }
+    }
+
+    public long cursor() {
+        return this.cursor;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void pollSafely() {
+        try {
+            this.poll();
+        } catch (Throwable e) {
+            log.error("riff: change log tailing failed at cursor:[{}]", this.cursor, e);
+        }
+    }
+
+    private boolean gapExpired(ChangeLog next) {
+        if (this.clock.millis() - next.getChangedAt() < this.gapTimeoutMillis) {
+            return false;
+        }
+
+        log.warn("riff: skip change log gap:[{}, {})", this.cursor + 1, next.getId());
+
+        return true;
+    }
+
+    private void advance(long id) {
+        this.cursor = id;
+        this.appliedAboveCursor.headSet(id, true).clear();
+    }
+}
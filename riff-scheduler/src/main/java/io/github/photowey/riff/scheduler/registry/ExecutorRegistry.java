@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.core.protocol.RegistryRequest;
+import io.github.photowey.riff.core.queue.MpscLinkedQueue;
+import io.github.photowey.riff.scheduler.route.ExecutorGroup;
+import io.github.photowey.riff.scheduler.wheel.TimerEntry;
+import io.github.photowey.riff.scheduler.wheel.TimingWheel;
+import io.github.photowey.riff.storage.api.domain.ExecutorRegistration;
+import io.github.photowey.riff.storage.api.repository.ExecutorRegistryRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code ExecutorRegistry}.
+ *
+ * <p>Executor membership held in memory. A heartbeat from a known executor is a map lookup plus
+ * a volatile write; it never touches storage or the expiry wheel. Each member sits in a
+ * {@link TimingWheel} at {@code lastSeen + ttl}, and when its slot fires the driver re-arms it at
+ * the current deadline or evicts it, so liveness costs O(1) per heartbeat and per expiry, however
+ * many executors there are.
+ *
+ * <p>Only membership changes leave the process. The driver thread coalesces them per executor,
+ * so the latest state wins, and every {@code flushInterval} it writes them as one
+ * {@link ExecutorRegistryRepository} batch and publishes them to the peer schedulers in one
+ * {@link RegistrySyncTransport} frame. Peers also receive a full announcement of the local members
+ * every {@code ttl / 3}, which refreshes their copies, so members of a scheduler that dies expire
+ * everywhere after one TTL.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class ExecutorRegistry {
+
+    public static final long DEFAULT_TTL_MILLIS = 30_000L;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1_000L;
+
+    private static final String REGISTRY_THREAD_NAME = "riff-executor-registry";
+
+    private final String nodeId;
+    private final long ttlMillis;
+    private final ExecutorRegistryRepository repository;
+    private final RegistrySyncTransport transport;
+    private final Clock clock;
+
+    private final Map<String, ExecutorGroup> groups = new ConcurrentHashMap<>();
+    private final Map<String, Member> members = new ConcurrentHashMap<>();
+    private final MpscLinkedQueue<Member> joins = new MpscLinkedQueue<>();
+    private final MpscLinkedQueue<Member> leaves = new MpscLinkedQueue<>();
+
+    private final LongAdder heartbeats = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder left = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder persistedBatches = new LongAdder();
+    private final LongAdder persistedRows = new LongAdder();
+    private final LongAdder publishedBatches = new LongAdder();
+
+    // Confined to the driver, guarded by this.
+    private final TimingWheel<Member> wheel;
+    private final Map<String, RegistryRequest> unpersisted = new LinkedHashMap<>();
+    private final Map<String, RegistryRequest> unpublished = new LinkedHashMap<>();
+    private long nextAnnounceAt;
+
+    private ScheduledExecutorService executor;
+
+    public ExecutorRegistry(String nodeId, ExecutorRegistryRepository repository, RegistrySyncTransport transport) {
+        this(nodeId, DEFAULT_TTL_MILLIS, repository, transport, Clock.systemUTC());
+    }
+
+    public ExecutorRegistry(
+        String nodeId,
+        long ttlMillis,
+        ExecutorRegistryRepository repository,
+        RegistrySyncTransport transport,
+        Clock clock) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("ttlMillis must be positive: " + ttlMillis);
+        }
+
+        this.nodeId = nodeId;
+        this.ttlMillis = ttlMillis;
+        this.repository = repository;
+        this.transport = transport;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(clock.millis());
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Restores the persisted members. Each one gets a full TTL to send a heartbeat before it is
+     * evicted and its row deleted.
+     */
+    public synchronized void initialize() {
+        long now = this.clock.millis();
+        for (ExecutorRegistration registration : this.repository.findAll()) {
+            this.touch(registration.getApp(), registration.getAddress(), now, Source.STORAGE);
+        }
+
+        this.tick();
+    }
+
+    public synchronized void start() {
+        this.start(DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    public synchronized void start(long flushIntervalMillis) {
+        if (this.executor != null) {
+            return;
+        }
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, REGISTRY_THREAD_NAME);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(
+            this::tickSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (this.executor == null) {
+            return;
+        }
+
+        this.executor.shutdownNow();
+        this.executor = null;
+        this.tickSafely();
+    }
+
+    // ----------------------------------------------------------------
+
+    public void onHeartbeat(Heartbeat heartbeat) {
+        this.heartbeats.increment();
+        long now = this.clock.millis();
+        ExecutorGroup group = this.groupOf(heartbeat.getApp());
+        while (true) {
+            Member member = this.touch(heartbeat.getApp(), heartbeat.getAddress(), now, Source.LOCAL);
+            group.onHeartbeat(heartbeat);
+            if (!member.evicted.get()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Handles an explicit registration or withdrawal from a rifflet.
+     *
+     * @param request the request
+     */
+    public void onRegistry(RegistryRequest request) {
+        this.onChange(request, Source.LOCAL);
+    }
+
+    /**
+     * Applies a membership change published by a peer scheduler. Peer changes are neither
+     * persisted nor published again.
+     *
+     * @param change the change
+     */
+    public void onPeerChange(RegistryRequest change) {
+        this.onChange(change, Source.PEER);
+    }
+
+    /**
+     * Runs one driver round: schedule joined members, drop departed ones, expire silent ones,
+     * then persist and publish the coalesced changes.
+     */
+    public synchronized void tick() {
+        long now = this.clock.millis();
+        this.drainJoins(now);
+        this.drainLeaves();
+        this.wheel.advance(now, member -> this.expire(member, now));
+        if (now >= this.nextAnnounceAt) {
+            this.announce();
+            this.nextAnnounceAt = now + Math.max(1L, this.ttlMillis / 3);
+        }
+
+        this.persist();
+        this.publish();
+    }
+
+    // ----------------------------------------------------------------
+
+    public ExecutorGroup group(String app) {
+        return this.groups.get(app);
+    }
+
+    public boolean contains(String app, String address) {
+        return this.members.containsKey(keyOf(app, address));
+    }
+
+    public int size() {
+        return this.members.size();
+    }
+
+    public String nodeId() {
+        return this.nodeId;
+    }
+
+    public synchronized ExecutorRegistryMetrics metrics() {
+        return ExecutorRegistryMetrics.builder()
+            .members(this.members.size())
+            .scheduled(this.wheel.size())
+            .heartbeats(this.heartbeats.sum())
+            .joined(this.joined.sum())
+            .left(this.left.sum())
+            .expired(this.expired.sum())
+            .persistedBatches(this.persistedBatches.sum())
+            .persistedRows(this.persistedRows.sum())
+            .publishedBatches(this.publishedBatches.sum())
+            .build();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void onChange(RegistryRequest change, Source source) {
+        if (change.isUnregister()) {
+            this.leave(change.getApp(), change.getAddress(), source == Source.LOCAL);
+
+            return;
+        }
+
+        long now = this.clock.millis();
+        ExecutorGroup group = this.groupOf(change.getApp());
+        while (true) {
+            Member member = this.touch(change.getApp(), change.getAddress(), now, source);
+            group.join(change.getAddress());
+            if (!member.evicted.get()) {
+                return;
+            }
+        }
+    }
+
+    private Member touch(String app, String address, long now, Source source) {
+        String key = keyOf(app, address);
+        Member member = this.members.get(key);
+        if (member != null && member.evicted.get()) {
+            this.members.remove(key, member);
+            member = null;
+        }
+        if (member == null) {
+            Member created = new Member(app, address, now, source);
+            member = this.members.putIfAbsent(key, created);
+            if (member == null) {
+                this.groupOf(app).join(address);
+                this.joins.offer(created);
+                this.joined.increment();
+
+                return created;
+            }
+        }
+
+        member.lastSeenAt = now;
+        if (source == Source.LOCAL && member.source != Source.LOCAL) {
+            member.source = Source.LOCAL;
+            this.joins.offer(member);
+        }
+
+        return member;
+    }
+
+    private void leave(String app, String address, boolean announce) {
+        Member member = this.members.get(keyOf(app, address));
+        if (member == null || !member.evicted.compareAndSet(false, true)) {
+            return;
+        }
+
+        member.announceLeave = announce;
+        this.detach(member);
+        this.leaves.offer(member);
+        this.left.increment();
+    }
+
+    private void drainJoins(long now) {
+        Member member;
+        while ((member = this.joins.poll()) != null) {
+            if (member.evicted.get()) {
+                continue;
+            }
+            if (!member.isScheduled()) {
+                member.deadline(member.lastSeenAt + this.ttlMillis);
+                if (!this.wheel.add(member)) {
+                    this.expire(member, now);
+                    continue;
+                }
+            }
+            if (member.source == Source.LOCAL) {
+                RegistryRequest registered = this.changeOf(member, false);
+                this.unpersisted.put(member.key, registered);
+                this.unpublished.put(member.key, registered);
+            }
+        }
+    }
+
+    private void drainLeaves() {
+        Member member;
+        while ((member = this.leaves.poll()) != null) {
+            this.wheel.remove(member);
+            if (member.announceLeave) {
+                RegistryRequest unregistered = this.changeOf(member, true);
+                this.unpersisted.put(member.key, unregistered);
+                this.unpublished.put(member.key, unregistered);
+            }
+        }
+    }
+
+    private void expire(Member member, long now) {
+        long deadline = member.lastSeenAt + this.ttlMillis;
+        if (deadline > now && !member.evicted.get()) {
+            member.deadline(deadline);
+            this.wheel.add(member);
+
+            return;
+        }
+        if (!member.evicted.compareAndSet(false, true)) {
+            return;
+        }
+
+        log.info("riff: executor:[{}/{}] expired, last seen:[{}]", member.app, member.address, member.lastSeenAt);
+        this.detach(member);
+        this.expired.increment();
+        if (member.source != Source.PEER) {
+            RegistryRequest unregistered = this.changeOf(member, true);
+            this.unpersisted.put(member.key, unregistered);
+            if (member.source == Source.LOCAL) {
+                this.unpublished.put(member.key, unregistered);
+            }
+        }
+    }
+
+    private void detach(Member member) {
+        this.members.remove(member.key, member);
+        ExecutorGroup group = this.groupOf(member.app);
+        group.remove(member.address);
+        if (this.members.containsKey(member.key)) {
+            group.join(member.address);
+        }
+    }
+
+    private void announce() {
+        for (Member member : this.members.values()) {
+            if (member.source == Source.LOCAL && !member.evicted.get()) {
+                this.unpublished.putIfAbsent(member.key, this.changeOf(member, false));
+            }
+        }
+    }
+
+    private void persist() {
+        if (this.unpersisted.isEmpty()) {
+            return;
+        }
+
+        List<ExecutorRegistration> registered = new ArrayList<>();
+        List<ExecutorRegistration> unregistered = new ArrayList<>();
+        for (RegistryRequest change : this.unpersisted.values()) {
+            ExecutorRegistration registration = ExecutorRegistration.builder()
+                .app(change.getApp())
+                .address(change.getAddress())
+                .owner(this.nodeId)
+                .registeredAt(change.getTimestamp())
+                .build();
+            (change.isUnregister() ? unregistered : registered).add(registration);
+        }
+
+        try {
+            this.repository.unregisterAll(unregistered);
+            this.repository.registerAll(registered);
+            this.persistedBatches.increment();
+            this.persistedRows.add(this.unpersisted.size());
+            this.unpersisted.clear();
+        } catch (RuntimeException e) {
+            log.error("riff: persist executor registry failed, pending:[{}]", this.unpersisted.size(), e);
+        }
+    }
+
+    private void publish() {
+        if (this.unpublished.isEmpty()) {
+            return;
+        }
+
+        List<RegistryRequest> changes = new ArrayList<>(this.unpublished.values());
+        this.unpublished.clear();
+        try {
+            this.transport.publish(changes);
+            this.publishedBatches.increment();
+        } catch (RuntimeException e) {
+            log.warn("riff: publish executor registry changes failed, size:[{}]", changes.size(), e);
+        }
+    }
+
+    private void tickSafely() {
+        try {
+            this.tick();
+        } catch (Throwable e) {
+            log.error("riff: executor registry:[{}] tick failed", this.nodeId, e);
+        }
+    }
+
+    private RegistryRequest changeOf(Member member, boolean unregister) {
+        return RegistryRequest.builder()
+            .app(member.app)
+            .address(member.address)
+            .unregister(unregister)
+            .timestamp(member.joinedAt)
+            .build();
+    }
+
+    private ExecutorGroup groupOf(String app) {
+        return this.groups.computeIfAbsent(app, key -> new ExecutorGroup());
+    }
+
+    private static String keyOf(String app, String address) {
+        return app + '/' + address;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code Source}.
+     *
+     * <p>Where the registry learned about a member, which decides who persists and publishes it.
+     *
+     * @author photowey
+     * @version 1.0.0
+     * @since 2026/10/17
+     */
+    private enum Source {
+
+        /**
+         * Heartbeats arrive at this node: joins and leaves are persisted and published.
+         */
+        LOCAL,
+        /**
+         * Published by a peer, which owns its persistence.
+         */
+        PEER,
+        /**
+         * Restored from storage: only its expiry is persisted.
+         */
+        STORAGE,
+    }
+
+    /**
+     * {@code Member}.
+     *
+     * @author photowey
+     * @version 1.0.0
+     * @since 2026/10/17
+     */
+    private static final class Member extends TimerEntry {
+
+        private final String app;
+        private final String address;
+        private final String key;
+        private final long joinedAt;
+        private final AtomicBoolean evicted = new AtomicBoolean();
+
+        private volatile long lastSeenAt;
+        private volatile Source source;
+        private volatile boolean announceLeave;
+
+        private Member(String app, String address, long now, Source source) {
+            this.app = app;
+            this.address = address;
+            this.key = keyOf(app, address);
+            this.joinedAt = now;
+            this.lastSeenAt = now;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.github.photowey.riff.core.codec.CodecException;
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.core.protocol.RegistryRequest;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.RequestProcessor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * {@code ExecutorRegistryProcessor}.
+ *
+ * <p>Serves {@link RequestCode#HEARTBEAT} and {@link RequestCode#REGISTRY} from rifflets and
+ * {@link RequestCode#REGISTRY_SYNC} from peer schedulers. Every path is an in-memory update on
+ * the I/O thread.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class ExecutorRegistryProcessor implements RequestProcessor {
+
+    private static final CompletableFuture<byte[]> ACCEPTED = CompletableFuture.completedFuture(new byte[0]);
+
+    private final ExecutorRegistry registry;
+
+    public ExecutorRegistryProcessor(ExecutorRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public CompletionStage<?> process(RemotingCommand request) {
+        if (request.code() == RequestCode.REGISTRY_SYNC) {
+            return this.sync(request.body());
+        }
+
+        RiffMessage message = request.message();
+        if (message instanceof Heartbeat heartbeat) {
+            this.registry.onHeartbeat(heartbeat);
+        } else if (message instanceof RegistryRequest registration) {
+            this.registry.onRegistry(registration);
+        } else {
+            return CompletableFuture.failedFuture(
+                new CodecException("riff: expected a Heartbeat or RegistryRequest, code:" + request.code()));
+        }
+
+        return ACCEPTED;
+    }
+
+    // ----------------------------------------------------------------
+
+    private CompletionStage<?> sync(byte[] body) {
+        MessageCodec codec = MessageCodecs.binary();
+        ByteBuf in = Unpooled.wrappedBuffer(body);
+        while (in.isReadable()) {
+            if (codec.decode(in) instanceof RegistryRequest change) {
+                this.registry.onPeerChange(change);
+            }
+        }
+
+        return ACCEPTED;
+    }
+}
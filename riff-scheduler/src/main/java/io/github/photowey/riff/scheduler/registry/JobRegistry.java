@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.core.registry.RegistryCache;
+import io.github.photowey.riff.core.registry.RegistryCacheMetrics;
+import io.github.photowey.riff.core.schedule.JobPriority;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+import io.github.photowey.riff.storage.api.repository.JobGroupRepository;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code JobRegistry}.
+ *
+ * <p>The scheduler's cached view of job and executor group definitions. Reads are served from
+ * {@link RegistryCache}s; {@link ChangeLogTailer} feeds every committed change through
+ * {@link #apply(ChangeLog)}, which refreshes only the changed entry and then notifies listeners,
+ * e.g. to reschedule the job, or to fire it once on a {@link ChangeOperation#TRIGGER} through
+ * {@link io.github.photowey.riff.scheduler.trigger.OnDemandTriggerListener}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class JobRegistry {
+
+    private final JobRepository jobRepository;
+    private final JobGroupRepository groupRepository;
+    private final RegistryCache<Long, Job> jobs;
+    private final RegistryCache<Long, JobGroup> groups;
+    private final List<Consumer<ChangeLog>> listeners = new CopyOnWriteArrayList<>();
+
+    public JobRegistry(JobRepository jobRepository, JobGroupRepository groupRepository) {
+        this.jobRepository = jobRepository;
+        this.groupRepository = groupRepository;
+        this.jobs = new RegistryCache<>(id -> jobRepository.findById(id).orElse(null), Job::getVersion);
+        this.groups = new RegistryCache<>(id -> groupRepository.findById(id).orElse(null), JobGroup::getVersion);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Loads every job and group once, so the first ticks do not miss.
+     */
+    public void preload() {
+        for (Job job : this.jobRepository.findAll()) {
+            this.jobs.put(job.getId(), job);
+        }
+        for (JobGroup group : this.groupRepository.findAll()) {
+            this.groups.put(group.getId(), group);
+        }
+    }
+
+    public Job job(long id) {
+        return this.jobs.get(id);
+    }
+
+    /**
+     * Resolves the dispatch priority of a job, {@link JobPriority#NORMAL} for unknown jobs.
+     *
+     * @param id the job id
+     * @return the priority
+     */
+    public JobPriority priority(long id) {
+        Job job = this.jobs.get(id);
+
+        return job == null ? JobPriority.NORMAL : JobPriority.of(job.getPriority());
+    }
+
+    public JobGroup group(long id) {
+        return this.groups.get(id);
+    }
+
+    public void addListener(Consumer<ChangeLog> listener) {
+        this.listeners.add(listener);
+    }
+
+    public void apply(ChangeLog change) {
+        RegistryCache<Long, ?> cache = switch (change.getEntity()) {
+            case JOB -> this.jobs;
+            case JOB_GROUP -> this.groups;
+        };
+        if (change.getOperation() == ChangeOperation.DELETE) {
+            cache.evict(change.getEntityId(), change.getVersion(), change.getChangedAt());
+        } else if (change.getOperation() == ChangeOperation.UPSERT) {
+            cache.refresh(change.getEntityId(), change.getVersion(), change.getChangedAt());
+        }
+
+        for (Consumer<ChangeLog> listener : this.listeners) {
+            try {
+                listener.accept(change);
+            } catch (Throwable e) {
+                log.error("riff: registry listener failed, change:[{}]", change.getId(), e);
+            }
+        }
+    }
+
+    public RegistryCacheMetrics jobMetrics() {
+        return this.jobs.metrics();
+    }
+
+    public RegistryCacheMetrics groupMetrics() {
+        return this.groups.metrics();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.util.List;
+
+import io.github.photowey.riff.core.protocol.RegistryRequest;
+
+/**
+ * {@code RegistrySyncTransport}.
+ *
+ * <p>Publishes a coalesced batch of executor membership changes to the peer schedulers.
+ * Delivery is best effort: peers converge through the periodic full announcement.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@FunctionalInterface
+public interface RegistrySyncTransport {
+
+    RegistrySyncTransport NOOP = changes -> {
+    };
+
+    void publish(List<RegistryRequest> changes);
+}
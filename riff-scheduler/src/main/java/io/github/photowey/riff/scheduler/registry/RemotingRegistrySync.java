@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.util.List;
+
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.RegistryRequest;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+/**
+ * {@code RemotingRegistrySync}.
+ *
+ * <p>Encodes a batch once and sends it as a single oneway
+ * {@link RequestCode#REGISTRY_SYNC} frame to every peer over the client's multiplexed connections.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class RemotingRegistrySync implements RegistrySyncTransport {
+
+    private static final int ESTIMATED_CHANGE_SIZE = 64;
+
+    private final NettyRemotingClient client;
+    private final List<String> peers;
+
+    public RemotingRegistrySync(NettyRemotingClient client, List<String> peers) {
+        this.client = client;
+        this.peers = List.copyOf(peers);
+    }
+
+    @Override
+    public void publish(List<RegistryRequest> changes) {
+        if (changes.isEmpty() || this.peers.isEmpty()) {
+            return;
+        }
+
+        byte[] body = encode(changes);
+        for (String peer : this.peers) {
+            this.client.oneway(peer, RequestCode.REGISTRY_SYNC, body);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    static byte[] encode(List<RegistryRequest> changes) {
+        MessageCodec codec = MessageCodecs.binary();
+        ByteBuf out = Unpooled.buffer(changes.size() * ESTIMATED_CHANGE_SIZE);
+        try {
+            for (RegistryRequest change : changes) {
+                codec.encode(change, out);
+            }
+
+            return ByteBufUtil.getBytes(out);
+        } finally {
+            out.release();
+        }
+    }
+}
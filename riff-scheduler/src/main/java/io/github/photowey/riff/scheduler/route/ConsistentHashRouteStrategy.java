@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@code ConsistentHashRouteStrategy}.
+ *
+ * <p>Pins each job to one node on a hash ring with {@value #VIRTUAL_NODES} virtual nodes per
+ * executor, so a membership change only moves the jobs of the affected arc. Rings are built once
+ * per membership snapshot and cached by snapshot identity, so one instance serves many executor
+ * groups; a lookup is a binary search over a primitive array. A job whose owner is suspended goes
+ * to the next available owner clockwise, and returns once the owner heartbeats again.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class ConsistentHashRouteStrategy implements RouteStrategy {
+
+    public static final String NAME = "consistent-hash";
+
+    static final int VIRTUAL_NODES = 160;
+
+    private static final int RING_CACHE_SIZE = 64;
+
+    private final AtomicReferenceArray<Ring> rings = new AtomicReferenceArray<>(RING_CACHE_SIZE);
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public ExecutorNode select(long jobId, ExecutorNode[] nodes) {
+        int slot = System.identityHashCode(nodes) & (RING_CACHE_SIZE - 1);
+        Ring current = this.rings.get(slot);
+        if (current == null || current.nodes != nodes) {
+            current = Ring.of(nodes);
+            this.rings.set(slot, current);
+        }
+
+        int index = Arrays.binarySearch(current.hashes, mix(jobId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        int owner = index == current.hashes.length ? 0 : index;
+        for (int i = 0; i < current.owners.length; i++) {
+            ExecutorNode node = current.owners[(owner + i) % current.owners.length];
+            if (node.isAvailable()) {
+                return node;
+            }
+        }
+
+        return current.owners[owner];
+    }
+
+    // ----------------------------------------------------------------
+
+    static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+    private static long hash(String address, int replica) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < address.length(); i++) {
+            hash = (hash ^ address.charAt(i)) * 0x100000001b3L;
+        }
+
+        return mix(hash ^ replica * 0x9e3779b97f4a7c15L);
+    }
+
+    /**
+     * {@code Ring}.
+     *
+     * @param nodes  the membership snapshot the ring was built from
+     * @param hashes the sorted virtual node hashes
+     * @param owners the node owning each hash
+     */
+    private record Ring(ExecutorNode[] nodes, long[] hashes, ExecutorNode[] owners) {
+
+        private static Ring of(ExecutorNode[] nodes) {
+            int size = nodes.length * VIRTUAL_NODES;
+            long[] keys = new long[size];
+            for (int i = 0; i < nodes.length; i++) {
+                for (int replica = 0; replica < VIRTUAL_NODES; replica++) {
+                    keys[i * VIRTUAL_NODES + replica] = hash(nodes[i].address(), replica);
+                }
+            }
+
+            Integer[] order = new Integer[size];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, (left, right) -> Long.compare(keys[left], keys[right]));
+            long[] hashes = new long[size];
+            ExecutorNode[] owners = new ExecutorNode[size];
+            for (int i = 0; i < size; i++) {
+                hashes[i] = keys[order[i]];
+                owners[i] = nodes[order[i] / VIRTUAL_NODES];
+            }
+
+            return new Ring(nodes, hashes, owners);
+        }
+    }
+}
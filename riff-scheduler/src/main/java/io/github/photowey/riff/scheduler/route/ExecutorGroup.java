@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.photowey.riff.core.protocol.Heartbeat;
+
+/**
+ * {@code ExecutorGroup}.
+ *
+ * <p>The rifflets of one application. Routing reads an immutable array snapshot that is only
+ * rebuilt when a node joins or leaves, so choosing an executor neither locks nor allocates.
+ *
+ * <p>Routing honors the concurrency limit each rifflet publishes: when the strategy picks a node
+ * that is suspended or at its limit, the trigger is re-routed to the next available node in
+ * address order that has room, and if none has, {@link #route(long, RouteStrategy)} refuses it
+ * with {@code null} instead of piling more onto saturated executors.
+ *
+ * <p>This class is the routing primitive and stops there: it counts refusals in
+ * {@link #deferred()} but neither retries nor re-arms the trigger. No dispatcher in this module
+ * routes yet; the one that sends triggers to rifflets owns the retry, e.g. by handing a refused
+ * job back to {@code TriggerEngine#fireOnce} after a short backoff.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class ExecutorGroup {
+
+    private static final ExecutorNode[] EMPTY = new ExecutorNode[0];
+
+    private final Map<String, ExecutorNode> nodes = new ConcurrentHashMap<>();
+    private final LongAdder rerouted = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+
+    private volatile ExecutorNode[] snapshot = EMPTY;
+
+    public ExecutorNode onHeartbeat(Heartbeat heartbeat) {
+        ExecutorNode node = this.nodes.get(heartbeat.getAddress());
+        if (node == null) {
+            node = this.join(heartbeat.getAddress());
+        }
+        node.onHeartbeat(heartbeat);
+
+        return node;
+    }
+
+    /**
+     * Adds a node that has not sent a heartbeat yet, e.g. one learned from a peer scheduler.
+     *
+     * @param address the executor address
+     * @return the new or existing node
+     */
+    public synchronized ExecutorNode join(String address) {
+        ExecutorNode node = this.nodes.get(address);
+        if (node == null) {
+            node = new ExecutorNode(address);
+            this.nodes.put(address, node);
+            this.rebuild();
+        }
+
+        return node;
+    }
+
+    public synchronized boolean remove(String address) {
+        if (this.nodes.remove(address) == null) {
+            return false;
+        }
+
+        this.rebuild();
+
+        return true;
+    }
+
+    /**
+     * Picks an executor with room under its concurrency limit and counts the dispatch against it.
+     *
+     * @param jobId    the job id
+     * @param strategy the strategy
+     * @return the node, or {@code null} if the group is empty, the strategy drops the trigger or
+     *     every node is suspended or at its limit
+     */
+    public ExecutorNode route(long jobId, RouteStrategy strategy) {
+        ExecutorNode[] candidates = this.snapshot;
+        if (candidates.length == 0) {
+            return null;
+        }
+
+        ExecutorNode node = strategy.select(jobId, candidates);
+        if (node == null || (node.isAvailable() && node.tryDispatch())) {
+            return node;
+        }
+
+        ExecutorNode fallback = reroute(candidates, node);
+        if (fallback == null) {
+            this.deferred.increment();
+
+            return null;
+        }
+
+        this.rerouted.increment();
+
+        return fallback;
+    }
+
+    public ExecutorNode node(String address) {
+        return this.nodes.get(address);
+    }
+
+    /**
+     * Returns the current members, ordered by address.
+     *
+     * @return the snapshot, must not be modified
+     */
+    public ExecutorNode[] nodes() {
+        return this.snapshot;
+    }
+
+    public int size() {
+        return this.snapshot.length;
+    }
+
+    /**
+     * @return the number of triggers sent to another node because the chosen one was suspended or
+     *     at its limit
+     */
+    public long rerouted() {
+        return this.rerouted.sum();
+    }
+
+    /**
+     * @return the number of triggers refused because every node was suspended or at its limit
+     */
+    public long deferred() {
+        return this.deferred.sum();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ExecutorNode reroute(ExecutorNode[] candidates, ExecutorNode refused) {
+        int start = 0;
+        while (start < candidates.length && candidates[start] != refused) {
+            start++;
+        }
+        for (int i = 1; i < candidates.length; i++) {
+            ExecutorNode node = candidates[(start + i) % candidates.length];
+            if (node.isAvailable() && node.tryDispatch()) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    private void rebuild() {
+        ExecutorNode[] next = this.nodes.values().toArray(EMPTY);
+        Arrays.sort(next, Comparator.comparing(ExecutorNode::address));
+        this.snapshot = next;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.photowey.riff.core.protocol.Heartbeat;
+
+/**
+ * {@code ExecutorNode}.
+ *
+ * <p>The scheduler's live view of one rifflet: the load it last reported on a heartbeat, plus the
+ * triggers this scheduler dispatched to it that have not called back yet, which covers the gap
+ * between two heartbeats. Every field is read without locking by the routing strategies.
+ *
+ * <p>A rifflet that runs an adaptive concurrency limit reports it on its heartbeats;
+ * {@link #tryDispatch()} then refuses to count another trigger against the node once
+ * {@link #pending()} reaches that limit.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class ExecutorNode {
+
+    private final String address;
+    private final AtomicInteger localInFlight = new AtomicInteger();
+    private final AtomicLong routed = new AtomicLong();
+
+    private volatile int reportedInFlight;
+    private volatile int capacity;
+    private volatile int concurrencyLimit;
+    private volatile long latencyMicros;
+    private volatile long lastHeartbeatAt;
+    private volatile long lastRoutedNanos;
+    private volatile boolean suspended;
+
+    public ExecutorNode(String address) {
+        this.address = address;
+    }
+
+    // ----------------------------------------------------------------
+
+    public void onHeartbeat(Heartbeat heartbeat) {
+        this.reportedInFlight = heartbeat.getInFlight();
+        this.capacity = heartbeat.getCapacity();
+        this.latencyMicros = heartbeat.getLatencyMicros();
+        this.concurrencyLimit = heartbeat.getConcurrencyLimit();
+        this.lastHeartbeatAt = heartbeat.getTimestamp();
+        this.suspended = false;
+    }
+
+    /**
+     * Counts a dispatch against the node unless that would exceed its concurrency limit.
+     *
+     * @return {@code false} if the node is at its limit, in which case nothing is counted
+     */
+    public boolean tryDispatch() {
+        int limit = this.concurrencyLimit;
+        while (true) {
+            int local = this.localInFlight.get();
+            if (limit > 0 && Math.max(this.reportedInFlight, local) >= limit) {
+                return false;
+            }
+            if (this.localInFlight.compareAndSet(local, local + 1)) {
+                this.routed.incrementAndGet();
+                this.lastRoutedNanos = System.nanoTime();
+
+                return true;
+            }
+        }
+    }
+
+    public void onCompleted() {
+        this.localInFlight.getAndUpdate(value -> value > 0 ? value - 1 : 0);
+    }
+
+    /**
+     * Takes the node out of routing until its next heartbeat, e.g. after a failed dispatch.
+     */
+    public void suspend() {
+        this.suspended = true;
+    }
+
+    // ----------------------------------------------------------------
+
+    public String address() {
+        return this.address;
+    }
+
+    public boolean isAvailable() {
+        return !this.suspended;
+    }
+
+    /**
+     * Estimates the jobs running on the node.
+     *
+     * @return the larger of the reported and the locally tracked in-flight count
+     */
+    public int pending() {
+        return Math.max(this.reportedInFlight, this.localInFlight.get());
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return the limit the rifflet last reported, {@code 0} for none
+     */
+    public int concurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
+    public long latencyMicros() {
+        return this.latencyMicros;
+    }
+
+    public long lastHeartbeatAt() {
+        return this.lastHeartbeatAt;
+    }
+
+    public long routed() {
+        return this.routed.get();
+    }
+
+    public long lastRoutedNanos() {
+        return this.lastRoutedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorNode{" + this.address + ", pending=" + this.pending() + ", latencyMicros="
+            + this.latencyMicros + "}";
+    }
+}
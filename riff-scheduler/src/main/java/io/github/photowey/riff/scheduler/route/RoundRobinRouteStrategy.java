@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code RoundRobinRouteStrategy}.
+ *
+ * <p>Takes the nodes in turn, passing over suspended ones.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class RoundRobinRouteStrategy implements RouteStrategy {
+
+    public static final String NAME = "round-robin";
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public ExecutorNode select(long jobId, ExecutorNode[] nodes) {
+        int start = Math.floorMod(this.next.getAndIncrement(), nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            ExecutorNode node = nodes[(start + i) % nodes.length];
+            if (node.isAvailable()) {
+                return node;
+            }
+        }
+
+        return nodes[start];
+    }
+}
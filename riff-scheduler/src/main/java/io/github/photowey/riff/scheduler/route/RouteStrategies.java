@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code RouteStrategies}.
+ *
+ * <p>Registry of routing strategies by name: the built-in ones plus any {@link RouteStrategy}
+ * declared in {@code META-INF/services}. {@link LeastPendingRouteStrategy} is the default.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class RouteStrategies {
+
+    private static final Map<String, RouteStrategy> STRATEGIES = new ConcurrentHashMap<>();
+
+    static {
+        register(new RoundRobinRouteStrategy());
+        register(new ConsistentHashRouteStrategy());
+        register(new LeastFrequentlyUsedRouteStrategy());
+        register(new LeastRecentlyUsedRouteStrategy());
+        register(new FailoverRouteStrategy());
+        register(new LeastPendingRouteStrategy());
+        for (RouteStrategy strategy : ServiceLoader.load(RouteStrategy.class)) {
+            register(strategy);
+        }
+    }
+
+    private RouteStrategies() {
+        throw new AssertionError("No " + RouteStrategies.class.getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    public static void register(RouteStrategy strategy) {
+        STRATEGIES.put(strategy.name(), strategy);
+    }
+
+    /**
+     * Resolves a strategy by name.
+     *
+     * @param name the strategy name, {@code null} for the default
+     * @return the strategy
+     * @throws IllegalArgumentException if no strategy is registered under {@code name}
+     */
+    public static RouteStrategy get(String name) {
+        if (name == null) {
+            return defaultStrategy();
+        }
+
+        RouteStrategy strategy = STRATEGIES.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException("riff: unknown route strategy:" + name);
+        }
+
+        return strategy;
+    }
+
+    public static RouteStrategy defaultStrategy() {
+        return STRATEGIES.get(LeastPendingRouteStrategy.NAME);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+/**
+ * {@code RouteStrategy}.
+ *
+ * <p>Chooses the rifflet that runs a trigger. {@link #select(long, ExecutorNode[])} sits on the
+ * dispatch hot path: implementations must be thread-safe without locking and must not allocate.
+ * Strategies beyond the built-in ones are discovered through {@link java.util.ServiceLoader}, see
+ * {@link RouteStrategies}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface RouteStrategy {
+
+    /**
+     * The name jobs refer to this strategy by.
+     *
+     * @return the name
+     */
+    String name();
+
+    /**
+     * Selects an executor.
+     *
+     * @param jobId the job id
+     * @param nodes the candidates, never empty, ordered by address and not to be modified
+     * @return the chosen node, or {@code null} to drop the trigger
+     */
+    ExecutorNode select(long jobId, ExecutorNode[] nodes);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+import io.github.photowey.riff.core.schedule.Schedule;
+import io.github.photowey.riff.scheduler.wheel.TimerEntry;
+
+/**
+ * {@code JobTrigger}.
+ *
+ * <p>The timing-wheel entry of a registered job. It is allocated once at registration and re-armed
+ * in place with the next fire time after every fire.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JobTrigger extends TimerEntry {
+
+    private final long jobId;
+    private final Schedule schedule;
+    private final MisfirePolicy misfirePolicy;
+
+    volatile boolean cancelled;
+    MisfireCatchUp.Replay replay;
+
+    public JobTrigger(long jobId, Schedule schedule) {
+        this(jobId, schedule, MisfirePolicy.FIRE_ONCE_NOW);
+    }
+
+    public JobTrigger(long jobId, Schedule schedule, MisfirePolicy misfirePolicy) {
+        this.jobId = jobId;
+        this.schedule = schedule;
+        this.misfirePolicy = misfirePolicy;
+    }
+
+    public long jobId() {
+        return this.jobId;
+    }
+
+    public Schedule schedule() {
+        return this.schedule;
+    }
+
+    public MisfirePolicy misfirePolicy() {
+        return this.misfirePolicy;
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.photowey.riff.core.limit.TokenBucket;
+import io.github.photowey.riff.core.schedule.Schedule;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code MisfireCatchUp}.
+ *
+ * <p>Handles fires that are later than the misfire threshold according to each job's
+ * {@link MisfirePolicy}. Catch-up fires are never dispatched inline: every misfired job gets one
+ * {@link Replay} that generates its missed fire times lazily, and the replays are drained
+ * round-robin under a {@link TokenBucket}. Recovering from a long outage therefore costs memory
+ * proportional to the number of jobs, not missed fires, and releases them at a bounded rate.
+ *
+ * <p>Confined to the {@link TriggerEngine} driver thread, except for {@link #metrics()}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class MisfireCatchUp {
+
+    public static final long DEFAULT_THRESHOLD_MILLIS = 5_000L;
+    public static final double DEFAULT_REPLAYS_PER_SECOND = 500;
+    public static final int DEFAULT_BURST = 50;
+
+    private final long thresholdMillis;
+    private final TokenBucket bucket;
+    private final ArrayDeque<Replay> backlog = new ArrayDeque<>();
+
+    private final LongAdder misfired = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    private volatile int backlogSize;
+    private volatile long lagMillis;
+
+    public MisfireCatchUp() {
+        this(DEFAULT_THRESHOLD_MILLIS, new TokenBucket(DEFAULT_REPLAYS_PER_SECOND, DEFAULT_BURST));
+    }
+
+    public MisfireCatchUp(long thresholdMillis, TokenBucket bucket) {
+        if (thresholdMillis < 0) {
+            throw new IllegalArgumentException("thresholdMillis must not be negative: " + thresholdMillis);
+        }
+
+        this.thresholdMillis = thresholdMillis;
+        this.bucket = bucket;
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean isMisfired(long plannedMillis, long nowMillis) {
+        return nowMillis - plannedMillis > this.thresholdMillis;
+    }
+
+    /**
+     * Applies the trigger's policy to the fire times in {@code [plannedMillis, nowMillis]}. A job
+     * that misfires again while its replay is queued does not get a second replay: under
+     * {@link MisfirePolicy#FIRE_ONCE_NOW} the pending fire moves forward to the new planned time,
+     * and under {@link MisfirePolicy#FIRE_ALL_MISSED} the new window is chained as its own segment,
+     * so fires dispatched on time between the two windows are not replayed.
+     *
+     * @param trigger       the misfired trigger
+     * @param plannedMillis the first missed fire time
+     * @param nowMillis     the current time
+     */
+    void onMisfire(JobTrigger trigger, long plannedMillis, long nowMillis) {
+        this.misfired.increment();
+        MisfirePolicy policy = trigger.misfirePolicy();
+        if (policy == MisfirePolicy.SKIP) {
+            this.skipped.increment();
+
+            return;
+        }
+
+        long until = policy == MisfirePolicy.FIRE_ALL_MISSED ? nowMillis : plannedMillis;
+        Replay pending = trigger.replay;
+        if (pending != null) {
+            if (policy == MisfirePolicy.FIRE_ALL_MISSED) {
+                pending.tail().next = new Replay(trigger, plannedMillis, until);
+            } else if (plannedMillis > pending.planned) {
+                pending.planned = plannedMillis;
+                pending.until = plannedMillis;
+            }
+
+            return;
+        }
+
+        Replay replay = new Replay(trigger, plannedMillis, until);
+        trigger.replay = replay;
+        this.backlog.offer(replay);
+        this.backlogSize = this.backlog.size();
+    }
+
+    /**
+     * Dispatches as many queued catch-up fires as the bucket allows, one per job in turn.
+     *
+     * @param dispatcher the dispatcher
+     * @param nowMillis  the current time
+     * @return the number of dispatched fires
+     */
+    int replay(TriggerDispatcher dispatcher, long nowMillis) {
+        int dispatched = 0;
+        while (!this.backlog.isEmpty()) {
+            Replay replay = this.backlog.peek();
+            if (replay.trigger.isCancelled()) {
+                this.backlog.poll();
+                continue;
+            }
+            if (!this.bucket.tryAcquire()) {
+                break;
+            }
+
+            this.backlog.poll();
+            this.dispatch(dispatcher, replay, nowMillis);
+            dispatched++;
+
+            long next = replay.trigger.schedule().nextFireTime(replay.planned);
+            if (next != Schedule.NEVER && next <= replay.until) {
+                replay.planned = next;
+                this.backlog.offer(replay);
+            } else if (replay.next != null) {
+                replay.trigger.replay = replay.next;
+                this.backlog.offer(replay.next);
+            } else {
+                replay.trigger.replay = null;
+            }
+        }
+
+        this.backlogSize = this.backlog.size();
+
+        return dispatched;
+    }
+
+    public MisfireMetrics metrics() {
+        return MisfireMetrics.builder()
+            .misfired(this.misfired.sum())
+            .skipped(this.skipped.sum())
+            .replayed(this.replayed.sum())
+            .backlog(this.backlogSize)
+            .lagMillis(this.lagMillis)
+            .build();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void dispatch(TriggerDispatcher dispatcher, Replay replay, long nowMillis) {
+        long jobId = replay.trigger.jobId();
+        try {
+            dispatcher.dispatch(jobId, replay.planned);
+        } catch (Throwable e) {
+            log.error("riff: replay job:[{}] planned at:[{}] failed", jobId, replay.planned, e);
+        }
+
+        this.replayed.increment();
+        this.lagMillis = nowMillis - replay.planned;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code Replay}.
+     *
+     * <p>The catch-up cursor of one job: the next missed fire time and the last one to replay.
+     * Later misfire windows of the same job are chained through {@code next}.
+     *
+     * @author photowey
+     * @version 1.0.0
+     * @since 2026/10/17
+     */
+    static final class Replay {
+
+        private final JobTrigger trigger;
+        private long planned;
+        private long until;
+        private Replay next;
+
+        private Replay(JobTrigger trigger, long planned, long until) {
+            this.trigger = trigger;
+            this.planned = planned;
+            this.until = until;
+        }
+
+        private Replay tail() {
+            Replay tail = this;
+            while (tail.next != null) {
+                tail = tail.next;
+            }
+
+            return tail;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+/**
+ * {@code MisfirePolicy}.
+ *
+ * <p>What the {@link TriggerEngine} does with fire times it missed by more than the misfire
+ * threshold, e.g. across a restart or a long GC pause. Catch-up fires are rate limited by
+ * {@link MisfireCatchUp}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public enum MisfirePolicy {
+
+    /**
+     * Fire once for the whole missed range, then resume the schedule.
+     */
+    FIRE_ONCE_NOW,
+
+    /**
+     * Replay every missed fire time in order, then resume the schedule.
+     */
+    FIRE_ALL_MISSED,
+
+    /**
+     * Drop the missed fire times and resume with the next future one.
+     */
+    SKIP;
+
+    /**
+     * Resolves a stored policy name, falling back to {@link #FIRE_ONCE_NOW} for blank or unknown
+     * names.
+     *
+     * @param name the policy name, case-insensitive
+     * @return the policy
+     */
+    public static MisfirePolicy of(String name) {
+        if (name != null) {
+            for (MisfirePolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(name.trim())) {
+                    return policy;
+                }
+            }
+        }
+
+        return FIRE_ONCE_NOW;
+    }
+}
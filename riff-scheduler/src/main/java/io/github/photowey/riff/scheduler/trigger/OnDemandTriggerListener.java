@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+import java.time.Clock;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+import io.github.photowey.riff.scheduler.registry.JobRegistry;
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code OnDemandTriggerListener}.
+ *
+ * <p>Fires a job once for every {@link ChangeOperation#TRIGGER} change the {@link JobRegistry}
+ * applies, e.g. from {@code riffctl jobs trigger}. Every scheduler node tails the change log, so
+ * only the node that owns the job fires it.
+ *
+ * <p>Unlike the other changes, a trigger is not idempotent, and the change log tailer reads a few
+ * changes again at startup. Triggers requested before this listener was created are therefore
+ * skipped: they belonged to whichever node owned the job at the time.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Slf4j
+public class OnDemandTriggerListener implements Consumer<ChangeLog> {
+
+    private final TriggerEngine engine;
+    private final JobRegistry registry;
+    private final LongPredicate owns;
+    private final long startedAt;
+
+    /**
+     * @param engine   fires the jobs
+     * @param registry resolves the jobs, so deleted ones are not fired
+     * @param owns     tells whether this node owns a job, e.g. {@code ShardCoordinator::ownsJob}
+     * @param clock    marks the start, before which triggers are skipped
+     */
+    public OnDemandTriggerListener(TriggerEngine engine, JobRegistry registry, LongPredicate owns, Clock clock) {
+        this.engine = engine;
+        this.registry = registry;
+        this.owns = owns;
+        this.startedAt = clock.millis();
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void accept(ChangeLog change) {
+        if (change.getOperation() != ChangeOperation.TRIGGER || change.getEntity() != ChangeEntity.JOB) {
+            return;
+        }
+
+        long jobId = change.getEntityId();
+        if (change.getChangedAt() < this.startedAt) {
+            log.debug("riff: skip trigger of job:[{}] requested before startup, change:[{}]", jobId, change.getId());
+
+            return;
+        }
+        if (!this.owns.test(jobId)) {
+            return;
+        }
+        if (this.registry.job(jobId) == null) {
+            log.warn("riff: skip trigger of unknown job:[{}], change:[{}]", jobId, change.getId());
+
+            return;
+        }
+
+        this.engine.fireOnce(jobId);
+    }
+}
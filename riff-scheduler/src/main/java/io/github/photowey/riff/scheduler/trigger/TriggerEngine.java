@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.core.metric.MetricNames;
+import io.github.photowey.riff.core.metric.MetricTimer;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.github.photowey.riff.core.schedule.Schedule;
+import io.github.photowey.riff.scheduler.wheel.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code TriggerEngine}.
+ *
+ * <p>Drives a {@link TimingWheel} of {@link JobTrigger}s from a single thread. Each job's next fire
+ * time is computed once, when it is (re-)armed, so a tick only touches the jobs that are due.
+ * Registrations from other threads are queued and applied by the driver thread before each tick.
+ *
+ * <p>A fire found later than the misfire threshold is not dispatched inline but handed to
+ * {@link MisfireCatchUp}, which applies the job's {@link MisfirePolicy} and replays at a bounded
+ * rate, while the job itself resumes with its next future fire time.
+ *
+ * <p>{@link #fireOnce(long)} dispatches a job once outside its schedule, e.g. for a manual
+ * trigger, through the same dispatcher and on the same thread as scheduled fires.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class TriggerEngine {
+
+    private static final String DRIVER_THREAD_NAME = "riff-trigger-wheel";
+
+    private final Clock clock;
+    private final TimingWheel<JobTrigger> wheel;
+    private final TriggerDispatcher dispatcher;
+    private final MisfireCatchUp catchUp;
+    private final MetricTimer lagTimer;
+    private final MetricTimer dispatchTimer;
+
+    private final Map<Long, JobTrigger> triggers = new ConcurrentHashMap<>();
+    private final Queue<JobTrigger> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<JobTrigger> pendingRemovals = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> pendingFires = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<JobTrigger> overdue = new ArrayDeque<>();
+    private final Consumer<JobTrigger> fireHandler = this::fire;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private volatile Thread driver;
+    private long tickMillis;
+
+    public TriggerEngine(TriggerDispatcher dispatcher) {
+        this(Clock.systemUTC(), dispatcher);
+    }
+
+    public TriggerEngine(Clock clock, TriggerDispatcher dispatcher) {
+        this(clock, new TimingWheel<>(clock.millis()), dispatcher);
+    }
+
+    public TriggerEngine(Clock clock, TimingWheel<JobTrigger> wheel, TriggerDispatcher dispatcher) {
+        this(clock, wheel, dispatcher, new MisfireCatchUp());
+    }
+
+    public TriggerEngine(
+        Clock clock,
+        TimingWheel<JobTrigger> wheel,
+        TriggerDispatcher dispatcher,
+        MisfireCatchUp catchUp) {
+        this(clock, wheel, dispatcher, catchUp, RiffMetrics.NOOP);
+    }
+
+    /**
+     * @param clock      the clock
+     * @param wheel      the timing wheel, driven by this engine only
+     * @param dispatcher receives due triggers on the driver thread
+     * @param catchUp    replays misfired triggers
+     * @param metrics    where trigger lag, dispatch time and wheel occupancy are reported
+     */
+    public TriggerEngine(
+        Clock clock,
+        TimingWheel<JobTrigger> wheel,
+        TriggerDispatcher dispatcher,
+        MisfireCatchUp catchUp,
+        RiffMetrics metrics) {
+        this.clock = clock;
+        this.wheel = wheel;
+        this.dispatcher = dispatcher;
+        this.catchUp = catchUp;
+        this.lagTimer = metrics.timer(MetricNames.TRIGGER_LAG);
+        this.dispatchTimer = metrics.timer(MetricNames.TRIGGER_DISPATCH);
+        // sampled off the driver thread; a slightly stale int is fine for a gauge
+        for (int level = 0; level < wheel.levels(); level++) {
+            final int wheelLevel = level;
+            metrics.gauge(MetricNames.WHEEL_OCCUPANCY, wheel, it -> it.size(wheelLevel),
+                "level", String.valueOf(level));
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Registers (or replaces) the schedule of a job.
+     *
+     * @param jobId    the job id
+     * @param schedule the schedule
+     * @return {@code false} if the schedule never fires
+     */
+    public boolean schedule(long jobId, Schedule schedule) {
+        return this.schedule(jobId, schedule, MisfirePolicy.FIRE_ONCE_NOW, 0L);
+    }
+
+    public boolean schedule(long jobId, Schedule schedule, MisfirePolicy misfirePolicy) {
+        return this.schedule(jobId, schedule, misfirePolicy, 0L);
+    }
+
+    /**
+     * Registers (or replaces) the schedule of a job, resuming after its last fire, e.g. the latest
+     * {@code planned_at} in the trigger log after a restart. Fire times missed since then are
+     * handled by {@code misfirePolicy}.
+     *
+     * @param jobId          the job id
+     * @param schedule       the schedule
+     * @param misfirePolicy  the misfire policy
+     * @param lastFireMillis the last planned fire time, or {@code 0} to start from now
+     * @return {@code false} if the schedule never fires
+     */
+    public boolean schedule(long jobId, Schedule schedule, MisfirePolicy misfirePolicy, long lastFireMillis) {
+        long firstFireTime = schedule.nextFireTime(lastFireMillis > 0 ? lastFireMillis : this.clock.millis());
+        if (firstFireTime == Schedule.NEVER) {
+            this.unschedule(jobId);
+
+            return false;
+        }
+
+        JobTrigger trigger = new JobTrigger(jobId, schedule, misfirePolicy);
+        trigger.deadline(firstFireTime);
+
+        JobTrigger previous = this.triggers.put(jobId, trigger);
+        if (previous != null) {
+            this.cancel(previous);
+        }
+        this.pendingAdds.offer(trigger);
+
+        return true;
+    }
+
+    public boolean unschedule(long jobId) {
+        JobTrigger trigger = this.triggers.remove(jobId);
+        if (trigger == null) {
+            return false;
+        }
+
+        this.cancel(trigger);
+
+        return true;
+    }
+
+    /**
+     * Fires a job once, whether or not it is scheduled, without touching its schedule. The driver
+     * thread dispatches it on its next tick, planned at that tick.
+     *
+     * @param jobId the job id
+     */
+    public void fireOnce(long jobId) {
+        this.pendingFires.offer(jobId);
+        Thread thread = this.driver;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public boolean isScheduled(long jobId) {
+        return this.triggers.containsKey(jobId);
+    }
+
+    public int size() {
+        return this.triggers.size();
+    }
+
+    public MisfireMetrics misfireMetrics() {
+        return this.catchUp.metrics();
+    }
+
+    // ----------------------------------------------------------------
+
+    public void start() {
+        if (!this.running.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread thread = new Thread(this::loop, DRIVER_THREAD_NAME);
+        thread.setDaemon(true);
+        this.driver = thread;
+        thread.start();
+    }
+
+    public void shutdown() {
+        if (!this.running.compareAndSet(true, false)) {
+            return;
+        }
+
+        Thread thread = this.driver;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Applies pending registrations and fires everything due at {@code nowMillis}.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the number of fired triggers
+     */
+    int tick(long nowMillis) {
+        this.tickMillis = nowMillis;
+        this.drainPending();
+
+        int fired = this.wheel.advance(nowMillis, this.fireHandler);
+        JobTrigger trigger;
+        while ((trigger = this.overdue.poll()) != null) {
+            this.fire(trigger);
+            fired++;
+        }
+        Long jobId;
+        while ((jobId = this.pendingFires.poll()) != null) {
+            this.dispatch(jobId, nowMillis);
+            fired++;
+        }
+
+        return fired + this.catchUp.replay(this.dispatcher, nowMillis);
+    }
+
+    private void loop() {
+        while (this.running.get()) {
+            try {
+                this.tick(this.clock.millis());
+            } catch (Throwable e) {
+                log.error("riff: trigger engine tick failed", e);
+            }
+
+            long sleepMillis = this.wheel.nextTickMillis() - this.clock.millis();
+            if (sleepMillis > 0) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(sleepMillis));
+            }
+        }
+    }
+
+    private void drainPending() {
+        JobTrigger trigger;
+        while ((trigger = this.pendingRemovals.poll()) != null) {
+            this.wheel.remove(trigger);
+        }
+        while ((trigger = this.pendingAdds.poll()) != null) {
+            if (trigger.cancelled) {
+                continue;
+            }
+            if (!this.wheel.add(trigger)) {
+                this.overdue.offer(trigger);
+            }
+        }
+    }
+
+    private void fire(JobTrigger trigger) {
+        if (trigger.cancelled) {
+            return;
+        }
+
+        long plannedMillis = trigger.deadline();
+        if (this.catchUp.isMisfired(plannedMillis, this.tickMillis)) {
+            this.catchUp.onMisfire(trigger, plannedMillis, this.tickMillis);
+            this.rearm(trigger, trigger.schedule().nextFireTime(this.tickMillis));
+
+            return;
+        }
+
+        this.lagTimer.record(Math.max(0L, this.tickMillis - plannedMillis), TimeUnit.MILLISECONDS);
+        this.dispatch(trigger.jobId(), plannedMillis);
+
+        this.rearm(trigger, trigger.schedule().nextFireTime(plannedMillis));
+    }
+
+    private void dispatch(long jobId, long plannedMillis) {
+        final long dispatchStart = System.nanoTime();
+        try {
+            this.dispatcher.dispatch(jobId, plannedMillis);
+        } catch (Throwable e) {
+            log.error("riff: dispatch job:[{}] planned at:[{}] failed", jobId, plannedMillis, e);
+        }
+        this.dispatchTimer.record(System.nanoTime() - dispatchStart, TimeUnit.NANOSECONDS);
+    }
+
+    private void rearm(JobTrigger trigger, long nextFireTime) {
+        if (nextFireTime == Schedule.NEVER) {
+            this.triggers.remove(trigger.jobId(), trigger);
+
+            return;
+        }
+
+        trigger.deadline(nextFireTime);
+        if (!this.wheel.add(trigger)) {
+            this.overdue.offer(trigger);
+        }
+    }
+
+    private void cancel(JobTrigger trigger) {
+        trigger.cancelled = true;
+        this.pendingRemovals.offer(trigger);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.wheel;
+
+/**
+ * {@code TimerBucket}.
+ *
+ * <p>A slot of a {@link TimingWheel} level, holding a doubly-linked list of {@link TimerEntry}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+final class TimerBucket {
+
+    final int level;
+
+    private TimerEntry head;
+    private TimerEntry tail;
+
+    TimerBucket(int level) {
+        this.level = level;
+    }
+
+    void append(TimerEntry entry) {
+        entry.bucket = this;
+        entry.next = null;
+        entry.prev = this.tail;
+        if (this.tail == null) {
+            this.head = entry;
+        } else {
+            this.tail.next = entry;
+        }
+
+        this.tail = entry;
+    }
+
+    void remove(TimerEntry entry) {
+        TimerEntry prev = entry.prev;
+        TimerEntry next = entry.next;
+        if (prev == null) {
+            this.head = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            this.tail = prev;
+        } else {
+            next.prev = prev;
+        }
+
+        entry.bucket = null;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * Detaches the whole list, leaving the bucket empty.
+     *
+     * @return the former head, whose {@code next} links are still intact
+     */
+    TimerEntry detach() {
+        TimerEntry detached = this.head;
+        this.head = null;
+        this.tail = null;
+
+        return detached;
+    }
+
+    boolean isEmpty() {
+        return this.head == null;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.wheel;
+
+/**
+ * {@code TimerEntry}.
+ *
+ * <p>An intrusive node of a {@link TimingWheel} bucket. Subclasses carry the payload, so that
+ * re-arming an entry after it fires does not allocate.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class TimerEntry {
+
+    long deadline;
+    long tick;
+
+    TimerBucket bucket;
+    TimerEntry prev;
+    TimerEntry next;
+
+    public TimerEntry() {
+    }
+
+    public TimerEntry(long deadline) {
+        this.deadline = deadline;
+    }
+
+    public long deadline() {
+        return this.deadline;
+    }
+
+    public void deadline(long deadline) {
+        if (this.bucket != null) {
+            throw new IllegalStateException("Entry is still scheduled");
+        }
+
+        this.deadline = deadline;
+    }
+
+    public boolean isScheduled() {
+        return this.bucket != null;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.wheel;
+
+import java.util.function.Consumer;
+
+/**
+ * {@code TimingWheel}.
+ *
+ * <p>A hierarchical hashed timing wheel. Level {@code L} has {@code 2^bits} buckets of
+ * {@code tickMillis * 2^(bits * L)} each; an entry is placed at the highest level where its
+ * target tick differs from the current tick and is cascaded down when the clock reaches the start
+ * of its bucket. Advancing one tick therefore costs O(entries due + entries cascaded), independent
+ * of the total number of scheduled entries.
+ *
+ * <p>The wheel is not thread-safe; it is meant to be confined to a single driver thread.
+ *
+ * @param <E> the entry type
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class TimingWheel<E extends TimerEntry> {
+
+    public static final long DEFAULT_TICK_MILLIS = 100L;
+    public static final int DEFAULT_BITS = 6;
+    public static final int DEFAULT_LEVELS = 4;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int bits;
+    private final int levels;
+    private final long mask;
+    private final TimerBucket[][] buckets;
+    private final int[] levelSizes;
+
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long startMillis) {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_BITS, DEFAULT_LEVELS, startMillis);
+    }
+
+    public TimingWheel(long tickMillis, int bits, int levels, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (bits <= 0 || levels <= 0 || bits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Illegal wheel shape: bits=" + bits + ", levels=" + levels);
+        }
+
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.bits = bits;
+        this.levels = levels;
+        this.mask = (1L << bits) - 1;
+        this.buckets = new TimerBucket[levels][1 << bits];
+        this.levelSizes = new int[levels];
+        for (int level = 0; level < levels; level++) {
+            for (int index = 0; index < this.buckets[level].length; index++) {
+                this.buckets[level][index] = new TimerBucket(level);
+            }
+        }
+    }
+
+    /**
+     * Schedules the entry at its {@link TimerEntry#deadline()}.
+     *
+     * @param entry the entry to schedule, must not be scheduled already
+     * @return {@code false} if the deadline is already due, in which case the entry is not added
+     */
+    public boolean add(E entry) {
+        if (entry.bucket != null) {
+            throw new IllegalStateException("Entry is already scheduled");
+        }
+
+        entry.tick = Math.ceilDiv(entry.deadline - this.startMillis, this.tickMillis);
+        if (entry.tick <= this.currentTick) {
+            return false;
+        }
+
+        this.place(entry);
+        this.size++;
+
+        return true;
+    }
+
+    public boolean remove(E entry) {
+        TimerBucket bucket = entry.bucket;
+        if (bucket == null) {
+            return false;
+        }
+
+        bucket.remove(entry);
+        this.levelSizes[bucket.level]--;
+        this.size--;
+
+        return true;
+    }
+
+    /**
+     * Advances the clock tick by tick up to {@code nowMillis}, handing every expired entry to
+     * {@code expired}. Entries are detached before the handler is invoked, so it may re-add them.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @param expired   the expiry handler
+     * @return the number of expired entries
+     */
+    public int advance(long nowMillis, Consumer<? super E> expired) {
+        long target = Math.floorDiv(nowMillis - this.startMillis, this.tickMillis);
+        int fired = 0;
+        while (this.currentTick < target) {
+            if (this.size == 0) {
+                this.currentTick = target;
+                break;
+            }
+
+            this.currentTick++;
+            for (int level = this.levels - 1; level > 0; level--) {
+                if ((this.currentTick & ((1L << (level * this.bits)) - 1)) == 0) {
+                    fired += this.flush(this.bucketOf(level, this.currentTick), expired);
+                }
+            }
+
+            fired += this.flush(this.bucketOf(0, this.currentTick), expired);
+        }
+
+        return fired;
+    }
+
+    /**
+     * Returns the epoch millisecond at which the next tick begins.
+     *
+     * @return the next tick time
+     */
+    public long nextTickMillis() {
+        return this.startMillis + (this.currentTick + 1) * this.tickMillis;
+    }
+
+    public long tickMillis() {
+        return this.tickMillis;
+    }
+
+    public int levels() {
+        return this.levels;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int size(int level) {
+        return this.levelSizes[level];
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void place(E entry) {
+        long diff = entry.tick ^ this.currentTick;
+        int level = Math.min((Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / this.bits, this.levels - 1);
+
+        this.bucketOf(level, entry.tick).append(entry);
+        this.levelSizes[level]++;
+    }
+
+    private TimerBucket bucketOf(int level, long tick) {
+        return this.buckets[level][(int) ((tick >>> (level * this.bits)) & this.mask)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private int flush(TimerBucket bucket, Consumer<? super E> expired) {
+        if (bucket.isEmpty()) {
+            return 0;
+        }
+
+        int fired = 0;
+        TimerEntry cursor = bucket.detach();
+        while (cursor != null) {
+            final TimerEntry following = cursor.next;
+            this.levelSizes[bucket.level]--;
+            cursor.bucket = null;
+            cursor.prev = null;
+            cursor.next = null;
+
+            if (cursor.tick <= this.currentTick) {
+                this.size--;
+                fired++;
+                expired.accept((E) cursor);
+            } else {
+                this.place((E) cursor);
+            }
+
+            cursor = following;
+        }
+
+        return fired;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.workflow;
+
+/**
+ * {@code WorkflowDispatcher}.
+ *
+ * <p>Sends a ready workflow node to an executor. Called under the run's lock, so implementations
+ * must hand the work off quickly and never block. The trigger must carry {@code logId}, which the
+ * executor's callback echoes back to {@link WorkflowEngine#onCallback}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@FunctionalInterface
+public interface WorkflowDispatcher {
+
+    /**
+     * Dispatches a workflow node.
+     *
+     * @param jobId the job id
+     * @param logId the correlation id of this node run
+     */
+    void dispatch(long jobId, long logId);
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.workflow;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+import io.github.photowey.riff.core.dag.Dag;
+import io.github.photowey.riff.core.dag.DagExecution;
+import io.github.photowey.riff.core.dag.DagNodeStatus;
+import io.github.photowey.riff.core.dag.DagStep;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+import io.github.photowey.riff.storage.api.repository.WorkflowRunRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code WorkflowEngine}.
+ *
+ * <p>Runs job DAGs event-driven: a node is dispatched the moment the callback of its last
+ * parent arrives, instead of chaining stages through cron offsets. Transitions of one run are
+ * serialized on the run; different runs never contend.
+ *
+ * <p>Every node state is persisted through {@link WorkflowRunRepository} before its effects are
+ * applied, so {@link #recover(LongPredicate)} on the node taking over after a failover resumes a
+ * run without re-running finished nodes. Delivery is at-least-once: a node is marked running only
+ * after it was dispatched, and a node restored as running is dispatched again, since the crashed
+ * owner may have lost it or its callback. The log id of a node never changes, so whichever of two
+ * callbacks arrives second finds the node finished and is ignored.
+ *
+ * <p>Node dispatches use {@code logId = LOG_ID_TAG | nodeRunId}, disjoint from trigger log ids,
+ * so {@link #onCallback(CallbackResult)} can sit in front of the regular callback handling, e.g.
+ * as the fallback of a {@code BroadcastCallbackProcessor}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class WorkflowEngine {
+
+    public static final long LOG_ID_TAG = 1L << 62;
+
+    private final WorkflowRunRepository repository;
+    private final WorkflowDispatcher dispatcher;
+    private final Clock clock;
+
+    private final Map<Long, ActiveRun> runs = new ConcurrentHashMap<>();
+    private final Map<Long, NodeRef> nodes = new ConcurrentHashMap<>();
+
+    public WorkflowEngine(WorkflowRunRepository repository, WorkflowDispatcher dispatcher) {
+        this(repository, dispatcher, Clock.systemUTC());
+    }
+
+    public WorkflowEngine(WorkflowRunRepository repository, WorkflowDispatcher dispatcher, Clock clock) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Persists a new run of {@code dag} and dispatches its roots.
+     *
+     * @param dag the job graph
+     * @return the run id
+     */
+    public long start(Dag dag) {
+        WorkflowRun run = this.repository.create(WorkflowRun.builder()
+            .dag(dag.encode())
+            .startedAt(this.clock.millis())
+            .build(), dag.jobIds());
+
+        this.resume(run.getId(), dag);
+
+        return run.getId();
+    }
+
+    /**
+     * Resumes the unfinished runs that are not active on this node yet.
+     *
+     * @param owned selects the runs this node is responsible for, by run id
+     * @return the number of resumed runs
+     */
+    public int recover(LongPredicate owned) {
+        int recovered = 0;
+        for (WorkflowRun run : this.repository.findUnfinished()) {
+            long runId = run.getId();
+            if (this.runs.containsKey(runId) || !owned.test(runId)) {
+                continue;
+            }
+
+            this.resume(runId, Dag.parse(run.getDag()));
+            recovered++;
+        }
+
+        return recovered;
+    }
+
+    public int recover() {
+        return this.recover(runId -> true);
+    }
+
+    /**
+     * Applies the callback of a workflow node.
+     *
+     * @param result the callback
+     * @return {@code false} if the callback does not belong to a workflow node
+     */
+    public boolean onCallback(CallbackResult result) {
+        if (!isWorkflowLogId(result.getLogId())) {
+            return false;
+        }
+
+        NodeRef ref = this.nodes.get(result.getLogId());
+        if (ref == null || ref.run.execution.dag().jobId(ref.node) != result.getJobId()) {
+            log.warn("riff: ignored workflow callback, job:[{}] log:[{}]", result.getJobId(), result.getLogId());
+
+            return true;
+        }
+
+        ActiveRun run = ref.run;
+        synchronized (run) {
+            if (run.execution.status(ref.node) != DagNodeStatus.RUNNING) {
+                return true;
+            }
+
+            boolean success = result.getCode() == CallbackResult.SUCCESS;
+            DagNodeStatus status = success ? DagNodeStatus.SUCCESS : DagNodeStatus.FAILED;
+            this.repository.updateNode(
+                run.nodeIds[ref.node], DagNodeStatus.RUNNING.name(), status.name(), this.clock.millis());
+            this.apply(run, run.execution.complete(ref.node, success));
+        }
+
+        return true;
+    }
+
+    public int activeRuns() {
+        return this.runs.size();
+    }
+
+    public static boolean isWorkflowLogId(long logId) {
+        return (logId & LOG_ID_TAG) != 0;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void resume(long runId, Dag dag) {
+        List<WorkflowNodeRun> nodeRuns = this.repository.findNodes(runId);
+        ActiveRun run = new ActiveRun(runId, new DagExecution(dag));
+        synchronized (run) {
+            this.runs.put(runId, run);
+            for (WorkflowNodeRun nodeRun : nodeRuns) {
+                int node = dag.indexOf(nodeRun.getJobId());
+                run.nodeIds[node] = nodeRun.getId();
+                run.execution.restore(node, DagNodeStatus.valueOf(nodeRun.getStatus()));
+                this.nodes.put(LOG_ID_TAG | nodeRun.getId(), new NodeRef(run, node));
+            }
+
+            this.apply(run, run.execution.advance());
+            for (WorkflowNodeRun nodeRun : nodeRuns) {
+                int node = dag.indexOf(nodeRun.getJobId());
+                if (DagNodeStatus.RUNNING.name().equals(nodeRun.getStatus())
+                    && run.execution.status(node) == DagNodeStatus.RUNNING) {
+                    this.dispatch(run, node, DagNodeStatus.RUNNING, this.clock.millis());
+                }
+            }
+        }
+    }
+
+    /**
+     * Persists and dispatches the effects of one transition; called under the run's lock.
+     */
+    private void apply(ActiveRun run, DagStep step) {
+        long now = this.clock.millis();
+        for (int node : step.skipped()) {
+            this.repository.updateNode(
+                run.nodeIds[node], DagNodeStatus.PENDING.name(), DagNodeStatus.SKIPPED.name(), now);
+        }
+        for (int node : step.ready()) {
+            this.dispatch(run, node, DagNodeStatus.PENDING, now);
+        }
+
+        if (run.execution.isFinished() && this.runs.remove(run.runId, run)) {
+            for (long nodeId : run.nodeIds) {
+                this.nodes.remove(LOG_ID_TAG | nodeId);
+            }
+            String status = run.execution.isSucceeded() ? WorkflowRun.SUCCESS : WorkflowRun.FAILED;
+            this.repository.finish(run.runId, status, now);
+            log.info("riff: workflow run:[{}] finished:[{}]", run.runId, status);
+        }
+    }
+
+    /**
+     * Dispatches a node the execution already moved to running; called under the run's lock.
+     *
+     * @param persisted the persisted status of the node, {@code RUNNING} when re-dispatching a
+     *                  restored node
+     */
+    private void dispatch(ActiveRun run, int node, DagNodeStatus persisted, long now) {
+        long jobId = run.execution.dag().jobId(node);
+        long nodeId = run.nodeIds[node];
+        try {
+            this.dispatcher.dispatch(jobId, LOG_ID_TAG | nodeId);
+        } catch (RuntimeException e) {
+            log.error("riff: workflow run:[{}] dispatch job:[{}] failed", run.runId, jobId, e);
+            this.repository.updateNode(nodeId, persisted.name(), DagNodeStatus.FAILED.name(), now);
+            this.apply(run, run.execution.complete(node, false));
+
+            return;
+        }
+
+        if (persisted != DagNodeStatus.RUNNING) {
+            this.repository.updateNode(nodeId, persisted.name(), DagNodeStatus.RUNNING.name(), now);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code ActiveRun}.
+     *
+     * @author photowey
+     * @version 1.0.0
+     * @since 2026/10/17
+     */
+    private static final class ActiveRun {
+
+        private final long runId;
+        private final DagExecution execution;
+        private final long[] nodeIds;
+
+        private ActiveRun(long runId, DagExecution execution) {
+            this.runId = runId;
+            this.execution = execution;
+            this.nodeIds = new long[execution.dag().size()];
+        }
+    }
+
+    /**
+     * {@code NodeRef}.
+     *
+     * @param run  the active run
+     * @param node the node index within the run's graph
+     * @author photowey
+     * @version 1.0.0
+     * @since 2026/10/17
+     */
+    private record NodeRef(ActiveRun run, int node) {
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.core.schedule.JobPriority;
+import io.github.photowey.riff.scheduler.dispatch.DispatchMode;
+import io.github.photowey.riff.scheduler.dispatch.PriorityDispatchQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code PriorityDispatchBenchmark}.
+ *
+ * <p>Time until a high-priority trigger is dispatched while {@code lowBacklog} low-priority
+ * triggers are waiting. Every low-priority trigger dispatched in the meantime is offered again, so
+ * the backlog holds steady across invocations. {@code FIFO} puts the high-priority trigger in the
+ * same class as the backlog, which is how every trigger used to be treated: its latency grows with
+ * the backlog. With {@code STRICT} and {@code WEIGHTED} it stays flat, at one poll and at most the
+ * lower classes' weights of polls respectively.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriorityDispatchBenchmark {
+
+    static final long HIGH_JOB = -1L;
+
+    @Param({"FIFO", "STRICT", "WEIGHTED"})
+    String mode;
+
+    @Param({"0", "1000", "10000", "100000"})
+    int lowBacklog;
+
+    PriorityDispatchQueue<Long> queue;
+    JobPriority highClass;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean fifo = "FIFO".equals(this.mode);
+        this.queue = new PriorityDispatchQueue<>(fifo ? DispatchMode.STRICT : DispatchMode.valueOf(this.mode));
+        this.highClass = fifo ? JobPriority.LOW : JobPriority.HIGH;
+        for (long jobId = 0; jobId < this.lowBacklog; jobId++) {
+            this.queue.offer(jobId, JobPriority.LOW);
+        }
+    }
+
+    @Benchmark
+    public long highPriorityLatency() {
+        this.queue.offer(HIGH_JOB, this.highClass);
+        long overtaken = 0;
+        Long next = this.queue.poll();
+        while (next != HIGH_JOB) {
+            this.queue.offer(next, JobPriority.LOW);
+            overtaken++;
+            next = this.queue.poll();
+        }
+
+        return overtaken;
+    }
+}
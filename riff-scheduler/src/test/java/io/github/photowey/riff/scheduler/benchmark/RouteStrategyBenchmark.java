@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.scheduler.route.ExecutorGroup;
+import io.github.photowey.riff.scheduler.route.ExecutorNode;
+import io.github.photowey.riff.scheduler.route.RouteStrategies;
+import io.github.photowey.riff.scheduler.route.RouteStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code RouteStrategyBenchmark}.
+ *
+ * <p>Cost of one routing decision per strategy, from four dispatcher threads sharing the strategy
+ * and the executor group. Run with {@code -prof gc} to confirm the decision does not allocate.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RouteStrategyBenchmark {
+
+    @Param({"round-robin", "consistent-hash", "lfu", "lru", "failover", "least-pending"})
+    String strategyName;
+
+    @Param({"8", "64"})
+    int executors;
+
+    ExecutorGroup group;
+    RouteStrategy strategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        this.group = new ExecutorGroup();
+        for (int i = 0; i < this.executors; i++) {
+            this.group.onHeartbeat(Heartbeat.builder()
+                .app("bench")
+                .address("10.0.0." + i + ":7070")
+                .timestamp(System.currentTimeMillis())
+                .inFlight(random.nextInt(64))
+                .capacity(64)
+                .latencyMicros(500L + random.nextInt(10_000))
+                .build());
+        }
+        this.strategy = RouteStrategies.get(this.strategyName);
+    }
+
+    @Benchmark
+    public ExecutorNode route(JobCursor cursor) {
+        ExecutorNode node = this.group.route(cursor.next++, this.strategy);
+        node.onCompleted();
+
+        return node;
+    }
+
+    /**
+     * {@code JobCursor}.
+     */
+    @State(Scope.Thread)
+    public static class JobCursor {
+
+        long next;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.scheduler.wheel.TimerEntry;
+import io.github.photowey.riff.scheduler.wheel.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code TimingWheelTickBenchmark}.
+ *
+ * <p>Steady-state cost of one 100 ms tick with every job re-armed one hour ahead after it fires,
+ * i.e. roughly {@code jobs / 36000} due jobs per tick.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class TimingWheelTickBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int jobs;
+
+    TimingWheel<TimerEntry> wheel;
+    long now;
+    int fired;
+
+    final Consumer<TimerEntry> rearm = this::rearm;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.wheel = new TimingWheel<>(0L);
+        for (TimerEntry entry : TimingWheelBenchmark.entries(TimingWheelBenchmark.deadlines(this.jobs, 42L))) {
+            this.wheel.add(entry);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        this.now += TimingWheel.DEFAULT_TICK_MILLIS;
+        this.fired = 0;
+        this.wheel.advance(this.now, this.rearm);
+
+        return this.fired;
+    }
+
+    private void rearm(TimerEntry entry) {
+        this.fired++;
+        entry.deadline(entry.deadline() + TimingWheelBenchmark.HOUR_MILLIS);
+        this.wheel.add(entry);
+    }
+}
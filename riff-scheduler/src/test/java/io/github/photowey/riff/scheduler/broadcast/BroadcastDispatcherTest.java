@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.broadcast;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.client.RemotingException;
+import io.github.photowey.riff.riffctl.core.executor.JobExecutor;
+import io.github.photowey.riff.riffctl.core.executor.TriggerProcessor;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code BroadcastDispatcherTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class BroadcastDispatcherTest {
+
+    private static final List<String> ADDRESSES = List.of("a:1", "b:1", "c:1", "d:1");
+
+    @Test
+    void testBroadcast_assignsShardsAndReducesCallbacks() throws Exception {
+        Map<String, TriggerRequest> sent = new ConcurrentHashMap<>();
+        BroadcastDispatcher dispatcher = new BroadcastDispatcher((address, request) -> {
+            sent.put(address, request);
+
+            return CompletableFuture.completedFuture(null);
+        });
+
+        CompletableFuture<CallbackResult> future = dispatcher.broadcast(trigger(7L), ADDRESSES);
+        Assertions.assertEquals(ADDRESSES.size(), sent.size());
+        for (int shard = 0; shard < ADDRESSES.size(); shard++) {
+            TriggerRequest request = sent.get(ADDRESSES.get(shard));
+            Assertions.assertEquals(shard, request.getShardIndex());
+            Assertions.assertEquals(ADDRESSES.size(), request.getShardTotal());
+            Assertions.assertEquals(7L, request.getLogId());
+        }
+
+        for (int shard = ADDRESSES.size() - 1; shard >= 0; shard--) {
+            Assertions.assertFalse(future.isDone());
+            Assertions.assertTrue(dispatcher.onCallback(callback(7L, shard, CallbackResult.SUCCESS)));
+        }
+        Assertions.assertFalse(dispatcher.onCallback(callback(7L, 0, CallbackResult.SUCCESS)));
+        Assertions.assertEquals(CallbackResult.SUCCESS, future.get(1, TimeUnit.SECONDS).getCode());
+        Assertions.assertEquals(0, dispatcher.inFlight());
+    }
+
+    @Test
+    void testBroadcast_undeliveredShardFailsJob() throws Exception {
+        BroadcastDispatcher dispatcher = new BroadcastDispatcher((address, request) -> address.startsWith("b")
+            ? CompletableFuture.failedFuture(new RemotingException("connection refused"))
+            : CompletableFuture.completedFuture(null));
+
+        CompletableFuture<CallbackResult> future = dispatcher.broadcast(trigger(8L), ADDRESSES);
+        for (int shard : new int[] {0, 2, 3}) {
+            dispatcher.onCallback(callback(8L, shard, CallbackResult.SUCCESS));
+        }
+
+        CallbackResult result = future.get(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(CallbackResult.FAILURE, result.getCode());
+        Assertions.assertTrue(result.getMessage().contains("connection refused"));
+    }
+
+    @Test
+    void testBroadcast_timesOutMissingShards() throws Exception {
+        BroadcastDispatcher dispatcher = new BroadcastDispatcher(
+            (address, request) -> CompletableFuture.completedFuture(null), 50L);
+
+        CompletableFuture<CallbackResult> future = dispatcher.broadcast(trigger(9L), ADDRESSES);
+        dispatcher.onCallback(callback(9L, 1, CallbackResult.SUCCESS));
+
+        CallbackResult result = future.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(CallbackResult.FAILURE, result.getCode());
+        Assertions.assertTrue(result.getMessage().contains("timed out"));
+        Assertions.assertEquals(0, dispatcher.inFlight());
+        Assertions.assertFalse(dispatcher.onCallback(callback(9L, 0, CallbackResult.SUCCESS)));
+    }
+
+    @Test
+    void testBroadcast_cancelsTimeoutOnCompletion() throws Exception {
+        HashedWheelTimer delegate = new HashedWheelTimer();
+        List<Timeout> timeouts = new CopyOnWriteArrayList<>();
+        Timer timer = new Timer() {
+            @Override
+            public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+                Timeout timeout = delegate.newTimeout(task, delay, unit);
+                timeouts.add(timeout);
+
+                return timeout;
+            }
+
+            @Override
+            public Set<Timeout> stop() {
+                return delegate.stop();
+            }
+        };
+        BroadcastDispatcher dispatcher = new BroadcastDispatcher(
+            (address, request) -> CompletableFuture.completedFuture(null), 60_000L, timer);
+        try {
+            CompletableFuture<CallbackResult> future = dispatcher.broadcast(trigger(12L), ADDRESSES);
+            Assertions.assertFalse(timeouts.get(0).isCancelled());
+            for (int shard = 0; shard < ADDRESSES.size(); shard++) {
+                dispatcher.onCallback(callback(12L, shard, CallbackResult.SUCCESS));
+            }
+
+            Assertions.assertEquals(CallbackResult.SUCCESS, future.get(1, TimeUnit.SECONDS).getCode());
+            Assertions.assertTrue(timeouts.get(0).isCancelled());
+        } finally {
+            delegate.stop();
+        }
+    }
+
+    @Test
+    void testCallbackProcessor_dropsLateShardsAndForwardsOthers() {
+        List<CallbackResult> forwarded = new ArrayList<>();
+        BroadcastDispatcher dispatcher = new BroadcastDispatcher(
+            (address, request) -> CompletableFuture.completedFuture(null));
+        BroadcastCallbackProcessor processor = new BroadcastCallbackProcessor(dispatcher, forwarded::add);
+        dispatcher.broadcast(trigger(13L), ADDRESSES);
+        for (int shard = 0; shard < ADDRESSES.size(); shard++) {
+            processor.process(request(callback(13L, shard, CallbackResult.SUCCESS)));
+        }
+
+        processor.process(request(callback(13L, 2, CallbackResult.FAILURE)));
+        processor.process(request(callback(14L, 0, CallbackResult.SUCCESS)));
+
+        Assertions.assertEquals(1, forwarded.size());
+        Assertions.assertEquals(14L, forwarded.get(0).getLogId());
+        Assertions.assertTrue(dispatcher.isBroadcast(13L));
+        Assertions.assertFalse(dispatcher.isBroadcast(14L));
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void testBroadcast_emptyAddressesFails() {
+        BroadcastDispatcher dispatcher = new BroadcastDispatcher(
+            (address, request) -> CompletableFuture.completedFuture(null));
+
+        Assertions.assertTrue(dispatcher.broadcast(trigger(10L), List.of()).isCompletedExceptionally());
+    }
+
+    @Test
+    void testBroadcast_mapReduceOverRemoting() throws Exception {
+        int rows = 100_000;
+        int executors = 3;
+        AtomicLong sum = new AtomicLong();
+        NettyRemotingClient client = new NettyRemotingClient();
+        client.start();
+        BroadcastDispatcher dispatcher = new BroadcastDispatcher(new RemotingShardTransport(client));
+        NettyRemotingServer scheduler = new NettyRemotingServer("127.0.0.1", 0, 1);
+        scheduler.registerProcessor(RequestCode.CALLBACK, new BroadcastCallbackProcessor(dispatcher, result -> {
+        }));
+        scheduler.start();
+        String schedulerAddress = "127.0.0.1:" + scheduler.port();
+
+        List<NettyRemotingServer> servers = new ArrayList<>();
+        List<JobExecutor> jobExecutors = new ArrayList<>();
+        List<String> addresses = new ArrayList<>();
+        try {
+            for (int i = 0; i < executors; i++) {
+                JobExecutor executor = new JobExecutor(1, 1,
+                    result -> client.oneway(schedulerAddress, RequestCode.CALLBACK, result));
+                executor.register("sum", context -> {
+                    long partial = 0;
+                    for (int row = context.shardIndex(); row < rows; row += context.shardTotal()) {
+                        partial += row;
+                    }
+                    sum.addAndGet(partial);
+                });
+                NettyRemotingServer server = new NettyRemotingServer("127.0.0.1", 0, 1);
+                server.registerProcessor(RequestCode.TRIGGER, new TriggerProcessor(executor));
+                server.start();
+                servers.add(server);
+                jobExecutors.add(executor);
+                addresses.add("127.0.0.1:" + server.port());
+            }
+
+            CallbackResult result = dispatcher.broadcast(trigger(11L), addresses).get(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(CallbackResult.SUCCESS, result.getCode());
+            Assertions.assertEquals((long) rows * (rows - 1) / 2, sum.get());
+        } finally {
+            servers.forEach(NettyRemotingServer::shutdown);
+            jobExecutors.forEach(JobExecutor::shutdown);
+            scheduler.shutdown();
+            dispatcher.shutdown();
+            client.shutdown();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static TriggerRequest trigger(long logId) {
+        return TriggerRequest.builder()
+            .jobId(1L)
+            .logId(logId)
+            .handler("sum")
+            .build();
+    }
+
+    private static CallbackResult callback(long logId, int shardIndex, int code) {
+        return CallbackResult.builder()
+            .jobId(1L)
+            .logId(logId)
+            .code(code)
+            .message("code:" + code)
+            .shardIndex(shardIndex)
+            .build();
+    }
+
+    private static RemotingCommand request(CallbackResult result) {
+        return RemotingCommand.oneway(1L, RequestCode.CALLBACK, MessageCodecs.binary(), result);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.cluster;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.BitSet;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.scheduler.MutableClock;
+import io.github.photowey.riff.storage.api.domain.ShardLease;
+import io.github.photowey.riff.storage.api.memory.InMemoryShardLeaseRepository;
+import io.github.photowey.riff.storage.api.repository.ShardLeaseRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcShardLeaseRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code ShardCoordinatorTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class ShardCoordinatorTest {
+
+    private static final int SHARDS = 8;
+    private static final long TTL = 3_000L;
+    private static final long RENEW_INTERVAL = TTL / 3;
+
+    private final MutableClock clock = new MutableClock(0L);
+    private final InMemoryShardLeaseRepository repository = new InMemoryShardLeaseRepository();
+
+    @Test
+    void testHeartbeat_rebalanceAndFailover() {
+        this.repository.initialize(SHARDS);
+        BitSet ownedByA = new BitSet();
+        BitSet ownedByB = new BitSet();
+        ShardCoordinator nodeA = this.coordinator("node-a", this.repository, ownedByA);
+        ShardCoordinator nodeB = this.coordinator("node-b", this.repository, ownedByB);
+
+        nodeA.heartbeat();
+        Assertions.assertEquals(SHARDS, nodeA.ownedCount());
+
+        nodeB.heartbeat();
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        Assertions.assertEquals(SHARDS / 2, nodeA.ownedCount());
+        Assertions.assertEquals(SHARDS / 2, nodeB.ownedCount());
+        Assertions.assertFalse(ownedByA.intersects(ownedByB));
+
+        // node-a dies: its leases expire one TTL after its last renewal, and node-b picks them up
+        // on its first heartbeat after that, so takeover is bounded by TTL plus one renew interval.
+        long elapsed = 0;
+        while (nodeB.ownedCount() < SHARDS) {
+            Assertions.assertTrue(elapsed < TTL + RENEW_INTERVAL, "takeover took longer than TTL + renew interval");
+            this.clock.advance(RENEW_INTERVAL);
+            elapsed += RENEW_INTERVAL;
+            nodeB.heartbeat();
+        }
+
+        Assertions.assertTrue(elapsed >= TTL, "leases must not be taken over before they expire");
+        for (int shard = 0; shard < SHARDS; shard++) {
+            Assertions.assertFalse(nodeA.owns(shard), "stale owner must be fenced");
+        }
+    }
+
+    @Test
+    void testOwnsJob_fencedAfterLocalExpiry() {
+        this.repository.initialize(SHARDS);
+        ShardCoordinator node = this.coordinator("node-a", this.repository, new BitSet());
+        node.heartbeat();
+        Assertions.assertTrue(node.ownsJob(42L));
+
+        this.clock.advance(TTL);
+        Assertions.assertFalse(node.ownsJob(42L));
+
+        node.heartbeat();
+        Assertions.assertTrue(node.ownsJob(42L));
+    }
+
+    @Test
+    void testHeartbeat_nodesSharingOneDatabaseSplitAndFenceShards() {
+        // one DataSource, one repository per node, as two scheduler JVMs would have
+        DataSource dataSource = h2();
+        ShardLeaseRepository shared = new JdbcShardLeaseRepository(dataSource);
+        BitSet ownedByA = new BitSet();
+        BitSet ownedByB = new BitSet();
+        ShardCoordinator nodeA = this.coordinator("node-a", new JdbcShardLeaseRepository(dataSource), ownedByA);
+        ShardCoordinator nodeB = this.coordinator("node-b", shared, ownedByB);
+        shared.initialize(SHARDS);
+
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        Assertions.assertEquals(SHARDS / 2, nodeA.ownedCount());
+        Assertions.assertEquals(SHARDS / 2, nodeB.ownedCount());
+        Assertions.assertFalse(ownedByA.intersects(ownedByB));
+        long[] epochs = new long[SHARDS];
+        for (ShardLease lease : shared.findAll()) {
+            Assertions.assertEquals(ownedByA.get(lease.getShard()) ? "node-a" : "node-b", lease.getOwner());
+            epochs[lease.getShard()] = lease.getEpoch();
+        }
+
+        // node-a stalls past its lease; node-b takes the shards over under a new epoch.
+        for (long elapsed = 0; elapsed < TTL; elapsed += RENEW_INTERVAL) {
+            this.clock.advance(RENEW_INTERVAL);
+            nodeB.heartbeat();
+        }
+        Assertions.assertEquals(SHARDS, nodeB.ownedCount());
+        for (ShardLease lease : shared.findAll()) {
+            Assertions.assertEquals("node-b", lease.getOwner());
+            long bump = ownedByA.get(lease.getShard()) ? 1L : 0L;
+            Assertions.assertEquals(epochs[lease.getShard()] + bump, lease.getEpoch());
+        }
+
+        // node-a wakes up: its renewals are fenced off and it gets nothing back.
+        nodeA.heartbeat();
+        Assertions.assertEquals(0, nodeA.ownedCount());
+        Assertions.assertTrue(ownedByA.isEmpty());
+        Assertions.assertEquals(SHARDS, nodeB.ownedCount());
+    }
+
+    // ----------------------------------------------------------------
+
+    private ShardCoordinator coordinator(String node, ShardLeaseRepository leases, BitSet owned) {
+        return new ShardCoordinator(node, SHARDS, TTL, leases, new ShardListener() {
+            @Override
+            public void onAssigned(int shard, long epoch) {
+                owned.set(shard);
+            }
+
+            @Override
+            public void onRevoked(int shard) {
+                owned.clear(shard);
+            }
+        }, this.clock);
+    }
+
+    private static DataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE riff_shard_lease (shard INT NOT NULL, owner VARCHAR(128) DEFAULT NULL,"
+                + " epoch BIGINT NOT NULL DEFAULT 0, expires_at BIGINT NOT NULL DEFAULT 0, PRIMARY KEY (shard))");
+            statement.execute("CREATE TABLE riff_scheduler_node (node VARCHAR(128) NOT NULL,"
+                + " expires_at BIGINT NOT NULL, PRIMARY KEY (node))");
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: apply h2 schema failed", e);
+        }
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.dispatch;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import io.github.photowey.riff.core.schedule.JobPriority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code PriorityDispatchQueueTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class PriorityDispatchQueueTest {
+
+    @Test
+    void testPoll_strictServesHighestClassFirst() {
+        PriorityDispatchQueue<String> queue = new PriorityDispatchQueue<>(DispatchMode.STRICT);
+        queue.offer("low-1", JobPriority.LOW);
+        queue.offer("normal-1", JobPriority.NORMAL);
+        queue.offer("low-2", JobPriority.LOW);
+        queue.offer("high-1", JobPriority.HIGH);
+        queue.offer("high-2", JobPriority.HIGH);
+
+        Assertions.assertEquals(2, queue.depth(JobPriority.HIGH));
+        Assertions.assertEquals(5, queue.size());
+        for (String expected : new String[] {"high-1", "high-2", "normal-1", "low-1", "low-2"}) {
+            Assertions.assertEquals(expected, queue.poll());
+        }
+        Assertions.assertNull(queue.poll());
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testPoll_weightedSharesByWeight() {
+        PriorityDispatchQueue<JobPriority> queue =
+            new PriorityDispatchQueue<>(DispatchMode.WEIGHTED, new int[] {4, 2, 1});
+        for (int i = 0; i < 1_000; i++) {
+            for (JobPriority priority : JobPriority.values()) {
+                queue.offer(priority, priority);
+            }
+        }
+
+        Map<JobPriority, Integer> served = new EnumMap<>(JobPriority.class);
+        for (int i = 0; i < 700; i++) {
+            served.merge(queue.poll(), 1, Integer::sum);
+        }
+        Assertions.assertEquals(400, served.get(JobPriority.HIGH));
+        Assertions.assertEquals(200, served.get(JobPriority.NORMAL));
+        Assertions.assertEquals(100, served.get(JobPriority.LOW));
+    }
+
+    @Test
+    void testPoll_weightedIsWorkConserving() {
+        PriorityDispatchQueue<Integer> queue = new PriorityDispatchQueue<>(DispatchMode.WEIGHTED);
+        for (int i = 0; i < 100; i++) {
+            queue.offer(i, JobPriority.LOW);
+        }
+        queue.offer(-1, JobPriority.HIGH);
+
+        Assertions.assertEquals(-1, queue.poll());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, queue.poll());
+        }
+        Assertions.assertNull(queue.poll());
+    }
+
+    @Test
+    void testOffer_concurrentProducersLoseNothing() throws InterruptedException {
+        PriorityDispatchQueue<Long> queue = new PriorityDispatchQueue<>(DispatchMode.WEIGHTED);
+        int producers = 4;
+        int perProducer = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            JobPriority priority = JobPriority.of(p % JobPriority.count());
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    queue.offer(i, priority);
+                }
+            });
+            threads[p].start();
+        }
+
+        start.countDown();
+        long polled = 0;
+        while (polled < (long) producers * perProducer) {
+            if (queue.poll() != null) {
+                polled++;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertNull(queue.poll());
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testNew_rejectsBadWeights() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new PriorityDispatchQueue<>(DispatchMode.WEIGHTED, new int[] {1, 1}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new PriorityDispatchQueue<>(DispatchMode.WEIGHTED, new int[] {1, 0, 1}));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.dispatch;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.core.schedule.JobPriority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code PriorityTriggerDispatcherTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class PriorityTriggerDispatcherTest {
+
+    private static final long PAYMENT_JOB = 1L;
+
+    @Test
+    void testDispatch_highPriorityOvertakesBacklog() throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Long> dispatched = new CopyOnWriteArrayList<>();
+        PriorityTriggerDispatcher dispatcher = new PriorityTriggerDispatcher((jobId, plannedMillis) -> {
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dispatched.add(jobId);
+        }, jobId -> jobId == PAYMENT_JOB ? JobPriority.HIGH : JobPriority.LOW, DispatchMode.STRICT);
+        dispatcher.start();
+
+        // the first report trigger blocks the dispatch thread while the rest of the burst queues up
+        dispatcher.dispatch(100L, 0L);
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+        for (long jobId = 101L; jobId < 1_100L; jobId++) {
+            dispatcher.dispatch(jobId, 0L);
+        }
+        dispatcher.dispatch(PAYMENT_JOB, 0L);
+        Assertions.assertEquals(999, dispatcher.depth(JobPriority.LOW));
+        Assertions.assertEquals(1, dispatcher.depth(JobPriority.HIGH));
+
+        gate.countDown();
+        dispatcher.shutdown();
+
+        Assertions.assertEquals(1_001, dispatched.size());
+        Assertions.assertEquals(PAYMENT_JOB, dispatched.get(1));
+        Assertions.assertEquals(0, dispatcher.queued());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.photowey.riff.scheduler.MutableClock;
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.memory.InMemoryChangeLogRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobGroupRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobRepository;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code ChangeLogTailerTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class ChangeLogTailerTest {
+
+    private final InMemoryChangeLogRepository changeLog = new InMemoryChangeLogRepository();
+    private final AtomicInteger jobLoads = new AtomicInteger();
+    private final InMemoryJobRepository jobs = new InMemoryJobRepository(this.changeLog) {
+
+        @Override
+        public Optional<Job> findById(long id) {
+            ChangeLogTailerTest.this.jobLoads.incrementAndGet();
+
+            return super.findById(id);
+        }
+    };
+    private final JobRegistry registry = new JobRegistry(this.jobs, new InMemoryJobGroupRepository(this.changeLog));
+
+    @Test
+    void testPoll_refreshesOnlyChangedJobs() {
+        List<Job> created = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            created.add(this.jobs.save(job("job-" + i)));
+        }
+        ChangeLogTailer tailer = new ChangeLogTailer(this.changeLog, this.registry);
+        tailer.initialize();
+        for (Job job : created) {
+            Assertions.assertEquals(job.getName(), this.registry.job(job.getId()).getName());
+        }
+        Assertions.assertEquals(0, this.jobLoads.get());
+        Assertions.assertEquals(100, tailer.poll());
+        Assertions.assertEquals(0, tailer.poll());
+        Assertions.assertEquals(0, this.jobLoads.get());
+
+        Job changed = created.get(42);
+        changed.setName("renamed");
+        this.jobs.save(changed);
+        this.jobs.delete(created.get(7).getId());
+        List<ChangeLog> seen = new ArrayList<>();
+        this.registry.addListener(seen::add);
+
+        Assertions.assertEquals(2, tailer.poll());
+        Assertions.assertEquals(1, this.jobLoads.get());
+        Assertions.assertEquals("renamed", this.registry.job(changed.getId()).getName());
+        Assertions.assertEquals(2L, this.registry.job(changed.getId()).getVersion());
+        Assertions.assertNull(this.registry.job(created.get(7).getId()));
+        Assertions.assertEquals(2, seen.size());
+        Assertions.assertEquals(this.changeLog.maxId(), tailer.cursor());
+        Assertions.assertEquals(1.0D, this.registry.jobMetrics().getHitRate());
+    }
+
+    @Test
+    void testPoll_waitsForUncommittedGapThenSkipsIt() {
+        MutableClock clock = new MutableClock(1_000_000L);
+        List<ChangeLog> visible = new ArrayList<>();
+        ChangeLogRepository repository = new InMemoryChangeLogRepository() {
+
+            @Override
+            public List<ChangeLog> findAfter(long afterId, int limit) {
+                return visible.stream().filter(change -> change.getId() > afterId).limit(limit).toList();
+            }
+        };
+        final ChangeLogTailer tailer = new ChangeLogTailer(repository, this.registry, clock, 2, 1_000L);
+
+        visible.add(change(1L, clock));
+        visible.add(change(3L, clock));
+        visible.add(change(4L, clock));
+        Assertions.assertEquals(2, tailer.poll());
+        Assertions.assertEquals(1L, tailer.cursor());
+
+        visible.add(1, change(2L, clock));
+        Assertions.assertEquals(2, tailer.poll());
+        Assertions.assertEquals(4L, tailer.cursor());
+
+        visible.add(change(6L, clock));
+        Assertions.assertEquals(1, tailer.poll());
+        Assertions.assertEquals(4L, tailer.cursor());
+        clock.advance(1_000L);
+        Assertions.assertEquals(0, tailer.poll());
+        Assertions.assertEquals(6L, tailer.cursor());
+    }
+
+    @Test
+    void testInitialize_picksUpChangeCommittedOutOfOrderBeforeStartup() {
+        MutableClock clock = new MutableClock(1_000_000L);
+        List<ChangeLog> visible = new ArrayList<>();
+        ChangeLogRepository repository = new InMemoryChangeLogRepository() {
+
+            @Override
+            public List<ChangeLog> findAfter(long afterId, int limit) {
+                return visible.stream().filter(change -> change.getId() > afterId).limit(limit).toList();
+            }
+
+            @Override
+            public long maxId() {
+                return visible.get(visible.size() - 1).getId();
+            }
+        };
+        List<Long> applied = new ArrayList<>();
+        this.registry.addListener(change -> applied.add(change.getId()));
+        final ChangeLogTailer tailer = new ChangeLogTailer(repository, this.registry, clock, 100, 1_000L, 10);
+
+        // change 3 was assigned its id before 4 and 5 but is still committing while the tailer starts
+        visible.add(change(1L, clock));
+        visible.add(change(2L, clock));
+        visible.add(change(4L, clock));
+        visible.add(change(5L, clock));
+        tailer.initialize();
+        Assertions.assertEquals(4, tailer.poll());
+        Assertions.assertEquals(2L, tailer.cursor());
+
+        visible.add(2, change(3L, clock));
+        Assertions.assertEquals(1, tailer.poll());
+        Assertions.assertEquals(List.of(1L, 2L, 4L, 5L, 3L), applied);
+        Assertions.assertEquals(5L, tailer.cursor());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Job job(String name) {
+        return Job.builder()
+            .app("orders")
+            .name(name)
+            .handler("settle")
+            .enabled(true)
+            .build();
+    }
+
+    private static ChangeLog change(long id, Clock clock) {
+        return ChangeLog.builder()
+            .id(id)
+            .entity(ChangeEntity.JOB)
+            .entityId(id)
+            .version(1L)
+            .operation(ChangeOperation.UPSERT)
+            .changedAt(clock.millis())
+            .build();
+    }
+}
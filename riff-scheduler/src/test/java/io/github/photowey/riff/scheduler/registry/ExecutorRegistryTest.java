@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.registry;
+
+import java.util.List;
+
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.core.protocol.RegistryRequest;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import io.github.photowey.riff.scheduler.MutableClock;
+import io.github.photowey.riff.storage.api.domain.ExecutorRegistration;
+import io.github.photowey.riff.storage.api.memory.InMemoryExecutorRegistryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code ExecutorRegistryTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class ExecutorRegistryTest {
+
+    private static final long TTL_MILLIS = 1_000L;
+
+    private final MutableClock clock = new MutableClock(1_000_000L);
+    private final InMemoryExecutorRegistryRepository repository = new InMemoryExecutorRegistryRepository();
+
+    @Test
+    void testHeartbeats_persistOnlyMembershipChanges() {
+        ExecutorRegistry registry = this.registry("scheduler-1", RegistrySyncTransport.NOOP);
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 10; i++) {
+                registry.onHeartbeat(heartbeat("orders", "10.0.0." + i + ":9527"));
+            }
+            registry.tick();
+        }
+
+        ExecutorRegistryMetrics metrics = registry.metrics();
+        Assertions.assertEquals(1_000L, metrics.getHeartbeats());
+        Assertions.assertEquals(1L, metrics.getPersistedBatches());
+        Assertions.assertEquals(10L, metrics.getPersistedRows());
+        Assertions.assertEquals(10, this.repository.findAll().size());
+        Assertions.assertEquals(10, registry.group("orders").size());
+        Assertions.assertEquals("scheduler-1", this.repository.findAll().get(0).getOwner());
+    }
+
+    @Test
+    void testTick_evictsSilentExecutors() {
+        ExecutorRegistry registry = this.registry("scheduler-1", RegistrySyncTransport.NOOP);
+        registry.onHeartbeat(heartbeat("orders", "a:1"));
+        registry.onHeartbeat(heartbeat("orders", "b:1"));
+        registry.tick();
+
+        this.clock.advance(600L);
+        registry.onHeartbeat(heartbeat("orders", "a:1"));
+        registry.tick();
+        this.clock.advance(600L);
+        registry.tick();
+
+        Assertions.assertTrue(registry.contains("orders", "a:1"));
+        Assertions.assertFalse(registry.contains("orders", "b:1"));
+        Assertions.assertEquals("a:1", registry.group("orders").nodes()[0].address());
+        Assertions.assertEquals(List.of("a:1"), this.addresses());
+
+        this.clock.advance(500L);
+        registry.tick();
+
+        Assertions.assertEquals(0, registry.size());
+        Assertions.assertEquals(0, registry.group("orders").size());
+        Assertions.assertTrue(this.repository.findAll().isEmpty());
+        Assertions.assertEquals(2L, registry.metrics().getExpired());
+    }
+
+    @Test
+    void testPeerChanges_mirrorMembershipWithoutPersisting() {
+        InMemoryExecutorRegistryRepository peerRepository = new InMemoryExecutorRegistryRepository();
+        ExecutorRegistry peer = this.peer(peerRepository);
+        ExecutorRegistry registry = this.registry("scheduler-1", changes -> changes.forEach(peer::onPeerChange));
+
+        registry.onHeartbeat(heartbeat("orders", "a:1"));
+        registry.tick();
+        peer.tick();
+        Assertions.assertTrue(peer.contains("orders", "a:1"));
+        Assertions.assertEquals(1, peer.group("orders").size());
+
+        for (int i = 0; i < 5; i++) {
+            this.clock.advance(400L);
+            registry.onHeartbeat(heartbeat("orders", "a:1"));
+            registry.tick();
+            peer.tick();
+        }
+        Assertions.assertTrue(peer.contains("orders", "a:1"), "announcements keep the peer copy alive");
+
+        registry.onRegistry(RegistryRequest.builder().app("orders").address("a:1").unregister(true).build());
+        registry.tick();
+        peer.tick();
+        Assertions.assertFalse(peer.contains("orders", "a:1"));
+        Assertions.assertTrue(peerRepository.findAll().isEmpty());
+        Assertions.assertEquals(0L, peer.metrics().getPersistedBatches());
+    }
+
+    @Test
+    void testInitialize_restoresAndExpiresPersistedMembers() {
+        this.repository.registerAll(List.of(
+            ExecutorRegistration.builder().app("orders").address("a:1").owner("scheduler-0").build(),
+            ExecutorRegistration.builder().app("orders").address("b:1").owner("scheduler-0").build()));
+        ExecutorRegistry registry = this.registry("scheduler-1", RegistrySyncTransport.NOOP);
+        registry.initialize();
+        Assertions.assertEquals(2, registry.group("orders").size());
+
+        this.clock.advance(500L);
+        registry.onHeartbeat(heartbeat("orders", "a:1"));
+        registry.tick();
+        Assertions.assertEquals("scheduler-1", this.repository.findAll().get(0).getOwner());
+
+        this.clock.advance(600L);
+        registry.tick();
+        Assertions.assertEquals(List.of("a:1"), this.addresses());
+    }
+
+    @Test
+    void testRemotingSync_deliversChangesToPeers() throws Exception {
+        ExecutorRegistry peer = this.peer(new InMemoryExecutorRegistryRepository());
+        NettyRemotingServer server = new NettyRemotingServer("127.0.0.1", 0, 1);
+        server.registerProcessor(RequestCode.REGISTRY_SYNC, new ExecutorRegistryProcessor(peer));
+        server.start();
+        NettyRemotingClient client = new NettyRemotingClient();
+        client.start();
+        try {
+            ExecutorRegistry registry = this.registry(
+                "scheduler-1", new RemotingRegistrySync(client, List.of("127.0.0.1:" + server.port())));
+            for (int i = 0; i < 50; i++) {
+                registry.onHeartbeat(heartbeat("orders", "10.0.0." + i + ":9527"));
+            }
+            registry.tick();
+
+            long deadline = System.currentTimeMillis() + 5_000L;
+            while (peer.size() < 50 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            Assertions.assertEquals(50, peer.size());
+            Assertions.assertEquals(50, peer.group("orders").size());
+        } finally {
+            client.shutdown();
+            server.shutdown();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private ExecutorRegistry registry(String nodeId, RegistrySyncTransport transport) {
+        return new ExecutorRegistry(nodeId, TTL_MILLIS, this.repository, transport, this.clock);
+    }
+
+    private ExecutorRegistry peer(InMemoryExecutorRegistryRepository peerRepository) {
+        return new ExecutorRegistry("scheduler-2", TTL_MILLIS, peerRepository, RegistrySyncTransport.NOOP, this.clock);
+    }
+
+    private List<String> addresses() {
+        return this.repository.findAll().stream().map(ExecutorRegistration::getAddress).toList();
+    }
+
+    private Heartbeat heartbeat(String app, String address) {
+        return Heartbeat.builder()
+            .app(app)
+            .address(address)
+            .timestamp(this.clock.millis())
+            .capacity(16)
+            .build();
+    }
+}
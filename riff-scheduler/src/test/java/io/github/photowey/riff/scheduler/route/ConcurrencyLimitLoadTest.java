@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import io.github.photowey.riff.core.limit.AdaptiveLimit;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.executor.JobExecutor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code ConcurrencyLimitLoadTest}.
+ *
+ * <p>Two executors behind a backend that runs 8 jobs at a time take an open-loop load of 2000
+ * triggers per second, routed round-robin. Halfway through, one executor's handler slows down
+ * 10x, which leaves it able to finish 400 triggers per second while round-robin keeps sending it
+ * 1000. Without limits its queue, and with it the p99, grows for as long as the load lasts; with
+ * adaptive limits the slow executor's limit collapses and the excess is re-routed, so the p99 stays
+ * near the slowed service time.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class ConcurrencyLimitLoadTest {
+
+    private static final long TRIGGERS_PER_MILLI = 2L;
+    private static final long PHASE_NANOS = TimeUnit.MILLISECONDS.toNanos(1_000);
+    private static final long FAST_MILLIS = 2L;
+    private static final long SLOW_MILLIS = 20L;
+    private static final int BACKEND_PARALLELISM = 8;
+    private static final long HEARTBEAT_MILLIS = 5L;
+
+    @Test
+    void testRoute_p99StaysStableWhenAnExecutorSlowsDown() {
+        long limited = this.p99Millis(true);
+        long unlimited = this.p99Millis(false);
+
+        Assertions.assertTrue(limited < 150, "p99 with adaptive limits:" + limited + "ms");
+        Assertions.assertTrue(unlimited > 4 * limited,
+            "p99 without limits:" + unlimited + "ms, with:" + limited + "ms");
+    }
+
+    // ----------------------------------------------------------------
+
+    private long p99Millis(boolean adaptive) {
+        ExecutorGroup group = new ExecutorGroup();
+        Simulated slow = new Simulated("slow:1", adaptive);
+        Simulated fast = new Simulated("fast:1", adaptive);
+        Map<String, Simulated> executors = Map.of(slow.address, slow, fast.address, fast);
+        ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor();
+        heartbeats.scheduleAtFixedRate(() -> executors.values().forEach(executor -> group.onHeartbeat(
+            executor.executor.heartbeat("load", executor.address))), 0L, HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Driver driver = new Driver(group, executors);
+        try {
+            driver.run(slow);
+        } finally {
+            heartbeats.shutdownNow();
+            executors.values().forEach(executor -> executor.executor.shutdown());
+        }
+
+        return driver.p99Millis();
+    }
+
+    /**
+     * {@code Simulated}.
+     */
+    private static final class Simulated {
+
+        private final String address;
+        private final JobExecutor executor;
+        private final Semaphore backend = new Semaphore(BACKEND_PARALLELISM, true);
+        private volatile long serviceMillis = FAST_MILLIS;
+
+        private Simulated(String address, boolean adaptive) {
+            this.address = address;
+            this.executor = new JobExecutor(1, 1, JobExecutor.DEFAULT_MAX_PENDING_PER_JOB, null, result -> {
+            }, RiffMetrics.NOOP, adaptive ? new AdaptiveLimit() : null);
+            this.executor.register("work", context -> {
+                this.backend.acquire();
+                try {
+                    Thread.sleep(this.serviceMillis);
+                } finally {
+                    this.backend.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * {@code Driver}.
+     */
+    private static final class Driver {
+
+        private final ExecutorGroup group;
+        private final Map<String, Simulated> executors;
+        private final RouteStrategy strategy = new RoundRobinRouteStrategy();
+        private final Queue<Long> retries = new ConcurrentLinkedQueue<>();
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong completed = new AtomicLong();
+        private long jobIds;
+        private long slowSince = Long.MAX_VALUE;
+
+        private Driver(ExecutorGroup group, Map<String, Simulated> executors) {
+            this.group = group;
+            this.executors = executors;
+        }
+
+        void run(Simulated slowed) {
+            long start = System.nanoTime();
+            long created = 0L;
+            long deadline = start + 2 * PHASE_NANOS + TimeUnit.SECONDS.toNanos(10);
+            while (this.completed.get() < created || System.nanoTime() - start < 2 * PHASE_NANOS) {
+                long now = System.nanoTime();
+                Assertions.assertTrue(now < deadline, "load did not drain");
+                if (this.slowSince == Long.MAX_VALUE && now - start >= PHASE_NANOS) {
+                    slowed.serviceMillis = SLOW_MILLIS;
+                    this.slowSince = now;
+                }
+
+                for (int i = this.retries.size(); i > 0; i--) {
+                    this.dispatch(this.retries.poll());
+                }
+                long due = Math.min(now - start, 2 * PHASE_NANOS) * TRIGGERS_PER_MILLI / 1_000_000L;
+                for (; created < due; created++) {
+                    this.dispatch(now);
+                }
+                LockSupport.parkNanos(100_000L);
+            }
+        }
+
+        long p99Millis() {
+            List<Long> sorted = new ArrayList<>(this.latencies);
+            Collections.sort(sorted);
+
+            return TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99D)));
+        }
+
+        private void dispatch(long createdAt) {
+            ExecutorNode node = this.group.route(this.jobIds, this.strategy);
+            if (node == null) {
+                this.retries.add(createdAt);
+
+                return;
+            }
+
+            TriggerRequest request = TriggerRequest.builder()
+                .jobId(this.jobIds++)
+                .handler("work")
+                .build();
+            this.executors.get(node.address()).executor.execute(request).thenAccept(result -> {
+                node.onCompleted();
+                if (result.getCode() == CallbackResult.REJECTED) {
+                    this.retries.add(createdAt);
+
+                    return;
+                }
+
+                if (createdAt >= this.slowSince) {
+                    this.latencies.add(System.nanoTime() - createdAt);
+                }
+                this.completed.incrementAndGet();
+            });
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.route;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code RouteStrategyTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class RouteStrategyTest {
+
+    @Test
+    void testLeastPending_avoidsSaturatedAndSlowNodes() {
+        ExecutorGroup group = new ExecutorGroup();
+        group.onHeartbeat(heartbeat("a:1", 0, 1_000L));
+        group.onHeartbeat(heartbeat("b:1", 50, 1_000L));
+        group.onHeartbeat(heartbeat("c:1", 0, 100_000L));
+
+        RouteStrategy strategy = new LeastPendingRouteStrategy();
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals("a:1", group.route(i, strategy).address());
+        }
+        Assertions.assertEquals(20, group.node("a:1").pending());
+    }
+
+    @Test
+    void testLeastPending_spreadsAcrossIdleNodes() {
+        ExecutorGroup group = group(4);
+        RouteStrategy strategy = new LeastPendingRouteStrategy();
+
+        Set<String> chosen = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            chosen.add(group.route(i, strategy).address());
+        }
+        Assertions.assertEquals(4, chosen.size());
+
+        for (ExecutorNode node : group.nodes()) {
+            node.onCompleted();
+        }
+        group.node("node-2:1").suspend();
+        for (int i = 0; i < 16; i++) {
+            Assertions.assertNotEquals("node-2:1", group.route(i, strategy).address());
+        }
+    }
+
+    @Test
+    void testRoundRobin_cyclesThroughNodes() {
+        ExecutorGroup group = group(3);
+        RouteStrategy strategy = new RoundRobinRouteStrategy();
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            counts.merge(group.route(i, strategy).address(), 1, Integer::sum);
+        }
+        Assertions.assertEquals(Map.of("node-0:1", 10, "node-1:1", 10, "node-2:1", 10), counts);
+    }
+
+    @Test
+    void testConsistentHash_onlyMovesJobsOfRemovedNode() {
+        ExecutorGroup group = group(5);
+        RouteStrategy strategy = new ConsistentHashRouteStrategy();
+
+        Map<Long, String> before = new HashMap<>();
+        for (long jobId = 0; jobId < 2_000; jobId++) {
+            before.put(jobId, group.route(jobId, strategy).address());
+            Assertions.assertEquals(before.get(jobId), group.route(jobId, strategy).address());
+        }
+        Assertions.assertEquals(5, new HashSet<>(before.values()).size());
+
+        group.remove("node-3:1");
+        for (long jobId = 0; jobId < 2_000; jobId++) {
+            String now = group.route(jobId, strategy).address();
+            if (!"node-3:1".equals(before.get(jobId))) {
+                Assertions.assertEquals(before.get(jobId), now);
+            }
+            Assertions.assertNotEquals("node-3:1", now);
+        }
+    }
+
+    @Test
+    void testLeastFrequentlyAndRecentlyUsed_preferIdleNodes() {
+        ExecutorGroup group = group(3);
+        group.route(0L, new FailoverRouteStrategy());
+        group.route(0L, new FailoverRouteStrategy());
+
+        RouteStrategy lfu = new LeastFrequentlyUsedRouteStrategy();
+        RouteStrategy lru = new LeastRecentlyUsedRouteStrategy();
+        Assertions.assertEquals("node-1:1", group.route(1L, lfu).address());
+        Assertions.assertEquals("node-2:1", group.route(1L, lfu).address());
+        Assertions.assertEquals("node-1:1", group.route(1L, lfu).address());
+        Assertions.assertEquals("node-0:1", group.route(1L, lru).address());
+        Assertions.assertEquals("node-2:1", group.route(1L, lru).address());
+    }
+
+    @Test
+    void testFailover_skipsSuspendedUntilNextHeartbeat() {
+        ExecutorGroup group = group(3);
+        RouteStrategy strategy = new FailoverRouteStrategy();
+
+        Assertions.assertEquals("node-0:1", group.route(1L, strategy).address());
+        group.node("node-0:1").suspend();
+        Assertions.assertEquals("node-1:1", group.route(1L, strategy).address());
+        group.onHeartbeat(heartbeat("node-0:1", 0, 1_000L));
+        Assertions.assertEquals("node-0:1", group.route(1L, strategy).address());
+    }
+
+    @Test
+    void testRoute_everyStrategyAvoidsSuspendedNodes() {
+        for (RouteStrategy strategy : strategies()) {
+            ExecutorGroup group = group(4);
+            group.node("node-1:1").suspend();
+            for (long jobId = 0; jobId < 200; jobId++) {
+                ExecutorNode node = group.route(jobId, strategy);
+                Assertions.assertNotEquals("node-1:1", node.address(), strategy.name());
+                node.onCompleted();
+            }
+
+            for (String address : new String[] {"node-0:1", "node-2:1", "node-3:1"}) {
+                group.node(address).suspend();
+            }
+            Assertions.assertNull(group.route(1L, strategy), strategy.name());
+        }
+    }
+
+    @Test
+    void testConsistentHash_movesJobsOfSuspendedNodeUntilItHeartbeats() {
+        ExecutorGroup group = group(5);
+        RouteStrategy strategy = new ConsistentHashRouteStrategy();
+        Map<Long, String> before = new HashMap<>();
+        for (long jobId = 0; jobId < 2_000; jobId++) {
+            before.put(jobId, group.route(jobId, strategy).address());
+        }
+
+        group.node("node-3:1").suspend();
+        for (long jobId = 0; jobId < 2_000; jobId++) {
+            String now = group.route(jobId, strategy).address();
+            if (!"node-3:1".equals(before.get(jobId))) {
+                Assertions.assertEquals(before.get(jobId), now);
+            }
+            Assertions.assertNotEquals("node-3:1", now);
+        }
+        Assertions.assertEquals(0, group.rerouted());
+
+        group.onHeartbeat(heartbeat("node-3:1", 0, 1_000L));
+        for (long jobId = 0; jobId < 2_000; jobId++) {
+            Assertions.assertEquals(before.get(jobId), group.route(jobId, strategy).address());
+        }
+    }
+
+    @Test
+    void testRouteStrategies_resolveByName() {
+        Assertions.assertEquals(LeastPendingRouteStrategy.NAME, RouteStrategies.get(null).name());
+        for (String name : new String[] {RoundRobinRouteStrategy.NAME, ConsistentHashRouteStrategy.NAME,
+            LeastFrequentlyUsedRouteStrategy.NAME, LeastRecentlyUsedRouteStrategy.NAME, FailoverRouteStrategy.NAME,
+            LeastPendingRouteStrategy.NAME}) {
+            Assertions.assertEquals(name, RouteStrategies.get(name).name());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RouteStrategies.get("random"));
+        Assertions.assertNull(new ExecutorGroup().route(1L, RouteStrategies.defaultStrategy()));
+    }
+
+    @Test
+    void testRoute_reroutesThenDefersAtConcurrencyLimit() {
+        ExecutorGroup group = new ExecutorGroup();
+        group.onHeartbeat(limited("a:1", 2));
+        group.onHeartbeat(limited("b:1", 1));
+
+        RouteStrategy strategy = new FailoverRouteStrategy();
+        Assertions.assertEquals("a:1", group.route(1L, strategy).address());
+        Assertions.assertEquals("a:1", group.route(1L, strategy).address());
+        Assertions.assertEquals("b:1", group.route(1L, strategy).address());
+        Assertions.assertNull(group.route(1L, strategy));
+        Assertions.assertEquals(1, group.rerouted());
+        Assertions.assertEquals(1, group.deferred());
+
+        group.node("a:1").onCompleted();
+        Assertions.assertEquals("a:1", group.route(1L, strategy).address());
+        Assertions.assertEquals(2, group.node("a:1").pending());
+        Assertions.assertFalse(group.node("a:1").tryDispatch());
+    }
+
+    @Test
+    void testRoute_doesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ExecutorGroup group = group(16);
+        for (RouteStrategy strategy : strategies()) {
+            route(group, strategy, 100_000);
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            route(group, strategy, 100_000);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            Assertions.assertTrue(allocated < 1_024, strategy.name() + " allocated " + allocated + " bytes");
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static RouteStrategy[] strategies() {
+        return new RouteStrategy[] {new RoundRobinRouteStrategy(), new ConsistentHashRouteStrategy(),
+            new LeastFrequentlyUsedRouteStrategy(), new LeastRecentlyUsedRouteStrategy(), new FailoverRouteStrategy(),
+            new LeastPendingRouteStrategy()};
+    }
+
+    private static void route(ExecutorGroup group, RouteStrategy strategy, int times) {
+        for (int i = 0; i < times; i++) {
+            group.route(i, strategy).onCompleted();
+        }
+    }
+
+    private static ExecutorGroup group(int size) {
+        ExecutorGroup group = new ExecutorGroup();
+        for (int i = 0; i < size; i++) {
+            group.onHeartbeat(heartbeat("node-" + i + ":1", 0, 1_000L));
+        }
+
+        return group;
+    }
+
+    private static Heartbeat limited(String address, int concurrencyLimit) {
+        Heartbeat heartbeat = heartbeat(address, 0, 1_000L);
+        heartbeat.setConcurrencyLimit(concurrencyLimit);
+
+        return heartbeat;
+    }
+
+    private static Heartbeat heartbeat(String address, int inFlight, long latencyMicros) {
+        return Heartbeat.builder()
+            .app("app")
+            .address(address)
+            .timestamp(System.currentTimeMillis())
+            .inFlight(inFlight)
+            .latencyMicros(latencyMicros)
+            .build();
+    }
+}
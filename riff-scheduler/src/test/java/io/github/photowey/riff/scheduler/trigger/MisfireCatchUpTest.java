@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import io.github.photowey.riff.core.limit.TokenBucket;
+import io.github.photowey.riff.core.schedule.FixedRateSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code MisfireCatchUpTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class MisfireCatchUpTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Long> dispatched = new ArrayList<>();
+    private final TokenBucket bucket = new TokenBucket(1, 1, this.nanos::get);
+    private final MisfireCatchUp catchUp = new MisfireCatchUp(5_000L, this.bucket);
+
+    @Test
+    void testOnMisfire_fireOnceNowKeepsOnePendingFire() {
+        JobTrigger trigger = new JobTrigger(1L, FixedRateSchedule.of(1_000L, 1_000L), MisfirePolicy.FIRE_ONCE_NOW);
+        this.bucket.tryAcquire();
+
+        this.catchUp.onMisfire(trigger, 1_000L, 10_000L);
+        this.catchUp.onMisfire(trigger, 11_000L, 60_000L);
+        Assertions.assertEquals(1, this.catchUp.metrics().getBacklog());
+        this.drain();
+
+        Assertions.assertEquals(List.of(11_000L), this.dispatched);
+    }
+
+    @Test
+    void testOnMisfire_fireAllMissedReplaysEachWindowOnce() {
+        JobTrigger trigger = new JobTrigger(1L, FixedRateSchedule.of(1_000L, 1_000L), MisfirePolicy.FIRE_ALL_MISSED);
+        this.bucket.tryAcquire();
+
+        // the fires between the two windows were dispatched on time and must not be replayed
+        this.catchUp.onMisfire(trigger, 1_000L, 10_000L);
+        this.catchUp.onMisfire(trigger, 55_000L, 60_000L);
+        Assertions.assertEquals(1, this.catchUp.metrics().getBacklog());
+        this.drain();
+
+        List<Long> expected = new ArrayList<>(LongStream.rangeClosed(1, 10).map(i -> i * 1_000L).boxed().toList());
+        expected.addAll(LongStream.rangeClosed(55, 60).map(i -> i * 1_000L).boxed().toList());
+        Assertions.assertEquals(expected, this.dispatched);
+        Assertions.assertEquals(16L, this.catchUp.metrics().getReplayed());
+    }
+
+    // ----------------------------------------------------------------
+
+    private void drain() {
+        while (this.catchUp.metrics().getBacklog() > 0) {
+            this.nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            this.catchUp.replay((jobId, plannedMillis) -> this.dispatched.add(plannedMillis), 60_000L);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.photowey.riff.scheduler.MutableClock;
+import io.github.photowey.riff.scheduler.registry.ChangeLogTailer;
+import io.github.photowey.riff.scheduler.registry.JobRegistry;
+import io.github.photowey.riff.scheduler.wheel.TimingWheel;
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.memory.InMemoryChangeLogRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobGroupRepository;
+import io.github.photowey.riff.storage.api.memory.InMemoryJobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code OnDemandTriggerListenerTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class OnDemandTriggerListenerTest {
+
+    private final MutableClock clock = new MutableClock(10_000L);
+    private final InMemoryChangeLogRepository changeLog = new InMemoryChangeLogRepository();
+    private final InMemoryJobRepository jobs = new InMemoryJobRepository(this.changeLog);
+    private final JobRegistry registry = new JobRegistry(this.jobs, new InMemoryJobGroupRepository(this.changeLog));
+
+    @Test
+    void testTriggerChange_firesOwnedJobOnceThroughTheDispatcher() {
+        long owned = this.jobs.save(job("owned")).getId();
+        final long foreign = this.jobs.save(job("foreign")).getId();
+        List<long[]> dispatched = new ArrayList<>();
+        TriggerEngine engine = new TriggerEngine(this.clock, new TimingWheel<>(100L, 6, 4, 0L),
+            (jobId, plannedMillis) -> dispatched.add(new long[] {jobId, plannedMillis}));
+        ChangeLogTailer tailer = new ChangeLogTailer(this.changeLog, this.registry);
+        tailer.initialize();
+        this.registry.addListener(
+            new OnDemandTriggerListener(engine, this.registry, jobId -> jobId == owned, this.clock));
+
+        this.changeLog.append(trigger(owned, 9_000L));
+        this.changeLog.append(trigger(owned, 10_500L));
+        this.changeLog.append(trigger(foreign, 10_500L));
+        this.changeLog.append(trigger(999L, 10_500L));
+        tailer.poll();
+        Assertions.assertFalse(engine.isScheduled(owned));
+
+        Assertions.assertEquals(1, engine.tick(11_000L));
+        Assertions.assertEquals(1, dispatched.size());
+        Assertions.assertArrayEquals(new long[] {owned, 11_000L}, dispatched.get(0));
+        Assertions.assertEquals(0, engine.tick(12_000L));
+        Assertions.assertEquals(0, tailer.poll());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Job job(String name) {
+        return Job.builder().app("billing").name(name).handler("h").enabled(true).build();
+    }
+
+    private static ChangeLog trigger(long jobId, long changedAt) {
+        return ChangeLog.builder()
+            .entity(ChangeEntity.JOB)
+            .entityId(jobId)
+            .version(1L)
+            .operation(ChangeOperation.TRIGGER)
+            .changedAt(changedAt)
+            .build();
+    }
+}
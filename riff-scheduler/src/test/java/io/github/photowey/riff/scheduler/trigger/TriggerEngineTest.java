@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.trigger;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import io.github.photowey.riff.core.limit.TokenBucket;
+import io.github.photowey.riff.core.metric.MetricNames;
+import io.github.photowey.riff.core.metric.MicrometerRiffMetrics;
+import io.github.photowey.riff.core.schedule.FixedRateSchedule;
+import io.github.photowey.riff.scheduler.wheel.TimingWheel;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code TriggerEngineTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class TriggerEngineTest {
+
+    private static final Clock EPOCH = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Long> dispatched = new ArrayList<>();
+
+    @Test
+    void testTick_rearmFixedRate() {
+        List<Long> planned = new ArrayList<>();
+        TriggerEngine engine = new TriggerEngine(EPOCH, new TimingWheel<>(100L, 6, 4, 0L),
+            (jobId, plannedMillis) -> planned.add(plannedMillis));
+
+        engine.schedule(1L, FixedRateSchedule.of(1_000L, 1_000L));
+        for (long now = 0; now <= 5_000L; now += 100L) {
+            engine.tick(now);
+        }
+
+        Assertions.assertEquals(List.of(1_000L, 2_000L, 3_000L, 4_000L, 5_000L), planned);
+    }
+
+    @Test
+    void testTick_reportsLagDispatchAndOccupancy() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TriggerEngine engine = new TriggerEngine(EPOCH, new TimingWheel<>(100L, 6, 4, 0L),
+            (jobId, plannedMillis) -> this.dispatched.add(plannedMillis), new MisfireCatchUp(),
+            new MicrometerRiffMetrics(registry));
+
+        engine.schedule(1L, FixedRateSchedule.of(1_050L, 1_000L));
+        engine.tick(0L);
+        Assertions.assertEquals(1D, registry.get(MetricNames.WHEEL_OCCUPANCY).tag("level", "0").gauge().value());
+
+        engine.tick(1_100L);
+        Timer lag = registry.get(MetricNames.TRIGGER_LAG).timer();
+        Assertions.assertEquals(List.of(1_050L), this.dispatched);
+        Assertions.assertEquals(1L, lag.count());
+        Assertions.assertEquals(50D, lag.totalTime(TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(1L, registry.get(MetricNames.TRIGGER_DISPATCH).timer().count());
+    }
+
+    @Test
+    void testUnschedule() {
+        List<Long> fired = new ArrayList<>();
+        TriggerEngine engine = new TriggerEngine(EPOCH, new TimingWheel<>(100L, 6, 4, 0L),
+            (jobId, plannedMillis) -> fired.add(jobId));
+
+        engine.schedule(1L, FixedRateSchedule.of(500L, 500L));
+        engine.schedule(2L, FixedRateSchedule.of(500L, 500L));
+        engine.tick(500L);
+        engine.unschedule(1L);
+        engine.tick(1_000L);
+
+        Assertions.assertEquals(List.of(1L, 2L, 2L), fired);
+        Assertions.assertFalse(engine.isScheduled(1L));
+    }
+
+    @Test
+    void testMisfire_fireOnceNow() {
+        TriggerEngine engine = this.engine(EPOCH, 0L);
+        engine.schedule(1L, FixedRateSchedule.of(1_000L, 1_000L), MisfirePolicy.FIRE_ONCE_NOW);
+
+        engine.tick(60_000L);
+        engine.tick(61_000L);
+
+        Assertions.assertEquals(List.of(1_000L, 61_000L), this.dispatched);
+        Assertions.assertEquals(1L, engine.misfireMetrics().getReplayed());
+        Assertions.assertEquals(0, engine.misfireMetrics().getBacklog());
+    }
+
+    @Test
+    void testMisfire_skip() {
+        TriggerEngine engine = this.engine(EPOCH, 0L);
+        engine.schedule(1L, FixedRateSchedule.of(1_000L, 1_000L), MisfirePolicy.SKIP);
+
+        engine.tick(60_000L);
+        engine.tick(61_000L);
+
+        Assertions.assertEquals(List.of(61_000L), this.dispatched);
+        Assertions.assertEquals(1L, engine.misfireMetrics().getSkipped());
+    }
+
+    @Test
+    void testMisfire_fireAllMissedIsRateLimited() {
+        TriggerEngine engine = this.engine(EPOCH, 0L);
+        engine.schedule(1L, FixedRateSchedule.of(1_000L, 1_000L), MisfirePolicy.FIRE_ALL_MISSED);
+
+        engine.tick(100_000L);
+        Assertions.assertEquals(10, this.dispatched.size());
+        MisfireMetrics metrics = engine.misfireMetrics();
+        Assertions.assertEquals(1, metrics.getBacklog());
+        Assertions.assertEquals(90_000L, metrics.getLagMillis());
+
+        long now = 100_000L;
+        while (engine.misfireMetrics().getBacklog() > 0) {
+            this.nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            now += 100L;
+            Assertions.assertTrue(engine.tick(now) <= 10);
+        }
+        engine.tick(101_000L);
+
+        Assertions.assertEquals(LongStream.rangeClosed(1, 101).map(i -> i * 1_000L).boxed().toList(), this.dispatched);
+        Assertions.assertEquals(100L, engine.misfireMetrics().getReplayed());
+    }
+
+    @Test
+    void testSchedule_resumesAfterLastFire() {
+        TriggerEngine engine = this.engine(Clock.fixed(Instant.ofEpochMilli(60_000L), ZoneOffset.UTC), 60_000L);
+        engine.schedule(1L, FixedRateSchedule.of(0L, 1_000L), MisfirePolicy.FIRE_ALL_MISSED, 50_000L);
+
+        engine.tick(60_000L);
+        engine.tick(61_000L);
+
+        Assertions.assertEquals(LongStream.rangeClosed(51, 61).map(i -> i * 1_000L).boxed().toList(), this.dispatched);
+        Assertions.assertEquals(1L, engine.misfireMetrics().getMisfired());
+    }
+
+    // ----------------------------------------------------------------
+
+    private TriggerEngine engine(Clock clock, long startMillis) {
+        MisfireCatchUp catchUp = new MisfireCatchUp(5_000L, new TokenBucket(10, 10, this.nanos::get));
+
+        return new TriggerEngine(clock, new TimingWheel<>(100L, 6, 4, startMillis),
+            (jobId, plannedMillis) -> this.dispatched.add(plannedMillis), catchUp);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.wheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code TimingWheelTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class TimingWheelTest {
+
+    @Test
+    void testAdvance_fireEveryEntryOnItsTick() {
+        TimingWheel<TimerEntry> wheel = new TimingWheel<>(10L, 2, 3, 0L);
+        SplittableRandom random = new SplittableRandom(7L);
+        List<TimerEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            TimerEntry entry = new TimerEntry(1 + random.nextLong(5_000L));
+            entries.add(entry);
+            Assertions.assertTrue(wheel.add(entry));
+        }
+
+        List<TimerEntry> fired = new ArrayList<>();
+        for (long now = 0; now <= 5_010L; now += 10L) {
+            long tickEnd = now;
+            wheel.advance(now, entry -> {
+                Assertions.assertTrue(entry.deadline() <= tickEnd, "fired early");
+                Assertions.assertTrue(entry.deadline() > tickEnd - 10L, "fired late");
+                fired.add(entry);
+            });
+        }
+
+        Assertions.assertEquals(entries.size(), fired.size());
+        Assertions.assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    void testAdd_beyondTopLevelRange() {
+        TimingWheel<TimerEntry> wheel = new TimingWheel<>(1L, 1, 2, 0L);
+        TimerEntry far = new TimerEntry(1_000L);
+        wheel.add(far);
+
+        Assertions.assertEquals(0, wheel.advance(999L, entry -> { }));
+        Assertions.assertEquals(1, wheel.advance(1_000L, entry -> { }));
+    }
+
+    @Test
+    void testAdd_returnFalseWhenDue() {
+        TimingWheel<TimerEntry> wheel = new TimingWheel<>(10L, 6, 4, 0L);
+        wheel.advance(100L, entry -> { });
+
+        Assertions.assertFalse(wheel.add(new TimerEntry(95L)));
+        Assertions.assertTrue(wheel.add(new TimerEntry(101L)));
+    }
+
+    @Test
+    void testRemove() {
+        TimingWheel<TimerEntry> wheel = new TimingWheel<>(10L, 6, 4, 0L);
+        TimerEntry entry = new TimerEntry(1_000_000L);
+        wheel.add(entry);
+
+        Assertions.assertTrue(wheel.remove(entry));
+        Assertions.assertFalse(entry.isScheduled());
+        Assertions.assertEquals(0, wheel.advance(2_000_000L, fired -> Assertions.fail("removed entry fired")));
+    }
+}
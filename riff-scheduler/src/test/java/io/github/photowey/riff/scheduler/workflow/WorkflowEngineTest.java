@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.scheduler.workflow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.photowey.riff.core.dag.Dag;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.scheduler.MutableClock;
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+import io.github.photowey.riff.storage.api.memory.InMemoryWorkflowRunRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code WorkflowEngineTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class WorkflowEngineTest {
+
+    private final MutableClock clock = new MutableClock(1_000L);
+    private final InMemoryWorkflowRunRepository repository = new InMemoryWorkflowRunRepository();
+    private final List<long[]> dispatched = new ArrayList<>();
+
+    @Test
+    void testOnCallback_dispatchesChildWhenAllParentsSucceed() {
+        WorkflowEngine engine = this.engine();
+        final long runId = engine.start(Dag.builder().edge(1, 3).edge(2, 3).edge(3, 4).build());
+        Assertions.assertEquals(List.of(1L, 2L), this.dispatchedJobs());
+
+        Assertions.assertTrue(engine.onCallback(this.callback(1, CallbackResult.SUCCESS)));
+        Assertions.assertEquals(2, this.dispatched.size());
+        engine.onCallback(this.callback(2, CallbackResult.SUCCESS));
+        engine.onCallback(this.callback(2, CallbackResult.SUCCESS));
+        Assertions.assertEquals(List.of(1L, 2L, 3L), this.dispatchedJobs());
+
+        engine.onCallback(this.callback(3, CallbackResult.SUCCESS));
+        engine.onCallback(this.callback(4, CallbackResult.SUCCESS));
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), this.dispatchedJobs());
+        Assertions.assertEquals(0, engine.activeRuns());
+        Assertions.assertEquals(WorkflowRun.SUCCESS, this.repository.findById(runId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testOnCallback_failureSkipsDescendantsAndFailsRun() {
+        WorkflowEngine engine = this.engine();
+        final long runId = engine.start(Dag.builder().edge(1, 2).edge(2, 3).build());
+
+        engine.onCallback(this.callback(1, CallbackResult.FAILURE));
+
+        Assertions.assertEquals(List.of(1L), this.dispatchedJobs());
+        Assertions.assertEquals(List.of("FAILED", "SKIPPED", "SKIPPED"), this.statuses(runId));
+        Assertions.assertEquals(WorkflowRun.FAILED, this.repository.findById(runId).orElseThrow().getStatus());
+        Assertions.assertFalse(engine.onCallback(CallbackResult.builder().jobId(1L).logId(42L).build()));
+    }
+
+    @Test
+    void testRecover_resumesWithoutRerunningFinishedNodes() {
+        WorkflowEngine crashed = this.engine();
+        final long runId = crashed.start(Dag.builder().edge(1, 3).edge(2, 3).build());
+        CallbackResult first = this.callback(1, CallbackResult.SUCCESS);
+        crashed.onCallback(first);
+        final CallbackResult second = this.callback(2, CallbackResult.SUCCESS);
+        this.dispatched.clear();
+
+        // the node taking over receives the callback that the crashed one never applied
+        WorkflowEngine survivor = this.engine();
+        Assertions.assertEquals(1, survivor.recover());
+        Assertions.assertEquals(0, survivor.recover());
+        Assertions.assertEquals(List.of(2L), this.dispatchedJobs());
+
+        survivor.onCallback(second);
+        Assertions.assertEquals(List.of(2L, 3L), this.dispatchedJobs());
+        survivor.onCallback(first);
+        survivor.onCallback(this.callback(3, CallbackResult.SUCCESS));
+        Assertions.assertEquals(List.of("SUCCESS", "SUCCESS", "SUCCESS"), this.statuses(runId));
+        Assertions.assertTrue(this.repository.findUnfinished().isEmpty());
+    }
+
+    @Test
+    void testRecover_redispatchesNodesPersistedAsRunning() {
+        WorkflowEngine crashed = this.engine();
+        final long runId = crashed.start(Dag.builder().edge(1, 2).build());
+        final CallbackResult lost = this.callback(1, CallbackResult.SUCCESS);
+        this.dispatched.clear();
+
+        // the owner crashed after marking job 1 running, and its executor never reported back
+        WorkflowEngine survivor = this.engine();
+        Assertions.assertEquals(1, survivor.recover());
+        Assertions.assertEquals(List.of(1L), this.dispatchedJobs());
+        Assertions.assertEquals(lost.getLogId(), this.dispatched.get(0)[1]);
+        Assertions.assertEquals(List.of("RUNNING", "PENDING"), this.statuses(runId));
+
+        survivor.onCallback(this.callback(1, CallbackResult.SUCCESS));
+        survivor.onCallback(lost);
+        Assertions.assertEquals(List.of(1L, 2L), this.dispatchedJobs());
+
+        survivor.onCallback(this.callback(2, CallbackResult.SUCCESS));
+        Assertions.assertEquals(List.of("SUCCESS", "SUCCESS"), this.statuses(runId));
+        Assertions.assertEquals(0, survivor.activeRuns());
+    }
+
+    @Test
+    void testRecover_failsNodeWhenRedispatchFails() {
+        WorkflowEngine crashed = this.engine();
+        final long runId = crashed.start(Dag.builder().edge(1, 2).build());
+
+        WorkflowEngine survivor = new WorkflowEngine(this.repository, (jobId, logId) -> {
+            throw new IllegalStateException("riff: no executor");
+        }, this.clock);
+        survivor.recover();
+
+        Assertions.assertEquals(List.of("FAILED", "SKIPPED"), this.statuses(runId));
+        Assertions.assertEquals(WorkflowRun.FAILED, this.repository.findById(runId).orElseThrow().getStatus());
+    }
+
+    // ----------------------------------------------------------------
+
+    private WorkflowEngine engine() {
+        return new WorkflowEngine(
+            this.repository, (jobId, logId) -> this.dispatched.add(new long[] {jobId, logId}), this.clock);
+    }
+
+    private CallbackResult callback(long jobId, int code) {
+        long logId = this.dispatched.stream()
+            .filter(dispatch -> dispatch[0] == jobId)
+            .mapToLong(dispatch -> dispatch[1])
+            .reduce((first, last) -> last)
+            .orElseThrow();
+
+        return CallbackResult.builder().jobId(jobId).logId(logId).code(code).build();
+    }
+
+    private List<Long> dispatchedJobs() {
+        return this.dispatched.stream().map(dispatch -> dispatch[0]).toList();
+    }
+
+    private List<String> statuses(long runId) {
+        return this.repository.findNodes(runId).stream().map(WorkflowNodeRun::getStatus).toList();
+    }
+}
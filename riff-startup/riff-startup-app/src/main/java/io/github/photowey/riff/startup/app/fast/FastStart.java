@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.startup.app.fast;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * {@code FastStart}.
+ *
+ * <p>The fast-start mode, enabled by {@code riff.startup.fast=true} as an argument, system property
+ * or {@code RIFF_STARTUP_FAST}. It is decided before the context exists, so it cannot come from
+ * application config files.
+ *
+ * <ul>
+ *   <li>every bean is initialized lazily, on first use, except {@code @Lazy(false)} beans;</li>
+ *   <li>{@link BackgroundInit} beans, the heavy infrastructure, are initialized at once and
+ *   concurrently, on {@link FastStartConfiguration#bootstrapExecutor()};</li>
+ *   <li>startup steps are buffered and summarized after the banner, and stay available at
+ *   {@code /actuator/startup}.</li>
+ * </ul>
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Slf4j
+public final class FastStart {
+
+    public static final String ENABLED_PROPERTY = "riff.startup.fast";
+
+    private static final int TIMELINE_CAPACITY = 10_000;
+    private static final int SLOWEST_BEANS = 10;
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    private static final String BEAN_NAME_TAG = "beanName";
+
+    private FastStart() {
+        throw new AssertionError("No " + FastStart.class.getName() + " instances for you!");
+    }
+
+    public static boolean isEnabled(String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+
+        return environment.getProperty(ENABLED_PROPERTY, Boolean.class, false);
+    }
+
+    /**
+     * Switches a builder to fast-start.
+     *
+     * @param builder the application builder
+     * @return the startup recorder, to {@link #report(BufferingApplicationStartup)} once started
+     */
+    public static BufferingApplicationStartup apply(SpringApplicationBuilder builder) {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(TIMELINE_CAPACITY);
+        builder.lazyInitialization(true)
+            .applicationStartup(startup)
+            .sources(FastStartConfiguration.class);
+
+        return startup;
+    }
+
+    /**
+     * Logs the duration of each top-level startup phase and the slowest bean instantiations.
+     * Bean durations include the beans they pulled in.
+     *
+     * @param startup the startup recorder
+     */
+    public static void report(BufferingApplicationStartup startup) {
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        List<String> phases = new ArrayList<>();
+        List<StartupTimeline.TimelineEvent> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            if (step.getParentId() == null) {
+                phases.add(String.format("%n\t  %-48s %6d ms", step.getName(), event.getDuration().toMillis()));
+            } else if (BEAN_INSTANTIATE_STEP.equals(step.getName())) {
+                beans.add(event);
+            }
+        }
+
+        StringBuilder slowest = new StringBuilder();
+        beans.stream()
+            .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+            .limit(SLOWEST_BEANS)
+            .forEach(event -> slowest.append(String.format("%n\t  %-48s %6d ms",
+                beanName(event.getStartupStep()), event.getDuration().toMillis())));
+
+        log.info("\n----------------------------------------------------------\n\t"
+                + "Fast start: [{}] steps recorded, phases:{}\n\t"
+                + "Slowest beans:{}\n----------------------------------------------------------",
+            timeline.getEvents().size(), String.join("", phases), slowest);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+
+        return step.getName();
+    }
+}
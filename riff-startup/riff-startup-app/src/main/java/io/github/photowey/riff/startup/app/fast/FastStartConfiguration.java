@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.startup.app.fast;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.type.MethodMetadata;
+
+/**
+ * {@code FastStartConfiguration}.
+ *
+ * <p>Registered by {@link FastStart#apply} only. Turns {@link BackgroundInit} beans into eager
+ * {@code BACKGROUND} bootstrap beans, which Spring creates concurrently on
+ * {@link #bootstrapExecutor()} while the main thread carries on with the rest of the context.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Configuration(proxyBeanMethods = false)
+public class FastStartConfiguration {
+
+    private static final String BOOTSTRAP_THREAD_PREFIX = "riff-bootstrap-";
+
+    @Bean(name = ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+    public Executor bootstrapExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(BOOTSTRAP_THREAD_PREFIX);
+        executor.setConcurrencyLimit(Runtime.getRuntime().availableProcessors());
+        executor.setDaemon(true);
+
+        return executor;
+    }
+
+    /**
+     * Runs after lazy initialization was applied to every bean. The configuration class declaring
+     * a background bean is made eager too, so the main thread creates it before the background
+     * thread needs it.
+     *
+     * @return the post processor
+     */
+    @Bean
+    public static BeanFactoryPostProcessor backgroundInitPostProcessor() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (!(definition instanceof AnnotatedBeanDefinition annotated)
+                    || !(definition instanceof AbstractBeanDefinition background)) {
+                    continue;
+                }
+
+                MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+                if (factoryMethod == null || !factoryMethod.isAnnotated(BackgroundInit.class.getName())) {
+                    continue;
+                }
+
+                background.setBackgroundInit(true);
+                background.setLazyInit(false);
+                if (background.getFactoryBeanName() != null) {
+                    beanFactory.getBeanDefinition(background.getFactoryBeanName()).setLazyInit(false);
+                }
+            }
+        };
+    }
+}
@@ -19,12 +19,14 @@ package io.github.photowey.riff.startup.app.logging;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import io.github.photowey.riff.startup.app.fast.FastStart;
 import io.github.photowey.riff.startup.core.domain.logging.context.DocumentContext;
 import io.github.photowey.riff.startup.core.event.ApplicationStartedLocalEvent;
 import io.github.photowey.riff.startup.printer.logging.StartupPrinter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.Banner;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.util.StopWatch;
@@ -32,6 +34,8 @@ import org.springframework.util.StopWatch;
 /**
  * {@code StartupApplication}.
  *
+ * <p>Runs in {@link FastStart fast-start} mode when {@code riff.startup.fast=true}.
+ *
  * @author photowey
  * @version 1.0.0
  * @since 2025/07/11
@@ -70,6 +74,7 @@ public class StartupApplication {
         SpringApplicationBuilder applicationBuilder = new SpringApplicationBuilder(primarySource)
             .bannerMode(Banner.Mode.CONSOLE)
             .logStartupInfo(true);
+        BufferingApplicationStartup startup = FastStart.isEnabled(args) ? FastStart.apply(applicationBuilder) : null;
 
         fx.accept(applicationBuilder);
 
@@ -78,6 +83,9 @@ public class StartupApplication {
             .run(args);
 
         StartupPrinter.print(applicationContext, dfx.get());
+        if (startup != null) {
+            FastStart.report(startup);
+        }
         watch.stop();
         publishEvent(applicationContext);
 
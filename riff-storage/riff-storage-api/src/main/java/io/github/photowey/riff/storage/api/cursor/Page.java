@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.cursor;
+
+import java.util.List;
+
+/**
+ * {@code Page}.
+ *
+ * <p>One keyset page: the following page is read by seeking past {@code next}, which costs the
+ * same however deep the page is, unlike {@code OFFSET} that reads and discards every skipped row.
+ *
+ * @param items the items
+ * @param next  the cursor of the following page, {@code null} if this is the last one
+ * @param <T>   the item type
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public record Page<T>(List<T> items, String next) {
+
+    public boolean hasNext() {
+        return this.next != null;
+    }
+}
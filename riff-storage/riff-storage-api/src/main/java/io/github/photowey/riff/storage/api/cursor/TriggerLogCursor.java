@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.cursor;
+
+import java.util.Comparator;
+
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+
+/**
+ * {@code TriggerLogCursor}.
+ *
+ * <p>The position of a trigger log in newest-first {@code (plannedAt, id)} order, encoded as
+ * {@code plannedAt:id} in APIs.
+ *
+ * @param plannedAt the planned fire time
+ * @param id        the log id
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public record TriggerLogCursor(long plannedAt, long id) {
+
+    public static final Comparator<TriggerLogCursor> NEWEST_FIRST =
+        Comparator.comparingLong(TriggerLogCursor::plannedAt).thenComparingLong(TriggerLogCursor::id).reversed();
+
+    public static TriggerLogCursor of(TriggerLog log) {
+        return new TriggerLogCursor(log.getPlannedAt(), log.getId());
+    }
+
+    /**
+     * Finds where a query starts in newest-first order: right after its cursor, or right after its
+     * upper {@code plannedAt} bound if that comes later.
+     *
+     * @param query the query
+     * @return the exclusive start key, e.g. for {@link java.util.NavigableSet#tailSet(Object, boolean)}
+     */
+    public static TriggerLogCursor startOf(TriggerLogQuery query) {
+        TriggerLogCursor upper = new TriggerLogCursor(query.getTo(), Long.MIN_VALUE);
+        TriggerLogCursor after = query.getAfter();
+
+        return after != null && NEWEST_FIRST.compare(after, upper) > 0 ? after : upper;
+    }
+
+    /**
+     * Parses an encoded cursor.
+     *
+     * @param cursor the cursor, {@code plannedAt:id}
+     * @return the cursor
+     * @throws IllegalArgumentException if {@code cursor} is malformed
+     */
+    public static TriggerLogCursor parse(String cursor) {
+        int colon = cursor.indexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("riff: invalid trigger log cursor:[" + cursor + "]");
+        }
+
+        try {
+            return new TriggerLogCursor(
+                Long.parseLong(cursor.substring(0, colon)), Long.parseLong(cursor.substring(colon + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("riff: invalid trigger log cursor:[" + cursor + "]", e);
+        }
+    }
+
+    public String encode() {
+        return this.plannedAt + ":" + this.id;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.domain;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code ChangeLog}.
+ *
+ * <p>One row per write to a cached entity, appended in the same transaction as the write. Scheduler
+ * nodes tail the table by {@code id} and invalidate only the entities that changed.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLog implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1536251164086036575L;
+
+    private Long id;
+    private ChangeEntity entity;
+    private long entityId;
+    private long version;
+    private ChangeOperation operation;
+    private long changedAt;
+}
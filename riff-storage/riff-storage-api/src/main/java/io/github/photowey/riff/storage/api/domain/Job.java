@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.domain;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code Job}.
+ *
+ * <p>A job definition. {@code version} starts at 1 and is bumped by every write, which is what
+ * caches compare against the change log to tell whether their copy is current. {@code priority}
+ * is the name of a riff-core {@code JobPriority}, {@code null} for the default.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Job implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1173146022093540880L;
+
+    private Long id;
+    private String app;
+    private String name;
+    private String handler;
+    private String cron;
+    private String params;
+    private String routeStrategy;
+    private String blockStrategy;
+    private String misfirePolicy;
+    private String priority;
+    private int timeoutMillis;
+    private boolean enabled;
+    private long version;
+    private long updatedAt;
+}
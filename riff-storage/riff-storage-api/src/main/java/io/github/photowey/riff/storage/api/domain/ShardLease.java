@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.domain;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code ShardLease}.
+ *
+ * <p>The lease row of a job shard. {@code epoch} increases every time the owner changes and
+ * serves as a fencing token.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardLease implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3311085513283126524L;
+
+    private int shard;
+    private String owner;
+    private long epoch;
+    private long expiresAt;
+
+    public boolean isExpired(long nowMillis) {
+        return this.owner == null || this.expiresAt <= nowMillis;
+    }
+
+    public boolean isOwnedBy(String node, long nowMillis) {
+        return node.equals(this.owner) && !this.isExpired(nowMillis);
+    }
+}
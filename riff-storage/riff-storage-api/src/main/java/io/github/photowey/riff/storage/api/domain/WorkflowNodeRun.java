@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.domain;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code WorkflowNodeRun}.
+ *
+ * <p>The state of one job within a {@link WorkflowRun}: {@code PENDING}, {@code RUNNING},
+ * {@code SUCCESS}, {@code FAILED} or {@code SKIPPED}. The row id doubles as the correlation id
+ * of the node's dispatch, so it is known before the job is sent out.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowNodeRun implements Serializable {
+
+    public static final String PENDING = "PENDING";
+
+    @Serial
+    private static final long serialVersionUID = -5108417379023165530L;
+
+    private Long id;
+    private long runId;
+    private long jobId;
+    private String status;
+    private long updatedAt;
+}
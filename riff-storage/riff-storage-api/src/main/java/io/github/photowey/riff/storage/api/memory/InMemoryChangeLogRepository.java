@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+
+/**
+ * {@code InMemoryChangeLogRepository}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class InMemoryChangeLogRepository implements ChangeLogRepository {
+
+    private final NavigableMap<Long, ChangeLog> changes = new ConcurrentSkipListMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public long append(ChangeLog change) {
+        long id = this.ids.incrementAndGet();
+        this.changes.put(id, ChangeLog.builder()
+            .id(id)
+            .entity(change.getEntity())
+            .entityId(change.getEntityId())
+            .version(change.getVersion())
+            .operation(change.getOperation())
+            .changedAt(change.getChangedAt())
+            .build());
+
+        return id;
+    }
+
+    @Override
+    public int appendAll(List<ChangeLog> changes) {
+        for (ChangeLog change : changes) {
+            this.append(change);
+        }
+
+        return changes.size();
+    }
+
+    @Override
+    public List<ChangeLog> findAfter(long afterId, int limit) {
+        List<ChangeLog> found = new ArrayList<>(Math.min(limit, 64));
+        for (ChangeLog change : this.changes.tailMap(afterId, false).values()) {
+            if (found.size() >= limit) {
+                break;
+            }
+            found.add(change);
+        }
+
+        return found;
+    }
+
+    @Override
+    public long maxId() {
+        Map.Entry<Long, ChangeLog> last = this.changes.lastEntry();
+
+        return last == null ? 0L : last.getKey();
+    }
+
+    @Override
+    public int deleteBefore(long changedAt) {
+        int deleted = 0;
+        for (ChangeLog change : this.changes.values()) {
+            if (change.getChangedAt() < changedAt && this.changes.remove(change.getId(), change)) {
+                deleted++;
+            }
+        }
+
+        return deleted;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.photowey.riff.storage.api.domain.ExecutorRegistration;
+import io.github.photowey.riff.storage.api.repository.ExecutorRegistryRepository;
+
+/**
+ * {@code InMemoryExecutorRegistryRepository}.
+ *
+ * <p>A single-JVM {@link ExecutorRegistryRepository}. Meant for tests and single-node deployments.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class InMemoryExecutorRegistryRepository implements ExecutorRegistryRepository {
+
+    private final Map<String, ExecutorRegistration> registrations = new ConcurrentHashMap<>();
+
+    @Override
+    public int registerAll(Collection<ExecutorRegistration> registrations) {
+        for (ExecutorRegistration registration : registrations) {
+            this.registrations.put(keyOf(registration), copy(registration));
+        }
+
+        return registrations.size();
+    }
+
+    @Override
+    public int unregisterAll(Collection<ExecutorRegistration> registrations) {
+        int deleted = 0;
+        for (ExecutorRegistration registration : registrations) {
+            if (this.registrations.remove(keyOf(registration)) != null) {
+                deleted++;
+            }
+        }
+
+        return deleted;
+    }
+
+    @Override
+    public List<ExecutorRegistration> findAll() {
+        List<ExecutorRegistration> all = new ArrayList<>();
+        for (ExecutorRegistration registration : this.registrations.values()) {
+            all.add(copy(registration));
+        }
+        all.sort(Comparator.comparing(ExecutorRegistration::getApp).thenComparing(ExecutorRegistration::getAddress));
+
+        return all;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String keyOf(ExecutorRegistration registration) {
+        return registration.getApp() + '/' + registration.getAddress();
+    }
+
+    private static ExecutorRegistration copy(ExecutorRegistration registration) {
+        return ExecutorRegistration.builder()
+            .app(registration.getApp())
+            .address(registration.getAddress())
+            .owner(registration.getOwner())
+            .registeredAt(registration.getRegisteredAt())
+            .build();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+import io.github.photowey.riff.storage.api.repository.JobGroupRepository;
+
+/**
+ * {@code InMemoryJobGroupRepository}.
+ *
+ * <p>Writes are serialized on the repository, standing in for the transaction that covers the
+ * row and its change log entry.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class InMemoryJobGroupRepository implements JobGroupRepository {
+
+    private final Map<Long, JobGroup> groups = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final ChangeLogRepository changeLog;
+
+    public InMemoryJobGroupRepository(ChangeLogRepository changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public Optional<JobGroup> findById(long id) {
+        return Optional.ofNullable(this.groups.get(id)).map(InMemoryJobGroupRepository::copy);
+    }
+
+    @Override
+    public List<JobGroup> findAll() {
+        List<JobGroup> all = new ArrayList<>(this.groups.size());
+        for (JobGroup group : this.groups.values()) {
+            all.add(copy(group));
+        }
+        all.sort(Comparator.comparing(JobGroup::getId));
+
+        return all;
+    }
+
+    @Override
+    public synchronized JobGroup save(JobGroup group) {
+        long now = System.currentTimeMillis();
+        JobGroup stored = copy(group);
+        if (group.getId() == null) {
+            stored.setId(this.ids.incrementAndGet());
+            stored.setVersion(1L);
+        } else {
+            JobGroup current = this.groups.get(group.getId());
+            if (current == null || (group.getVersion() > 0 && group.getVersion() != current.getVersion())) {
+                throw new IllegalStateException("riff: group missing or modified concurrently, id:" + group.getId());
+            }
+            stored.setVersion(current.getVersion() + 1);
+        }
+        stored.setUpdatedAt(now);
+        this.groups.put(stored.getId(), stored);
+        this.append(stored.getId(), stored.getVersion(), ChangeOperation.UPSERT, now);
+
+        return copy(stored);
+    }
+
+    @Override
+    public synchronized boolean delete(long id) {
+        JobGroup removed = this.groups.remove(id);
+        if (removed == null) {
+            return false;
+        }
+
+        this.append(id, removed.getVersion() + 1, ChangeOperation.DELETE, System.currentTimeMillis());
+
+        return true;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void append(long id, long version, ChangeOperation operation, long changedAt) {
+        this.changeLog.append(ChangeLog.builder()
+            .entity(ChangeEntity.JOB_GROUP)
+            .entityId(id)
+            .version(version)
+            .operation(operation)
+            .changedAt(changedAt)
+            .build());
+    }
+
+    private static JobGroup copy(JobGroup group) {
+        return new JobGroup(group.getId(), group.getApp(), group.getTitle(), group.getRouteStrategy(),
+            group.getVersion(), group.getUpdatedAt());
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.memory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+
+/**
+ * {@code InMemoryJobRepository}.
+ *
+ * <p>Writes are serialized on the repository, standing in for the transaction that covers the
+ * row and its change log entry.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class InMemoryJobRepository implements JobRepository {
+
+    private final NavigableMap<Long, Job> jobs = new ConcurrentSkipListMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final ChangeLogRepository changeLog;
+
+    public InMemoryJobRepository(ChangeLogRepository changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public Optional<Job> findById(long id) {
+        return Optional.ofNullable(this.jobs.get(id)).map(InMemoryJobRepository::copy);
+    }
+
+    @Override
+    public List<Job> findAll() {
+        List<Job> all = new ArrayList<>(this.jobs.size());
+        for (Job job : this.jobs.values()) {
+            all.add(copy(job));
+        }
+
+        return all;
+    }
+
+    @Override
+    public List<Job> findAfter(long afterId, int limit) {
+        List<Job> found = new ArrayList<>(Math.min(limit, 64));
+        for (Job job : this.jobs.tailMap(afterId, false).values()) {
+            if (found.size() >= limit) {
+                break;
+            }
+            found.add(copy(job));
+        }
+
+        return found;
+    }
+
+    @Override
+    public synchronized Job save(Job job) {
+        this.check(job);
+
+        return this.write(job, System.currentTimeMillis());
+    }
+
+    @Override
+    public synchronized List<Job> saveAll(List<Job> jobs) {
+        Set<Long> seen = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getId() != null && !seen.add(job.getId())) {
+                throw new IllegalArgumentException("riff: job saved twice in one batch, id:" + job.getId());
+            }
+            this.check(job);
+        }
+
+        long now = System.currentTimeMillis();
+        List<Job> stored = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            stored.add(this.write(job, now));
+        }
+
+        return stored;
+    }
+
+    @Override
+    public synchronized boolean delete(long id) {
+        Job removed = this.jobs.remove(id);
+        if (removed == null) {
+            return false;
+        }
+
+        this.append(id, removed.getVersion() + 1, ChangeOperation.DELETE, System.currentTimeMillis());
+
+        return true;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void check(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+
+        Job current = this.jobs.get(job.getId());
+        if (current == null || (job.getVersion() > 0 && job.getVersion() != current.getVersion())) {
+            throw new IllegalStateException("riff: job missing or modified concurrently, id:" + job.getId());
+        }
+    }
+
+    private Job write(Job job, long now) {
+        Job stored = copy(job);
+        if (job.getId() == null) {
+            stored.setId(this.ids.incrementAndGet());
+            stored.setVersion(1L);
+        } else {
+            stored.setVersion(this.jobs.get(job.getId()).getVersion() + 1);
+        }
+        stored.setUpdatedAt(now);
+        this.jobs.put(stored.getId(), stored);
+        this.append(stored.getId(), stored.getVersion(), ChangeOperation.UPSERT, now);
+
+        return copy(stored);
+    }
+
+    private void append(long id, long version, ChangeOperation operation, long changedAt) {
+        this.changeLog.append(ChangeLog.builder()
+            .entity(ChangeEntity.JOB)
+            .entityId(id)
+            .version(version)
+            .operation(operation)
+            .changedAt(changedAt)
+            .build());
+    }
+
+    private static Job copy(Job job) {
+        return new Job(job.getId(), job.getApp(), job.getName(), job.getHandler(), job.getCron(), job.getParams(),
+            job.getRouteStrategy(), job.getBlockStrategy(), job.getMisfirePolicy(), job.getPriority(),
+            job.getTimeoutMillis(),
+            job.isEnabled(), job.getVersion(), job.getUpdatedAt());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.github.photowey.riff.storage.api.domain.ShardLease;
+import io.github.photowey.riff.storage.api.repository.ShardLeaseRepository;
+
+/**
+ * {@code InMemoryShardLeaseRepository}.
+ *
+ * <p>A single-JVM {@link ShardLeaseRepository}, with {@link ConcurrentHashMap#compute} standing in
+ * for the row lock of a database update. Meant for tests and single-node deployments.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class InMemoryShardLeaseRepository implements ShardLeaseRepository {
+
+    private final Map<Integer, ShardLease> leases = new ConcurrentHashMap<>();
+    private final Map<String, Long> nodes = new ConcurrentHashMap<>();
+
+    @Override
+    public void initialize(int shardCount) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            this.leases.putIfAbsent(shard, ShardLease.builder().shard(shard).build());
+        }
+    }
+
+    @Override
+    public Optional<ShardLease> tryAcquire(int shard, String owner, long nowMillis, long ttlMillis) {
+        ShardLease acquired = this.leases.compute(shard, (key, lease) -> {
+            if (lease == null) {
+                return ShardLease.builder().shard(shard).owner(owner).epoch(1).expiresAt(nowMillis + ttlMillis).build();
+            }
+            if (owner.equals(lease.getOwner()) && !lease.isExpired(nowMillis)) {
+                return copy(lease, lease.getEpoch(), nowMillis + ttlMillis);
+            }
+            if (!lease.isExpired(nowMillis)) {
+                return lease;
+            }
+
+            ShardLease next = copy(lease, lease.getEpoch() + 1, nowMillis + ttlMillis);
+            next.setOwner(owner);
+
+            return next;
+        });
+
+        return acquired.isOwnedBy(owner, nowMillis) ? Optional.of(copy(acquired)) : Optional.empty();
+    }
+
+    @Override
+    public boolean renew(int shard, String owner, long epoch, long nowMillis, long ttlMillis) {
+        AtomicBoolean renewed = new AtomicBoolean(false);
+        this.leases.computeIfPresent(shard, (key, lease) -> {
+            if (lease.getEpoch() != epoch || !lease.isOwnedBy(owner, nowMillis)) {
+                return lease;
+            }
+
+            renewed.set(true);
+
+            return copy(lease, epoch, nowMillis + ttlMillis);
+        });
+
+        return renewed.get();
+    }
+
+    @Override
+    public boolean release(int shard, String owner, long epoch) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        this.leases.computeIfPresent(shard, (key, lease) -> {
+            if (lease.getEpoch() != epoch || !owner.equals(lease.getOwner())) {
+                return lease;
+            }
+
+            released.set(true);
+            ShardLease next = copy(lease, epoch, 0L);
+            next.setOwner(null);
+
+            return next;
+        });
+
+        return released.get();
+    }
+
+    @Override
+    public List<ShardLease> findAll() {
+        List<ShardLease> snapshot = new ArrayList<>(this.leases.size());
+        for (ShardLease lease : this.leases.values()) {
+            snapshot.add(copy(lease));
+        }
+        snapshot.sort(Comparator.comparingInt(ShardLease::getShard));
+
+        return snapshot;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void keepAlive(String node, long expiresAt) {
+        this.nodes.put(node, expiresAt);
+    }
+
+    @Override
+    public List<String> findLiveNodes(long nowMillis) {
+        List<String> live = new ArrayList<>();
+        this.nodes.forEach((node, expiresAt) -> {
+            if (expiresAt > nowMillis) {
+                live.add(node);
+            }
+        });
+        live.sort(Comparator.naturalOrder());
+
+        return live;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ShardLease copy(ShardLease lease) {
+        return copy(lease, lease.getEpoch(), lease.getExpiresAt());
+    }
+
+    private static ShardLease copy(ShardLease lease, long epoch, long expiresAt) {
+        return new ShardLease(lease.getShard(), lease.getOwner(), epoch, expiresAt);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+
+/**
+ * {@code InMemoryTriggerLogRepository}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public class InMemoryTriggerLogRepository implements TriggerLogRepository {
+
+    private final NavigableMap<TriggerLogCursor, TriggerLog> logs =
+        new ConcurrentSkipListMap<>(TriggerLogCursor.NEWEST_FIRST);
+    private final Map<Long, NavigableMap<TriggerLogCursor, TriggerLog>> byJob = new ConcurrentHashMap<>();
+    private final Map<Long, TriggerLog> byId = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public void save(TriggerLog log) {
+        TriggerLog copy = TriggerLog.builder()
+            .id(this.ids.incrementAndGet())
+            .jobId(log.getJobId())
+            .plannedAt(log.getPlannedAt())
+            .triggeredAt(log.getTriggeredAt())
+            .executor(log.getExecutor())
+            .triggerCode(log.getTriggerCode())
+            .triggerMessage(log.getTriggerMessage())
+            .build();
+        TriggerLogCursor key = TriggerLogCursor.of(copy);
+        this.logs.put(key, copy);
+        this.byId.put(copy.getId(), copy);
+        this.byJob.computeIfAbsent(copy.getJobId(), jobId -> new ConcurrentSkipListMap<>(TriggerLogCursor.NEWEST_FIRST))
+            .put(key, copy);
+    }
+
+    @Override
+    public int saveAll(List<TriggerLog> logs) {
+        for (TriggerLog log : logs) {
+            this.save(log);
+        }
+
+        return logs.size();
+    }
+
+    @Override
+    public Optional<TriggerLog> findById(long id) {
+        return Optional.ofNullable(this.byId.get(id));
+    }
+
+    @Override
+    public List<TriggerLog> findByJobId(long jobId, int limit) {
+        List<TriggerLog> found = new ArrayList<>(Math.min(limit, 64));
+        this.forEach(TriggerLogQuery.builder().jobId(jobId).limit(limit).build(), found::add);
+
+        return found;
+    }
+
+    @Override
+    public long forEach(TriggerLogQuery query, Consumer<TriggerLog> consumer) {
+        NavigableMap<TriggerLogCursor, TriggerLog> index = query.getJobId() == null
+            ? this.logs
+            : this.byJob.getOrDefault(query.getJobId(), Collections.emptyNavigableMap());
+        long passed = 0L;
+        for (TriggerLog log : index.tailMap(TriggerLogCursor.startOf(query), false).values()) {
+            if (passed >= query.getLimit() || log.getPlannedAt() < query.getFrom()) {
+                break;
+            }
+            consumer.accept(log);
+            passed++;
+        }
+
+        return passed;
+    }
+
+    @Override
+    public long count() {
+        return this.logs.size();
+    }
+}
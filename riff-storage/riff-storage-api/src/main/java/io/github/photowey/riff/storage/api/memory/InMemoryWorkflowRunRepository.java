@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+import io.github.photowey.riff.storage.api.repository.WorkflowRunRepository;
+
+/**
+ * {@code InMemoryWorkflowRunRepository}.
+ *
+ * <p>A single-JVM {@link WorkflowRunRepository}, with {@link ConcurrentHashMap#computeIfPresent}
+ * standing in for the compare-and-set updates. Meant for tests and single-node deployments.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class InMemoryWorkflowRunRepository implements WorkflowRunRepository {
+
+    private final Map<Long, WorkflowRun> runs = new ConcurrentHashMap<>();
+    private final Map<Long, WorkflowNodeRun> nodes = new ConcurrentHashMap<>();
+    private final AtomicLong runIds = new AtomicLong();
+    private final AtomicLong nodeIds = new AtomicLong();
+
+    @Override
+    public synchronized WorkflowRun create(WorkflowRun run, long[] jobIds) {
+        WorkflowRun stored = copy(run);
+        stored.setId(this.runIds.incrementAndGet());
+        stored.setStatus(WorkflowRun.RUNNING);
+        for (long jobId : jobIds) {
+            long nodeId = this.nodeIds.incrementAndGet();
+            this.nodes.put(nodeId,
+                new WorkflowNodeRun(nodeId, stored.getId(), jobId, WorkflowNodeRun.PENDING, run.getStartedAt()));
+        }
+        this.runs.put(stored.getId(), stored);
+
+        return copy(stored);
+    }
+
+    @Override
+    public Optional<WorkflowRun> findById(long runId) {
+        return Optional.ofNullable(this.runs.get(runId)).map(InMemoryWorkflowRunRepository::copy);
+    }
+
+    @Override
+    public List<WorkflowRun> findUnfinished() {
+        List<WorkflowRun> unfinished = new ArrayList<>();
+        for (WorkflowRun run : this.runs.values()) {
+            if (!run.isFinished()) {
+                unfinished.add(copy(run));
+            }
+        }
+        unfinished.sort(Comparator.comparing(WorkflowRun::getId));
+
+        return unfinished;
+    }
+
+    @Override
+    public List<WorkflowNodeRun> findNodes(long runId) {
+        List<WorkflowNodeRun> found = new ArrayList<>();
+        for (WorkflowNodeRun node : this.nodes.values()) {
+            if (node.getRunId() == runId) {
+                found.add(copy(node));
+            }
+        }
+        found.sort(Comparator.comparing(WorkflowNodeRun::getId));
+
+        return found;
+    }
+
+    @Override
+    public boolean updateNode(long nodeId, String expected, String status, long updatedAt) {
+        AtomicBoolean updated = new AtomicBoolean(false);
+        this.nodes.computeIfPresent(nodeId, (key, node) -> {
+            if (!expected.equals(node.getStatus())) {
+                return node;
+            }
+
+            updated.set(true);
+
+            return new WorkflowNodeRun(node.getId(), node.getRunId(), node.getJobId(), status, updatedAt);
+        });
+
+        return updated.get();
+    }
+
+    @Override
+    public boolean finish(long runId, String status, long finishedAt) {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        this.runs.computeIfPresent(runId, (key, run) -> {
+            if (run.isFinished()) {
+                return run;
+            }
+
+            finished.set(true);
+
+            return new WorkflowRun(run.getId(), run.getDag(), status, run.getStartedAt(), finishedAt);
+        });
+
+        return finished.get();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static WorkflowRun copy(WorkflowRun run) {
+        return new WorkflowRun(run.getId(), run.getDag(), run.getStatus(), run.getStartedAt(), run.getFinishedAt());
+    }
+
+    private static WorkflowNodeRun copy(WorkflowNodeRun node) {
+        return new WorkflowNodeRun(
+            node.getId(), node.getRunId(), node.getJobId(), node.getStatus(), node.getUpdatedAt());
+    }
+}
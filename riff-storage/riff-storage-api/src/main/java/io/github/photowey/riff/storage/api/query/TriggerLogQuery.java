@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.query;
+
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code TriggerLogQuery}.
+ *
+ * <p>Selects trigger logs newest first. The {@code plannedAt} range lets partitioned stores skip
+ * whole days; {@code after} seeks past the last log already read.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TriggerLogQuery {
+
+    /**
+     * The job, {@code null} for every job.
+     */
+    private Long jobId;
+
+    /**
+     * The lower {@code plannedAt} bound, inclusive.
+     */
+    @Builder.Default
+    private long from = 0L;
+
+    /**
+     * The upper {@code plannedAt} bound, exclusive.
+     */
+    @Builder.Default
+    private long to = Long.MAX_VALUE;
+
+    /**
+     * The last log already read, {@code null} to start from the newest.
+     */
+    private TriggerLogCursor after;
+
+    /**
+     * The maximum number of logs.
+     */
+    @Builder.Default
+    private int limit = 100;
+}
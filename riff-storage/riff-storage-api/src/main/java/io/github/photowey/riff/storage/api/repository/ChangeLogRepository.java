@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.repository;
+
+import java.util.List;
+
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+
+/**
+ * {@code ChangeLogRepository}.
+ *
+ * <p>An append-only log ordered by {@code id}. Ids are assigned at insert but become visible at
+ * commit, so a reader may briefly see a gap that a slower transaction fills in later.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface ChangeLogRepository {
+
+    /**
+     * Appends a change.
+     *
+     * @param change the change, its {@code id} is ignored
+     * @return the assigned id
+     */
+    long append(ChangeLog change);
+
+    /**
+     * Appends changes in as few statements as the store allows.
+     *
+     * @param changes the changes, their {@code id}s are ignored
+     * @return the number of appended changes
+     */
+    int appendAll(List<ChangeLog> changes);
+
+    /**
+     * Reads the changes after {@code afterId}.
+     *
+     * @param afterId the last id already seen
+     * @param limit   the maximum number of changes
+     * @return the changes in id order
+     */
+    List<ChangeLog> findAfter(long afterId, int limit);
+
+    long maxId();
+
+    /**
+     * Trims the log.
+     *
+     * @param changedAt the retention cut-off in epoch milliseconds
+     * @return the number of deleted changes
+     */
+    int deleteBefore(long changedAt);
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import io.github.photowey.riff.storage.api.domain.ExecutorRegistration;
+
+/**
+ * {@code ExecutorRegistryRepository}.
+ *
+ * <p>Persists executor membership in batches. Both writes are idempotent, so a batch that is
+ * retried after a partial failure, or written by several schedulers, converges to the same rows.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface ExecutorRegistryRepository {
+
+    /**
+     * Inserts or overwrites the rows of the given executors.
+     *
+     * @param registrations the joined executors
+     * @return the number of written rows
+     */
+    int registerAll(Collection<ExecutorRegistration> registrations);
+
+    /**
+     * Deletes the rows of the given executors, ignoring executors without a row.
+     *
+     * @param registrations the departed executors, only {@code app} and {@code address} are read
+     * @return the number of deleted rows
+     */
+    int unregisterAll(Collection<ExecutorRegistration> registrations);
+
+    List<ExecutorRegistration> findAll();
+}
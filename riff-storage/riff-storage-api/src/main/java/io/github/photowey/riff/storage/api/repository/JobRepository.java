@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.storage.api.domain.Job;
+
+/**
+ * {@code JobRepository}.
+ *
+ * <p>Every write bumps the job's {@code version} and appends a
+ * {@link io.github.photowey.riff.storage.api.domain.ChangeLog} row in the same transaction.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface JobRepository {
+
+    Optional<Job> findById(long id);
+
+    List<Job> findAll();
+
+    /**
+     * Reads the jobs after {@code afterId}, one keyset page at a time, so bulk reads never hold
+     * every job at once.
+     *
+     * @param afterId the last id already seen
+     * @param limit   the maximum number of jobs
+     * @return the jobs in id order
+     */
+    List<Job> findAfter(long afterId, int limit);
+
+    /**
+     * Inserts a job without an id, otherwise updates it.
+     *
+     * @param job the job; a positive {@code version} must match the stored one
+     * @return the stored job with its id and new version
+     * @throws IllegalStateException if the job does not exist or its version is stale
+     */
+    Job save(Job job);
+
+    /**
+     * Saves every job as {@link #save(Job)} does, atomically and in as few statements as the store
+     * allows.
+     *
+     * @param jobs the jobs, each id at most once
+     * @return the stored jobs, in the given order
+     * @throws IllegalStateException if any job does not exist or its version is stale, in which
+     *     case none is stored
+     */
+    List<Job> saveAll(List<Job> jobs);
+
+    boolean delete(long id);
+}
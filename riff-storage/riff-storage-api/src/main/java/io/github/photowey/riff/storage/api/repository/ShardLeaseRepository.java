@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.storage.api.domain.ShardLease;
+
+/**
+ * {@code ShardLeaseRepository}.
+ *
+ * <p>Per-shard lease rows plus a node keep-alive table. Every mutation is a single-row
+ * compare-and-set (e.g. {@code UPDATE ... WHERE shard = ? AND (owner = ? OR expires_at <= ?)}),
+ * so scheduler nodes never serialize on a global lock row.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface ShardLeaseRepository {
+
+    /**
+     * Creates the unowned lease rows {@code [0, shardCount)} that do not exist yet.
+     *
+     * @param shardCount the number of shards
+     */
+    void initialize(int shardCount);
+
+    /**
+     * Acquires the lease if it is free, expired or already held by {@code owner}.
+     *
+     * @param shard     the shard
+     * @param owner     the acquiring node
+     * @param nowMillis the current time
+     * @param ttlMillis the lease TTL
+     * @return the acquired lease, or empty if another node holds it
+     */
+    Optional<ShardLease> tryAcquire(int shard, String owner, long nowMillis, long ttlMillis);
+
+    /**
+     * Extends a lease that is still held by {@code owner} under {@code epoch}.
+     *
+     * @return {@code false} if the lease has been lost
+     */
+    boolean renew(int shard, String owner, long epoch, long nowMillis, long ttlMillis);
+
+    boolean release(int shard, String owner, long epoch);
+
+    List<ShardLease> findAll();
+
+    // ----------------------------------------------------------------
+
+    void keepAlive(String node, long expiresAt);
+
+    List<String> findLiveNodes(long nowMillis);
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+
+/**
+ * {@code TriggerLogRepository}.
+ *
+ * <p>Append-mostly store of trigger logs. Callers on the firing path should go through a batching
+ * writer rather than {@link #save(TriggerLog)}, so that many fires share one round trip and one
+ * commit.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface TriggerLogRepository {
+
+    void save(TriggerLog log);
+
+    /**
+     * Inserts all logs atomically, as few statements as the store allows.
+     *
+     * @param logs the logs to insert
+     * @return the number of inserted rows
+     */
+    int saveAll(List<TriggerLog> logs);
+
+    /**
+     * Finds a log by its id.
+     *
+     * @param id the log id
+     * @return the log, or empty if there is none
+     */
+    Optional<TriggerLog> findById(long id);
+
+    /**
+     * Finds the latest logs of a job, newest first.
+     *
+     * @param jobId the job id
+     * @param limit the maximum number of rows
+     * @return the logs
+     */
+    List<TriggerLog> findByJobId(long jobId, int limit);
+
+    /**
+     * Streams the selected logs, newest first, to {@code consumer} as the store reads them, so a
+     * result of any size passes through without being held in memory.
+     *
+     * @param query    the query
+     * @param consumer receives each log; an exception it throws stops the read and is rethrown
+     * @return the number of logs passed to {@code consumer}
+     */
+    long forEach(TriggerLogQuery query, Consumer<TriggerLog> consumer);
+
+    /**
+     * Reads one keyset page of the selected logs, newest first.
+     *
+     * @param query the query, {@code limit} is the page size
+     * @return the page, its {@code next} is a {@link TriggerLogCursor}
+     */
+    default Page<TriggerLog> findPage(TriggerLogQuery query) {
+        List<TriggerLog> logs = new ArrayList<>(Math.min(query.getLimit(), 1_024));
+        this.forEach(query, logs::add);
+        if (logs.isEmpty() || logs.size() < query.getLimit()) {
+            return new Page<>(logs, null);
+        }
+
+        return new Page<>(logs, TriggerLogCursor.of(logs.get(logs.size() - 1)).encode());
+    }
+
+    long count();
+}
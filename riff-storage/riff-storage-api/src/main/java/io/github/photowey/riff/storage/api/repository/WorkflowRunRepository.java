@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.api.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+
+/**
+ * {@code WorkflowRunRepository}.
+ *
+ * <p>Persists DAG runs and their node states so that a scheduler taking over after a failover
+ * resumes a run where it stopped. Node transitions are single-row compare-and-sets on the
+ * current status, so a late or duplicate callback never overwrites a settled node.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface WorkflowRunRepository {
+
+    /**
+     * Inserts a run together with one {@code PENDING} node row per job, atomically.
+     *
+     * @param run    the run, its id is assigned
+     * @param jobIds the jobs of the run's graph
+     * @return the run with its id
+     */
+    WorkflowRun create(WorkflowRun run, long[] jobIds);
+
+    Optional<WorkflowRun> findById(long runId);
+
+    /**
+     * Finds the runs that are still {@code RUNNING}, oldest first.
+     *
+     * @return the runs
+     */
+    List<WorkflowRun> findUnfinished();
+
+    /**
+     * Finds the nodes of a run, in insertion order.
+     *
+     * @param runId the run id
+     * @return the nodes
+     */
+    List<WorkflowNodeRun> findNodes(long runId);
+
+    /**
+     * Moves a node from {@code expected} to {@code status}.
+     *
+     * @param nodeId    the node row id
+     * @param expected  the status the node must currently have
+     * @param status    the new status
+     * @param updatedAt the transition time
+     * @return {@code false} if the node is not in {@code expected}
+     */
+    boolean updateNode(long nodeId, String expected, String status, long updatedAt);
+
+    /**
+     * Moves a {@code RUNNING} run to its final status.
+     *
+     * @param runId      the run id
+     * @param status     {@code SUCCESS} or {@code FAILED}
+     * @param finishedAt the finish time
+     * @return {@code false} if the run has already finished
+     */
+    boolean finish(long runId, String status, long finishedAt);
+}
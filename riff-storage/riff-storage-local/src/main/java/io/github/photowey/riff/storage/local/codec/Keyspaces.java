@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.codec;
+
+/**
+ * {@code Keyspaces}.
+ *
+ * <p>The {@code LocalStore} keyspace of each repository. Persisted in every entry, so values must
+ * never change.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class Keyspaces {
+
+    public static final int JOB = 1;
+    public static final int JOB_GROUP = 2;
+    public static final int CHANGE_LOG = 3;
+    public static final int TRIGGER_LOG = 4;
+    public static final int WORKFLOW_RUN = 5;
+    public static final int WORKFLOW_NODE_RUN = 6;
+
+    private Keyspaces() {
+        throw new AssertionError("No " + Keyspaces.class.getName() + " instances for you!");
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.codec;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+/**
+ * {@code Values}.
+ *
+ * <p>Frames entity values with a format byte ahead of the {@code WireFormat} fields, so the
+ * layout can evolve without rewriting existing segments.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class Values {
+
+    public static final byte FORMAT = 1;
+
+    private Values() {
+        throw new AssertionError("No " + Values.class.getName() + " instances for you!");
+    }
+
+    public static byte[] encode(Consumer<ByteBuf> writer) {
+        ByteBuf out = Unpooled.buffer(128);
+        out.writeByte(FORMAT);
+        writer.accept(out);
+
+        return ByteBufUtil.getBytes(out);
+    }
+
+    public static <T> T decode(byte[] value, Function<ByteBuf, T> reader) {
+        ByteBuf in = Unpooled.wrappedBuffer(value);
+        byte format = in.readByte();
+        if (format != FORMAT) {
+            throw new IllegalStateException("riff: unknown local value format:" + format);
+        }
+
+        return reader.apply(in);
+    }
+}
@@ -0,0 +1,632 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code LocalStore}.
+ *
+ * <p>Embedded log-structured store of {@code (keyspace, long key) -> byte[]} entries. Every
+ * {@link #update} appends one batch to the active segment file:
+ *
+ * <pre>
+ * batch: int bodyLength | int crc32c(body) | entry...
+ * entry: byte space | long key | int valueLength (-1 for a delete) | value
+ * </pre>
+ *
+ * <p>The location of each live value is kept in an in-memory index, so reads are one positional
+ * read and writes never rewrite data in place. On open the segments are replayed in order; a
+ * batch torn by a crash at the end of the last segment fails its checksum and is truncated away,
+ * which makes each batch atomic. Sealed segments in which most entries have been superseded are
+ * rewritten by {@link #compact()}, on demand or periodically.
+ *
+ * <p>Writers are serialized; readers run concurrently with them and only wait for a compaction
+ * to swap segment files.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class LocalStore implements Closeable {
+
+    public static final int MAX_SPACE = 255;
+
+    private static final int META_SPACE = 0;
+    private static final int BATCH_HEADER = 4 + 4;
+    private static final int ENTRY_HEADER = 1 + 8 + 4;
+    private static final int TOMBSTONE = -1;
+    private static final String COMPACTOR_THREAD_NAME = "riff-local-compactor";
+
+    private final Path directory;
+    private final LocalStoreOptions options;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ConcurrentSkipListMap<Long, Location>> live = new ArrayList<>(MAX_SPACE + 1);
+    private final List<Map<Long, Location>> tombstones = new ArrayList<>(MAX_SPACE + 1);
+    private final AtomicLongArray counts = new AtomicLongArray(MAX_SPACE + 1);
+    private final long[] sequences = new long[MAX_SPACE + 1];
+    private final List<Segment> segments = new ArrayList<>();
+    private final ScheduledExecutorService compactor;
+
+    private Segment active;
+    private boolean closed;
+
+    public LocalStore(Path directory) {
+        this(directory, LocalStoreOptions.builder().build());
+    }
+
+    public LocalStore(Path directory, LocalStoreOptions options) {
+        if (options.getSegmentBytes() <= BATCH_HEADER + ENTRY_HEADER) {
+            throw new IllegalArgumentException("segmentBytes too small: " + options.getSegmentBytes());
+        }
+
+        this.directory = directory;
+        this.options = options;
+        for (int space = 0; space <= MAX_SPACE; space++) {
+            this.live.add(new ConcurrentSkipListMap<>());
+            this.tombstones.add(new HashMap<>());
+        }
+        try {
+            Files.createDirectories(directory);
+            this.recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: open local store failed:" + directory, e);
+        }
+        this.compactor = options.getCompactIntervalMillis() > 0
+            ? this.startCompactor(options.getCompactIntervalMillis())
+            : null;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Runs {@code work} under the writer lock and commits its writes as one batch. Nothing is
+     * written if {@code work} throws.
+     *
+     * @param work the transaction body
+     * @param <T>  the result type
+     * @return what {@code work} returned
+     */
+    public <T> T update(Function<Transaction, T> work) {
+        this.lock.writeLock().lock();
+        try {
+            this.ensureOpen();
+            Batch batch = new Batch();
+            T result = work.apply(batch);
+            if (!batch.entries.isEmpty() || !batch.nextIds.isEmpty()) {
+                this.commit(batch);
+            }
+
+            return result;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public byte[] get(int space, long key) {
+        this.lock.readLock().lock();
+        try {
+            this.ensureOpen();
+            Location location = this.live.get(checkSpace(space)).get(key);
+
+            return location == null ? null : this.read(location);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the values after {@code afterKey}, in key order.
+     *
+     * @param space    the keyspace
+     * @param afterKey the last key already seen
+     * @param limit    the maximum number of values
+     * @return the values
+     */
+    public List<byte[]> scan(int space, long afterKey, int limit) {
+        this.lock.readLock().lock();
+        try {
+            this.ensureOpen();
+            List<byte[]> values = new ArrayList<>(Math.min(limit, 64));
+            for (Location location : this.live.get(checkSpace(space)).tailMap(afterKey, false).values()) {
+                if (values.size() >= limit) {
+                    break;
+                }
+                values.add(this.read(location));
+            }
+
+            return values;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visits every value of a keyspace in key order, without materializing them all at once.
+     *
+     * @param space    the keyspace
+     * @param consumer receives each key and value
+     */
+    public void forEach(int space, BiConsumer<Long, byte[]> consumer) {
+        this.lock.readLock().lock();
+        try {
+            this.ensureOpen();
+            for (Map.Entry<Long, Location> entry : this.live.get(checkSpace(space)).entrySet()) {
+                consumer.accept(entry.getKey(), this.read(entry.getValue()));
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public long count(int space) {
+        return this.counts.get(checkSpace(space));
+    }
+
+    /**
+     * @return the largest live key of {@code space}, {@code 0} if it is empty
+     */
+    public long lastKey(int space) {
+        Map.Entry<Long, Location> last = this.live.get(checkSpace(space)).lastEntry();
+
+        return last == null ? 0L : last.getKey();
+    }
+
+    public int segmentCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.segments.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public Path directory() {
+        return this.directory;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Rewrites the live entries of every sealed segment whose superseded share reached
+     * {@code compactDeadRatio} into the active segment, then deletes the old file. A crash in
+     * between leaves both copies, and replay keeps the later one.
+     *
+     * @return the number of segments compacted
+     */
+    public int compact() {
+        this.lock.writeLock().lock();
+        try {
+            this.ensureOpen();
+            int compacted = 0;
+            for (Segment segment : List.copyOf(this.segments)) {
+                if (segment != this.active
+                    && segment.deadBytes() >= segment.size() * this.options.getCompactDeadRatio()) {
+                    this.rewrite(segment);
+                    compacted++;
+                }
+            }
+
+            return compacted;
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: compact local store failed:" + this.directory, e);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.compactor != null) {
+            this.compactor.shutdown();
+            try {
+                this.compactor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+            this.active.force();
+            for (Segment segment : this.segments) {
+                segment.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: close local store failed:" + this.directory, e);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(this.directory)) {
+            files = list.filter(path -> path.getFileName().toString().endsWith(Segment.SUFFIX)).sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Segment segment = Segment.open(files.get(i));
+            this.segments.add(segment);
+            this.replay(segment, i == files.size() - 1);
+        }
+        if (this.segments.isEmpty()) {
+            this.segments.add(Segment.create(this.directory, 0L));
+        }
+        this.active = this.segments.get(this.segments.size() - 1);
+        for (int space = 1; space <= MAX_SPACE; space++) {
+            this.sequences[space] = Math.max(this.sequences[space], this.lastKey(space));
+        }
+    }
+
+    private void replay(Segment segment, boolean last) throws IOException {
+        long position = 0L;
+        while (position < segment.size()) {
+            ByteBuffer body = this.readBatch(segment, position);
+            if (body == null) {
+                if (!last) {
+                    throw new IllegalStateException(
+                        "riff: local store segment:[" + segment.path() + "] is corrupt at:" + position);
+                }
+                log.warn("riff: local store drops torn batch at the end of segment:[{}], bytes:[{}]",
+                    segment.path(), segment.size() - position);
+                segment.truncate(position);
+
+                return;
+            }
+
+            this.apply(segment, position + BATCH_HEADER, body);
+            position += BATCH_HEADER + body.limit();
+        }
+    }
+
+    /**
+     * @return the checksummed body, or {@code null} if the batch is incomplete or damaged
+     */
+    private ByteBuffer readBatch(Segment segment, long position) throws IOException {
+        long remaining = segment.size() - position;
+        if (remaining < BATCH_HEADER) {
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(BATCH_HEADER);
+        segment.read(position, header);
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length < ENTRY_HEADER || length > remaining - BATCH_HEADER) {
+            return null;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(length);
+        segment.read(position + BATCH_HEADER, body);
+
+        return checksum(body) == checksum ? body : null;
+    }
+
+    private void commit(Batch batch) {
+        batch.nextIds.forEach((space, id) ->
+            batch.stage(META_SPACE, space, ByteBuffer.allocate(Long.BYTES).putLong(0, id).array()));
+        int length = 0;
+        for (Entry entry : batch.entries) {
+            length += entry.bytes();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(BATCH_HEADER + length);
+        buffer.putInt(length).putInt(0);
+        for (Entry entry : batch.entries) {
+            buffer.put((byte) entry.space()).putLong(entry.key());
+            if (entry.value() == null) {
+                buffer.putInt(TOMBSTONE);
+            } else {
+                buffer.putInt(entry.value().length).put(entry.value());
+            }
+        }
+        buffer.putInt(4, checksum(buffer.slice(BATCH_HEADER, length)));
+        buffer.flip();
+
+        this.append(buffer);
+    }
+
+    private void append(ByteBuffer buffer) {
+        try {
+            if (this.active.size() > 0 && this.active.size() + buffer.remaining() > this.options.getSegmentBytes()) {
+                this.roll();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: roll local store segment failed:" + this.directory, e);
+        }
+
+        long position = this.active.size();
+        try {
+            this.active.append(buffer);
+            if (this.options.isSyncOnWrite()) {
+                this.active.force();
+            }
+        } catch (IOException e) {
+            this.discardFrom(position);
+            throw new UncheckedIOException("riff: write local store failed:" + this.active.path(), e);
+        }
+        this.apply(this.active, position + BATCH_HEADER, buffer.position(BATCH_HEADER).slice());
+    }
+
+    private void discardFrom(long position) {
+        try {
+            this.active.truncate(position);
+        } catch (IOException e) {
+            log.error("riff: discard failed write of segment:[{}] at:[{}]", this.active.path(), position, e);
+        }
+    }
+
+    private void roll() throws IOException {
+        this.active.force();
+        Segment next = Segment.create(this.directory, this.active.id() + 1);
+        this.segments.add(next);
+        this.active = next;
+    }
+
+    private void apply(Segment segment, long bodyPosition, ByteBuffer body) {
+        while (body.hasRemaining()) {
+            int space = body.get() & 0xFF;
+            long key = body.getLong();
+            int length = body.getInt();
+            Location location = new Location(segment, bodyPosition + body.position(), length);
+            if (space == META_SPACE) {
+                this.sequences[(int) key] = Math.max(this.sequences[(int) key], body.getLong(body.position()));
+            }
+            if (length > 0) {
+                body.position(body.position() + length);
+            }
+            this.index(space, key, location);
+        }
+    }
+
+    private void index(int space, long key, Location location) {
+        Location previous;
+        Location previousTombstone;
+        if (location.isTombstone()) {
+            previous = this.live.get(space).remove(key);
+            previousTombstone = this.tombstones.get(space).put(key, location);
+        } else {
+            previous = this.live.get(space).put(key, location);
+            previousTombstone = this.tombstones.get(space).remove(key);
+        }
+
+        if (previous != null) {
+            previous.segment().markDead(previous.bytes());
+            if (location.isTombstone()) {
+                this.counts.decrementAndGet(space);
+            }
+        } else if (!location.isTombstone()) {
+            this.counts.incrementAndGet(space);
+        }
+        if (previousTombstone != null) {
+            previousTombstone.segment().markDead(previousTombstone.bytes());
+        }
+    }
+
+    private void rewrite(Segment segment) throws IOException {
+        boolean olderExists = this.segments.get(0) != segment;
+        long position = 0L;
+        while (position < segment.size()) {
+            ByteBuffer body = this.readBatch(segment, position);
+            if (body == null) {
+                throw new IllegalStateException(
+                    "riff: local store segment:[" + segment.path() + "] is corrupt at:" + position);
+            }
+
+            Batch kept = new Batch();
+            long bodyPosition = position + BATCH_HEADER;
+            while (body.hasRemaining()) {
+                int space = body.get() & 0xFF;
+                long key = body.getLong();
+                int length = body.getInt();
+                long valuePosition = bodyPosition + body.position();
+                if (length == TOMBSTONE) {
+                    if (this.isCurrent(this.tombstones.get(space).get(key), segment, valuePosition)) {
+                        if (olderExists) {
+                            kept.stage(space, key, null);
+                        } else {
+                            this.tombstones.get(space).remove(key);
+                        }
+                    }
+                    continue;
+                }
+
+                byte[] value = new byte[length];
+                body.get(value);
+                if (this.isCurrent(this.live.get(space).get(key), segment, valuePosition)) {
+                    kept.stage(space, key, value);
+                }
+            }
+            if (!kept.entries.isEmpty()) {
+                this.commit(kept);
+            }
+            position = bodyPosition + body.limit();
+        }
+
+        this.active.force();
+        this.segments.remove(segment);
+        segment.delete();
+        log.info("riff: local store compacted segment:[{}]", segment.path());
+    }
+
+    private boolean isCurrent(Location location, Segment segment, long valuePosition) {
+        return location != null && location.segment() == segment && location.position() == valuePosition;
+    }
+
+    private byte[] read(Location location) {
+        ByteBuffer value = ByteBuffer.allocate(location.length());
+        try {
+            location.segment().read(location.position(), value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: read local store failed:" + location.segment().path(), e);
+        }
+
+        return value.array();
+    }
+
+    private ScheduledExecutorService startCompactor(long intervalMillis) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, COMPACTOR_THREAD_NAME);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::compactSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        return executor;
+    }
+
+    private void compactSafely() {
+        try {
+            this.compact();
+        } catch (Throwable e) {
+            log.error("riff: local store:[{}] compaction failed", this.directory, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("riff: local store is closed:" + this.directory);
+        }
+    }
+
+    private static int checkSpace(int space) {
+        if (space <= META_SPACE || space > MAX_SPACE) {
+            throw new IllegalArgumentException("riff: keyspace out of range [1, " + MAX_SPACE + "]: " + space);
+        }
+
+        return space;
+    }
+
+    private static int checksum(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+
+        return (int) crc.getValue();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code Location}.
+     *
+     * @param segment  the segment holding the entry
+     * @param position the file position of the value
+     * @param length   the value length, {@code -1} for a delete
+     */
+    private record Location(Segment segment, long position, int length) {
+
+        boolean isTombstone() {
+            return this.length == TOMBSTONE;
+        }
+
+        long bytes() {
+            return ENTRY_HEADER + Math.max(0, this.length);
+        }
+    }
+
+    /**
+     * {@code Entry}.
+     *
+     * @param space the keyspace
+     * @param key   the key
+     * @param value the value, {@code null} for a delete
+     */
+    private record Entry(int space, long key, byte[] value) {
+
+        int bytes() {
+            return ENTRY_HEADER + (this.value == null ? 0 : this.value.length);
+        }
+    }
+
+    /**
+     * {@code Batch}.
+     */
+    private final class Batch implements Transaction {
+
+        private final List<Entry> entries = new ArrayList<>();
+        private final Map<Integer, Long> nextIds = new HashMap<>();
+
+        @Override
+        public byte[] get(int space, long key) {
+            checkSpace(space);
+            for (int i = this.entries.size() - 1; i >= 0; i--) {
+                Entry entry = this.entries.get(i);
+                if (entry.space() == space && entry.key() == key) {
+                    return entry.value();
+                }
+            }
+
+            return LocalStore.this.get(space, key);
+        }
+
+        @Override
+        public long nextId(int space) {
+            long id = this.nextIds.getOrDefault(checkSpace(space), LocalStore.this.sequences[space]) + 1;
+            this.nextIds.put(space, id);
+
+            return id;
+        }
+
+        @Override
+        public void put(int space, long key, byte[] value) {
+            if (value == null) {
+                throw new IllegalArgumentException("riff: value must not be null, use delete");
+            }
+
+            this.stage(checkSpace(space), key, value);
+        }
+
+        @Override
+        public void delete(int space, long key) {
+            this.stage(checkSpace(space), key, null);
+        }
+
+        private void stage(int space, long key, byte[] value) {
+            this.entries.add(new Entry(space, key, value));
+        }
+    }
+}
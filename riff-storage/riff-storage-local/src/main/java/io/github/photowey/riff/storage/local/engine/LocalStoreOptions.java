@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code LocalStoreOptions}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocalStoreOptions {
+
+    /**
+     * Rolls to a new segment once the active one would grow past this size.
+     */
+    @Builder.Default
+    private long segmentBytes = 64L * 1024 * 1024;
+    /**
+     * Forces every committed batch to disk before {@code update} returns. Without it a power loss
+     * may drop the latest batches, but never tears one.
+     */
+    @Builder.Default
+    private boolean syncOnWrite = true;
+    /**
+     * Rewrites a sealed segment once at least this fraction of it is superseded.
+     */
+    @Builder.Default
+    private double compactDeadRatio = 0.5D;
+    /**
+     * How often the background compactor runs, {@code 0} to compact only on demand.
+     */
+    @Builder.Default
+    private long compactIntervalMillis = 60_000L;
+}
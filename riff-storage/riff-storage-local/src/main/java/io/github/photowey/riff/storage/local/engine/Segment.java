@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code Segment}.
+ *
+ * <p>One append-only file of the store, named {@code %020d.seg} after its id. Appends happen under
+ * the store's write lock; positional reads are safe from any thread.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+final class Segment implements Closeable {
+
+    static final String SUFFIX = ".seg";
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+
+    private volatile long size;
+    /**
+     * Bytes of entries that a later write has superseded, guarded by the store's write lock.
+     */
+    private long deadBytes;
+
+    private Segment(long id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    static Segment create(Path directory, long id) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        return new Segment(id, path, channel, 0L);
+    }
+
+    static Segment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long id = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        return new Segment(id, path, channel, channel.size());
+    }
+
+    static String fileName(long id) {
+        return String.format("%020d", id) + SUFFIX;
+    }
+
+    // ----------------------------------------------------------------
+
+    long id() {
+        return this.id;
+    }
+
+    Path path() {
+        return this.path;
+    }
+
+    long size() {
+        return this.size;
+    }
+
+    long deadBytes() {
+        return this.deadBytes;
+    }
+
+    void markDead(long bytes) {
+        this.deadBytes += bytes;
+    }
+
+    /**
+     * @return the position the buffer was written at
+     */
+    long append(ByteBuffer buffer) throws IOException {
+        long position = this.size;
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += this.channel.write(buffer, at);
+        }
+        this.size = at;
+
+        return position;
+    }
+
+    void read(long position, ByteBuffer dst) throws IOException {
+        long at = position;
+        while (dst.hasRemaining()) {
+            int read = this.channel.read(dst, at);
+            if (read < 0) {
+                throw new IOException("riff: unexpected end of segment:" + this.path + " at:" + at);
+            }
+            at += read;
+        }
+        dst.flip();
+    }
+
+    void force() throws IOException {
+        this.channel.force(false);
+    }
+
+    void truncate(long length) throws IOException {
+        this.channel.truncate(length);
+        this.channel.force(true);
+        this.size = length;
+    }
+
+    void delete() throws IOException {
+        this.close();
+        Files.deleteIfExists(this.path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.engine;
+
+/**
+ * {@code Transaction}.
+ *
+ * <p>The writes of one {@link LocalStore#update} call. They reach the disk as a single checksummed
+ * batch, so after a crash either all of them are recovered or none is.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public interface Transaction {
+
+    /**
+     * Reads a value, seeing the writes already made in this transaction.
+     *
+     * @param space the keyspace
+     * @param key   the key
+     * @return the value, or {@code null} if absent or deleted
+     */
+    byte[] get(int space, long key);
+
+    /**
+     * Allocates the next id of a keyspace. Ids are never reused, even after their entries are
+     * deleted and compacted away.
+     *
+     * @param space the keyspace
+     * @return the id, starting at {@code 1}
+     */
+    long nextId(int space);
+
+    void put(int space, long key, byte[] value);
+
+    void delete(int space, long key);
+}
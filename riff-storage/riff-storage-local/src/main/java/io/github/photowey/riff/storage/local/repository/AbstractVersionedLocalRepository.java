@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.local.codec.Values;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.github.photowey.riff.storage.local.engine.Transaction;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code AbstractVersionedLocalRepository}.
+ *
+ * <p>Shared write path of versioned entities: the version check, the entity write and its
+ * {@link ChangeLog} entry run in one {@link LocalStore#update}, so they are committed, or lost in
+ * a crash, together.
+ *
+ * @param <T> the entity type
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+abstract class AbstractVersionedLocalRepository<T> {
+
+    protected final LocalStore store;
+
+    private final int space;
+    private final ChangeEntity entity;
+
+    protected AbstractVersionedLocalRepository(LocalStore store, int space, ChangeEntity entity) {
+        this.store = store;
+        this.space = space;
+        this.entity = entity;
+    }
+
+    // ----------------------------------------------------------------
+
+    protected Optional<T> findOne(long id) {
+        return Optional.ofNullable(this.store.get(this.space, id)).map(this::read);
+    }
+
+    protected List<T> findEvery() {
+        List<T> found = new ArrayList<>();
+        this.store.forEach(this.space, (id, value) -> found.add(this.read(value)));
+
+        return found;
+    }
+
+    protected List<T> findPage(long afterId, int limit) {
+        List<byte[]> values = this.store.scan(this.space, afterId, limit);
+        List<T> found = new ArrayList<>(values.size());
+        for (byte[] value : values) {
+            found.add(this.read(value));
+        }
+
+        return found;
+    }
+
+    protected T store(T value, Long id, long expectedVersion) {
+        long now = System.currentTimeMillis();
+
+        return this.store.update(tx -> this.storeIn(tx, value, id, expectedVersion, now));
+    }
+
+    /**
+     * Stores every value in one {@link LocalStore#update}, so a stale version anywhere stores none.
+     *
+     * @param values the values, each id at most once
+     * @param ids    reads a value's id, {@code null} for a new one
+     * @return the stored values, in the given order
+     */
+    protected List<T> storeAll(List<T> values, Function<T, Long> ids) {
+        long now = System.currentTimeMillis();
+
+        return this.store.update(tx -> {
+            Set<Long> seen = new HashSet<>();
+            List<T> stored = new ArrayList<>(values.size());
+            for (T value : values) {
+                Long id = ids.apply(value);
+                if (id != null && !seen.add(id)) {
+                    throw new IllegalArgumentException(
+                        "riff: " + this.entity + " saved twice in one batch, id:" + id);
+                }
+                stored.add(this.storeIn(tx, value, id, this.versionOf(value), now));
+            }
+
+            return stored;
+        });
+    }
+
+    protected boolean remove(long id) {
+        long now = System.currentTimeMillis();
+
+        return this.store.update(tx -> {
+            long current = this.currentVersion(tx, id);
+            if (current < 0) {
+                return false;
+            }
+
+            tx.delete(this.space, id);
+            this.appendChange(tx, id, current + 1, ChangeOperation.DELETE, now);
+
+            return true;
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    protected abstract void encode(ByteBuf out, T value);
+
+    protected abstract T decode(ByteBuf in);
+
+    protected abstract long idOf(T value);
+
+    protected abstract long versionOf(T value);
+
+    protected abstract T stored(T value, long id, long version, long updatedAt);
+
+    // ----------------------------------------------------------------
+
+    private T storeIn(Transaction tx, T value, Long id, long expectedVersion, long now) {
+        if (id == null) {
+            T stored = this.stored(value, tx.nextId(this.space), 1L, now);
+            this.write(tx, stored, ChangeOperation.UPSERT, now);
+
+            return stored;
+        }
+
+        long current = this.currentVersion(tx, id);
+        if (current < 0 || (expectedVersion > 0 && expectedVersion != current)) {
+            throw new IllegalStateException(
+                "riff: " + this.entity + " missing or modified concurrently, id:" + id);
+        }
+        T stored = this.stored(value, id, current + 1, now);
+        this.write(tx, stored, ChangeOperation.UPSERT, now);
+
+        return stored;
+    }
+
+    private T read(byte[] value) {
+        return Values.decode(value, this::decode);
+    }
+
+    private long currentVersion(Transaction tx, long id) {
+        byte[] current = tx.get(this.space, id);
+
+        return current == null ? -1L : this.versionOf(this.read(current));
+    }
+
+    private void write(Transaction tx, T stored, ChangeOperation operation, long now) {
+        tx.put(this.space, this.idOf(stored), Values.encode(out -> this.encode(out, stored)));
+        this.appendChange(tx, this.idOf(stored), this.versionOf(stored), operation, now);
+    }
+
+    private void appendChange(Transaction tx, long id, long version, ChangeOperation operation, long now) {
+        LocalChangeLogRepository.stage(tx, ChangeLog.builder()
+            .entity(this.entity)
+            .entityId(id)
+            .version(version)
+            .operation(operation)
+            .changedAt(now)
+            .build());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.photowey.riff.core.codec.WireFormat;
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+import io.github.photowey.riff.storage.local.codec.Keyspaces;
+import io.github.photowey.riff.storage.local.codec.Values;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.github.photowey.riff.storage.local.engine.Transaction;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code LocalChangeLogRepository}.
+ *
+ * <p>Ids come from the store's sequence and are allocated under its writer lock, so a change is
+ * visible before any change with a larger id, which is what tailers reading by id rely on.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class LocalChangeLogRepository implements ChangeLogRepository {
+
+    private final LocalStore store;
+
+    public LocalChangeLogRepository(LocalStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public long append(ChangeLog change) {
+        return this.store.update(tx -> stage(tx, change));
+    }
+
+    @Override
+    public int appendAll(List<ChangeLog> changes) {
+        return this.store.update(tx -> {
+            for (ChangeLog change : changes) {
+                stage(tx, change);
+            }
+
+            return changes.size();
+        });
+    }
+
+    @Override
+    public List<ChangeLog> findAfter(long afterId, int limit) {
+        List<byte[]> values = this.store.scan(Keyspaces.CHANGE_LOG, afterId, limit);
+        List<ChangeLog> changes = new ArrayList<>(values.size());
+        for (byte[] value : values) {
+            changes.add(Values.decode(value, LocalChangeLogRepository::decode));
+        }
+
+        return changes;
+    }
+
+    @Override
+    public long maxId() {
+        return this.store.lastKey(Keyspaces.CHANGE_LOG);
+    }
+
+    @Override
+    public int deleteBefore(long changedAt) {
+        return this.store.update(tx -> {
+            List<Long> expired = new ArrayList<>();
+            this.store.forEach(Keyspaces.CHANGE_LOG, (id, value) -> {
+                if (Values.decode(value, LocalChangeLogRepository::decode).getChangedAt() < changedAt) {
+                    expired.add(id);
+                }
+            });
+            for (long id : expired) {
+                tx.delete(Keyspaces.CHANGE_LOG, id);
+            }
+
+            return expired.size();
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Appends a change as part of an enclosing transaction, e.g. the entity write it records.
+     *
+     * @param tx     the transaction
+     * @param change the change, its {@code id} is ignored
+     * @return the assigned id
+     */
+    static long stage(Transaction tx, ChangeLog change) {
+        long id = tx.nextId(Keyspaces.CHANGE_LOG);
+        tx.put(Keyspaces.CHANGE_LOG, id, Values.encode(out -> {
+            WireFormat.writeVarLong(out, id);
+            WireFormat.writeString(out, change.getEntity().name());
+            WireFormat.writeVarLong(out, change.getEntityId());
+            WireFormat.writeVarLong(out, change.getVersion());
+            WireFormat.writeString(out, change.getOperation().name());
+            WireFormat.writeVarLong(out, change.getChangedAt());
+        }));
+
+        return id;
+    }
+
+    private static ChangeLog decode(ByteBuf in) {
+        return ChangeLog.builder()
+            .id(WireFormat.readVarLong(in))
+            .entity(ChangeEntity.valueOf(WireFormat.readString(in)))
+            .entityId(WireFormat.readVarLong(in))
+            .version(WireFormat.readVarLong(in))
+            .operation(ChangeOperation.valueOf(WireFormat.readString(in)))
+            .changedAt(WireFormat.readVarLong(in))
+            .build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.core.codec.WireFormat;
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+import io.github.photowey.riff.storage.api.repository.JobGroupRepository;
+import io.github.photowey.riff.storage.local.codec.Keyspaces;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code LocalJobGroupRepository}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class LocalJobGroupRepository extends AbstractVersionedLocalRepository<JobGroup> implements JobGroupRepository {
+
+    public LocalJobGroupRepository(LocalStore store) {
+        super(store, Keyspaces.JOB_GROUP, ChangeEntity.JOB_GROUP);
+    }
+
+    @Override
+    public Optional<JobGroup> findById(long id) {
+        return this.findOne(id);
+    }
+
+    @Override
+    public List<JobGroup> findAll() {
+        return this.findEvery();
+    }
+
+    @Override
+    public JobGroup save(JobGroup group) {
+        return this.store(group, group.getId(), group.getVersion());
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return this.remove(id);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected void encode(ByteBuf out, JobGroup group) {
+        WireFormat.writeVarLong(out, group.getId());
+        WireFormat.writeString(out, group.getApp());
+        WireFormat.writeString(out, group.getTitle());
+        WireFormat.writeString(out, group.getRouteStrategy());
+        WireFormat.writeVarLong(out, group.getVersion());
+        WireFormat.writeVarLong(out, group.getUpdatedAt());
+    }
+
+    @Override
+    protected JobGroup decode(ByteBuf in) {
+        return JobGroup.builder()
+            .id(WireFormat.readVarLong(in))
+            .app(WireFormat.readString(in))
+            .title(WireFormat.readString(in))
+            .routeStrategy(WireFormat.readString(in))
+            .version(WireFormat.readVarLong(in))
+            .updatedAt(WireFormat.readVarLong(in))
+            .build();
+    }
+
+    @Override
+    protected long idOf(JobGroup group) {
+        return group.getId();
+    }
+
+    @Override
+    protected long versionOf(JobGroup group) {
+        return group.getVersion();
+    }
+
+    @Override
+    protected JobGroup stored(JobGroup group, long id, long version, long updatedAt) {
+        return new JobGroup(id, group.getApp(), group.getTitle(), group.getRouteStrategy(), version, updatedAt);
+    }
+}
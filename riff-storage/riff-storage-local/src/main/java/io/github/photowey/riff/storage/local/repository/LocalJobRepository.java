@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.github.photowey.riff.core.codec.WireFormat;
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+import io.github.photowey.riff.storage.local.codec.Keyspaces;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code LocalJobRepository}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class LocalJobRepository extends AbstractVersionedLocalRepository<Job> implements JobRepository {
+
+    public LocalJobRepository(LocalStore store) {
+        super(store, Keyspaces.JOB, ChangeEntity.JOB);
+    }
+
+    @Override
+    public Optional<Job> findById(long id) {
+        return this.findOne(id);
+    }
+
+    @Override
+    public List<Job> findAll() {
+        return this.findEvery();
+    }
+
+    @Override
+    public List<Job> findAfter(long afterId, int limit) {
+        return this.findPage(afterId, limit);
+    }
+
+    @Override
+    public Job save(Job job) {
+        return this.store(job, job.getId(), job.getVersion());
+    }
+
+    @Override
+    public List<Job> saveAll(List<Job> jobs) {
+        return this.storeAll(jobs, Job::getId);
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return this.remove(id);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected void encode(ByteBuf out, Job job) {
+        WireFormat.writeVarLong(out, job.getId());
+        WireFormat.writeString(out, job.getApp());
+        WireFormat.writeString(out, job.getName());
+        WireFormat.writeString(out, job.getHandler());
+        WireFormat.writeString(out, job.getCron());
+        WireFormat.writeString(out, job.getParams());
+        WireFormat.writeString(out, job.getRouteStrategy());
+        WireFormat.writeString(out, job.getBlockStrategy());
+        WireFormat.writeString(out, job.getMisfirePolicy());
+        WireFormat.writeSignedVarInt(out, job.getTimeoutMillis());
+        out.writeBoolean(job.isEnabled());
+        WireFormat.writeVarLong(out, job.getVersion());
+        WireFormat.writeVarLong(out, job.getUpdatedAt());
+        WireFormat.writeString(out, job.getPriority());
+    }
+
+    @Override
+    protected Job decode(ByteBuf in) {
+        Job job = Job.builder()
+            .id(WireFormat.readVarLong(in))
+            .app(WireFormat.readString(in))
+            .name(WireFormat.readString(in))
+            .handler(WireFormat.readString(in))
+            .cron(WireFormat.readString(in))
+            .params(WireFormat.readString(in))
+            .routeStrategy(WireFormat.readString(in))
+            .blockStrategy(WireFormat.readString(in))
+            .misfirePolicy(WireFormat.readString(in))
+            .timeoutMillis(WireFormat.readSignedVarInt(in))
+            .enabled(in.readBoolean())
+            .version(WireFormat.readVarLong(in))
+            .updatedAt(WireFormat.readVarLong(in))
+            .build();
+        // appended later, absent from values written before
+        if (in.isReadable()) {
+            job.setPriority(WireFormat.readString(in));
+        }
+
+        return job;
+    }
+
+    @Override
+    protected long idOf(Job job) {
+        return job.getId();
+    }
+
+    @Override
+    protected long versionOf(Job job) {
+        return job.getVersion();
+    }
+
+    @Override
+    protected Job stored(Job job, long id, long version, long updatedAt) {
+        return new Job(id, job.getApp(), job.getName(), job.getHandler(), job.getCron(), job.getParams(),
+            job.getRouteStrategy(), job.getBlockStrategy(), job.getMisfirePolicy(), job.getPriority(),
+            job.getTimeoutMillis(),
+            job.isEnabled(), version, updatedAt);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.core.codec.WireFormat;
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import io.github.photowey.riff.storage.local.codec.Keyspaces;
+import io.github.photowey.riff.storage.local.codec.Values;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code LocalTriggerLogRepository}.
+ *
+ * <p>A batch is one store write, so {@link #saveAll(List)} costs a single append and fsync however
+ * many logs it carries. Queries seek in in-memory indexes of {@code (plannedAt, id)}, one across
+ * all jobs and one per job, rebuilt from the store on construction.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class LocalTriggerLogRepository implements TriggerLogRepository {
+
+    private final LocalStore store;
+    private final NavigableSet<TriggerLogCursor> all = new ConcurrentSkipListSet<>(TriggerLogCursor.NEWEST_FIRST);
+    private final Map<Long, NavigableSet<TriggerLogCursor>> byJob = new ConcurrentHashMap<>();
+
+    public LocalTriggerLogRepository(LocalStore store) {
+        this.store = store;
+        store.forEach(Keyspaces.TRIGGER_LOG, (id, value) -> this.index(Values.decode(value, this::decode)));
+    }
+
+    @Override
+    public void save(TriggerLog log) {
+        this.saveAll(List.of(log));
+    }
+
+    @Override
+    public int saveAll(List<TriggerLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+
+        List<TriggerLog> stored = this.store.update(tx -> {
+            List<TriggerLog> written = new ArrayList<>(logs.size());
+            for (TriggerLog log : logs) {
+                TriggerLog copy = copy(log, tx.nextId(Keyspaces.TRIGGER_LOG));
+                tx.put(Keyspaces.TRIGGER_LOG, copy.getId(), Values.encode(out -> this.encode(out, copy)));
+                written.add(copy);
+            }
+
+            return written;
+        });
+        stored.forEach(this::index);
+
+        return stored.size();
+    }
+
+    @Override
+    public Optional<TriggerLog> findById(long id) {
+        byte[] value = this.store.get(Keyspaces.TRIGGER_LOG, id);
+
+        return value == null ? Optional.empty() : Optional.of(Values.decode(value, this::decode));
+    }
+
+    @Override
+    public List<TriggerLog> findByJobId(long jobId, int limit) {
+        List<TriggerLog> logs = new ArrayList<>(Math.min(limit, 64));
+        this.forEach(TriggerLogQuery.builder().jobId(jobId).limit(limit).build(), logs::add);
+
+        return logs;
+    }
+
+    @Override
+    public long forEach(TriggerLogQuery query, Consumer<TriggerLog> consumer) {
+        NavigableSet<TriggerLogCursor> index = query.getJobId() == null
+            ? this.all
+            : this.byJob.getOrDefault(query.getJobId(), Collections.emptyNavigableSet());
+        long passed = 0L;
+        for (TriggerLogCursor key : index.tailSet(TriggerLogCursor.startOf(query), false)) {
+            if (passed >= query.getLimit() || key.plannedAt() < query.getFrom()) {
+                break;
+            }
+            byte[] value = this.store.get(Keyspaces.TRIGGER_LOG, key.id());
+            if (value != null) {
+                consumer.accept(Values.decode(value, this::decode));
+                passed++;
+            }
+        }
+
+        return passed;
+    }
+
+    @Override
+    public long count() {
+        return this.store.count(Keyspaces.TRIGGER_LOG);
+    }
+
+    // ----------------------------------------------------------------
+
+    private void index(TriggerLog log) {
+        TriggerLogCursor key = TriggerLogCursor.of(log);
+        this.all.add(key);
+        this.byJob.computeIfAbsent(log.getJobId(), jobId -> new ConcurrentSkipListSet<>(TriggerLogCursor.NEWEST_FIRST))
+            .add(key);
+    }
+
+    private void encode(ByteBuf out, TriggerLog log) {
+        WireFormat.writeVarLong(out, log.getId());
+        WireFormat.writeVarLong(out, log.getJobId());
+        WireFormat.writeVarLong(out, log.getPlannedAt());
+        WireFormat.writeVarLong(out, log.getTriggeredAt());
+        WireFormat.writeString(out, log.getExecutor());
+        WireFormat.writeSignedVarInt(out, log.getTriggerCode());
+        WireFormat.writeString(out, log.getTriggerMessage());
+    }
+
+    private TriggerLog decode(ByteBuf in) {
+        return TriggerLog.builder()
+            .id(WireFormat.readVarLong(in))
+            .jobId(WireFormat.readVarLong(in))
+            .plannedAt(WireFormat.readVarLong(in))
+            .triggeredAt(WireFormat.readVarLong(in))
+            .executor(WireFormat.readString(in))
+            .triggerCode(WireFormat.readSignedVarInt(in))
+            .triggerMessage(WireFormat.readString(in))
+            .build();
+    }
+
+    private static TriggerLog copy(TriggerLog log, long id) {
+        return new TriggerLog(id, log.getJobId(), log.getPlannedAt(), log.getTriggeredAt(), log.getExecutor(),
+            log.getTriggerCode(), log.getTriggerMessage());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.github.photowey.riff.core.codec.WireFormat;
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+import io.github.photowey.riff.storage.api.repository.WorkflowRunRepository;
+import io.github.photowey.riff.storage.local.codec.Keyspaces;
+import io.github.photowey.riff.storage.local.codec.Values;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * {@code LocalWorkflowRunRepository}.
+ *
+ * <p>The compare-and-set updates read and write inside one {@link LocalStore#update}, which runs
+ * under the store's writer lock. The node ids of each run are indexed in memory and rebuilt from
+ * the store on construction.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class LocalWorkflowRunRepository implements WorkflowRunRepository {
+
+    private final LocalStore store;
+    private final Map<Long, List<Long>> nodesByRun = new ConcurrentHashMap<>();
+
+    public LocalWorkflowRunRepository(LocalStore store) {
+        this.store = store;
+        store.forEach(Keyspaces.WORKFLOW_NODE_RUN, (id, value) -> this.nodesByRun
+            .computeIfAbsent(decodeNode(value).getRunId(), runId -> new CopyOnWriteArrayList<>())
+            .add(id));
+    }
+
+    @Override
+    public WorkflowRun create(WorkflowRun run, long[] jobIds) {
+        long[] nodeIds = new long[jobIds.length];
+        WorkflowRun stored = this.store.update(tx -> {
+            WorkflowRun created = new WorkflowRun(
+                tx.nextId(Keyspaces.WORKFLOW_RUN), run.getDag(), WorkflowRun.RUNNING, run.getStartedAt(), 0L);
+            tx.put(Keyspaces.WORKFLOW_RUN, created.getId(), encodeRun(created));
+            for (int i = 0; i < jobIds.length; i++) {
+                nodeIds[i] = tx.nextId(Keyspaces.WORKFLOW_NODE_RUN);
+                tx.put(Keyspaces.WORKFLOW_NODE_RUN, nodeIds[i], encodeNode(new WorkflowNodeRun(
+                    nodeIds[i], created.getId(), jobIds[i], WorkflowNodeRun.PENDING, run.getStartedAt())));
+            }
+
+            return created;
+        });
+        List<Long> nodes = new CopyOnWriteArrayList<>();
+        for (long nodeId : nodeIds) {
+            nodes.add(nodeId);
+        }
+        this.nodesByRun.put(stored.getId(), nodes);
+
+        return stored;
+    }
+
+    @Override
+    public Optional<WorkflowRun> findById(long runId) {
+        return Optional.ofNullable(this.store.get(Keyspaces.WORKFLOW_RUN, runId))
+            .map(LocalWorkflowRunRepository::decodeRun);
+    }
+
+    @Override
+    public List<WorkflowRun> findUnfinished() {
+        List<WorkflowRun> unfinished = new ArrayList<>();
+        this.store.forEach(Keyspaces.WORKFLOW_RUN, (id, value) -> {
+            WorkflowRun run = decodeRun(value);
+            if (!run.isFinished()) {
+                unfinished.add(run);
+            }
+        });
+
+        return unfinished;
+    }
+
+    @Override
+    public List<WorkflowNodeRun> findNodes(long runId) {
+        List<WorkflowNodeRun> found = new ArrayList<>();
+        for (long nodeId : this.nodesByRun.getOrDefault(runId, List.of())) {
+            byte[] value = this.store.get(Keyspaces.WORKFLOW_NODE_RUN, nodeId);
+            if (value != null) {
+                found.add(decodeNode(value));
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    public boolean updateNode(long nodeId, String expected, String status, long updatedAt) {
+        return this.store.update(tx -> {
+            byte[] value = tx.get(Keyspaces.WORKFLOW_NODE_RUN, nodeId);
+            if (value == null) {
+                return false;
+            }
+
+            WorkflowNodeRun node = decodeNode(value);
+            if (!expected.equals(node.getStatus())) {
+                return false;
+            }
+
+            tx.put(Keyspaces.WORKFLOW_NODE_RUN, nodeId, encodeNode(
+                new WorkflowNodeRun(nodeId, node.getRunId(), node.getJobId(), status, updatedAt)));
+
+            return true;
+        });
+    }
+
+    @Override
+    public boolean finish(long runId, String status, long finishedAt) {
+        return this.store.update(tx -> {
+            byte[] value = tx.get(Keyspaces.WORKFLOW_RUN, runId);
+            if (value == null) {
+                return false;
+            }
+
+            WorkflowRun run = decodeRun(value);
+            if (run.isFinished()) {
+                return false;
+            }
+
+            tx.put(Keyspaces.WORKFLOW_RUN, runId,
+                encodeRun(new WorkflowRun(runId, run.getDag(), status, run.getStartedAt(), finishedAt)));
+
+            return true;
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    private static byte[] encodeRun(WorkflowRun run) {
+        return Values.encode(out -> {
+            WireFormat.writeVarLong(out, run.getId());
+            WireFormat.writeString(out, run.getDag());
+            WireFormat.writeString(out, run.getStatus());
+            WireFormat.writeVarLong(out, run.getStartedAt());
+            WireFormat.writeVarLong(out, run.getFinishedAt());
+        });
+    }
+
+    private static WorkflowRun decodeRun(byte[] value) {
+        return Values.decode(value, (ByteBuf in) -> new WorkflowRun(WireFormat.readVarLong(in),
+            WireFormat.readString(in), WireFormat.readString(in), WireFormat.readVarLong(in),
+            WireFormat.readVarLong(in)));
+    }
+
+    private static byte[] encodeNode(WorkflowNodeRun node) {
+        return Values.encode(out -> {
+            WireFormat.writeVarLong(out, node.getId());
+            WireFormat.writeVarLong(out, node.getRunId());
+            WireFormat.writeVarLong(out, node.getJobId());
+            WireFormat.writeString(out, node.getStatus());
+            WireFormat.writeVarLong(out, node.getUpdatedAt());
+        });
+    }
+
+    private static WorkflowNodeRun decodeNode(byte[] value) {
+        return Values.decode(value, (ByteBuf in) -> new WorkflowNodeRun(WireFormat.readVarLong(in),
+            WireFormat.readVarLong(in), WireFormat.readVarLong(in), WireFormat.readString(in),
+            WireFormat.readVarLong(in)));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.github.photowey.riff.storage.local.engine.LocalStoreOptions;
+import io.github.photowey.riff.storage.local.repository.LocalChangeLogRepository;
+import io.github.photowey.riff.storage.local.repository.LocalJobRepository;
+import io.github.photowey.riff.storage.local.repository.LocalTriggerLogRepository;
+import io.github.photowey.riff.storage.local.repository.LocalWorkflowRunRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code LocalRepositoriesTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class LocalRepositoriesTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testJobs_surviveRestartWithTheirChangeLog() {
+        long kept;
+        try (LocalStore store = this.open()) {
+            LocalJobRepository jobs = new LocalJobRepository(store);
+            Job created = jobs.save(job("a"));
+            created.setCron("0 0 * * * *");
+            jobs.save(created);
+            kept = created.getId();
+            Assertions.assertTrue(jobs.delete(jobs.save(job("b")).getId()));
+        }
+
+        try (LocalStore store = this.open()) {
+            LocalJobRepository jobs = new LocalJobRepository(store);
+            List<Job> all = jobs.findAll();
+            Assertions.assertEquals(1, all.size());
+            Assertions.assertEquals("0 0 * * * *", all.get(0).getCron());
+            Assertions.assertEquals(2L, all.get(0).getVersion());
+
+            List<ChangeLog> changes = new LocalChangeLogRepository(store).findAfter(0L, 10);
+            Assertions.assertEquals(4, changes.size());
+            Assertions.assertEquals(ChangeOperation.DELETE, changes.get(3).getOperation());
+
+            Job stale = jobs.findById(kept).orElseThrow();
+            stale.setVersion(1L);
+            Assertions.assertThrows(IllegalStateException.class, () -> jobs.save(stale));
+            Assertions.assertEquals(3L, jobs.save(job("c")).getId());
+        }
+    }
+
+    @Test
+    void testTriggerLogs_indexIsRebuiltOnRestart() {
+        try (LocalStore store = this.open()) {
+            List<TriggerLog> logs = new ArrayList<>();
+            for (int i = 0; i < 90; i++) {
+                logs.add(TriggerLog.builder()
+                    .jobId(i % 3)
+                    .plannedAt(1_000L + i)
+                    .triggeredAt(1_001L + i)
+                    .executor("10.0.0.1:7070")
+                    .triggerMessage("ok")
+                    .build());
+            }
+            Assertions.assertEquals(90, new LocalTriggerLogRepository(store).saveAll(logs));
+        }
+
+        try (LocalStore store = this.open()) {
+            LocalTriggerLogRepository logs = new LocalTriggerLogRepository(store);
+            List<TriggerLog> latest = logs.findByJobId(1L, 2);
+            Assertions.assertEquals(90L, logs.count());
+            Assertions.assertEquals(2, latest.size());
+            Assertions.assertEquals(1_088L, latest.get(0).getPlannedAt());
+            Assertions.assertEquals(1_085L, latest.get(1).getPlannedAt());
+            Assertions.assertEquals(1_088L, logs.findById(latest.get(0).getId()).orElseThrow().getPlannedAt());
+            Assertions.assertTrue(logs.findById(-1L).isEmpty());
+
+            Page<TriggerLog> first = logs.findPage(TriggerLogQuery.builder().from(1_010L).to(1_020L).limit(6).build());
+            Assertions.assertEquals(1_019L, first.items().get(0).getPlannedAt());
+            Assertions.assertTrue(first.hasNext());
+            Page<TriggerLog> second = logs.findPage(TriggerLogQuery.builder()
+                .from(1_010L).to(1_020L).after(TriggerLogCursor.parse(first.next())).limit(6).build());
+            Assertions.assertEquals(4, second.items().size());
+            Assertions.assertEquals(1_013L, second.items().get(0).getPlannedAt());
+            Assertions.assertEquals(1_010L, second.items().get(3).getPlannedAt());
+            Assertions.assertFalse(second.hasNext());
+        }
+    }
+
+    @Test
+    void testWorkflowRuns_resumeAfterRestart() {
+        long runId;
+        try (LocalStore store = this.open()) {
+            LocalWorkflowRunRepository runs = new LocalWorkflowRunRepository(store);
+            WorkflowRun run = runs.create(
+                WorkflowRun.builder().dag("1,2;1>2").startedAt(10L).build(), new long[] {1L, 2L});
+            runId = run.getId();
+            long first = runs.findNodes(runId).get(0).getId();
+            Assertions.assertTrue(runs.updateNode(first, WorkflowNodeRun.PENDING, "RUNNING", 11L));
+            Assertions.assertFalse(runs.updateNode(first, WorkflowNodeRun.PENDING, "RUNNING", 12L));
+        }
+
+        try (LocalStore store = this.open()) {
+            LocalWorkflowRunRepository runs = new LocalWorkflowRunRepository(store);
+            Assertions.assertEquals(List.of(runId), runs.findUnfinished().stream().map(WorkflowRun::getId).toList());
+            List<WorkflowNodeRun> nodes = runs.findNodes(runId);
+            Assertions.assertEquals(List.of("RUNNING", WorkflowNodeRun.PENDING),
+                nodes.stream().map(WorkflowNodeRun::getStatus).toList());
+            Assertions.assertTrue(runs.finish(runId, WorkflowRun.SUCCESS, 20L));
+            Assertions.assertFalse(runs.finish(runId, WorkflowRun.FAILED, 21L));
+            Assertions.assertTrue(runs.findUnfinished().isEmpty());
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private LocalStore open() {
+        return new LocalStore(this.root, LocalStoreOptions.builder().compactIntervalMillis(0L).build());
+    }
+
+    private static Job job(String name) {
+        return Job.builder()
+            .app("riff-demo")
+            .name(name)
+            .handler("demoHandler")
+            .cron("0 */5 * * * *")
+            .enabled(true)
+            .build();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.local;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.github.photowey.riff.storage.local.engine.LocalStoreOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code LocalStoreTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class LocalStoreTest {
+
+    private static final int SPACE = 1;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testRecover_dropsTornBatchAsAWhole() throws IOException {
+        try (LocalStore store = this.open(1024L)) {
+            store.update(tx -> {
+                tx.put(SPACE, tx.nextId(SPACE), bytes("first"));
+
+                return null;
+            });
+            store.update(tx -> {
+                tx.put(SPACE, tx.nextId(SPACE), bytes("second"));
+                tx.put(SPACE, tx.nextId(SPACE), bytes("third"));
+
+                return null;
+            });
+        }
+        Path segment = this.segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (LocalStore store = this.open(1024L)) {
+            Assertions.assertEquals("first", text(store.get(SPACE, 1L)));
+            Assertions.assertNull(store.get(SPACE, 2L));
+            Assertions.assertNull(store.get(SPACE, 3L));
+            Assertions.assertEquals(1L, store.count(SPACE));
+
+            long id = store.update(tx -> {
+                long next = tx.nextId(SPACE);
+                tx.put(SPACE, next, bytes("after restart"));
+
+                return next;
+            });
+            Assertions.assertEquals(2L, id);
+        }
+        try (LocalStore store = this.open(1024L)) {
+            Assertions.assertEquals("after restart", text(store.get(SPACE, 2L)));
+        }
+    }
+
+    @Test
+    void testRecover_rejectsDamagedSealedSegment() throws IOException {
+        try (LocalStore store = this.open(64L)) {
+            for (int i = 1; i <= 8; i++) {
+                long key = i;
+                store.update(tx -> {
+                    tx.put(SPACE, key, bytes("value-" + key));
+
+                    return null;
+                });
+            }
+        }
+        Path sealed = this.segments().get(0);
+        try (FileChannel channel = FileChannel.open(sealed, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), 10L);
+        }
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.open(64L));
+    }
+
+    @Test
+    void testCompact_keepsLatestValuesAndDeletes() throws IOException {
+        try (LocalStore store = this.open(128L)) {
+            for (int round = 0; round < 10; round++) {
+                int value = round;
+                store.update(tx -> {
+                    for (long key = 1; key <= 3; key++) {
+                        tx.put(SPACE, key, bytes(key + "@" + value));
+                    }
+
+                    return null;
+                });
+            }
+            store.update(tx -> {
+                tx.delete(SPACE, 3L);
+
+                return null;
+            });
+            int before = store.segmentCount();
+
+            Assertions.assertTrue(store.compact() > 0);
+            Assertions.assertTrue(store.segmentCount() < before);
+            Assertions.assertEquals("1@9", text(store.get(SPACE, 1L)));
+            Assertions.assertNull(store.get(SPACE, 3L));
+        }
+
+        try (LocalStore store = this.open(128L)) {
+            Assertions.assertEquals("2@9", text(store.get(SPACE, 2L)));
+            Assertions.assertNull(store.get(SPACE, 3L));
+            Assertions.assertEquals(2L, store.count(SPACE));
+            Assertions.assertEquals(List.of("1@9", "2@9"), store.scan(SPACE, 0L, 10).stream()
+                .map(LocalStoreTest::text)
+                .toList());
+        }
+    }
+
+    @Test
+    void testUpdate_writesNothingWhenWorkFails() {
+        try (LocalStore store = this.open(1024L)) {
+            Assertions.assertThrows(IllegalStateException.class, () -> store.update(tx -> {
+                tx.put(SPACE, tx.nextId(SPACE), bytes("lost"));
+                throw new IllegalStateException("riff: rejected");
+            }));
+
+            Assertions.assertEquals(0L, store.count(SPACE));
+            Assertions.assertEquals(1L, (long) store.update(tx -> tx.nextId(SPACE)));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> store.get(0, 1L));
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private LocalStore open(long segmentBytes) {
+        return new LocalStore(this.root, LocalStoreOptions.builder()
+            .segmentBytes(segmentBytes)
+            .compactIntervalMillis(0L)
+            .build());
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(this.root)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.partition;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * {@code DayPartition}.
+ *
+ * <p>The {@code riff_trigger_log} partition holding one UTC day of {@code planned_at}, named
+ * {@code pYYYYMMDD}.
+ *
+ * @param day the UTC day
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public record DayPartition(LocalDate day) implements Comparable<DayPartition> {
+
+    /**
+     * The {@code MAXVALUE} partition that catches rows beyond the last day partition.
+     */
+    public static final String CATCH_ALL = "p_max";
+
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    public static DayPartition of(long epochMillis) {
+        return new DayPartition(LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC));
+    }
+
+    /**
+     * @param name a partition name
+     * @return the day partition, or empty for {@link #CATCH_ALL} and foreign names
+     */
+    public static Optional<DayPartition> parse(String name) {
+        try {
+            return Optional.of(new DayPartition(LocalDate.parse(name, NAME)));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public String name() {
+        return NAME.format(this.day);
+    }
+
+    /**
+     * @return the first {@code planned_at} of the partition, inclusive
+     */
+    public long fromMillis() {
+        return this.day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    /**
+     * @return the {@code VALUES LESS THAN} bound, exclusive
+     */
+    public long toMillis() {
+        return this.day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public int compareTo(DayPartition other) {
+        return this.day.compareTo(other.day);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.partition;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.core.limit.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code TriggerLogArchiver}.
+ *
+ * <p>Streams one day partition into {@code riff_trigger_log-pYYYYMMDD.tsv.gz}: a header line, then
+ * one row per line in the default {@code LOAD DATA INFILE} format (tab separated, backslash escaped,
+ * {@code \N} for {@code NULL}), so an archive is restored with
+ * {@code LOAD DATA INFILE ... IGNORE 1 LINES} after gunzip.
+ *
+ * <p>The range predicate on {@code planned_at} prunes to the single partition; rows are streamed
+ * rather than buffered and the read rate is capped, so archiving a 50M-row day neither holds the
+ * heap nor starves the scheduler's inserts of I/O. The file is written under a temporary name,
+ * forced and renamed, so a file with the final name is always complete.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class TriggerLogArchiver {
+
+    /**
+     * Makes MySQL Connector/J stream the result set row by row instead of loading it whole.
+     */
+    public static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    static final String HEADER = "id\tjob_id\tplanned_at\ttriggered_at\texecutor\ttrigger_code\ttrigger_message";
+
+    private static final String SELECT_RANGE = "SELECT id, job_id, planned_at, triggered_at, executor,"
+        + " trigger_code, trigger_message FROM " + TriggerLogPartitions.TABLE
+        + " WHERE planned_at >= ? AND planned_at < ?";
+
+    private static final String SUFFIX = ".tsv.gz";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final int THROTTLE_CHUNK = 256;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1_024;
+    private static final long THROTTLE_PARK_NANOS = 1_000_000L;
+
+    private final DataSource dataSource;
+    private final Path directory;
+    private final double rowsPerSecond;
+    private final int fetchSize;
+
+    public TriggerLogArchiver(DataSource dataSource, Path directory, double rowsPerSecond, int fetchSize) {
+        if (rowsPerSecond <= 0) {
+            throw new IllegalArgumentException("rowsPerSecond must be positive: " + rowsPerSecond);
+        }
+
+        this.dataSource = dataSource;
+        this.directory = directory;
+        this.rowsPerSecond = rowsPerSecond;
+        this.fetchSize = fetchSize;
+    }
+
+    // ----------------------------------------------------------------
+
+    public Path fileOf(DayPartition partition) {
+        return this.directory.resolve(TriggerLogPartitions.TABLE + "-" + partition.name() + SUFFIX);
+    }
+
+    /**
+     * Archives one partition, replacing a previous archive of the same day.
+     *
+     * @param partition the day partition
+     * @return the number of archived rows
+     */
+    public long archive(DayPartition partition) {
+        return this.archive(partition, partition.fromMillis());
+    }
+
+    /**
+     * Archives the rows of {@code partition} from {@code fromMillis} on, replacing a previous archive
+     * of the same day.
+     *
+     * @param partition  the day partition
+     * @param fromMillis the lowest {@code planned_at} held by the partition, see
+     *                   {@link TriggerLogPartitions#lowerBound(List, DayPartition)}
+     * @return the number of archived rows
+     */
+    public long archive(DayPartition partition, long fromMillis) {
+        Path target = this.fileOf(partition);
+        Path tmp = target.resolveSibling(target.getFileName() + TMP_SUFFIX);
+        TokenBucket bucket = new TokenBucket(this.rowsPerSecond, Math.max(THROTTLE_CHUNK, (int) this.rowsPerSecond));
+        long rows = 0L;
+        try {
+            Files.createDirectories(this.directory);
+            try (Connection connection = this.dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(
+                     SELECT_RANGE, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                 Writer out = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(
+                     Files.newOutputStream(tmp), WRITE_BUFFER_BYTES), StandardCharsets.UTF_8), WRITE_BUFFER_BYTES)) {
+                statement.setFetchSize(this.fetchSize);
+                statement.setLong(1, fromMillis);
+                statement.setLong(2, partition.toMillis());
+                out.write(HEADER);
+                out.write('\n');
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        if (rows % THROTTLE_CHUNK == 0) {
+                            throttle(bucket);
+                        }
+                        writeRow(out, rs);
+                        rows++;
+                    }
+                }
+            }
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (SQLException e) {
+            deleteQuietly(tmp);
+            throw new IllegalStateException("riff: archive partition:[" + partition.name() + "] failed", e);
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new UncheckedIOException("riff: archive partition:[" + partition.name() + "] failed", e);
+        }
+
+        log.info("riff: archived partition:[{}] rows:[{}] into:[{}]", partition.name(), rows, target);
+
+        return rows;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void throttle(TokenBucket bucket) {
+        while (!bucket.tryAcquire(THROTTLE_CHUNK)) {
+            LockSupport.parkNanos(THROTTLE_PARK_NANOS);
+        }
+    }
+
+    private static void writeRow(Writer out, ResultSet rs) throws SQLException, IOException {
+        out.write(Long.toString(rs.getLong(1)));
+        out.write('\t');
+        out.write(Long.toString(rs.getLong(2)));
+        out.write('\t');
+        out.write(Long.toString(rs.getLong(3)));
+        out.write('\t');
+        out.write(Long.toString(rs.getLong(4)));
+        out.write('\t');
+        writeText(out, rs.getString(5));
+        out.write('\t');
+        out.write(Integer.toString(rs.getInt(6)));
+        out.write('\t');
+        writeText(out, rs.getString(7));
+        out.write('\n');
+    }
+
+    static void writeText(Writer out, String value) throws IOException {
+        if (value == null) {
+            out.write("\\N");
+
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\0' -> out.write("\\0");
+                default -> out.write(c);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("riff: delete unfinished archive:[{}] failed", file, e);
+        }
+    }
+}
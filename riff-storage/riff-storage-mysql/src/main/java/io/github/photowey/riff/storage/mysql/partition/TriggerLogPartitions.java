@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.partition;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code TriggerLogPartitions}.
+ *
+ * <p>Maintains the daily {@code RANGE} partitions of {@code riff_trigger_log}. New days are split
+ * off the {@code p_max} catch-all while it is still empty, which MySQL does without copying rows;
+ * expired days are removed with {@code DROP PARTITION}, which frees the whole day at once instead
+ * of deleting and purging rows one by one.
+ *
+ * <p>Both statements need a short exclusive metadata lock. While waiting for it, MySQL queues every
+ * later insert behind the DDL, so each DDL runs with a short {@code lock_wait_timeout} and is simply
+ * retried on the next run if a long transaction holds the table.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class TriggerLogPartitions {
+
+    public static final String TABLE = "riff_trigger_log";
+
+    private static final String SELECT_PARTITIONS = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+        + " ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final DataSource dataSource;
+    private final int lockWaitTimeoutSeconds;
+
+    public TriggerLogPartitions(DataSource dataSource, int lockWaitTimeoutSeconds) {
+        if (lockWaitTimeoutSeconds <= 0) {
+            throw new IllegalArgumentException("lockWaitTimeoutSeconds must be positive: " + lockWaitTimeoutSeconds);
+        }
+
+        this.dataSource = dataSource;
+        this.lockWaitTimeoutSeconds = lockWaitTimeoutSeconds;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * @return the day partitions in ascending order, without {@code p_max}
+     */
+    public List<DayPartition> list() {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_PARTITIONS)) {
+            statement.setString(1, TABLE);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<DayPartition> partitions = new ArrayList<>();
+                while (rs.next()) {
+                    DayPartition.parse(rs.getString(1)).ifPresent(partitions::add);
+                }
+
+                return partitions;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: list " + TABLE + " partitions failed", e);
+        }
+    }
+
+    /**
+     * Creates the partitions up to {@code today + aheadDays} that do not exist yet.
+     *
+     * @param today     the current UTC day
+     * @param aheadDays the days to prepare after today
+     * @return the created partitions
+     */
+    public List<DayPartition> createAhead(LocalDate today, int aheadDays) {
+        List<DayPartition> missing = missing(this.list(), today, aheadDays);
+        if (!missing.isEmpty()) {
+            this.execute(reorganizeSql(missing));
+            log.info("riff: created {} partitions:[{} .. {}]",
+                TABLE, missing.get(0).name(), missing.get(missing.size() - 1).name());
+        }
+
+        return missing;
+    }
+
+    public void drop(DayPartition partition) {
+        this.execute(dropSql(partition));
+        log.info("riff: dropped {} partition:[{}]", TABLE, partition.name());
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Runs one partition DDL on its own connection under the configured {@code lock_wait_timeout}.
+     *
+     * @param ddl the statement
+     */
+    protected void execute(String ddl) {
+        try (Connection connection = this.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION lock_wait_timeout = " + this.lockWaitTimeoutSeconds);
+            statement.execute(ddl);
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: alter " + TABLE + " partitions failed: " + ddl, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Plans the days to split off {@code p_max}. Partitions must stay contiguous, so planning starts
+     * after the last existing day even if that lies in the past, in which case the split moves the
+     * rows those days already have in {@code p_max}.
+     */
+    static List<DayPartition> missing(List<DayPartition> existing, LocalDate today, int aheadDays) {
+        LocalDate next = existing.isEmpty() ? today : existing.get(existing.size() - 1).day().plusDays(1);
+        LocalDate last = today.plusDays(aheadDays);
+        List<DayPartition> missing = new ArrayList<>();
+        for (LocalDate day = next; !day.isAfter(last); day = day.plusDays(1)) {
+            missing.add(new DayPartition(day));
+        }
+
+        return missing;
+    }
+
+    /**
+     * The lowest {@code planned_at} a partition can hold. The first split of {@code p_max} gives the
+     * oldest partition only an upper bound, so it also holds every row older than its day and has
+     * to be archived without a lower bound before it is dropped.
+     *
+     * @param existing  the day partitions in ascending order
+     * @param partition one of {@code existing}
+     * @return {@link Long#MIN_VALUE} for the oldest partition, otherwise the start of its day
+     */
+    public static long lowerBound(List<DayPartition> existing, DayPartition partition) {
+        return !existing.isEmpty() && existing.get(0).equals(partition) ? Long.MIN_VALUE : partition.fromMillis();
+    }
+
+    static List<DayPartition> expired(List<DayPartition> existing, LocalDate today, int retentionDays) {
+        LocalDate oldestKept = today.minusDays(Math.max(1, retentionDays) - 1L);
+        List<DayPartition> expired = new ArrayList<>();
+        for (DayPartition partition : existing) {
+            if (partition.day().isBefore(oldestKept)) {
+                expired.add(partition);
+            }
+        }
+
+        return expired;
+    }
+
+    static String reorganizeSql(List<DayPartition> days) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(TABLE)
+            .append(" REORGANIZE PARTITION ").append(DayPartition.CATCH_ALL).append(" INTO (");
+        for (DayPartition day : days) {
+            sql.append("PARTITION ").append(day.name())
+                .append(" VALUES LESS THAN (").append(day.toMillis()).append("), ");
+        }
+
+        return sql.append("PARTITION ").append(DayPartition.CATCH_ALL).append(" VALUES LESS THAN MAXVALUE)")
+            .toString();
+    }
+
+    static String dropSql(DayPartition partition) {
+        return "ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name();
+    }
+}
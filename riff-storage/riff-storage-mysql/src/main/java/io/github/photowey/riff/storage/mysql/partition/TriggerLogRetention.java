@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.partition;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code TriggerLogRetention}.
+ *
+ * <p>Replaces row-by-row {@code DELETE ... WHERE planned_at < ?} purging of
+ * {@code riff_trigger_log}. Each run first keeps {@code aheadDays} of empty partitions ready, then
+ * archives and drops the day partitions older than {@code retentionDays}. A day is dropped only
+ * after its archive is complete; a failed run leaves everything in place for the next one.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class TriggerLogRetention {
+
+    private static final String RETENTION_THREAD_NAME = "riff-trigger-log-retention";
+
+    private final TriggerLogPartitions partitions;
+    private final TriggerLogArchiver archiver;
+    private final TriggerLogRetentionOptions options;
+    private final Clock clock;
+
+    private ScheduledExecutorService executor;
+
+    public TriggerLogRetention(DataSource dataSource, TriggerLogRetentionOptions options) {
+        this(new TriggerLogPartitions(dataSource, options.getLockWaitTimeoutSeconds()),
+            archiverOf(dataSource, options), options, Clock.systemUTC());
+    }
+
+    /**
+     * @param partitions the partition maintenance
+     * @param archiver   the archiver, {@code null} to drop without archive
+     * @param options    the retention options
+     * @param clock      the clock deciding the current UTC day
+     */
+    public TriggerLogRetention(
+        TriggerLogPartitions partitions,
+        TriggerLogArchiver archiver,
+        TriggerLogRetentionOptions options,
+        Clock clock) {
+        if (options.getRetentionDays() <= 0 || options.getAheadDays() < 0) {
+            throw new IllegalArgumentException("retentionDays must be positive and aheadDays not negative");
+        }
+
+        this.partitions = partitions;
+        this.archiver = archiver;
+        this.options = options;
+        this.clock = clock;
+    }
+
+    // ----------------------------------------------------------------
+
+    public synchronized void start() {
+        if (this.executor != null) {
+            return;
+        }
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, RETENTION_THREAD_NAME);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(
+            this::runSafely, 0L, this.options.getRunIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (this.executor == null) {
+            return;
+        }
+
+        this.executor.shutdownNow();
+        this.executor = null;
+    }
+
+    /**
+     * Runs one maintenance round.
+     *
+     * @return the dropped partitions
+     */
+    public List<DayPartition> runOnce() {
+        LocalDate today = LocalDate.ofInstant(this.clock.instant(), ZoneOffset.UTC);
+        this.partitions.createAhead(today, this.options.getAheadDays());
+
+        List<DayPartition> existing = this.partitions.list();
+        List<DayPartition> expired = TriggerLogPartitions.expired(existing, today, this.options.getRetentionDays());
+        for (DayPartition partition : expired) {
+            if (this.archiver != null) {
+                this.archiver.archive(partition, TriggerLogPartitions.lowerBound(existing, partition));
+            }
+            this.partitions.drop(partition);
+        }
+
+        return expired;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static TriggerLogArchiver archiverOf(DataSource dataSource, TriggerLogRetentionOptions options) {
+        if (options.getArchiveDirectory() == null) {
+            return null;
+        }
+
+        return new TriggerLogArchiver(dataSource, Path.of(options.getArchiveDirectory()),
+            options.getArchiveRowsPerSecond(), options.getArchiveFetchSize());
+    }
+
+    private void runSafely() {
+        try {
+            this.runOnce();
+        } catch (Throwable e) {
+            log.error("riff: trigger log retention run failed", e);
+        }
+    }
+}
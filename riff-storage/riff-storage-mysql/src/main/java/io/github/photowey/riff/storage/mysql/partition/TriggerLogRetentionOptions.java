@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.partition;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code TriggerLogRetentionOptions}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TriggerLogRetentionOptions {
+
+    /**
+     * Days of logs kept, today included. Older day partitions are dropped.
+     */
+    @Builder.Default
+    private int retentionDays = 7;
+    /**
+     * Days after today that always have their partition, so {@code p_max} stays empty.
+     */
+    @Builder.Default
+    private int aheadDays = 3;
+    /**
+     * Where expired partitions are archived before the drop, {@code null} to drop without archive.
+     */
+    private String archiveDirectory;
+    /**
+     * Caps the archive read rate, keeping the buffer pool and disks free for the scheduler's inserts.
+     */
+    @Builder.Default
+    private double archiveRowsPerSecond = 20_000D;
+    /**
+     * {@link TriggerLogArchiver#STREAMING_FETCH_SIZE} streams rows with MySQL Connector/J.
+     */
+    @Builder.Default
+    private int archiveFetchSize = TriggerLogArchiver.STREAMING_FETCH_SIZE;
+    /**
+     * How long partition DDL waits for its metadata lock before giving up until the next run.
+     */
+    @Builder.Default
+    private int lockWaitTimeoutSeconds = 2;
+    @Builder.Default
+    private long runIntervalMillis = 60L * 60 * 1_000;
+}
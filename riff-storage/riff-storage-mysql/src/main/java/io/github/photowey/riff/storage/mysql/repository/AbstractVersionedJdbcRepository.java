@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+
+/**
+ * {@code AbstractVersionedJdbcRepository}.
+ *
+ * <p>Shared write path of versioned entities: each insert, update or delete locks the row, bumps
+ * {@code version} and appends a {@link ChangeLog} row in one transaction, so a committed write is
+ * never missing from the change log and vice versa.
+ *
+ * <p>Bulk writes go through JDBC batches: one multi-row statement per kind of write once the MySQL
+ * driver runs with {@code rewriteBatchedStatements=true}, instead of a round trip per row.
+ *
+ * @param <T> the entity type
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+abstract class AbstractVersionedJdbcRepository<T> {
+
+    private static final int LOCK_CHUNK_SIZE = 1_000;
+
+    protected final DataSource dataSource;
+
+    private final String table;
+    private final ChangeEntity entity;
+    private final String selectAll;
+    private final String selectById;
+    private final String selectAfter;
+    private final String insert;
+    private final String update;
+    private final String lockVersion;
+    private final String lockVersions;
+    private final String delete;
+
+    protected AbstractVersionedJdbcRepository(
+        DataSource dataSource, String table, ChangeEntity entity, String columns) {
+        this.dataSource = dataSource;
+        this.table = table;
+        this.entity = entity;
+        this.selectAll = "SELECT id, " + columns + ", version, updated_at FROM " + table + " ORDER BY id";
+        this.selectById = "SELECT id, " + columns + ", version, updated_at FROM " + table + " WHERE id = ?";
+        this.selectAfter = "SELECT id, " + columns + ", version, updated_at FROM " + table
+            + " WHERE id > ? ORDER BY id LIMIT ?";
+        String[] names = columns.split(",\\s*");
+        this.insert = "INSERT INTO " + table + " (" + columns + ", version, updated_at) VALUES ("
+            + "?, ".repeat(names.length) + "?, ?)";
+        this.update = "UPDATE " + table + " SET " + String.join(" = ?, ", names) + " = ?, version = ?, updated_at = ?"
+            + " WHERE id = ?";
+        this.lockVersion = "SELECT version FROM " + table + " WHERE id = ? FOR UPDATE";
+        this.lockVersions = "SELECT id, version FROM " + table + " WHERE id IN (";
+        this.delete = "DELETE FROM " + table + " WHERE id = ?";
+    }
+
+    // ----------------------------------------------------------------
+
+    protected Optional<T> findOne(long id) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(this.selectById)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(this.map(rs)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query " + this.table + " failed, id:" + id, e);
+        }
+    }
+
+    protected List<T> findEvery() {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(this.selectAll);
+             ResultSet rs = statement.executeQuery()) {
+            List<T> found = new ArrayList<>();
+            while (rs.next()) {
+                found.add(this.map(rs));
+            }
+
+            return found;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query " + this.table + " failed", e);
+        }
+    }
+
+    protected List<T> findPage(long afterId, int limit) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(this.selectAfter)) {
+            statement.setLong(1, afterId);
+            statement.setInt(2, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<T> found = new ArrayList<>();
+                while (rs.next()) {
+                    found.add(this.map(rs));
+                }
+
+                return found;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query " + this.table + " failed, after:" + afterId, e);
+        }
+    }
+
+    protected T store(T value, Long id, long expectedVersion) {
+        long now = System.currentTimeMillis();
+
+        return this.inTransaction(connection -> {
+            if (id == null) {
+                long created = this.insert(connection, value, now);
+                this.appendChange(connection, created, 1L, ChangeOperation.UPSERT, now);
+
+                return this.stored(value, created, 1L, now);
+            }
+
+            long current = this.lockVersion(connection, id);
+            if (current < 0 || (expectedVersion > 0 && expectedVersion != current)) {
+                throw new IllegalStateException(
+                    "riff: " + this.table + " missing or modified concurrently, id:" + id);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(this.update)) {
+                int index = this.bind(statement, value);
+                statement.setLong(index++, current + 1);
+                statement.setLong(index++, now);
+                statement.setLong(index, id);
+                statement.executeUpdate();
+            }
+            this.appendChange(connection, id, current + 1, ChangeOperation.UPSERT, now);
+
+            return this.stored(value, id, current + 1, now);
+        });
+    }
+
+    /**
+     * Stores every value in one transaction: a batched insert of the new rows, a batched update of
+     * the existing ones, locked up front, and a batched append of their change log rows.
+     *
+     * @param values   the values, each id at most once
+     * @param ids      reads a value's id, {@code null} for a new one
+     * @param versions reads a value's expected version, {@code 0} to skip the check
+     * @return the stored values, in the given order
+     */
+    protected List<T> storeAll(List<T> values, Function<T, Long> ids, ToLongFunction<T> versions) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> inserts = new ArrayList<>();
+        Map<Long, Integer> updates = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            Long id = ids.apply(values.get(i));
+            if (id == null) {
+                inserts.add(i);
+            } else if (updates.put(id, i) != null) {
+                throw new IllegalArgumentException("riff: " + this.table + " saved twice in one batch, id:" + id);
+            }
+        }
+        long now = System.currentTimeMillis();
+
+        return this.inTransaction(connection -> {
+            List<T> stored = new ArrayList<>(values);
+            this.insertAll(connection, stored, inserts, now);
+            this.updateAll(connection, stored, updates, versions, now);
+
+            List<ChangeLog> changes = new ArrayList<>(stored.size());
+            for (T value : stored) {
+                changes.add(this.change(ids.apply(value), versions.applyAsLong(value), ChangeOperation.UPSERT, now));
+            }
+            JdbcChangeLogRepository.insertAll(connection, changes);
+
+            return stored;
+        });
+    }
+
+    protected boolean remove(long id) {
+        long now = System.currentTimeMillis();
+
+        return this.inTransaction(connection -> {
+            long current = this.lockVersion(connection, id);
+            if (current < 0) {
+                return false;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(this.delete)) {
+                statement.setLong(1, id);
+                statement.executeUpdate();
+            }
+            this.appendChange(connection, id, current + 1, ChangeOperation.DELETE, now);
+
+            return true;
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Binds the entity's columns, in declaration order, from parameter 1.
+     *
+     * @return the next parameter index
+     */
+    protected abstract int bind(PreparedStatement statement, T value) throws SQLException;
+
+    protected abstract T map(ResultSet rs) throws SQLException;
+
+    protected abstract T stored(T value, long id, long version, long updatedAt);
+
+    // ----------------------------------------------------------------
+
+    private long insert(Connection connection, T value, long now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(this.insert, Statement.RETURN_GENERATED_KEYS)) {
+            int index = this.bind(statement, value);
+            statement.setLong(index++, 1L);
+            statement.setLong(index, now);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private void insertAll(Connection connection, List<T> stored, List<Integer> indexes, long now)
+        throws SQLException {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(this.insert, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i : indexes) {
+                int index = this.bind(statement, stored.get(i));
+                statement.setLong(index++, 1L);
+                statement.setLong(index, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                for (int i : indexes) {
+                    if (!keys.next()) {
+                        throw new IllegalStateException("riff: " + this.table + " batch insert returned too few keys");
+                    }
+                    stored.set(i, this.stored(stored.get(i), keys.getLong(1), 1L, now));
+                }
+            }
+        }
+    }
+
+    private void updateAll(
+        Connection connection, List<T> stored, Map<Long, Integer> indexes, ToLongFunction<T> versions, long now)
+        throws SQLException {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> current = this.lockVersions(connection, new ArrayList<>(indexes.keySet()));
+        try (PreparedStatement statement = connection.prepareStatement(this.update)) {
+            for (Map.Entry<Long, Integer> entry : indexes.entrySet()) {
+                long id = entry.getKey();
+                T value = stored.get(entry.getValue());
+                Long version = current.get(id);
+                long expectedVersion = versions.applyAsLong(value);
+                if (version == null || (expectedVersion > 0 && expectedVersion != version)) {
+                    throw new IllegalStateException(
+                        "riff: " + this.table + " missing or modified concurrently, id:" + id);
+                }
+                int index = this.bind(statement, value);
+                statement.setLong(index++, version + 1);
+                statement.setLong(index++, now);
+                statement.setLong(index, id);
+                statement.addBatch();
+                stored.set(entry.getValue(), this.stored(value, id, version + 1, now));
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private Map<Long, Long> lockVersions(Connection connection, List<Long> ids) throws SQLException {
+        Map<Long, Long> versions = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += LOCK_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + LOCK_CHUNK_SIZE));
+            String sql = this.lockVersions + "?, ".repeat(chunk.size() - 1) + "?) FOR UPDATE";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setLong(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        versions.put(rs.getLong(1), rs.getLong(2));
+                    }
+                }
+            }
+        }
+
+        return versions;
+    }
+
+    private long lockVersion(Connection connection, long id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(this.lockVersion)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : -1L;
+            }
+        }
+    }
+
+    private <R> R inTransaction(SqlWork<R> work) {
+        try (Connection connection = this.dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                R result = work.run(connection);
+                connection.commit();
+
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: write " + this.table + " failed", e);
+        }
+    }
+
+    private void appendChange(Connection connection, long id, long version, ChangeOperation operation, long now)
+        throws SQLException {
+        JdbcChangeLogRepository.insert(connection, this.change(id, version, operation, now));
+    }
+
+    private ChangeLog change(long id, long version, ChangeOperation operation, long now) {
+        return ChangeLog.builder()
+            .entity(this.entity)
+            .entityId(id)
+            .version(version)
+            .operation(operation)
+            .changedAt(now)
+            .build();
+    }
+
+    /**
+     * {@code SqlWork}.
+     *
+     * @param <R> the result type
+     */
+    @FunctionalInterface
+    private interface SqlWork<R> {
+
+        R run(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.repository.ChangeLogRepository;
+
+/**
+ * {@code JdbcChangeLogRepository}.
+ *
+ * <p>Tailing reads are a primary-key range scan, {@code WHERE id > ? ORDER BY id LIMIT ?}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JdbcChangeLogRepository implements ChangeLogRepository {
+
+    private static final String TABLE = "riff_change_log";
+    private static final String INSERT = "INSERT INTO " + TABLE
+        + " (entity, entity_id, version, operation, changed_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_AFTER = "SELECT id, entity, entity_id, version, operation, changed_at FROM "
+        + TABLE + " WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM " + TABLE;
+    private static final String DELETE_BEFORE = "DELETE FROM " + TABLE + " WHERE changed_at < ?";
+
+    private final DataSource dataSource;
+
+    public JdbcChangeLogRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public long append(ChangeLog change) {
+        try (Connection connection = this.dataSource.getConnection()) {
+            return insert(connection, change);
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: append change log failed", e);
+        }
+    }
+
+    @Override
+    public int appendAll(List<ChangeLog> changes) {
+        try (Connection connection = this.dataSource.getConnection()) {
+            insertAll(connection, changes);
+
+            return changes.size();
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: append change log failed", e);
+        }
+    }
+
+    @Override
+    public List<ChangeLog> findAfter(long afterId, int limit) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_AFTER)) {
+            statement.setLong(1, afterId);
+            statement.setInt(2, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<ChangeLog> changes = new ArrayList<>();
+                while (rs.next()) {
+                    changes.add(map(rs));
+                }
+
+                return changes;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query change log failed, after:" + afterId, e);
+        }
+    }
+
+    @Override
+    public long maxId() {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(MAX_ID);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+
+            return rs.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query change log failed", e);
+        }
+    }
+
+    @Override
+    public int deleteBefore(long changedAt) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_BEFORE)) {
+            statement.setLong(1, changedAt);
+
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: trim change log failed", e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    static long insert(Connection connection, ChangeLog change) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            bind(statement, change);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    static void insertAll(Connection connection, List<ChangeLog> changes) throws SQLException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (ChangeLog change : changes) {
+                bind(statement, change);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void bind(PreparedStatement statement, ChangeLog change) throws SQLException {
+        statement.setString(1, change.getEntity().name());
+        statement.setLong(2, change.getEntityId());
+        statement.setLong(3, change.getVersion());
+        statement.setString(4, change.getOperation().name());
+        statement.setLong(5, change.getChangedAt());
+    }
+
+    private static ChangeLog map(ResultSet rs) throws SQLException {
+        return ChangeLog.builder()
+            .id(rs.getLong("id"))
+            .entity(ChangeEntity.valueOf(rs.getString("entity")))
+            .entityId(rs.getLong("entity_id"))
+            .version(rs.getLong("version"))
+            .operation(ChangeOperation.valueOf(rs.getString("operation")))
+            .changedAt(rs.getLong("changed_at"))
+            .build();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.ExecutorRegistration;
+import io.github.photowey.riff.storage.api.repository.ExecutorRegistryRepository;
+
+/**
+ * {@code JdbcExecutorRegistryRepository}.
+ *
+ * <p>Each call is one JDBC batch in one transaction: joins are
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} on {@code uk_app_address}, leaves are keyed deletes.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JdbcExecutorRegistryRepository implements ExecutorRegistryRepository {
+
+    private static final String TABLE = "riff_executor_registry";
+
+    private static final String UPSERT = "INSERT INTO " + TABLE + " (app, address, owner, registered_at)"
+        + " VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE owner = VALUES(owner), registered_at = VALUES(registered_at)";
+    private static final String DELETE = "DELETE FROM " + TABLE + " WHERE app = ? AND address = ?";
+    private static final String SELECT_ALL =
+        "SELECT app, address, owner, registered_at FROM " + TABLE + " ORDER BY app, address";
+
+    private final DataSource dataSource;
+
+    public JdbcExecutorRegistryRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public int registerAll(Collection<ExecutorRegistration> registrations) {
+        if (registrations.isEmpty()) {
+            return 0;
+        }
+
+        this.batch(UPSERT, registrations, true);
+
+        return registrations.size();
+    }
+
+    @Override
+    public int unregisterAll(Collection<ExecutorRegistration> registrations) {
+        if (registrations.isEmpty()) {
+            return 0;
+        }
+
+        return this.batch(DELETE, registrations, false);
+    }
+
+    @Override
+    public List<ExecutorRegistration> findAll() {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_ALL);
+             ResultSet rs = statement.executeQuery()) {
+            List<ExecutorRegistration> registrations = new ArrayList<>();
+            while (rs.next()) {
+                registrations.add(ExecutorRegistration.builder()
+                    .app(rs.getString("app"))
+                    .address(rs.getString("address"))
+                    .owner(rs.getString("owner"))
+                    .registeredAt(rs.getLong("registered_at"))
+                    .build());
+            }
+
+            return registrations;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query executor registry failed", e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private int batch(String sql, Collection<ExecutorRegistration> registrations, boolean upsert) {
+        try (Connection connection = this.dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (ExecutorRegistration registration : registrations) {
+                    statement.setString(1, registration.getApp());
+                    statement.setString(2, registration.getAddress());
+                    if (upsert) {
+                        statement.setString(3, registration.getOwner());
+                        statement.setLong(4, registration.getRegisteredAt());
+                    }
+                    statement.addBatch();
+                }
+
+                int affected = affected(statement.executeBatch());
+                connection.commit();
+
+                return affected;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: write executor registry failed, size:" + registrations.size(), e);
+        }
+    }
+
+    private static int affected(int[] counts) {
+        int affected = 0;
+        for (int count : counts) {
+            affected += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+        }
+
+        return affected;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+import io.github.photowey.riff.storage.api.repository.JobGroupRepository;
+
+/**
+ * {@code JdbcJobGroupRepository}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JdbcJobGroupRepository extends AbstractVersionedJdbcRepository<JobGroup> implements JobGroupRepository {
+
+    private static final String COLUMNS = "app, title, route_strategy";
+
+    public JdbcJobGroupRepository(DataSource dataSource) {
+        super(dataSource, "riff_job_group", ChangeEntity.JOB_GROUP, COLUMNS);
+    }
+
+    @Override
+    public Optional<JobGroup> findById(long id) {
+        return this.findOne(id);
+    }
+
+    @Override
+    public List<JobGroup> findAll() {
+        return this.findEvery();
+    }
+
+    @Override
+    public JobGroup save(JobGroup group) {
+        return this.store(group, group.getId(), group.getVersion());
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return this.remove(id);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected int bind(PreparedStatement statement, JobGroup group) throws SQLException {
+        int index = 1;
+        statement.setString(index++, group.getApp());
+        statement.setString(index++, group.getTitle());
+        statement.setString(index++, group.getRouteStrategy());
+
+        return index;
+    }
+
+    @Override
+    protected JobGroup map(ResultSet rs) throws SQLException {
+        return JobGroup.builder()
+            .id(rs.getLong("id"))
+            .app(rs.getString("app"))
+            .title(rs.getString("title"))
+            .routeStrategy(rs.getString("route_strategy"))
+            .version(rs.getLong("version"))
+            .updatedAt(rs.getLong("updated_at"))
+            .build();
+    }
+
+    @Override
+    protected JobGroup stored(JobGroup group, long id, long version, long updatedAt) {
+        return new JobGroup(id, group.getApp(), group.getTitle(), group.getRouteStrategy(), version, updatedAt);
+    }
+}
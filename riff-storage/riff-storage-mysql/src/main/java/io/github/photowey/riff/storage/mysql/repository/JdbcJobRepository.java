@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+
+/**
+ * {@code JdbcJobRepository}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JdbcJobRepository extends AbstractVersionedJdbcRepository<Job> implements JobRepository {
+
+    private static final String COLUMNS = "app, name, handler, cron, params, route_strategy, block_strategy, "
+        + "misfire_policy, priority, timeout_millis, enabled";
+
+    public JdbcJobRepository(DataSource dataSource) {
+        super(dataSource, "riff_job", ChangeEntity.JOB, COLUMNS);
+    }
+
+    @Override
+    public Optional<Job> findById(long id) {
+        return this.findOne(id);
+    }
+
+    @Override
+    public List<Job> findAll() {
+        return this.findEvery();
+    }
+
+    @Override
+    public List<Job> findAfter(long afterId, int limit) {
+        return this.findPage(afterId, limit);
+    }
+
+    @Override
+    public Job save(Job job) {
+        return this.store(job, job.getId(), job.getVersion());
+    }
+
+    @Override
+    public List<Job> saveAll(List<Job> jobs) {
+        return this.storeAll(jobs, Job::getId, Job::getVersion);
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return this.remove(id);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected int bind(PreparedStatement statement, Job job) throws SQLException {
+        int index = 1;
+        statement.setString(index++, job.getApp());
+        statement.setString(index++, job.getName());
+        statement.setString(index++, job.getHandler());
+        statement.setString(index++, job.getCron());
+        statement.setString(index++, job.getParams());
+        statement.setString(index++, job.getRouteStrategy());
+        statement.setString(index++, job.getBlockStrategy());
+        statement.setString(index++, job.getMisfirePolicy());
+        statement.setString(index++, job.getPriority());
+        statement.setInt(index++, job.getTimeoutMillis());
+        statement.setBoolean(index++, job.isEnabled());
+
+        return index;
+    }
+
+    @Override
+    protected Job map(ResultSet rs) throws SQLException {
+        return Job.builder()
+            .id(rs.getLong("id"))
+            .app(rs.getString("app"))
+            .name(rs.getString("name"))
+            .handler(rs.getString("handler"))
+            .cron(rs.getString("cron"))
+            .params(rs.getString("params"))
+            .routeStrategy(rs.getString("route_strategy"))
+            .blockStrategy(rs.getString("block_strategy"))
+            .misfirePolicy(rs.getString("misfire_policy"))
+            .priority(rs.getString("priority"))
+            .timeoutMillis(rs.getInt("timeout_millis"))
+            .enabled(rs.getBoolean("enabled"))
+            .version(rs.getLong("version"))
+            .updatedAt(rs.getLong("updated_at"))
+            .build();
+    }
+
+    @Override
+    protected Job stored(Job job, long id, long version, long updatedAt) {
+        return new Job(id, job.getApp(), job.getName(), job.getHandler(), job.getCron(), job.getParams(),
+            job.getRouteStrategy(), job.getBlockStrategy(), job.getMisfirePolicy(), job.getPriority(),
+            job.getTimeoutMillis(),
+            job.isEnabled(), version, updatedAt);
+    }
+}
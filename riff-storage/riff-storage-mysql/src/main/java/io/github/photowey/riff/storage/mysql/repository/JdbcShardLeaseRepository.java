@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.ShardLease;
+import io.github.photowey.riff.storage.api.repository.ShardLeaseRepository;
+
+/**
+ * {@code JdbcShardLeaseRepository}.
+ *
+ * <p>One {@code riff_shard_lease} row per shard and one {@code riff_scheduler_node} row per
+ * scheduler. A lease is claimed with {@code UPDATE ... WHERE shard = ? AND (owner = ? OR
+ * expires_at <= ?)}, which bumps {@code epoch} whenever the owner changes; renew and release
+ * additionally match the epoch, so a node that lost its lease cannot touch the row again.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public class JdbcShardLeaseRepository implements ShardLeaseRepository {
+
+    private static final String LEASE_TABLE = "riff_shard_lease";
+    private static final String NODE_TABLE = "riff_scheduler_node";
+
+    private static final String INSERT_LEASE = "INSERT INTO " + LEASE_TABLE + " (shard, owner, epoch, expires_at)"
+        + " VALUES (?, NULL, 0, 0) ON DUPLICATE KEY UPDATE shard = VALUES(shard)";
+    // epoch is assigned before owner: MySQL evaluates SET left to right against the updated row
+    private static final String ACQUIRE = "UPDATE " + LEASE_TABLE
+        + " SET epoch = CASE WHEN owner = ? AND expires_at > ? THEN epoch ELSE epoch + 1 END,"
+        + " owner = ?, expires_at = ? WHERE shard = ? AND (owner = ? OR expires_at <= ?)";
+    private static final String RENEW = "UPDATE " + LEASE_TABLE
+        + " SET expires_at = ? WHERE shard = ? AND owner = ? AND epoch = ? AND expires_at > ?";
+    private static final String RELEASE = "UPDATE " + LEASE_TABLE
+        + " SET owner = NULL, expires_at = 0 WHERE shard = ? AND owner = ? AND epoch = ?";
+    private static final String SELECT_LEASE =
+        "SELECT shard, owner, epoch, expires_at FROM " + LEASE_TABLE + " WHERE shard = ?";
+    private static final String SELECT_LEASES =
+        "SELECT shard, owner, epoch, expires_at FROM " + LEASE_TABLE + " ORDER BY shard";
+    private static final String KEEP_ALIVE = "INSERT INTO " + NODE_TABLE + " (node, expires_at) VALUES (?, ?)"
+        + " ON DUPLICATE KEY UPDATE expires_at = VALUES(expires_at)";
+    private static final String SELECT_LIVE_NODES =
+        "SELECT node FROM " + NODE_TABLE + " WHERE expires_at > ? ORDER BY node";
+
+    private final DataSource dataSource;
+
+    public JdbcShardLeaseRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void initialize(int shardCount) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_LEASE)) {
+            for (int shard = 0; shard < shardCount; shard++) {
+                statement.setInt(1, shard);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: initialize shard leases failed, shards:" + shardCount, e);
+        }
+    }
+
+    @Override
+    public Optional<ShardLease> tryAcquire(int shard, String owner, long nowMillis, long ttlMillis) {
+        try (Connection connection = this.dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(ACQUIRE)) {
+                statement.setString(1, owner);
+                statement.setLong(2, nowMillis);
+                statement.setString(3, owner);
+                statement.setLong(4, nowMillis + ttlMillis);
+                statement.setInt(5, shard);
+                statement.setString(6, owner);
+                statement.setLong(7, nowMillis);
+                if (statement.executeUpdate() != 1) {
+                    return Optional.empty();
+                }
+            }
+
+            Optional<ShardLease> lease = findLease(connection, shard);
+
+            return lease.filter(acquired -> acquired.isOwnedBy(owner, nowMillis));
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: acquire shard lease failed, shard:" + shard, e);
+        }
+    }
+
+    @Override
+    public boolean renew(int shard, String owner, long epoch, long nowMillis, long ttlMillis) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(RENEW)) {
+            statement.setLong(1, nowMillis + ttlMillis);
+            statement.setInt(2, shard);
+            statement.setString(3, owner);
+            statement.setLong(4, epoch);
+            statement.setLong(5, nowMillis);
+
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: renew shard lease failed, shard:" + shard, e);
+        }
+    }
+
+    @Override
+    public boolean release(int shard, String owner, long epoch) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(RELEASE)) {
+            statement.setInt(1, shard);
+            statement.setString(2, owner);
+            statement.setLong(3, epoch);
+
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: release shard lease failed, shard:" + shard, e);
+        }
+    }
+
+    @Override
+    public List<ShardLease> findAll() {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_LEASES);
+             ResultSet rs = statement.executeQuery()) {
+            List<ShardLease> leases = new ArrayList<>();
+            while (rs.next()) {
+                leases.add(mapLease(rs));
+            }
+
+            return leases;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query shard leases failed", e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void keepAlive(String node, long expiresAt) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(KEEP_ALIVE)) {
+            statement.setString(1, node);
+            statement.setLong(2, expiresAt);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: keep scheduler node alive failed, node:" + node, e);
+        }
+    }
+
+    @Override
+    public List<String> findLiveNodes(long nowMillis) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_LIVE_NODES)) {
+            statement.setLong(1, nowMillis);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<String> nodes = new ArrayList<>();
+                while (rs.next()) {
+                    nodes.add(rs.getString("node"));
+                }
+
+                return nodes;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query live scheduler nodes failed", e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Optional<ShardLease> findLease(Connection connection, int shard) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_LEASE)) {
+            statement.setInt(1, shard);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(mapLease(rs)) : Optional.empty();
+            }
+        }
+    }
+
+    private static ShardLease mapLease(ResultSet rs) throws SQLException {
+        return ShardLease.builder()
+            .shard(rs.getInt("shard"))
+            .owner(rs.getString("owner"))
+            .epoch(rs.getLong("epoch"))
+            .expiresAt(rs.getLong("expires_at"))
+            .build();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import io.github.photowey.riff.storage.mysql.partition.TriggerLogArchiver;
+
+/**
+ * {@code JdbcTriggerLogRepository}.
+ *
+ * <p>Writes batches as multi-row {@code INSERT ... VALUES (...), (...)} statements of at most
+ * {@code rowsPerStatement} rows inside one transaction, which is what MySQL Connector/J's
+ * {@code rewriteBatchedStatements=true} would produce, without depending on the URL flag.
+ *
+ * <p>Queries seek on {@code (planned_at, id)} instead of {@code OFFSET}, and always bound
+ * {@code planned_at} so MySQL prunes the day partitions outside the range. Rows are streamed with
+ * {@code fetchSize} rather than materialized, see {@link TriggerLogArchiver#STREAMING_FETCH_SIZE}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JdbcTriggerLogRepository implements TriggerLogRepository {
+
+    public static final int DEFAULT_ROWS_PER_STATEMENT = 500;
+
+    private static final String TABLE = "riff_trigger_log";
+    private static final String COLUMNS =
+        "job_id, planned_at, triggered_at, executor, trigger_code, trigger_message";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT =
+        "SELECT id, " + COLUMNS + " FROM " + TABLE + " WHERE planned_at >= ? AND planned_at < ?";
+    private static final String SELECT_BY_ID = "SELECT id, " + COLUMNS + " FROM " + TABLE + " WHERE id = ?";
+    private static final String AND_JOB = " AND job_id = ?";
+    private static final String AND_AFTER = " AND planned_at <= ? AND (planned_at < ? OR id < ?)";
+    private static final String ORDER_LIMIT = " ORDER BY planned_at DESC, id DESC LIMIT ?";
+    private static final String COUNT = "SELECT COUNT(*) FROM " + TABLE;
+
+    private final DataSource dataSource;
+    private final int rowsPerStatement;
+    private final int fetchSize;
+    private final String fullInsert;
+
+    public JdbcTriggerLogRepository(DataSource dataSource) {
+        this(dataSource, DEFAULT_ROWS_PER_STATEMENT);
+    }
+
+    public JdbcTriggerLogRepository(DataSource dataSource, int rowsPerStatement) {
+        this(dataSource, rowsPerStatement, TriggerLogArchiver.STREAMING_FETCH_SIZE);
+    }
+
+    public JdbcTriggerLogRepository(DataSource dataSource, int rowsPerStatement, int fetchSize) {
+        if (rowsPerStatement <= 0) {
+            throw new IllegalArgumentException("rowsPerStatement must be positive: " + rowsPerStatement);
+        }
+
+        this.dataSource = dataSource;
+        this.rowsPerStatement = rowsPerStatement;
+        this.fetchSize = fetchSize;
+        this.fullInsert = insertSql(rowsPerStatement);
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public void save(TriggerLog log) {
+        this.saveAll(List.of(log));
+    }
+
+    @Override
+    public int saveAll(List<TriggerLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection connection = this.dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int inserted = this.insert(connection, logs);
+                connection.commit();
+
+                return inserted;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: insert trigger logs failed, size:" + logs.size(), e);
+        }
+    }
+
+    @Override
+    public Optional<TriggerLog> findById(long id) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(map(rs)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query trigger log failed, id:" + id, e);
+        }
+    }
+
+    @Override
+    public List<TriggerLog> findByJobId(long jobId, int limit) {
+        List<TriggerLog> logs = new ArrayList<>(Math.min(limit, 64));
+        this.forEach(TriggerLogQuery.builder().jobId(jobId).limit(limit).build(), logs::add);
+
+        return logs;
+    }
+
+    @Override
+    public long forEach(TriggerLogQuery query, Consumer<TriggerLog> consumer) {
+        if (query.getLimit() <= 0 || query.getFrom() >= query.getTo()) {
+            return 0L;
+        }
+
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 selectSql(query), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(this.fetchSize);
+            bind(statement, query);
+            long passed = 0L;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        consumer.accept(map(rs));
+                    } catch (RuntimeException e) {
+                        // A streaming result set would otherwise drain every remaining row on close.
+                        statement.cancel();
+                        throw e;
+                    }
+                    passed++;
+                }
+            }
+
+            return passed;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query trigger logs failed, query:" + query, e);
+        }
+    }
+
+    @Override
+    public long count() {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(COUNT);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+
+            return rs.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: count trigger logs failed", e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private int insert(Connection connection, List<TriggerLog> logs) throws SQLException {
+        int inserted = 0;
+        for (int from = 0; from < logs.size(); from += this.rowsPerStatement) {
+            int to = Math.min(logs.size(), from + this.rowsPerStatement);
+            String sql = to - from == this.rowsPerStatement ? this.fullInsert : insertSql(to - from);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (int i = from; i < to; i++) {
+                    index = bind(statement, index, logs.get(i));
+                }
+                inserted += statement.executeUpdate();
+            }
+        }
+
+        return inserted;
+    }
+
+    private static String selectSql(TriggerLogQuery query) {
+        return SELECT
+            + (query.getJobId() == null ? "" : AND_JOB)
+            + (query.getAfter() == null ? "" : AND_AFTER)
+            + ORDER_LIMIT;
+    }
+
+    private static void bind(PreparedStatement statement, TriggerLogQuery query) throws SQLException {
+        int index = 1;
+        statement.setLong(index++, query.getFrom());
+        statement.setLong(index++, query.getTo());
+        if (query.getJobId() != null) {
+            statement.setLong(index++, query.getJobId());
+        }
+        TriggerLogCursor after = query.getAfter();
+        if (after != null) {
+            statement.setLong(index++, after.plannedAt());
+            statement.setLong(index++, after.plannedAt());
+            statement.setLong(index++, after.id());
+        }
+        statement.setInt(index, query.getLimit());
+    }
+
+    private static int bind(PreparedStatement statement, int start, TriggerLog log) throws SQLException {
+        int index = start;
+        statement.setLong(index++, log.getJobId());
+        statement.setLong(index++, log.getPlannedAt());
+        statement.setLong(index++, log.getTriggeredAt());
+        statement.setString(index++, log.getExecutor());
+        statement.setInt(index++, log.getTriggerCode());
+        statement.setString(index++, log.getTriggerMessage());
+
+        return index;
+    }
+
+    private static TriggerLog map(ResultSet rs) throws SQLException {
+        return TriggerLog.builder()
+            .id(rs.getLong("id"))
+            .jobId(rs.getLong("job_id"))
+            .plannedAt(rs.getLong("planned_at"))
+            .triggeredAt(rs.getLong("triggered_at"))
+            .executor(rs.getString("executor"))
+            .triggerCode(rs.getInt("trigger_code"))
+            .triggerMessage(rs.getString("trigger_message"))
+            .build();
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(64 + rows * (ROW_PLACEHOLDERS.length() + 2))
+            .append("INSERT INTO ").append(TABLE).append(" (").append(COLUMNS).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+
+        return sql.toString();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+import io.github.photowey.riff.storage.api.repository.WorkflowRunRepository;
+
+/**
+ * {@code JdbcWorkflowRunRepository}.
+ *
+ * <p>A run and its node rows are inserted in one transaction, the nodes as one JDBC batch.
+ * Transitions are {@code UPDATE ... WHERE id = ? AND status = ?}, so they need no lock.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JdbcWorkflowRunRepository implements WorkflowRunRepository {
+
+    private static final String RUN_TABLE = "riff_workflow_run";
+    private static final String NODE_TABLE = "riff_workflow_node_run";
+
+    private static final String RUN_COLUMNS = "id, dag, status, started_at, finished_at";
+    private static final String NODE_COLUMNS = "id, run_id, job_id, status, updated_at";
+
+    private static final String INSERT_RUN =
+        "INSERT INTO " + RUN_TABLE + " (dag, status, started_at, finished_at) VALUES (?, ?, ?, 0)";
+    private static final String INSERT_NODE =
+        "INSERT INTO " + NODE_TABLE + " (run_id, job_id, status, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_RUN = "SELECT " + RUN_COLUMNS + " FROM " + RUN_TABLE + " WHERE id = ?";
+    private static final String SELECT_UNFINISHED =
+        "SELECT " + RUN_COLUMNS + " FROM " + RUN_TABLE + " WHERE status = ? ORDER BY id";
+    private static final String SELECT_NODES =
+        "SELECT " + NODE_COLUMNS + " FROM " + NODE_TABLE + " WHERE run_id = ? ORDER BY id";
+    private static final String UPDATE_NODE =
+        "UPDATE " + NODE_TABLE + " SET status = ?, updated_at = ? WHERE id = ? AND status = ?";
+    private static final String FINISH_RUN =
+        "UPDATE " + RUN_TABLE + " SET status = ?, finished_at = ? WHERE id = ? AND status = ?";
+
+    private final DataSource dataSource;
+
+    public JdbcWorkflowRunRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public WorkflowRun create(WorkflowRun run, long[] jobIds) {
+        try (Connection connection = this.dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long runId = insertRun(connection, run);
+                insertNodes(connection, runId, jobIds, run.getStartedAt());
+                connection.commit();
+
+                return new WorkflowRun(runId, run.getDag(), WorkflowRun.RUNNING, run.getStartedAt(), 0L);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: create workflow run failed, nodes:" + jobIds.length, e);
+        }
+    }
+
+    @Override
+    public Optional<WorkflowRun> findById(long runId) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_RUN)) {
+            statement.setLong(1, runId);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(mapRun(rs)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query workflow run failed, id:" + runId, e);
+        }
+    }
+
+    @Override
+    public List<WorkflowRun> findUnfinished() {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_UNFINISHED)) {
+            statement.setString(1, WorkflowRun.RUNNING);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<WorkflowRun> runs = new ArrayList<>();
+                while (rs.next()) {
+                    runs.add(mapRun(rs));
+                }
+
+                return runs;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query unfinished workflow runs failed", e);
+        }
+    }
+
+    @Override
+    public List<WorkflowNodeRun> findNodes(long runId) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_NODES)) {
+            statement.setLong(1, runId);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<WorkflowNodeRun> nodes = new ArrayList<>();
+                while (rs.next()) {
+                    nodes.add(mapNode(rs));
+                }
+
+                return nodes;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: query workflow nodes failed, run:" + runId, e);
+        }
+    }
+
+    @Override
+    public boolean updateNode(long nodeId, String expected, String status, long updatedAt) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(UPDATE_NODE)) {
+            statement.setString(1, status);
+            statement.setLong(2, updatedAt);
+            statement.setLong(3, nodeId);
+            statement.setString(4, expected);
+
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: update workflow node failed, id:" + nodeId, e);
+        }
+    }
+
+    @Override
+    public boolean finish(long runId, String status, long finishedAt) {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FINISH_RUN)) {
+            statement.setString(1, status);
+            statement.setLong(2, finishedAt);
+            statement.setLong(3, runId);
+            statement.setString(4, WorkflowRun.RUNNING);
+
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: finish workflow run failed, id:" + runId, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static long insertRun(Connection connection, WorkflowRun run) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_RUN, Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, run.getDag());
+            statement.setString(2, WorkflowRun.RUNNING);
+            statement.setLong(3, run.getStartedAt());
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private static void insertNodes(Connection connection, long runId, long[] jobIds, long now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_NODE)) {
+            for (long jobId : jobIds) {
+                statement.setLong(1, runId);
+                statement.setLong(2, jobId);
+                statement.setString(3, WorkflowNodeRun.PENDING);
+                statement.setLong(4, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static WorkflowRun mapRun(ResultSet rs) throws SQLException {
+        return WorkflowRun.builder()
+            .id(rs.getLong("id"))
+            .dag(rs.getString("dag"))
+            .status(rs.getString("status"))
+            .startedAt(rs.getLong("started_at"))
+            .finishedAt(rs.getLong("finished_at"))
+            .build();
+    }
+
+    private static WorkflowNodeRun mapNode(ResultSet rs) throws SQLException {
+        return WorkflowNodeRun.builder()
+            .id(rs.getLong("id"))
+            .runId(rs.getLong("run_id"))
+            .jobId(rs.getLong("job_id"))
+            .status(rs.getString("status"))
+            .updatedAt(rs.getLong("updated_at"))
+            .build();
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.writer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import io.github.photowey.riff.core.metric.MetricNames;
+import io.github.photowey.riff.core.metric.MetricSummary;
+import io.github.photowey.riff.core.metric.MetricTimer;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.github.photowey.riff.core.queue.MpscArrayQueue;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code TriggerLogBatchWriter}.
+ *
+ * <p>Group-commit writer in front of a {@link TriggerLogRepository}. Firing threads enqueue into a
+ * bounded lock-free queue and return immediately; a single flusher thread writes a batch as soon
+ * as {@code batchSize} logs are queued or {@code flushIntervalMillis} has passed, whichever comes
+ * first. A slow database fills the queue, and producers then either get {@code false} from
+ * {@link #offer(TriggerLog)} or wait in {@link #offer(TriggerLog, long, TimeUnit)}; both are
+ * counted in {@link #metrics()}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class TriggerLogBatchWriter implements AutoCloseable {
+
+    private static final String FLUSHER_THREAD_NAME = "riff-trigger-log-writer";
+    private static final long MAX_BLOCK_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String TABLE_TAG = "table";
+    private static final String TABLE = "riff_trigger_log";
+
+    private final TriggerLogRepository repository;
+    private final TriggerLogWriterOptions options;
+    private final MpscArrayQueue<TriggerLog> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final MetricSummary batchSizes;
+    private final MetricTimer flushTimer;
+
+    private final AtomicBoolean sleeping = new AtomicBoolean();
+    // producers past the first running check; close() drains only once none are left, and late
+    // producers are turned away before registering, so they cannot keep close() waiting
+    private final AtomicInteger offering = new AtomicInteger();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+
+    // written by the flusher thread only
+    private volatile long written;
+    private volatile long flushes;
+    private volatile long failed;
+    private volatile long lostOnShutdown;
+    private volatile int lastBatchSize;
+    private volatile long flushNanos;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TriggerLogBatchWriter(TriggerLogRepository repository) {
+        this(repository, TriggerLogWriterOptions.builder().build());
+    }
+
+    public TriggerLogBatchWriter(TriggerLogRepository repository, TriggerLogWriterOptions options) {
+        this(repository, options, RiffMetrics.NOOP);
+    }
+
+    public TriggerLogBatchWriter(
+        TriggerLogRepository repository, TriggerLogWriterOptions options, RiffMetrics metrics) {
+        if (options.getBatchSize() <= 0 || options.getFlushIntervalMillis() <= 0) {
+            throw new IllegalArgumentException("batchSize and flushIntervalMillis must be positive");
+        }
+
+        this.repository = repository;
+        this.options = options;
+        this.queue = new MpscArrayQueue<>(options.getCapacity());
+        this.batchSize = Math.min(options.getBatchSize(), this.queue.capacity());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(options.getFlushIntervalMillis());
+        this.batchSizes = metrics.summary(MetricNames.STORAGE_BATCH_SIZE, TABLE_TAG, TABLE);
+        this.flushTimer = metrics.timer(MetricNames.STORAGE_FLUSH, TABLE_TAG, TABLE);
+        metrics.gauge(MetricNames.STORAGE_QUEUE_DEPTH, this.queue, MpscArrayQueue::size, TABLE_TAG, TABLE);
+    }
+
+    // ----------------------------------------------------------------
+
+    public synchronized void start() {
+        if (this.flusher != null) {
+            return;
+        }
+
+        this.running = true;
+        this.flusher = new Thread(this::run, FLUSHER_THREAD_NAME);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Stops the flusher and writes what is still queued according to the {@link ShutdownPolicy}.
+     * Logs offered concurrently with {@code close()} are either rejected or written by the final
+     * drain, never accepted and left behind.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.flusher == null) {
+            return;
+        }
+
+        this.running = false;
+        LockSupport.unpark(this.flusher);
+        try {
+            this.flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.flusher = null;
+        while (this.offering.get() > 0) {
+            Thread.onSpinWait();
+        }
+        this.drainOnShutdown();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Enqueues without blocking.
+     *
+     * @return {@code false} if the writer is closed or the queue is full
+     */
+    public boolean offer(TriggerLog log) {
+        if (!this.running) {
+            this.rejected.increment();
+
+            return false;
+        }
+
+        this.offering.incrementAndGet();
+        try {
+            if (!this.running || !this.queue.offer(log)) {
+                this.rejected.increment();
+
+                return false;
+            }
+        } finally {
+            this.offering.decrementAndGet();
+        }
+
+        this.enqueued.increment();
+        this.signalIfBatchReady();
+
+        return true;
+    }
+
+    /**
+     * Enqueues, waiting up to {@code timeout} for the flusher to free space.
+     *
+     * @return {@code false} if the writer is closed or the timeout elapsed
+     */
+    public boolean offer(TriggerLog log, long timeout, TimeUnit unit) {
+        if (!this.running) {
+            this.rejected.increment();
+
+            return false;
+        }
+
+        this.offering.incrementAndGet();
+        try {
+            return this.offerBlocking(log, unit.toNanos(timeout));
+        } finally {
+            this.offering.decrementAndGet();
+        }
+    }
+
+    public TriggerLogWriterMetrics metrics() {
+        return TriggerLogWriterMetrics.builder()
+            .queueDepth(this.queue.size())
+            .queueCapacity(this.queue.capacity())
+            .enqueued(this.enqueued.sum())
+            .rejected(this.rejected.sum())
+            .blockedNanos(this.blockedNanos.sum())
+            .written(this.written)
+            .flushes(this.flushes)
+            .failed(this.failed)
+            .lostOnShutdown(this.lostOnShutdown)
+            .lastBatchSize(this.lastBatchSize)
+            .flushNanos(this.flushNanos)
+            .build();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void run() {
+        List<TriggerLog> batch = new ArrayList<>(this.batchSize);
+        while (this.running) {
+            this.awaitBatch();
+            this.flush(batch);
+        }
+    }
+
+    private void awaitBatch() {
+        long deadline = System.nanoTime() + this.flushIntervalNanos;
+        while (this.running && this.queue.size() < this.batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            this.sleeping.set(true);
+            if (this.queue.size() < this.batchSize) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            this.sleeping.set(false);
+        }
+    }
+
+    private boolean offerBlocking(TriggerLog log, long timeoutNanos) {
+        if (this.running && this.queue.offer(log)) {
+            this.enqueued.increment();
+            this.signalIfBatchReady();
+
+            return true;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        try {
+            while (this.running) {
+                this.signalFlusher();
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                LockSupport.parkNanos(this, Math.min(remaining, MAX_BLOCK_PARK_NANOS));
+                if (this.queue.offer(log)) {
+                    this.enqueued.increment();
+
+                    return true;
+                }
+            }
+        } finally {
+            this.blockedNanos.add(System.nanoTime() - start);
+        }
+        this.rejected.increment();
+
+        return false;
+    }
+
+    private void signalIfBatchReady() {
+        if (this.sleeping.get() && this.queue.size() >= this.batchSize) {
+            this.signalFlusher();
+        }
+    }
+
+    private void signalFlusher() {
+        if (this.sleeping.compareAndSet(true, false)) {
+            LockSupport.unpark(this.flusher);
+        }
+    }
+
+    private int flush(List<TriggerLog> batch) {
+        int size = this.queue.drain(batch::add, this.batchSize);
+        // size() also counts slots whose producer has not published yet; collect those too, so
+        // that a batch signalled as full is not cut short and its tail left for the next interval.
+        while (size < this.batchSize && this.queue.size() > 0) {
+            Thread.onSpinWait();
+            size += this.queue.drain(batch::add, this.batchSize - size);
+        }
+        if (size == 0) {
+            return 0;
+        }
+
+        final long start = System.nanoTime();
+        final boolean succeeded = this.write(batch);
+        final long elapsed = System.nanoTime() - start;
+        this.flushes++;
+        this.lastBatchSize = size;
+        this.flushNanos += elapsed;
+        this.batchSizes.record(size);
+        this.flushTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        // written and failed last: readers awaiting them see the rest of the flush too
+        if (succeeded) {
+            this.written += size;
+        } else {
+            this.failed += size;
+        }
+        batch.clear();
+
+        return size;
+    }
+
+    private boolean write(List<TriggerLog> batch) {
+        int attempt = 0;
+        while (true) {
+            try {
+                this.repository.saveAll(batch);
+
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= this.options.getMaxRetries()) {
+                    log.error("riff: drop trigger logs after {} attempts, size:[{}]", attempt + 1, batch.size(), e);
+
+                    return false;
+                }
+                log.warn("riff: write trigger logs failed, attempt:[{}], size:[{}]", attempt + 1, batch.size(), e);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(this.options.getRetryBackoffMillis() << attempt));
+                attempt++;
+            }
+        }
+    }
+
+    private void drainOnShutdown() {
+        List<TriggerLog> batch = new ArrayList<>(this.batchSize);
+        boolean bounded = this.options.getShutdownPolicy() == ShutdownPolicy.BOUNDED_LOSS;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.options.getShutdownTimeoutMillis());
+        while (!bounded || System.nanoTime() < deadline) {
+            if (this.flush(batch) == 0) {
+                return;
+            }
+        }
+
+        long lost = 0;
+        while (this.queue.poll() != null) {
+            lost++;
+        }
+        this.lostOnShutdown += lost;
+        log.warn("riff: trigger log writer closed, [{}] logs lost after {}ms",
+            lost, this.options.getShutdownTimeoutMillis());
+    }
+}
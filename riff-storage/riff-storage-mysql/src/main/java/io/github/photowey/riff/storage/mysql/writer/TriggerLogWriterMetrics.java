@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.writer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code TriggerLogWriterMetrics}.
+ *
+ * <p>A point-in-time snapshot. {@code rejected} and {@code blockedNanos} are the backpressure
+ * signals: producers found the queue full and either gave up or waited.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TriggerLogWriterMetrics {
+
+    private int queueDepth;
+    private int queueCapacity;
+    private long enqueued;
+    private long rejected;
+    private long blockedNanos;
+    private long written;
+    private long flushes;
+    private long failed;
+    private long lostOnShutdown;
+    private int lastBatchSize;
+    private long flushNanos;
+}
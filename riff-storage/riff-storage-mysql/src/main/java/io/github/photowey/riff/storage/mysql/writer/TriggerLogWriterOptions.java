@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.writer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code TriggerLogWriterOptions}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TriggerLogWriterOptions {
+
+    /**
+     * The queue capacity, rounded up to a power of two.
+     */
+    @Builder.Default
+    private int capacity = 1 << 16;
+    /**
+     * Flushes as soon as this many logs are queued.
+     */
+    @Builder.Default
+    private int batchSize = 500;
+    /**
+     * Flushes whatever is queued at least this often.
+     */
+    @Builder.Default
+    private long flushIntervalMillis = 200L;
+    /**
+     * Attempts after the first failed write before the batch is dropped.
+     */
+    @Builder.Default
+    private int maxRetries = 3;
+    @Builder.Default
+    private long retryBackoffMillis = 100L;
+    @Builder.Default
+    private ShutdownPolicy shutdownPolicy = ShutdownPolicy.DRAIN;
+    @Builder.Default
+    private long shutdownTimeoutMillis = 5_000L;
+}
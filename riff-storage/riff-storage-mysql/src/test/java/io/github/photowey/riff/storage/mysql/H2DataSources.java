@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * {@code H2DataSources}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class H2DataSources {
+
+    private H2DataSources() {
+        throw new AssertionError("No " + H2DataSources.class.getName() + " instances for you!");
+    }
+
+    /**
+     * Creates a fresh in-memory database in MySQL mode with the riff schema applied.
+     *
+     * <p>The schema is run once here rather than through {@code INIT}, which H2 repeats on every
+     * new connection and which races when a test opens connections concurrently.
+     *
+     * @return the data source
+     */
+    public static DataSource create() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID()
+            + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:schema-h2.sql'");
+        } catch (SQLException e) {
+            throw new IllegalStateException("riff: apply h2 schema failed", e);
+        }
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql;
+
+import java.util.List;
+
+import io.github.photowey.riff.storage.api.domain.ExecutorRegistration;
+import io.github.photowey.riff.storage.mysql.repository.JdbcExecutorRegistryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JdbcExecutorRegistryRepositoryTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JdbcExecutorRegistryRepositoryTest {
+
+    private final JdbcExecutorRegistryRepository repository =
+        new JdbcExecutorRegistryRepository(H2DataSources.create());
+
+    @Test
+    void testRegisterAll_upsertsByAppAndAddress() {
+        Assertions.assertEquals(2, this.repository.registerAll(List.of(
+            registration("a:1", "scheduler-1"), registration("b:1", "scheduler-1"))));
+        this.repository.registerAll(List.of(registration("a:1", "scheduler-2")));
+
+        List<ExecutorRegistration> all = this.repository.findAll();
+        Assertions.assertEquals(2, all.size());
+        Assertions.assertEquals("scheduler-2", all.get(0).getOwner());
+        Assertions.assertEquals("scheduler-1", all.get(1).getOwner());
+    }
+
+    @Test
+    void testUnregisterAll_ignoresUnknownExecutors() {
+        this.repository.registerAll(List.of(registration("a:1", "scheduler-1"), registration("b:1", "scheduler-1")));
+
+        Assertions.assertEquals(1, this.repository.unregisterAll(List.of(
+            registration("a:1", null), registration("c:1", null))));
+        Assertions.assertEquals("b:1", this.repository.findAll().get(0).getAddress());
+        Assertions.assertEquals(0, this.repository.unregisterAll(List.of()));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ExecutorRegistration registration(String address, String owner) {
+        return ExecutorRegistration.builder()
+            .app("orders")
+            .address(address)
+            .owner(owner)
+            .registeredAt(1_000L)
+            .build();
+    }
+}
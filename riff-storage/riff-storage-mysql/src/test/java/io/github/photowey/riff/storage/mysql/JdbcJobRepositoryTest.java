@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.ChangeEntity;
+import io.github.photowey.riff.storage.api.domain.ChangeLog;
+import io.github.photowey.riff.storage.api.domain.ChangeOperation;
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.domain.JobGroup;
+import io.github.photowey.riff.storage.mysql.repository.JdbcChangeLogRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcJobGroupRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcJobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JdbcJobRepositoryTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JdbcJobRepositoryTest {
+
+    private final DataSource dataSource = H2DataSources.create();
+    private final JdbcJobRepository jobs = new JdbcJobRepository(this.dataSource);
+    private final JdbcChangeLogRepository changeLog = new JdbcChangeLogRepository(this.dataSource);
+
+    @Test
+    void testSave_versionsRowsAndAppendsChangeLog() {
+        Job created = this.jobs.save(job("first"));
+        Assertions.assertNotNull(created.getId());
+        Assertions.assertEquals(1L, created.getVersion());
+
+        created.setName("second");
+        Job updated = this.jobs.save(created);
+        Assertions.assertEquals(2L, updated.getVersion());
+        Assertions.assertEquals("second", this.jobs.findById(created.getId()).orElseThrow().getName());
+        Assertions.assertTrue(this.jobs.delete(created.getId()));
+        Assertions.assertFalse(this.jobs.delete(created.getId()));
+        Assertions.assertTrue(this.jobs.findById(created.getId()).isEmpty());
+
+        List<ChangeLog> changes = this.changeLog.findAfter(0L, 10);
+        Assertions.assertEquals(3, changes.size());
+        Assertions.assertEquals(List.of(1L, 2L, 3L), changes.stream().map(ChangeLog::getVersion).toList());
+        Assertions.assertEquals(ChangeOperation.DELETE, changes.get(2).getOperation());
+        Assertions.assertEquals(ChangeEntity.JOB, changes.get(0).getEntity());
+        Assertions.assertEquals(changes.get(2).getId(), this.changeLog.maxId());
+        Assertions.assertEquals(1, this.changeLog.findAfter(changes.get(1).getId(), 10).size());
+    }
+
+    @Test
+    void testSave_rejectsStaleVersionWithoutLogging() {
+        Job created = this.jobs.save(job("first"));
+        this.jobs.save(created);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.jobs.save(created));
+        Assertions.assertEquals(2, this.changeLog.findAfter(0L, 10).size());
+    }
+
+    @Test
+    void testSave_groupsShareTheChangeLog() {
+        JdbcJobGroupRepository groups = new JdbcJobGroupRepository(this.dataSource);
+        JobGroup group = groups.save(JobGroup.builder().app("orders").title("Orders").build());
+        this.jobs.save(job("first"));
+
+        Assertions.assertEquals(List.of(group), groups.findAll());
+        List<ChangeLog> changes = this.changeLog.findAfter(0L, 10);
+        Assertions.assertEquals(ChangeEntity.JOB_GROUP, changes.get(0).getEntity());
+        Assertions.assertEquals(ChangeEntity.JOB, changes.get(1).getEntity());
+        Assertions.assertEquals(2, this.changeLog.deleteBefore(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testSaveAll_batchesInsertsAndUpdatesInOneTransaction() {
+        Job existing = this.jobs.save(job("existing"));
+        existing.setEnabled(false);
+        List<Job> stored = this.jobs.saveAll(List.of(job("a"), existing, job("b")));
+
+        Assertions.assertEquals(List.of("a", "existing", "b"), stored.stream().map(Job::getName).toList());
+        Assertions.assertEquals(List.of(1L, 2L, 1L), stored.stream().map(Job::getVersion).toList());
+        Assertions.assertFalse(this.jobs.findById(existing.getId()).orElseThrow().isEnabled());
+        Assertions.assertEquals(stored.get(0).getId(), this.jobs.findAfter(existing.getId(), 1).get(0).getId());
+        Assertions.assertEquals(List.of(stored.get(2).getId()),
+            this.jobs.findAfter(stored.get(0).getId(), 10).stream().map(Job::getId).toList());
+        Assertions.assertEquals(4, this.changeLog.findAfter(0L, 10).size());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.jobs.saveAll(List.of(job("c"), existing)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> this.jobs.saveAll(List.of(stored.get(0), stored.get(0))));
+        Assertions.assertEquals(3, this.jobs.findAll().size());
+        Assertions.assertEquals(4, this.changeLog.findAfter(0L, 10).size());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Job job(String name) {
+        return Job.builder()
+            .app("orders")
+            .name(name)
+            .handler("settle")
+            .cron("0 */5 * * * *")
+            .enabled(true)
+            .build();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql;
+
+import java.util.List;
+
+import io.github.photowey.riff.storage.api.domain.ShardLease;
+import io.github.photowey.riff.storage.mysql.repository.JdbcShardLeaseRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JdbcShardLeaseRepositoryTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class JdbcShardLeaseRepositoryTest {
+
+    private static final long TTL = 3_000L;
+
+    private final JdbcShardLeaseRepository repository = new JdbcShardLeaseRepository(H2DataSources.create());
+
+    @Test
+    void testTryAcquire_bumpsEpochOnlyWhenTheOwnerChanges() {
+        this.repository.initialize(2);
+        this.repository.initialize(2);
+        Assertions.assertEquals(2, this.repository.findAll().size());
+
+        ShardLease first = this.repository.tryAcquire(0, "node-a", 1_000L, TTL).orElseThrow();
+        Assertions.assertEquals(1L, first.getEpoch());
+        Assertions.assertEquals(4_000L, first.getExpiresAt());
+        Assertions.assertTrue(this.repository.tryAcquire(0, "node-b", 2_000L, TTL).isEmpty());
+        Assertions.assertEquals(1L, this.repository.tryAcquire(0, "node-a", 2_000L, TTL).orElseThrow().getEpoch());
+
+        ShardLease takenOver = this.repository.tryAcquire(0, "node-b", 5_000L, TTL).orElseThrow();
+        Assertions.assertEquals("node-b", takenOver.getOwner());
+        Assertions.assertEquals(2L, takenOver.getEpoch());
+    }
+
+    @Test
+    void testRenewAndRelease_fencedByEpoch() {
+        this.repository.initialize(1);
+        long epoch = this.repository.tryAcquire(0, "node-a", 1_000L, TTL).orElseThrow().getEpoch();
+
+        Assertions.assertTrue(this.repository.renew(0, "node-a", epoch, 2_000L, TTL));
+        Assertions.assertFalse(this.repository.renew(0, "node-a", epoch + 1, 2_000L, TTL));
+        Assertions.assertFalse(this.repository.renew(0, "node-a", epoch, 6_000L, TTL));
+
+        this.repository.tryAcquire(0, "node-b", 6_000L, TTL).orElseThrow();
+        Assertions.assertFalse(this.repository.release(0, "node-a", epoch));
+        Assertions.assertTrue(this.repository.release(0, "node-b", epoch + 1));
+
+        ShardLease released = this.repository.findAll().get(0);
+        Assertions.assertNull(released.getOwner());
+        Assertions.assertTrue(released.isExpired(6_000L));
+        ShardLease reacquired = this.repository.tryAcquire(0, "node-b", 6_000L, TTL).orElseThrow();
+        Assertions.assertEquals(epoch + 2, reacquired.getEpoch());
+    }
+
+    @Test
+    void testKeepAlive_listsNodesUntilTheyExpire() {
+        this.repository.keepAlive("node-b", 2_000L);
+        this.repository.keepAlive("node-a", 1_000L);
+        this.repository.keepAlive("node-a", 3_000L);
+
+        Assertions.assertEquals(List.of("node-a", "node-b"), this.repository.findLiveNodes(1_500L));
+        Assertions.assertEquals(List.of("node-a"), this.repository.findLiveNodes(2_000L));
+    }
+}
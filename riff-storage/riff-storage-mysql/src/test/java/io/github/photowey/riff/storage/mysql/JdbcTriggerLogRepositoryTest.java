@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.photowey.riff.storage.api.cursor.Page;
+import io.github.photowey.riff.storage.api.cursor.TriggerLogCursor;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import io.github.photowey.riff.storage.mysql.repository.JdbcTriggerLogRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JdbcTriggerLogRepositoryTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JdbcTriggerLogRepositoryTest {
+
+    /**
+     * H2 rejects the negative fetch size that makes Connector/J stream.
+     */
+    private static final int FETCH_SIZE = 100;
+
+    @Test
+    void testSaveAll_splitsIntoMultiRowStatements() {
+        JdbcTriggerLogRepository repository = new JdbcTriggerLogRepository(H2DataSources.create(), 7, FETCH_SIZE);
+        List<TriggerLog> logs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            logs.add(log(i % 2, 1_000L + i));
+        }
+
+        Assertions.assertEquals(20, repository.saveAll(logs));
+        Assertions.assertEquals(20L, repository.count());
+
+        List<TriggerLog> latest = repository.findByJobId(1L, 3);
+        Assertions.assertEquals(3, latest.size());
+        Assertions.assertEquals(1_019L, latest.get(0).getPlannedAt());
+        Assertions.assertEquals(1_017L, latest.get(1).getPlannedAt());
+        Assertions.assertEquals("127.0.0.1:9999", latest.get(0).getExecutor());
+        Assertions.assertNotNull(latest.get(0).getId());
+        Assertions.assertEquals(1_019L, repository.findById(latest.get(0).getId()).orElseThrow().getPlannedAt());
+        Assertions.assertTrue(repository.findById(-1L).isEmpty());
+    }
+
+    @Test
+    void testSaveAll_rollsBackWholeBatch() {
+        JdbcTriggerLogRepository repository = new JdbcTriggerLogRepository(H2DataSources.create(), 2, FETCH_SIZE);
+        List<TriggerLog> logs = new ArrayList<>(List.of(log(1L, 1L), log(1L, 2L), log(1L, 3L)));
+        logs.get(2).setTriggerMessage("x".repeat(2048));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> repository.saveAll(logs));
+        Assertions.assertEquals(0L, repository.count());
+    }
+
+    @Test
+    void testFindPage_seeksPastCursorWithinRange() {
+        JdbcTriggerLogRepository repository = new JdbcTriggerLogRepository(H2DataSources.create(), 50, FETCH_SIZE);
+        List<TriggerLog> logs = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            logs.add(log(i % 3, 1_000L + i / 2));
+        }
+        repository.saveAll(logs);
+
+        List<TriggerLog> read = new ArrayList<>();
+        TriggerLogQuery query = TriggerLogQuery.builder().from(1_002L).to(1_012L).limit(4).build();
+        Page<TriggerLog> page = repository.findPage(query);
+        while (true) {
+            read.addAll(page.items());
+            if (!page.hasNext()) {
+                break;
+            }
+            query.setAfter(TriggerLogCursor.parse(page.next()));
+            page = repository.findPage(query);
+        }
+
+        Assertions.assertEquals(20, read.size());
+        Assertions.assertEquals(1_011L, read.get(0).getPlannedAt());
+        Assertions.assertEquals(1_002L, read.get(19).getPlannedAt());
+        for (int i = 1; i < read.size(); i++) {
+            TriggerLogCursor previous = TriggerLogCursor.of(read.get(i - 1));
+            TriggerLogCursor current = TriggerLogCursor.of(read.get(i));
+            Assertions.assertTrue(TriggerLogCursor.NEWEST_FIRST.compare(previous, current) < 0);
+        }
+
+        List<TriggerLog> job = new ArrayList<>();
+        long passed = repository.forEach(TriggerLogQuery.builder().jobId(2L).limit(1_000).build(), job::add);
+        Assertions.assertEquals(10L, passed);
+        Assertions.assertTrue(job.stream().allMatch(log -> log.getJobId() == 2L));
+        Assertions.assertThrows(IllegalStateException.class, () -> repository.forEach(
+            TriggerLogQuery.builder().limit(1_000).build(), log -> {
+                throw new IllegalStateException("client gone");
+            }));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static TriggerLog log(long jobId, long plannedAt) {
+        return TriggerLog.builder()
+            .jobId(jobId)
+            .plannedAt(plannedAt)
+            .triggeredAt(plannedAt + 1)
+            .executor("127.0.0.1:9999")
+            .triggerMessage("ok")
+            .build();
+    }
+}
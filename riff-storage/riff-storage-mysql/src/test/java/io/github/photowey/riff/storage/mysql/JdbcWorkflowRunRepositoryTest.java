@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql;
+
+import java.util.List;
+
+import io.github.photowey.riff.storage.api.domain.WorkflowNodeRun;
+import io.github.photowey.riff.storage.api.domain.WorkflowRun;
+import io.github.photowey.riff.storage.mysql.repository.JdbcWorkflowRunRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JdbcWorkflowRunRepositoryTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JdbcWorkflowRunRepositoryTest {
+
+    private final JdbcWorkflowRunRepository repository = new JdbcWorkflowRunRepository(H2DataSources.create());
+
+    @Test
+    void testCreate_insertsPendingNodes() {
+        WorkflowRun run = this.repository.create(
+            WorkflowRun.builder().dag("1,2;1>2").startedAt(1_000L).build(), new long[] {1L, 2L});
+
+        Assertions.assertEquals(WorkflowRun.RUNNING, this.repository.findById(run.getId()).orElseThrow().getStatus());
+        List<WorkflowNodeRun> nodes = this.repository.findNodes(run.getId());
+        Assertions.assertEquals(2, nodes.size());
+        Assertions.assertEquals(1L, nodes.get(0).getJobId());
+        Assertions.assertEquals(WorkflowNodeRun.PENDING, nodes.get(1).getStatus());
+        Assertions.assertEquals(List.of(run), this.repository.findUnfinished());
+    }
+
+    @Test
+    void testUpdateNode_compareAndSetOnStatus() {
+        WorkflowRun run = this.repository.create(
+            WorkflowRun.builder().dag("7;").startedAt(1_000L).build(), new long[] {7L});
+        long nodeId = this.repository.findNodes(run.getId()).get(0).getId();
+
+        Assertions.assertTrue(this.repository.updateNode(nodeId, "PENDING", "RUNNING", 2_000L));
+        Assertions.assertFalse(this.repository.updateNode(nodeId, "PENDING", "RUNNING", 2_000L));
+        Assertions.assertTrue(this.repository.updateNode(nodeId, "RUNNING", "SUCCESS", 3_000L));
+        Assertions.assertEquals(3_000L, this.repository.findNodes(run.getId()).get(0).getUpdatedAt());
+
+        Assertions.assertTrue(this.repository.finish(run.getId(), WorkflowRun.SUCCESS, 3_000L));
+        Assertions.assertFalse(this.repository.finish(run.getId(), WorkflowRun.FAILED, 4_000L));
+        Assertions.assertTrue(this.repository.findUnfinished().isEmpty());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.api.domain.Job;
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.repository.JobRepository;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import io.github.photowey.riff.storage.local.engine.LocalStore;
+import io.github.photowey.riff.storage.local.engine.LocalStoreOptions;
+import io.github.photowey.riff.storage.local.repository.LocalJobRepository;
+import io.github.photowey.riff.storage.local.repository.LocalTriggerLogRepository;
+import io.github.photowey.riff.storage.mysql.H2DataSources;
+import io.github.photowey.riff.storage.mysql.repository.JdbcJobRepository;
+import io.github.photowey.riff.storage.mysql.repository.JdbcTriggerLogRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code StorageWriteBenchmark}.
+ *
+ * <p>Job and trigger-log write throughput of the embedded {@code riff-storage-local} store, with and
+ * without an fsync per write, against the JDBC repositories on in-process H2 in MySQL mode. H2 has
+ * no network round trip, so it bounds what a MySQL server could reach from above.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageWriteBenchmark {
+
+    static final int TRIGGER_BATCH = 500;
+
+    @Param({"local", "local-nosync", "h2"})
+    String backend;
+
+    Path directory;
+    LocalStore store;
+    JobRepository jobs;
+    TriggerLogRepository triggerLogs;
+    List<TriggerLog> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if ("h2".equals(this.backend)) {
+            DataSource dataSource = H2DataSources.create();
+            this.jobs = new JdbcJobRepository(dataSource);
+            this.triggerLogs = new JdbcTriggerLogRepository(dataSource);
+        } else {
+            this.directory = Files.createTempDirectory("riff-local-bench");
+            this.store = new LocalStore(this.directory, LocalStoreOptions.builder()
+                .syncOnWrite("local".equals(this.backend))
+                .build());
+            this.jobs = new LocalJobRepository(this.store);
+            this.triggerLogs = new LocalTriggerLogRepository(this.store);
+        }
+
+        this.batch = new ArrayList<>(TRIGGER_BATCH);
+        for (int i = 0; i < TRIGGER_BATCH; i++) {
+            this.batch.add(TriggerLog.builder()
+                .jobId(i % 64)
+                .plannedAt(1_700_000_000_000L + i)
+                .triggeredAt(1_700_000_000_005L + i)
+                .executor("10.0.0." + (i % 8) + ":7070")
+                .triggerCode(200)
+                .triggerMessage("ok")
+                .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (this.store == null) {
+            return;
+        }
+
+        this.store.close();
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Job saveJob() {
+        return this.jobs.save(Job.builder()
+            .app("bench")
+            .name("job")
+            .handler("benchHandler")
+            .cron("0 */5 * * * *")
+            .enabled(true)
+            .build());
+    }
+
+    /**
+     * One operation writes {@value #TRIGGER_BATCH} logs.
+     */
+    @Benchmark
+    public int saveTriggerLogs() {
+        return this.triggerLogs.saveAll(this.batch);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.partition;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
+
+import io.github.photowey.riff.storage.mysql.H2DataSources;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code TriggerLogArchiverTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class TriggerLogArchiverTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testArchive_streamsOnlyTheDayAsLoadDataTsv() throws Exception {
+        DataSource dataSource = H2DataSources.create();
+        DayPartition day = new DayPartition(TODAY.minusDays(1));
+        insert(dataSource, day.fromMillis() - 1, "before");
+        insert(dataSource, day.fromMillis(), "tab\there\nand \\ slash");
+        insert(dataSource, day.toMillis() - 1, null);
+        insert(dataSource, day.toMillis(), "after");
+
+        TriggerLogArchiver archiver = new TriggerLogArchiver(dataSource, this.root, 1_000_000D, 100);
+        Assertions.assertEquals(2L, archiver.archive(day));
+
+        List<String> lines = readLines(archiver.fileOf(day));
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals(TriggerLogArchiver.HEADER, lines.get(0));
+        Assertions.assertTrue(lines.get(1).endsWith("\ttab\\there\\nand \\\\ slash"), lines.get(1));
+        Assertions.assertTrue(lines.get(2).endsWith("\t\\N\t0\t\\N"), lines.get(2));
+        try (var files = Files.list(this.root)) {
+            Assertions.assertEquals(1L, files.count());
+        }
+    }
+
+    @Test
+    void testRunOnce_archivesBeforeDroppingExpiredDays() throws Exception {
+        DataSource dataSource = H2DataSources.create();
+        DayPartition expired = new DayPartition(TODAY.minusDays(2));
+        insert(dataSource, expired.fromMillis() - 86_400_000L, "before the first partition");
+        insert(dataSource, expired.fromMillis(), "expired");
+
+        List<String> ddl = new ArrayList<>();
+        TriggerLogPartitions partitions = new TriggerLogPartitions(dataSource, 1) {
+            @Override
+            public List<DayPartition> list() {
+                return TriggerLogPartitionsTest.days(15, 16, 17, 18);
+            }
+
+            @Override
+            protected void execute(String statement) {
+                ddl.add(statement);
+            }
+        };
+        TriggerLogRetentionOptions options = TriggerLogRetentionOptions.builder()
+            .retentionDays(2)
+            .aheadDays(2)
+            .build();
+        TriggerLogArchiver archiver = new TriggerLogArchiver(dataSource, this.root, 1_000_000D, 100);
+        Clock clock = Clock.fixed(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        List<DayPartition> dropped = new TriggerLogRetention(partitions, archiver, options, clock).runOnce();
+
+        Assertions.assertEquals(TriggerLogPartitionsTest.days(15), dropped);
+        Assertions.assertEquals(List.of(
+            TriggerLogPartitions.reorganizeSql(TriggerLogPartitionsTest.days(19)),
+            TriggerLogPartitions.dropSql(expired)), ddl);
+        Assertions.assertEquals(3, readLines(archiver.fileOf(expired)).size());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void insert(DataSource dataSource, long plannedAt, String message) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO riff_trigger_log"
+                 + " (job_id, planned_at, triggered_at, trigger_message) VALUES (?, ?, ?, ?)")) {
+            statement.setLong(1, 1L);
+            statement.setLong(2, plannedAt);
+            statement.setLong(3, plannedAt);
+            statement.setString(4, message);
+            statement.executeUpdate();
+        }
+    }
+
+    private static List<String> readLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
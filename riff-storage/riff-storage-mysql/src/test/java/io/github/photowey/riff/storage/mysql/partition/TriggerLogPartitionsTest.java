@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.partition;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code TriggerLogPartitionsTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class TriggerLogPartitionsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @Test
+    void testDayPartition_namesAndBoundsAreUtcDays() {
+        DayPartition partition = new DayPartition(TODAY);
+
+        Assertions.assertEquals("p20261017", partition.name());
+        Assertions.assertEquals(1_792_195_200_000L, partition.fromMillis());
+        Assertions.assertEquals(partition.fromMillis() + 86_400_000L, partition.toMillis());
+        Assertions.assertEquals(partition, DayPartition.of(partition.toMillis() - 1));
+        Assertions.assertEquals(Optional.of(partition), DayPartition.parse("p20261017"));
+        Assertions.assertEquals(Optional.empty(), DayPartition.parse(DayPartition.CATCH_ALL));
+    }
+
+    @Test
+    void testMissing_continuesAfterLastPartition() {
+        Assertions.assertEquals(days(17, 18, 19), TriggerLogPartitions.missing(List.of(), TODAY, 2));
+        Assertions.assertEquals(days(19, 20), TriggerLogPartitions.missing(days(17, 18), TODAY, 3));
+        Assertions.assertEquals(List.of(), TriggerLogPartitions.missing(days(17, 18, 19, 20), TODAY, 3));
+        Assertions.assertEquals(days(16, 17), TriggerLogPartitions.missing(days(15), TODAY, 0));
+    }
+
+    @Test
+    void testExpired_keepsRetentionDaysIncludingToday() {
+        List<DayPartition> existing = days(10, 11, 12, 13, 14, 15, 16, 17, 18);
+
+        Assertions.assertEquals(days(10, 11, 12), TriggerLogPartitions.expired(existing, TODAY, 5));
+        Assertions.assertEquals(days(10, 11, 12, 13, 14, 15, 16), TriggerLogPartitions.expired(existing, TODAY, 1));
+    }
+
+    @Test
+    void testLowerBound_oldestPartitionHoldsEverythingBelowItsDay() {
+        List<DayPartition> existing = days(15, 16, 17);
+        DayPartition oldest = existing.get(0);
+        DayPartition next = existing.get(1);
+
+        Assertions.assertEquals(Long.MIN_VALUE, TriggerLogPartitions.lowerBound(existing, oldest));
+        Assertions.assertEquals(oldest.toMillis(), TriggerLogPartitions.lowerBound(existing, next));
+        Assertions.assertEquals(next.fromMillis(), TriggerLogPartitions.lowerBound(existing, next));
+    }
+
+    @Test
+    void testSql_splitsCatchAllAndDropsWholeDays() {
+        Assertions.assertEquals("ALTER TABLE riff_trigger_log REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION p20261017 VALUES LESS THAN (1792281600000), "
+                + "PARTITION p20261018 VALUES LESS THAN (1792368000000), "
+                + "PARTITION p_max VALUES LESS THAN MAXVALUE)",
+            TriggerLogPartitions.reorganizeSql(days(17, 18)));
+        Assertions.assertEquals("ALTER TABLE riff_trigger_log DROP PARTITION p20261017",
+            TriggerLogPartitions.dropSql(new DayPartition(TODAY)));
+    }
+
+    // ----------------------------------------------------------------
+
+    static List<DayPartition> days(int... daysOfMonth) {
+        return Arrays.stream(daysOfMonth)
+            .mapToObj(day -> new DayPartition(TODAY.withDayOfMonth(day)))
+            .toList();
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.storage.mysql.writer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.storage.api.domain.TriggerLog;
+import io.github.photowey.riff.storage.api.query.TriggerLogQuery;
+import io.github.photowey.riff.storage.api.repository.TriggerLogRepository;
+import io.github.photowey.riff.storage.mysql.H2DataSources;
+import io.github.photowey.riff.storage.mysql.repository.JdbcTriggerLogRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code TriggerLogBatchWriterTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class TriggerLogBatchWriterTest {
+
+    @Test
+    void testOffer_flushesBySize() throws InterruptedException {
+        JdbcTriggerLogRepository repository = new JdbcTriggerLogRepository(H2DataSources.create());
+        TriggerLogBatchWriter writer = new TriggerLogBatchWriter(repository, TriggerLogWriterOptions.builder()
+            .batchSize(100)
+            .flushIntervalMillis(60_000L)
+            .build());
+        writer.start();
+
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            long jobId = p;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    Assertions.assertTrue(writer.offer(log(jobId, i), 5, TimeUnit.SECONDS));
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        awaitTrue(() -> writer.metrics().getWritten() == 4_000L);
+        TriggerLogWriterMetrics metrics = writer.metrics();
+        Assertions.assertEquals(4_000L, repository.count());
+        Assertions.assertEquals(40L, metrics.getFlushes());
+        Assertions.assertEquals(100, metrics.getLastBatchSize());
+        Assertions.assertEquals(0L, metrics.getRejected());
+        writer.close();
+    }
+
+    @Test
+    void testOffer_flushesByTime() {
+        JdbcTriggerLogRepository repository = new JdbcTriggerLogRepository(H2DataSources.create());
+        TriggerLogBatchWriter writer = new TriggerLogBatchWriter(repository, TriggerLogWriterOptions.builder()
+            .batchSize(1_000)
+            .flushIntervalMillis(20L)
+            .build());
+        writer.start();
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(writer.offer(log(1L, i)));
+        }
+
+        awaitTrue(() -> writer.metrics().getWritten() == 3L);
+        Assertions.assertEquals(3L, repository.count());
+        Assertions.assertEquals(1L, writer.metrics().getFlushes());
+        writer.close();
+    }
+
+    @Test
+    void testOffer_rejectsWhenFullAndDrainsOnClose() {
+        CountDownLatch gate = new CountDownLatch(1);
+        JdbcTriggerLogRepository jdbc = new JdbcTriggerLogRepository(H2DataSources.create());
+        TriggerLogBatchWriter writer = new TriggerLogBatchWriter(new GatedRepository(jdbc, gate),
+            TriggerLogWriterOptions.builder()
+                .capacity(16)
+                .batchSize(4)
+                .flushIntervalMillis(5L)
+                .build());
+        writer.start();
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(writer.offer(log(1L, i)));
+        }
+        awaitTrue(() -> writer.metrics().getQueueDepth() == 0);
+
+        int accepted = 4;
+        for (int i = 4; i < 100; i++) {
+            accepted += writer.offer(log(1L, i)) ? 1 : 0;
+        }
+        Assertions.assertFalse(writer.offer(log(1L, 100L), 20, TimeUnit.MILLISECONDS));
+
+        TriggerLogWriterMetrics blocked = writer.metrics();
+        Assertions.assertTrue(blocked.getRejected() > 0);
+        Assertions.assertTrue(blocked.getBlockedNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+        Assertions.assertEquals(accepted, blocked.getEnqueued());
+
+        gate.countDown();
+        writer.close();
+        Assertions.assertEquals(accepted, jdbc.count());
+        Assertions.assertEquals(0L, writer.metrics().getLostOnShutdown());
+        Assertions.assertFalse(writer.offer(log(1L, 101L)));
+    }
+
+    @Test
+    void testClose_boundedLossDiscardsBacklog() {
+        TriggerLogRepository slow = new GatedRepository(new JdbcTriggerLogRepository(H2DataSources.create()), null);
+        TriggerLogBatchWriter writer = new TriggerLogBatchWriter(slow, TriggerLogWriterOptions.builder()
+            .batchSize(1)
+            .flushIntervalMillis(1L)
+            .shutdownPolicy(ShutdownPolicy.BOUNDED_LOSS)
+            .shutdownTimeoutMillis(30L)
+            .build());
+        writer.start();
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertTrue(writer.offer(log(1L, i)));
+        }
+
+        writer.close();
+        TriggerLogWriterMetrics metrics = writer.metrics();
+        Assertions.assertTrue(metrics.getLostOnShutdown() > 0);
+        Assertions.assertEquals(20L, metrics.getWritten() + metrics.getLostOnShutdown());
+        Assertions.assertEquals(0, metrics.getQueueDepth());
+    }
+
+    @Test
+    void testClose_writesEveryLogAcceptedWhileClosing() throws InterruptedException {
+        JdbcTriggerLogRepository repository = new JdbcTriggerLogRepository(H2DataSources.create());
+        TriggerLogBatchWriter writer = new TriggerLogBatchWriter(repository, TriggerLogWriterOptions.builder()
+            .capacity(1_024)
+            .batchSize(64)
+            .flushIntervalMillis(1L)
+            .build());
+        writer.start();
+
+        AtomicLong accepted = new AtomicLong();
+        AtomicBoolean closed = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(4);
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            long jobId = p;
+            producers[p] = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; !closed.get(); i++) {
+                    if (writer.offer(log(jobId, i))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+            producers[p].start();
+        }
+        started.await();
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+
+        writer.close();
+        closed.set(true);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        Assertions.assertEquals(accepted.get(), writer.metrics().getEnqueued());
+        Assertions.assertEquals(accepted.get(), writer.metrics().getWritten());
+        Assertions.assertEquals(accepted.get(), repository.count());
+    }
+
+    @Test
+    void testFlush_retriesThenDropsFailedBatch() {
+        TriggerLogRepository broken = new GatedRepository(null, null);
+        TriggerLogBatchWriter writer = new TriggerLogBatchWriter(broken, TriggerLogWriterOptions.builder()
+            .batchSize(2)
+            .maxRetries(2)
+            .retryBackoffMillis(1L)
+            .build());
+        writer.start();
+        writer.offer(log(1L, 1L));
+        writer.offer(log(1L, 2L));
+
+        awaitTrue(() -> writer.metrics().getFailed() == 2L);
+        writer.close();
+        Assertions.assertEquals(0L, writer.metrics().getWritten());
+    }
+
+    // ----------------------------------------------------------------
+
+    private static TriggerLog log(long jobId, long plannedAt) {
+        return TriggerLog.builder()
+            .jobId(jobId)
+            .plannedAt(plannedAt)
+            .triggeredAt(plannedAt)
+            .build();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        }
+    }
+
+    /**
+     * {@code GatedRepository}.
+     *
+     * <p>Blocks writes until {@code gate} opens, sleeps when there is no gate, and fails when
+     * there is no delegate.
+     *
+     * @param delegate the backing repository, {@code null} to fail every write
+     * @param gate     the gate, {@code null} to sleep instead
+     */
+    private record GatedRepository(TriggerLogRepository delegate, CountDownLatch gate) implements TriggerLogRepository {
+
+        @Override
+        public void save(TriggerLog log) {
+            this.saveAll(List.of(log));
+        }
+
+        @Override
+        public int saveAll(List<TriggerLog> logs) {
+            if (this.delegate == null) {
+                throw new IllegalStateException("database down");
+            }
+            try {
+                if (this.gate != null) {
+                    this.gate.await();
+                } else {
+                    TimeUnit.MILLISECONDS.sleep(20);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return this.delegate.saveAll(logs);
+        }
+
+        @Override
+        public Optional<TriggerLog> findById(long id) {
+            return this.delegate.findById(id);
+        }
+
+        @Override
+        public List<TriggerLog> findByJobId(long jobId, int limit) {
+            return this.delegate.findByJobId(jobId, limit);
+        }
+
+        @Override
+        public long forEach(TriggerLogQuery query, Consumer<TriggerLog> consumer) {
+            return this.delegate.forEach(query, consumer);
+        }
+
+        @Override
+        public long count() {
+            return this.delegate.count();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+--
+-- Copyright (c) 2025-present
+-- the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+CREATE TABLE IF NOT EXISTS riff_trigger_log
+(
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    job_id          BIGINT        NOT NULL,
+    planned_at      BIGINT        NOT NULL,
+    triggered_at    BIGINT        NOT NULL,
+    executor        VARCHAR(255)           DEFAULT NULL,
+    trigger_code    INT           NOT NULL DEFAULT 0,
+    trigger_message VARCHAR(1024)          DEFAULT NULL,
+    PRIMARY KEY (id, planned_at)
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_id_planned_at ON riff_trigger_log (job_id, planned_at);
+CREATE INDEX IF NOT EXISTS idx_planned_at ON riff_trigger_log (planned_at);
+
+CREATE TABLE IF NOT EXISTS riff_job_group
+(
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    app            VARCHAR(64)  NOT NULL,
+    title          VARCHAR(128)          DEFAULT NULL,
+    route_strategy VARCHAR(32)           DEFAULT NULL,
+    version        BIGINT       NOT NULL DEFAULT 1,
+    updated_at     BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS riff_job
+(
+    id             BIGINT        NOT NULL AUTO_INCREMENT,
+    app            VARCHAR(64)   NOT NULL,
+    name           VARCHAR(128)  NOT NULL,
+    handler        VARCHAR(255)  NOT NULL,
+    cron           VARCHAR(128)           DEFAULT NULL,
+    params         VARCHAR(4096)          DEFAULT NULL,
+    route_strategy VARCHAR(32)            DEFAULT NULL,
+    block_strategy VARCHAR(32)            DEFAULT NULL,
+    misfire_policy VARCHAR(32)            DEFAULT NULL,
+    priority       VARCHAR(16)            DEFAULT NULL,
+    timeout_millis INT           NOT NULL DEFAULT 0,
+    enabled        BOOLEAN       NOT NULL DEFAULT TRUE,
+    version        BIGINT        NOT NULL DEFAULT 1,
+    updated_at     BIGINT        NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS riff_change_log
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    entity     VARCHAR(32) NOT NULL,
+    entity_id  BIGINT      NOT NULL,
+    version    BIGINT      NOT NULL,
+    operation  VARCHAR(16) NOT NULL,
+    changed_at BIGINT      NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS riff_executor_registry
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    app           VARCHAR(64)  NOT NULL,
+    address       VARCHAR(255) NOT NULL,
+    owner         VARCHAR(128)          DEFAULT NULL,
+    registered_at BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_app_address UNIQUE (app, address)
+);
+
+CREATE TABLE IF NOT EXISTS riff_workflow_run
+(
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    dag         TEXT        NOT NULL,
+    status      VARCHAR(16) NOT NULL,
+    started_at  BIGINT      NOT NULL,
+    finished_at BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS riff_workflow_node_run
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    run_id     BIGINT      NOT NULL,
+    job_id     BIGINT      NOT NULL,
+    status     VARCHAR(16) NOT NULL,
+    updated_at BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_run_id_job_id UNIQUE (run_id, job_id)
+);
+
+CREATE TABLE IF NOT EXISTS riff_shard_lease
+(
+    shard      INT          NOT NULL,
+    owner      VARCHAR(128)          DEFAULT NULL,
+    epoch      BIGINT       NOT NULL DEFAULT 0,
+    expires_at BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (shard)
+);
+
+CREATE TABLE IF NOT EXISTS riff_scheduler_node
+(
+    node       VARCHAR(128) NOT NULL,
+    expires_at BIGINT       NOT NULL,
+    PRIMARY KEY (node)
+);
@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+#
+# Compares the wall-clock time of one riffctl invocation across the variants that were built:
+#
+#   jvm     java -jar target/riffctl.jar                          (mvn package)
+#   aot     the same, with the AOT-generated context              (mvn package)
+#   cds     aot plus the AppCDS archive, from the extracted jar   (mvn -Pcds package)
+#   native  the GraalVM binary                                    (mvn -Pnative package)
+#
+# Usage: scripts/startup-benchmark.sh [runs] [riffctl args...]   e.g. scripts/startup-benchmark.sh 20 greet
+# Uses hyperfine when it is installed, a plain timing loop otherwise.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-10}"
+shift || true
+ARGS=("${@:-greet}")
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+declare -a NAMES=()
+declare -a COMMANDS=()
+
+add() {
+  NAMES+=("$1")
+  COMMANDS+=("$2 ${ARGS[*]}")
+}
+
+if [[ -f target/riffctl.jar ]]; then
+  add jvm "$JAVA -jar target/riffctl.jar"
+  add aot "$JAVA -Dspring.aot.enabled=true -jar target/riffctl.jar"
+fi
+if [[ -f target/cds/riffctl.jsa ]]; then
+  add cds "$JAVA -XX:SharedArchiveFile=target/cds/riffctl.jsa -Dspring.aot.enabled=true -jar target/cds/riffctl.jar"
+fi
+if [[ -x target/riffctl ]]; then
+  add native "target/riffctl"
+fi
+
+if [[ ${#COMMANDS[@]} -eq 0 ]]; then
+  echo "riffctl: nothing to benchmark, build first (make package / make cds / make image)" >&2
+  exit 1
+fi
+
+if command -v hyperfine >/dev/null 2>&1; then
+  declare -a HYPERFINE_ARGS=()
+  for i in "${!COMMANDS[@]}"; do
+    HYPERFINE_ARGS+=(--command-name "${NAMES[$i]}" "${COMMANDS[$i]}")
+  done
+  exec hyperfine --warmup 2 --runs "$RUNS" "${HYPERFINE_ARGS[@]}"
+fi
+
+printf "%-8s %10s %10s %10s\n" variant "mean(ms)" "min(ms)" "max(ms)"
+for i in "${!COMMANDS[@]}"; do
+  ${COMMANDS[$i]} >/dev/null 2>&1 || true
+  total=0
+  min=
+  max=0
+  for ((run = 0; run < RUNS; run++)); do
+    start=$(date +%s%N)
+    ${COMMANDS[$i]} >/dev/null 2>&1
+    elapsed=$((($(date +%s%N) - start) / 1000000))
+    total=$((total + elapsed))
+    ((elapsed > max)) && max=$elapsed
+    if [[ -z "$min" ]] || ((elapsed < min)); then
+      min=$elapsed
+    fi
+  done
+  printf "%-8s %10d %10d %10d\n" "${NAMES[$i]}" $((total / RUNS)) "$min" "$max"
+done
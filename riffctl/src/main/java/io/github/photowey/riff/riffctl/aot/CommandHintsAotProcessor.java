@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.aot;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import picocli.CommandLine;
+
+/**
+ * {@code CommandHintsAotProcessor}.
+ *
+ * <p>Registers the reflection picocli needs in a native image for every {@link CommandLine.Command}
+ * bean, its superclasses, subcommands, mixins and argument groups, so a new command only has to be
+ * a bean. Picocli binds options to (often private) fields and instantiates subcommands reflectively.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public class CommandHintsAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final String AUTO_HELP_MIXIN = "picocli.CommandLine$AutoHelpMixin";
+
+    private static final MemberCategory[] COMMAND_MEMBERS = {
+        MemberCategory.DECLARED_FIELDS,
+        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+        MemberCategory.INVOKE_DECLARED_METHODS,
+    };
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> commands = new LinkedHashSet<>();
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            Class<?> type = beanFactory.getType(name, false);
+            if (type != null && type.isAnnotationPresent(CommandLine.Command.class)) {
+                commands.add(type);
+            }
+        }
+        if (commands.isEmpty()) {
+            return null;
+        }
+
+        return (generationContext, code) -> registerHints(generationContext.getRuntimeHints(), commands);
+    }
+
+    // ----------------------------------------------------------------
+
+    static void registerHints(RuntimeHints hints, Set<Class<?>> commands) {
+        hints.reflection().registerType(TypeReference.of(AUTO_HELP_MIXIN), COMMAND_MEMBERS);
+        Set<Class<?>> visited = new LinkedHashSet<>();
+        for (Class<?> command : commands) {
+            register(hints, command, visited);
+        }
+    }
+
+    private static void register(RuntimeHints hints, Class<?> type, Set<Class<?>> visited) {
+        if (!visited.add(type)) {
+            return;
+        }
+
+        hints.reflection().registerType(type, COMMAND_MEMBERS);
+        CommandLine.Command command = type.getAnnotation(CommandLine.Command.class);
+        if (command != null) {
+            for (Class<?> subcommand : command.subcommands()) {
+                register(hints, subcommand, visited);
+            }
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hints.reflection().registerType(current, COMMAND_MEMBERS);
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(CommandLine.Mixin.class)
+                    || field.isAnnotationPresent(CommandLine.ArgGroup.class)) {
+                    register(hints, field.getType(), visited);
+                }
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package io.github.photowey.riff.riffctl.cmder;
 
 import io.github.photowey.riff.riffctl.core.command.GreetCommand;
+import io.github.photowey.riff.riffctl.core.command.job.JobsCommand;
 import org.springframework.stereotype.Component;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -35,6 +36,7 @@ import picocli.CommandLine.Command;
     version = "1.0.0",
     subcommands = {
         GreetCommand.class,
+        JobsCommand.class,
     },
     description = "Riffctl CLI - A riff.jv client command line tool."
 )
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.command.job;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.photowey.riff.riffctl.core.http.RiffApiClient;
+import picocli.CommandLine;
+
+/**
+ * {@code AbstractJobActionCommand}.
+ *
+ * <p>Applies one action to every job a selector matches, e.g. {@code app=billing,name=report-*}.
+ * Keys are {@code id}, {@code app}, {@code name}, {@code handler}, {@code cron} and
+ * {@code enabled}; a trailing {@code *} matches by prefix and {@code !=} negates a term.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public abstract class AbstractJobActionCommand implements Callable<Integer> {
+
+    private final String action;
+    private final String done;
+
+    @CommandLine.Mixin
+    private ServerOptions server;
+
+    @CommandLine.Spec
+    private CommandLine.Model.CommandSpec spec;
+
+    @CommandLine.Option(
+        names = {"-l", "--selector"},
+        required = true,
+        description = "Selects the jobs, e.g. app=billing,name=report-*; app=* selects every job")
+    private String selector;
+
+    @CommandLine.Option(
+        names = "--batch-size",
+        defaultValue = "500",
+        description = "Jobs changed per batch (default: ${DEFAULT-VALUE})")
+    private int batchSize;
+
+    protected AbstractJobActionCommand(String action, String done) {
+        this.action = action;
+        this.done = done;
+    }
+
+    @Override
+    public Integer call() throws IOException, InterruptedException {
+        try (RiffApiClient client = this.server.client()) {
+            JsonNode result = client.apply(this.action, this.selector, this.batchSize);
+            this.spec.commandLine().getOut().printf("%s %d of %d selected jobs%n",
+                this.done, result.path("written").asLong(), result.path("matched").asLong());
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.command.job;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import io.github.photowey.riff.riffctl.core.format.JobDocuments;
+import io.github.photowey.riff.riffctl.core.format.JobFormat;
+import io.github.photowey.riff.riffctl.core.http.RiffApiClient;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine;
+
+/**
+ * {@code JobExportCommand}.
+ *
+ * <p>Writes jobs as the apiserver streams them, in the format {@code jobs import} reads. The count
+ * goes to stderr, so exporting to stdout can be piped.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Component
+@CommandLine.Command(name = "export", description = "Exports jobs as NDJSON or YAML")
+public class JobExportCommand implements Callable<Integer> {
+
+    private static final String STDOUT = "-";
+
+    @CommandLine.Mixin
+    private ServerOptions server;
+
+    @CommandLine.Spec
+    private CommandLine.Model.CommandSpec spec;
+
+    @CommandLine.Option(
+        names = {"-o", "--output"},
+        defaultValue = STDOUT,
+        description = "The file to write, - for stdout (default: ${DEFAULT-VALUE})")
+    private String output;
+
+    @CommandLine.Option(
+        names = "--format",
+        description = "NDJSON or YAML (default: from the file extension)")
+    private JobFormat format;
+
+    @CommandLine.Option(
+        names = {"-l", "--selector"},
+        description = "Exports only the jobs it selects, e.g. app=billing")
+    private String selector;
+
+    @Override
+    public Integer call() throws IOException, InterruptedException {
+        long exported;
+        try (RiffApiClient client = this.server.client();
+             InputStream jobs = client.exportJobs(this.selector)) {
+            if (STDOUT.equals(this.output)) {
+                exported = this.write(jobs, System.out);
+            } else {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(this.output)))) {
+                    exported = this.write(jobs, out);
+                }
+            }
+        }
+        this.spec.commandLine().getErr().printf("exported %d jobs%n", exported);
+
+        return 0;
+    }
+
+    // ----------------------------------------------------------------
+
+    private long write(InputStream jobs, OutputStream out) throws IOException {
+        JobFormat resolved = this.format == null ? JobFormat.of(this.output) : this.format;
+
+        return resolved == JobFormat.YAML ? JobDocuments.ndjsonToYaml(jobs, out) : JobDocuments.copyNdjson(jobs, out);
+    }
+}
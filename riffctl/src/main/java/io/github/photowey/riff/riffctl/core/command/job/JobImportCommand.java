@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.command.job;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.photowey.riff.riffctl.core.format.JobDocuments;
+import io.github.photowey.riff.riffctl.core.format.JobFormat;
+import io.github.photowey.riff.riffctl.core.http.RiffApiClient;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine;
+
+/**
+ * {@code JobImportCommand}.
+ *
+ * <p>Streams the whole file in one request; the apiserver stores it in batches as it arrives.
+ * NDJSON is sent as is, YAML is converted on the fly.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Component
+@CommandLine.Command(name = "import", description = "Imports jobs from an NDJSON or YAML file")
+public class JobImportCommand implements Callable<Integer> {
+
+    private static final String STDIN = "-";
+
+    @CommandLine.Mixin
+    private ServerOptions server;
+
+    @CommandLine.Spec
+    private CommandLine.Model.CommandSpec spec;
+
+    @CommandLine.Option(names = {"-f", "--file"}, required = true, description = "The jobs to import, - for stdin")
+    private String file;
+
+    @CommandLine.Option(
+        names = "--format",
+        description = "NDJSON or YAML (default: from the file extension)")
+    private JobFormat format;
+
+    @CommandLine.Option(
+        names = "--batch-size",
+        defaultValue = "500",
+        description = "Jobs stored per batch (default: ${DEFAULT-VALUE})")
+    private int batchSize;
+
+    @Override
+    public Integer call() throws IOException, InterruptedException {
+        try (RiffApiClient client = this.server.client()) {
+            JsonNode result = client.importJobs(this.body(), this.batchSize);
+            this.spec.commandLine().getOut().printf("imported %d of %d jobs in %d batches%n",
+                result.path("written").asLong(), result.path("matched").asLong(), result.path("batches").asInt());
+        }
+
+        return 0;
+    }
+
+    // ----------------------------------------------------------------
+
+    private HttpRequest.BodyPublisher body() throws IOException {
+        JobFormat resolved = this.format == null ? JobFormat.of(this.file) : this.format;
+        if (resolved == JobFormat.NDJSON && !STDIN.equals(this.file)) {
+            return HttpRequest.BodyPublishers.ofFile(Path.of(this.file));
+        }
+
+        return HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                InputStream source = STDIN.equals(this.file) ? System.in : Files.newInputStream(Path.of(this.file));
+
+                return resolved == JobFormat.YAML ? JobDocuments.yamlToNdjson(source) : source;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.format;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+
+/**
+ * {@code JobDocuments}.
+ *
+ * <p>Converts job streams between {@link JobFormat}s one document at a time, so a file of any size
+ * is converted while it is being sent or received. Jobs stay untyped trees, the apiserver is what
+ * validates them.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public final class JobDocuments {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final YAMLMapper YAML = YAMLMapper.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+
+    private JobDocuments() {
+        throw new AssertionError("No " + JobDocuments.class.getName() + " instances for you!");
+    }
+
+    /**
+     * Reads YAML documents as NDJSON. A document holding a list contributes one line per element.
+     *
+     * @param yaml the YAML stream, closed with the returned stream
+     * @return the NDJSON stream, converted as it is read
+     * @throws IOException if {@code yaml} cannot be opened as YAML
+     */
+    public static InputStream yamlToNdjson(InputStream yaml) throws IOException {
+        return new NdjsonInputStream(YAML.readerFor(JsonNode.class).readValues(yaml));
+    }
+
+    /**
+     * Writes NDJSON as a stream of YAML documents, one per job.
+     *
+     * @param ndjson the NDJSON stream
+     * @param out    the destination, left open
+     * @return the number of jobs written
+     * @throws IOException if reading or writing fails
+     */
+    public static long ndjsonToYaml(InputStream ndjson, OutputStream out) throws IOException {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        long written = 0L;
+        try (SequenceWriter documents = YAML.writer().writeValues(out)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (!line.isBlank()) {
+                    documents.write(JSON.readTree(line));
+                    written++;
+                }
+            }
+        }
+        out.flush();
+
+        return written;
+    }
+
+    /**
+     * Copies NDJSON as is.
+     *
+     * @param ndjson the NDJSON stream
+     * @param out    the destination, left open
+     * @return the number of lines copied
+     * @throws IOException if reading or writing fails
+     */
+    public static long copyNdjson(InputStream ndjson, OutputStream out) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long lines = 0L;
+        int read;
+        while ((read = ndjson.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+        out.flush();
+
+        return lines;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code NdjsonInputStream}.
+     *
+     * <p>Serializes the next job only once the previous line has been read.
+     */
+    private static final class NdjsonInputStream extends InputStream {
+
+        private final MappingIterator<JsonNode> documents;
+        private final Deque<JsonNode> pending = new ArrayDeque<>();
+
+        private byte[] line = new byte[0];
+        private int position;
+
+        NdjsonInputStream(MappingIterator<JsonNode> documents) {
+            this.documents = documents;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!this.fill()) {
+                return -1;
+            }
+
+            return this.line[this.position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.fill()) {
+                return -1;
+            }
+
+            int copied = Math.min(length, this.line.length - this.position);
+            System.arraycopy(this.line, this.position, target, offset, copied);
+            this.position += copied;
+
+            return copied;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.documents.close();
+        }
+
+        private boolean fill() throws IOException {
+            while (this.position == this.line.length) {
+                JsonNode job = this.next();
+                if (job == null) {
+                    return false;
+                }
+
+                byte[] json = JSON.writeValueAsBytes(job);
+                this.line = Arrays.copyOf(json, json.length + 1);
+                this.line[json.length] = '\n';
+                this.position = 0;
+            }
+
+            return true;
+        }
+
+        private JsonNode next() throws IOException {
+            while (this.pending.isEmpty()) {
+                if (!this.documents.hasNextValue()) {
+                    return null;
+                }
+
+                JsonNode document = this.documents.nextValue();
+                if (document.isArray()) {
+                    document.forEach(this.pending::add);
+                } else if (!document.isNull() && !document.isMissingNode()) {
+                    this.pending.add(document);
+                }
+            }
+
+            return this.pending.poll();
+        }
+    }
+}
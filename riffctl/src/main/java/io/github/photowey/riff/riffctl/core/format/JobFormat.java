@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.format;
+
+/**
+ * {@code JobFormat}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public enum JobFormat {
+
+    /**
+     * One JSON object per line, what the apiserver reads and writes.
+     */
+    NDJSON,
+
+    /**
+     * A stream of YAML documents, each a job or a list of jobs.
+     */
+    YAML;
+
+    /**
+     * Guesses the format of a file from its extension.
+     *
+     * @param file the file name
+     * @return {@link #YAML} for {@code .yaml} and {@code .yml} files, {@link #NDJSON} otherwise
+     */
+    public static JobFormat of(String file) {
+        String name = file.toLowerCase();
+
+        return name.endsWith(".yaml") || name.endsWith(".yml") ? YAML : NDJSON;
+    }
+}
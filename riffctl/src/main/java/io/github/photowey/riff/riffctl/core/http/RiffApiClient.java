@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@code RiffApiClient}.
+ *
+ * <p>Talks to the apiserver's bulk job endpoints. Request and response bodies are streamed in both
+ * directions, so importing or exporting hundreds of thousands of jobs keeps only a buffer in
+ * memory on either side.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public class RiffApiClient implements Closeable {
+
+    public static final String JOBS_PATH = "/api/v1/jobs";
+    public static final String NDJSON = "application/x-ndjson";
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final String server;
+    private final HttpClient client;
+
+    public RiffApiClient(String server) {
+        this.server = server.endsWith("/") ? server.substring(0, server.length() - 1) : server;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Imports jobs.
+     *
+     * @param ndjson    the jobs, one JSON object per line
+     * @param batchSize the jobs the apiserver stores per batch
+     * @return the import result, {@code matched}, {@code written} and {@code batches}
+     */
+    public JsonNode importJobs(HttpRequest.BodyPublisher ndjson, int batchSize)
+        throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(this.uri("/import?batchSize=" + batchSize))
+            .header("Content-Type", NDJSON)
+            .POST(ndjson)
+            .build();
+
+        return JSON.readTree(this.send(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    /**
+     * Exports jobs.
+     *
+     * @param selector selects the jobs, {@code null} for every job
+     * @return the jobs, one JSON object per line, read as the apiserver sends them; the caller closes it
+     */
+    public InputStream exportJobs(String selector) throws IOException, InterruptedException {
+        String query = selector == null ? "" : "?selector=" + encode(selector);
+        HttpRequest request = HttpRequest.newBuilder(this.uri("/export" + query))
+            .header("Accept", NDJSON)
+            .GET()
+            .build();
+
+        return this.send(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    /**
+     * Pauses, resumes or triggers the selected jobs.
+     *
+     * @param action    {@code pause}, {@code resume} or {@code trigger}
+     * @param selector  selects the jobs
+     * @param batchSize the jobs the apiserver changes per batch
+     * @return the result, {@code matched}, {@code written} and {@code batches}
+     */
+    public JsonNode apply(String action, String selector, int batchSize) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                this.uri("/" + action + "?selector=" + encode(selector) + "&batchSize=" + batchSize))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+
+        return JSON.readTree(this.send(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    @Override
+    public void close() {
+        this.client.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    private InputStream send(HttpRequest request, HttpResponse.BodyHandler<InputStream> handler)
+        throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = this.client.send(request, handler);
+        if (response.statusCode() / 100 == 2) {
+            return response.body();
+        }
+
+        try (InputStream body = response.body()) {
+            throw new IllegalStateException("riff: " + request.method() + " " + request.uri().getPath()
+                + " failed, status:[" + response.statusCode() + "] "
+                + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(this.server + JOBS_PATH + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
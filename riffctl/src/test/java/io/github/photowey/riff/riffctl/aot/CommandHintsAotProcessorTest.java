@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.aot;
+
+import java.util.Set;
+
+import io.github.photowey.riff.riffctl.cmder.Cmder;
+import io.github.photowey.riff.riffctl.core.command.GreetCommand;
+import io.github.photowey.riff.riffctl.core.command.job.AbstractJobActionCommand;
+import io.github.photowey.riff.riffctl.core.command.job.JobPauseCommand;
+import io.github.photowey.riff.riffctl.core.command.job.ServerOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import picocli.CommandLine;
+
+/**
+ * {@code CommandHintsAotProcessorTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class CommandHintsAotProcessorTest {
+
+    @Test
+    void testProcessAheadOfTime_contributesOnlyForCommandBeans() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        CommandHintsAotProcessor processor = new CommandHintsAotProcessor();
+        beanFactory.registerBeanDefinition("plain", new RootBeanDefinition(String.class));
+        Assertions.assertNull(processor.processAheadOfTime(beanFactory));
+
+        beanFactory.registerBeanDefinition("cmder", new RootBeanDefinition(Cmder.class));
+        Assertions.assertNotNull(processor.processAheadOfTime(beanFactory));
+    }
+
+    @Test
+    void testRegisterHints_coversSubcommandsAndMixins() {
+        RuntimeHints hints = new RuntimeHints();
+        CommandHintsAotProcessor.registerHints(hints, Set.of(Cmder.class, MixedCommand.class));
+
+        Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(Cmder.class).test(hints));
+        Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(GreetCommand.class)
+            .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(VerboseMixin.class).test(hints));
+        Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(JobPauseCommand.class).test(hints));
+        Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(AbstractJobActionCommand.class)
+            .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(ServerOptions.class).test(hints));
+        Assertions.assertTrue(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of("picocli.CommandLine$AutoHelpMixin")).test(hints));
+    }
+
+    /**
+     * {@code MixedCommand}.
+     */
+    @CommandLine.Command(name = "mixed")
+    static class MixedCommand {
+
+        @CommandLine.Mixin
+        private VerboseMixin verbose;
+    }
+
+    /**
+     * {@code VerboseMixin}.
+     */
+    static class VerboseMixin {
+
+        @CommandLine.Option(names = "-v")
+        private boolean verbose;
+    }
+}
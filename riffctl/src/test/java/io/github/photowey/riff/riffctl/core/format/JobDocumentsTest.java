@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.format;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JobDocumentsTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class JobDocumentsTest {
+
+    @Test
+    void testYamlToNdjson_flattensDocumentsAndLists() throws IOException {
+        String yaml = """
+            app: billing
+            name: settle
+            enabled: true
+            ---
+            - app: billing
+              name: report-daily
+            - app: billing
+              name: report-weekly
+            ---
+            """;
+
+        try (InputStream ndjson = JobDocuments.yamlToNdjson(stream(yaml))) {
+            List<String> lines = new String(ndjson.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            Assertions.assertEquals(List.of(
+                "{\"app\":\"billing\",\"name\":\"settle\",\"enabled\":true}",
+                "{\"app\":\"billing\",\"name\":\"report-daily\"}",
+                "{\"app\":\"billing\",\"name\":\"report-weekly\"}"), lines);
+        }
+    }
+
+    @Test
+    void testNdjsonToYaml_roundTrips() throws IOException {
+        String ndjson = "{\"id\":1,\"app\":\"billing\",\"cron\":\"0 0 * * * *\"}\n\n{\"id\":2,\"app\":\"orders\"}\n";
+        ByteArrayOutputStream yaml = new ByteArrayOutputStream();
+        Assertions.assertEquals(2, JobDocuments.ndjsonToYaml(stream(ndjson), yaml));
+
+        ByteArrayOutputStream back = new ByteArrayOutputStream();
+        try (InputStream converted = JobDocuments.yamlToNdjson(new ByteArrayInputStream(yaml.toByteArray()))) {
+            Assertions.assertEquals(2, JobDocuments.copyNdjson(converted, back));
+        }
+        Assertions.assertEquals(ndjson.replace("\n\n", "\n"), back.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(JobFormat.YAML, JobFormat.of("jobs.YML"));
+        Assertions.assertEquals(JobFormat.NDJSON, JobFormat.of("-"));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
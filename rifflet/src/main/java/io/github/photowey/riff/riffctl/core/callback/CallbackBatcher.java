@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.callback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.metric.MetricNames;
+import io.github.photowey.riff.core.metric.MetricSummary;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.queue.MpscArrayQueue;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.client.RemotingErrorException;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code CallbackBatcher}.
+ *
+ * <p>The {@link io.github.photowey.riff.riffctl.core.executor.JobExecutor} callback that reports
+ * results to the scheduler in {@link RequestCode#CALLBACK_BATCH} frames. Job threads enqueue into
+ * a bounded lock-free queue and return at once; a single sender thread sends a batch as soon as
+ * {@code batchSize} results are queued or {@code lingerMillis} has passed, and waits for its
+ * acknowledgement before the next one, so results that arrive meanwhile make the next batch
+ * larger instead of adding round trips.
+ *
+ * <p>A batch that cannot be delivered goes to a {@link CallbackSpool}. While the spool holds
+ * batches they are replayed oldest first, one at a time, with exponential backoff between failed
+ * attempts, and results queued during a backoff are spooled behind them; fresh batches are sent
+ * directly again once the spool is empty. Delivery is at least once: a batch whose
+ * acknowledgement was lost is sent again. A result that finds the queue full is spooled by the
+ * job thread itself and may overtake results still queued.
+ *
+ * <p>Only connect failures and timeouts are retried until they succeed. A batch the scheduler
+ * answers with an error, e.g. because it cannot decode it, is dropped once it was rejected
+ * {@code maxRejectedAttempts} times, so it cannot hold up the batches spooled behind it.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Slf4j
+public class CallbackBatcher implements Consumer<CallbackResult>, AutoCloseable {
+
+    private static final String SENDER_THREAD_NAME = "riff-callback-sender";
+    private static final int ESTIMATED_RESULT_SIZE = 48;
+
+    private final NettyRemotingClient client;
+    private final String address;
+    private final CallbackBatcherOptions options;
+    private final MpscArrayQueue<CallbackResult> queue;
+    private final CallbackSpool spool;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final MetricSummary batchSizes;
+
+    private final AtomicBoolean sleeping = new AtomicBoolean();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // written by the sender thread only
+    private volatile long sent;
+    private volatile long batches;
+    private volatile long spooled;
+    private volatile long replayed;
+    private volatile long rejected;
+    private long backoffMillis;
+    private int rejections;
+    private long nextAttemptNanos;
+
+    private volatile boolean running;
+    private Thread sender;
+
+    public CallbackBatcher(NettyRemotingClient client, String address, CallbackBatcherOptions options) {
+        this(client, address, options, RiffMetrics.NOOP);
+    }
+
+    /**
+     * @param client  the client to send through
+     * @param address the scheduler, {@code host:port}
+     * @param options the options; {@code spoolFile} is required
+     * @param metrics where to publish batch sizes and the spool depth
+     */
+    public CallbackBatcher(
+        NettyRemotingClient client, String address, CallbackBatcherOptions options, RiffMetrics metrics) {
+        if (options.getBatchSize() <= 0 || options.getLingerMillis() <= 0 || options.getSpoolFile() == null) {
+            throw new IllegalArgumentException("batchSize and lingerMillis must be positive, spoolFile is required");
+        }
+        if (options.getMaxRejectedAttempts() <= 0) {
+            throw new IllegalArgumentException("maxRejectedAttempts must be positive");
+        }
+
+        this.client = client;
+        this.address = address;
+        this.options = options;
+        this.queue = new MpscArrayQueue<>(options.getCapacity());
+        this.spool = CallbackSpool.open(options.getSpoolFile(), options.getSpoolCapacity());
+        this.batchSize = Math.min(options.getBatchSize(), this.queue.capacity());
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(options.getLingerMillis());
+        this.batchSizes = metrics.summary(MetricNames.RIFFLET_CALLBACK_BATCH_SIZE);
+        metrics.gauge(MetricNames.RIFFLET_CALLBACK_SPOOLED, this.spool, CallbackSpool::batches);
+        if (!this.spool.isEmpty()) {
+            log.info("riff: callback spool:[{}] holds [{}] batches from a previous run",
+                this.spool.path(), this.spool.batches());
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public synchronized void start() {
+        if (this.sender != null) {
+            return;
+        }
+
+        this.running = true;
+        this.sender = new Thread(this::run, SENDER_THREAD_NAME);
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    /**
+     * Stops the sender, tries once to deliver what is still queued and spools the rest, so it is
+     * replayed after a restart.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.sender == null) {
+            return;
+        }
+
+        this.running = false;
+        LockSupport.unpark(this.sender);
+        try {
+            this.sender.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.sender = null;
+
+        List<CallbackResult> batch = new ArrayList<>(this.batchSize);
+        while (this.queue.drain(batch::add, this.batchSize) > 0) {
+            this.sendOrSpool(batch);
+        }
+        this.spool.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Enqueues a result without blocking, spooling it if the queue is full.
+     */
+    @Override
+    public void accept(CallbackResult result) {
+        if (this.queue.offer(result)) {
+            if (this.sleeping.get() && this.queue.size() >= this.batchSize) {
+                this.signalSender();
+            }
+
+            return;
+        }
+
+        this.overflowed.increment();
+        this.spoolBatch(encode(List.of(result)), 1);
+        this.signalSender();
+    }
+
+    /**
+     * @return the number of results delivered, directly or by replay
+     */
+    public long sent() {
+        return this.sent;
+    }
+
+    /**
+     * @return the number of batches delivered, directly or by replay
+     */
+    public long batches() {
+        return this.batches;
+    }
+
+    /**
+     * @return the number of results that went to the spool
+     */
+    public long spooled() {
+        return this.spooled + this.overflowed.sum();
+    }
+
+    /**
+     * @return the number of batches delivered from the spool
+     */
+    public long replayed() {
+        return this.replayed;
+    }
+
+    /**
+     * @return the number of results lost because the spool was full
+     */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * @return the number of batches dropped because the scheduler kept rejecting them
+     */
+    public long rejected() {
+        return this.rejected;
+    }
+
+    public int spoolDepth() {
+        return this.spool.batches();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void run() {
+        List<CallbackResult> batch = new ArrayList<>(this.batchSize);
+        while (this.running) {
+            if (!this.spool.isEmpty()) {
+                this.replay(batch);
+                continue;
+            }
+
+            this.awaitBatch(this.lingerNanos);
+            if (this.queue.drain(batch::add, this.batchSize) > 0) {
+                this.sendOrSpool(batch);
+            }
+        }
+    }
+
+    private void replay(List<CallbackResult> batch) {
+        long wait = this.nextAttemptNanos - System.nanoTime();
+        if (wait > 0) {
+            // keep what piles up during the outage on disk and behind the older batches
+            if (this.queue.drain(batch::add, this.batchSize) > 0) {
+                this.spooled += batch.size();
+                this.spoolBatch(encode(batch), batch.size());
+                batch.clear();
+            }
+            this.awaitBatch(Math.min(wait, this.lingerNanos));
+
+            return;
+        }
+
+        byte[] body = this.spool.peek();
+        Outcome outcome = this.send(body);
+        if (outcome == Outcome.DELIVERED) {
+            this.replayed++;
+        } else if (outcome == Outcome.FAILED || ++this.rejections < this.options.getMaxRejectedAttempts()) {
+            return;
+        } else {
+            this.rejected++;
+            log.error("riff: scheduler:[{}] rejected a callback batch {} times, dropping it, bytes:[{}]",
+                this.address, this.rejections, body.length);
+        }
+
+        this.rejections = 0;
+        this.spool.remove();
+        if (this.spool.isEmpty()) {
+            log.info("riff: callback spool drained, replayed batches:[{}]", this.replayed);
+        }
+    }
+
+    private void sendOrSpool(List<CallbackResult> batch) {
+        byte[] body = encode(batch);
+        this.batchSizes.record(batch.size());
+        if (this.spool.isEmpty() && this.send(body) == Outcome.DELIVERED) {
+            this.sent += batch.size();
+        } else {
+            this.spooled += batch.size();
+            this.spoolBatch(body, batch.size());
+        }
+        batch.clear();
+    }
+
+    private Outcome send(byte[] body) {
+        try {
+            this.client
+                .invoke(this.address, RequestCode.CALLBACK_BATCH, body, this.options.getSendTimeoutMillis())
+                .join();
+        } catch (CompletionException e) {
+            this.backOff();
+            if (e.getCause() instanceof RemotingErrorException rejection) {
+                log.warn("riff: scheduler:[{}] rejected callbacks: {}, retrying in {}ms",
+                    this.address, rejection.getMessage(), this.backoffMillis);
+
+                return Outcome.REJECTED;
+            }
+
+            // connect failures, timeouts
+            log.warn("riff: send callbacks to:[{}] failed, retrying in {}ms", this.address, this.backoffMillis, e);
+
+            return Outcome.FAILED;
+        }
+
+        this.backoffMillis = 0L;
+        this.batches++;
+
+        return Outcome.DELIVERED;
+    }
+
+    private void backOff() {
+        this.backoffMillis = this.backoffMillis == 0
+            ? this.options.getRetryBackoffMillis()
+            : Math.min(this.backoffMillis * 2, this.options.getMaxBackoffMillis());
+        this.nextAttemptNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.backoffMillis);
+    }
+
+    private void spoolBatch(byte[] body, int results) {
+        if (!this.spool.append(body)) {
+            this.dropped.add(results);
+            log.error("riff: callback spool:[{}] is full, dropping results:[{}]", this.spool.path(), results);
+        }
+    }
+
+    private void awaitBatch(long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (this.running && this.queue.size() < this.batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            this.sleeping.set(true);
+            if (this.queue.size() < this.batchSize) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            this.sleeping.set(false);
+        }
+    }
+
+    private void signalSender() {
+        if (this.sleeping.compareAndSet(true, false)) {
+            LockSupport.unpark(this.sender);
+        }
+    }
+
+    static byte[] encode(List<CallbackResult> results) {
+        MessageCodec codec = MessageCodecs.binary();
+        ByteBuf out = Unpooled.buffer(results.size() * ESTIMATED_RESULT_SIZE);
+        try {
+            for (CallbackResult result : results) {
+                codec.encode(result, out);
+            }
+
+            return ByteBufUtil.getBytes(out);
+        } finally {
+            out.release();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * How one send went.
+     */
+    private enum Outcome {
+        DELIVERED,
+        /**
+         * The scheduler answered with an error.
+         */
+        REJECTED,
+        /**
+         * No answer: the connect failed or the request timed out.
+         */
+        FAILED
+    }
+}
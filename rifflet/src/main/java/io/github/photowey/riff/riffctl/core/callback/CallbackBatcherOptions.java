@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.callback;
+
+import java.nio.file.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code CallbackBatcherOptions}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CallbackBatcherOptions {
+
+    /**
+     * The queue capacity, rounded up to a power of two. Results beyond it are spooled directly.
+     */
+    @Builder.Default
+    private int capacity = 1 << 14;
+    /**
+     * Sends as soon as this many results are queued.
+     */
+    @Builder.Default
+    private int batchSize = 256;
+    /**
+     * Sends whatever is queued at least this often.
+     */
+    @Builder.Default
+    private long lingerMillis = 5L;
+    @Builder.Default
+    private long sendTimeoutMillis = 3_000L;
+    /**
+     * The first replay delay after a failed send, doubled on every further failure.
+     */
+    @Builder.Default
+    private long retryBackoffMillis = 100L;
+    @Builder.Default
+    private long maxBackoffMillis = 30_000L;
+    /**
+     * How often a batch the scheduler answers with an error is sent before it is dropped. Connect
+     * failures and timeouts are retried until they succeed.
+     */
+    @Builder.Default
+    private int maxRejectedAttempts = 3;
+    /**
+     * The spool file, kept across restarts.
+     */
+    private Path spoolFile;
+    @Builder.Default
+    private int spoolCapacity = 64 << 20;
+}
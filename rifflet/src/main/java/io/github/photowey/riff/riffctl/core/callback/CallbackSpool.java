@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.callback;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code CallbackSpool}.
+ *
+ * <p>A FIFO of encoded callback batches kept in one preallocated, memory-mapped ring file, so that
+ * spooling a batch is a memory copy plus an {@code msync} of its bytes, and spooled batches
+ * survive a restart of the rifflet.
+ *
+ * <pre>
+ * +-------+------+------+----------+---------------------------------------+
+ * | magic | head | tail | reserved | [length | batch] [length | batch] ... |
+ * | int   | int  | int  | int      | int       bytes                       |
+ * +-------+------+------+----------+---------------------------------------+
+ * </pre>
+ *
+ * <p>A batch that does not fit before the end of the file wraps to the front, leaving a
+ * {@code -1} length behind it. {@code tail} is moved only after a batch is written and flushed,
+ * so a crash in the middle of an append leaves the batch out; {@code head} is moved without a
+ * flush, so a crash may replay batches that were already delivered, never lose one.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+@Slf4j
+public final class CallbackSpool implements Closeable {
+
+    static final int HEADER = 4 * Integer.BYTES;
+
+    private static final int MAGIC = 0x52434253;
+    private static final int HEAD_INDEX = Integer.BYTES;
+    private static final int TAIL_INDEX = 2 * Integer.BYTES;
+    private static final int LENGTH = Integer.BYTES;
+    private static final int WRAP = -1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private int head;
+    private int tail;
+    private int batches;
+
+    private CallbackSpool(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Opens a spool, creating it if missing and recovering the batches an earlier process left.
+     *
+     * @param path     the spool file
+     * @param capacity the file size in bytes for a new spool; an existing file keeps its size
+     * @return the spool
+     */
+    public static CallbackSpool open(Path path, int capacity) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), capacity);
+            if (size <= HEADER + LENGTH || size > Integer.MAX_VALUE) {
+                channel.close();
+                throw new IllegalArgumentException("riff: bad callback spool capacity:" + size);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            CallbackSpool spool = new CallbackSpool(path, channel, buffer);
+            spool.recover();
+
+            return spool;
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: open callback spool failed:" + path, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Appends a batch and flushes it to the file.
+     *
+     * @param batch the encoded batch, not empty
+     * @return {@code false} if the spool has no room for it
+     */
+    public synchronized boolean append(byte[] batch) {
+        int need = LENGTH + batch.length;
+        int at = this.tail;
+        if (this.tail >= this.head) {
+            if (this.tail + need > this.capacity) {
+                if (HEADER + need >= this.head) {
+                    return false;
+                }
+                if (this.capacity - this.tail >= LENGTH) {
+                    this.buffer.putInt(this.tail, WRAP);
+                }
+                at = HEADER;
+            }
+        } else if (this.tail + need >= this.head) {
+            return false;
+        }
+
+        this.buffer.putInt(at, batch.length);
+        this.buffer.put(at + LENGTH, batch);
+        this.buffer.force(at, need);
+        this.tail = at + need;
+        this.batches++;
+        this.buffer.putInt(TAIL_INDEX, this.tail);
+        this.buffer.force(0, HEADER);
+
+        return true;
+    }
+
+    /**
+     * @return the oldest batch, {@code null} if the spool is empty
+     */
+    public synchronized byte[] peek() {
+        if (this.isEmpty()) {
+            return null;
+        }
+
+        this.skipWrap();
+        byte[] batch = new byte[this.buffer.getInt(this.head)];
+        this.buffer.get(this.head + LENGTH, batch);
+
+        return batch;
+    }
+
+    /**
+     * Drops the oldest batch, once it was delivered.
+     */
+    public synchronized void remove() {
+        if (this.isEmpty()) {
+            return;
+        }
+
+        this.skipWrap();
+        this.head += LENGTH + this.buffer.getInt(this.head);
+        this.batches--;
+        if (this.head == this.tail) {
+            this.head = HEADER;
+            this.tail = HEADER;
+            this.buffer.putInt(TAIL_INDEX, this.tail);
+        }
+        this.buffer.putInt(HEAD_INDEX, this.head);
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.head == this.tail;
+    }
+
+    /**
+     * @return the number of spooled batches
+     */
+    public synchronized int batches() {
+        return this.batches;
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    public Path path() {
+        return this.path;
+    }
+
+    @Override
+    public synchronized void close() {
+        this.buffer.force();
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: close callback spool failed:" + this.path, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private void skipWrap() {
+        if (this.head > this.tail
+            && (this.capacity - this.head < LENGTH || this.buffer.getInt(this.head) == WRAP)) {
+            this.head = HEADER;
+        }
+    }
+
+    private void recover() {
+        if (this.buffer.getInt(0) != MAGIC) {
+            this.reset();
+
+            return;
+        }
+
+        this.head = this.buffer.getInt(HEAD_INDEX);
+        this.tail = this.buffer.getInt(TAIL_INDEX);
+        if (!this.inRange(this.head) || !this.inRange(this.tail) || !this.countBatches()) {
+            log.warn("riff: callback spool:[{}] is corrupt, dropping it", this.path);
+            this.reset();
+        }
+    }
+
+    private boolean inRange(int offset) {
+        return offset >= HEADER && offset <= this.capacity;
+    }
+
+    private boolean countBatches() {
+        int position = this.head;
+        int count = 0;
+        while (position != this.tail) {
+            if (position > this.tail
+                && (this.capacity - position < LENGTH || this.buffer.getInt(position) == WRAP)) {
+                position = HEADER;
+                continue;
+            }
+
+            int length = this.buffer.getInt(position);
+            int end = position + LENGTH + length;
+            if (length <= 0 || end > this.capacity || (position < this.tail && end > this.tail)) {
+                return false;
+            }
+            position = end;
+            count++;
+        }
+        this.batches = count;
+
+        return true;
+    }
+
+    private void reset() {
+        this.head = HEADER;
+        this.tail = HEADER;
+        this.batches = 0;
+        this.buffer.putInt(0, MAGIC);
+        this.buffer.putInt(HEAD_INDEX, HEADER);
+        this.buffer.putInt(TAIL_INDEX, HEADER);
+        this.buffer.force(0, HEADER);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+
+/**
+ * {@code NettyConnection}.
+ *
+ * <p>A long-lived connection to one peer, and the last handler of its pipeline. It correlates
+ * responses with in-flight requests by {@code requestId} and fails them all when the channel dies.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class NettyConnection extends SimpleChannelInboundHandler<RemotingCommand> {
+
+    private final String address;
+    private final Timer timer;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    private volatile ChannelFuture connectFuture;
+    private volatile boolean closed;
+
+    NettyConnection(String address, Timer timer) {
+        this.address = address;
+        this.timer = timer;
+    }
+
+    void connectFuture(ChannelFuture connectFuture) {
+        this.connectFuture = connectFuture;
+        connectFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                this.closed = true;
+                this.failAll(new RemotingException("riff: connect to " + this.address + " failed", future.cause()));
+            }
+        });
+    }
+
+    // ----------------------------------------------------------------
+
+    CompletableFuture<RemotingCommand> invoke(RemotingCommand request, long timeoutMillis) {
+        CompletableFuture<RemotingCommand> future = new CompletableFuture<>();
+        Timeout timeout = this.timer.newTimeout(
+            task -> this.expire(request.requestId(), timeoutMillis), timeoutMillis, TimeUnit.MILLISECONDS);
+        this.pending.put(request.requestId(), new Pending(future, timeout));
+        if (this.closed) {
+            this.fail(request.requestId(), new RemotingException("riff: connection to " + this.address + " closed"));
+
+            return future;
+        }
+
+        this.write(request, future);
+
+        return future;
+    }
+
+    void oneway(RemotingCommand request) {
+        this.write(request, null);
+    }
+
+    boolean isAlive() {
+        return !this.closed;
+    }
+
+    int inFlight() {
+        return this.pending.size();
+    }
+
+    void close() {
+        this.closed = true;
+        ChannelFuture future = this.connectFuture;
+        if (future != null) {
+            future.channel().close();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, RemotingCommand response) {
+        Pending waiting = this.pending.remove(response.requestId());
+        if (waiting == null) {
+            return;
+        }
+
+        waiting.timeout().cancel();
+        if (response.isError()) {
+            waiting.future().completeExceptionally(new RemotingErrorException(response.errorMessage()));
+        } else {
+            waiting.future().complete(response);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        this.closed = true;
+        this.failAll(new RemotingException("riff: connection to " + this.address + " closed"));
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        this.closed = true;
+        this.failAll(new RemotingException("riff: connection to " + this.address + " failed", cause));
+        ctx.close();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void write(RemotingCommand request, CompletableFuture<RemotingCommand> future) {
+        ChannelFuture connected = this.connectFuture;
+        if (connected.isDone()) {
+            this.writeNow(connected.channel(), request, future);
+
+            return;
+        }
+
+        connected.addListener(done -> {
+            if (done.isSuccess()) {
+                this.writeNow(connected.channel(), request, future);
+            }
+        });
+    }
+
+    private void writeNow(Channel channel, RemotingCommand request, CompletableFuture<RemotingCommand> future) {
+        if (future == null) {
+            channel.writeAndFlush(request, channel.voidPromise());
+
+            return;
+        }
+
+        channel.writeAndFlush(request).addListener(written -> {
+            if (!written.isSuccess()) {
+                this.fail(request.requestId(), new RemotingException(
+                    "riff: send to " + this.address + " failed", written.cause()));
+            }
+        });
+    }
+
+    private void expire(long requestId, long timeoutMillis) {
+        Pending waiting = this.pending.remove(requestId);
+        if (waiting != null) {
+            waiting.future().completeExceptionally(new TimeoutException(
+                "riff: request:" + requestId + " to " + this.address + " timed out after " + timeoutMillis + "ms"));
+        }
+    }
+
+    private void fail(long requestId, Throwable cause) {
+        Pending waiting = this.pending.remove(requestId);
+        if (waiting != null) {
+            waiting.timeout().cancel();
+            waiting.future().completeExceptionally(cause);
+        }
+    }
+
+    private void failAll(Throwable cause) {
+        for (Long requestId : this.pending.keySet()) {
+            this.fail(requestId, cause);
+        }
+    }
+
+    /**
+     * {@code Pending}.
+     *
+     * @param future  the caller's future
+     * @param timeout the timeout task
+     */
+    private record Pending(CompletableFuture<RemotingCommand> future, Timeout timeout) {
+    }
+}
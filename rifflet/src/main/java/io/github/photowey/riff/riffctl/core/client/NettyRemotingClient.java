@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommandDecoder;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommandEncoder;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code NettyRemotingClient}.
+ *
+ * <p>Keeps a single long-lived connection per peer ({@code host:port}) and multiplexes every
+ * request over it. Each request gets a client-unique {@code requestId} and the response completes
+ * the matching future, so thousands of triggers and callbacks can be in flight on one socket
+ * instead of paying a connection or HTTP round trip each. Writes from many threads are coalesced
+ * into few syscalls by a {@link FlushConsolidationHandler}. A dead connection fails its in-flight
+ * requests and is replaced on the next call.
+ *
+ * <p>{@link RiffMessage}s are encoded with the configured {@link MessageCodec}: binary by default,
+ * JSON when the wire should be readable while debugging.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class NettyRemotingClient implements RemotingClient {
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 3_000L;
+
+    private final int ioThreads;
+    private final int connectTimeoutMillis;
+    private final MessageCodec codec;
+    private final Map<String, NettyConnection> connections = new ConcurrentHashMap<>();
+    private final AtomicLong requestIds = new AtomicLong();
+    private final RemotingCommandEncoder encoder = new RemotingCommandEncoder();
+
+    private EventLoopGroup group;
+    private Bootstrap bootstrap;
+    private HashedWheelTimer timer;
+
+    public NettyRemotingClient() {
+        this(0, 3_000);
+    }
+
+    public NettyRemotingClient(int ioThreads, int connectTimeoutMillis) {
+        this(ioThreads, connectTimeoutMillis, MessageCodecs.binary());
+    }
+
+    /**
+     * @param ioThreads            the number of I/O threads, {@code 0} for Netty's default
+     * @param connectTimeoutMillis the connect timeout
+     * @param codec                the codec for {@link RiffMessage} requests
+     */
+    public NettyRemotingClient(int ioThreads, int connectTimeoutMillis, MessageCodec codec) {
+        this.ioThreads = ioThreads;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.codec = codec;
+    }
+
+    // ----------------------------------------------------------------
+
+    @Override
+    public synchronized void init() {
+        if (this.group != null) {
+            return;
+        }
+
+        this.group = new NioEventLoopGroup(this.ioThreads, new DefaultThreadFactory("riff-remoting-client", true));
+        this.timer = new HashedWheelTimer(
+            new DefaultThreadFactory("riff-remoting-timeout", true), 10, TimeUnit.MILLISECONDS);
+        this.bootstrap = new Bootstrap()
+            .group(this.group)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, this.connectTimeoutMillis);
+    }
+
+    @Override
+    public void start() {
+        this.init();
+        this.timer.start();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (this.group == null) {
+            return;
+        }
+
+        this.connections.values().forEach(NettyConnection::close);
+        this.connections.clear();
+        this.timer.stop();
+        this.group.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+        this.group = null;
+    }
+
+    // ----------------------------------------------------------------
+
+    public CompletableFuture<RemotingCommand> invoke(String address, int code, byte[] body) {
+        return this.invoke(address, code, body, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Sends a request and completes with the peer's response.
+     *
+     * @param address       the peer, {@code host:port}
+     * @param code          the request code
+     * @param body          the request body
+     * @param timeoutMillis the response timeout
+     * @return the response, or a future failed with a {@link RemotingException} or
+     *     {@link java.util.concurrent.TimeoutException}
+     */
+    public CompletableFuture<RemotingCommand> invoke(String address, int code, byte[] body, long timeoutMillis) {
+        RemotingCommand request = RemotingCommand.request(this.requestIds.incrementAndGet(), code, body);
+
+        return this.connection(address).invoke(request, timeoutMillis);
+    }
+
+    public CompletableFuture<RemotingCommand> invoke(String address, int code, RiffMessage message) {
+        return this.invoke(address, code, message, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public CompletableFuture<RemotingCommand> invoke(
+        String address, int code, RiffMessage message, long timeoutMillis) {
+        RemotingCommand request = RemotingCommand.request(this.requestIds.incrementAndGet(), code, this.codec, message);
+
+        return this.connection(address).invoke(request, timeoutMillis);
+    }
+
+    /**
+     * Sends a request without waiting for, or receiving, a response.
+     */
+    public void oneway(String address, int code, byte[] body) {
+        this.connection(address).oneway(RemotingCommand.oneway(this.requestIds.incrementAndGet(), code, body));
+    }
+
+    public void oneway(String address, int code, RiffMessage message) {
+        this.connection(address).oneway(
+            RemotingCommand.oneway(this.requestIds.incrementAndGet(), code, this.codec, message));
+    }
+
+    public MessageCodec codec() {
+        return this.codec;
+    }
+
+    public int connectionCount() {
+        return this.connections.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    private NettyConnection connection(String address) {
+        NettyConnection connection = this.connections.get(address);
+        if (connection != null && connection.isAlive()) {
+            return connection;
+        }
+
+        return this.connections.compute(address, (key, current) -> {
+            if (current != null && current.isAlive()) {
+                return current;
+            }
+
+            return this.connect(key);
+        });
+    }
+
+    private NettyConnection connect(String address) {
+        if (this.group == null) {
+            throw new IllegalStateException("riff: remoting client is not started");
+        }
+
+        int separator = address.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("riff: address must be host:port, but was " + address);
+        }
+
+        NettyConnection connection = new NettyConnection(address, this.timer);
+        connection.connectFuture(this.bootstrap.clone()
+            .handler(this.initializer(connection))
+            .connect(address.substring(0, separator), Integer.parseInt(address.substring(separator + 1)))
+            .addListener(future -> {
+                if (!future.isSuccess()) {
+                    log.warn("riff: connect to:[{}] failed", address, future.cause());
+                }
+            }));
+
+        return connection;
+    }
+
+    private ChannelInitializer<SocketChannel> initializer(NettyConnection connection) {
+        return new ChannelInitializer<>() {
+            @Override
+            protected void initChannel(SocketChannel channel) {
+                channel.pipeline()
+                    .addLast(new FlushConsolidationHandler(
+                        FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true))
+                    .addLast(new RemotingCommandDecoder())
+                    .addLast(NettyRemotingClient.this.encoder)
+                    .addLast(connection);
+            }
+        };
+    }
+}
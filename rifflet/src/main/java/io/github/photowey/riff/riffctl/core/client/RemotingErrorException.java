@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.client;
+
+import java.io.Serial;
+
+/**
+ * {@code RemotingErrorException}.
+ *
+ * <p>The peer received the request and answered with an error response, as opposed to a
+ * {@link RemotingException} for a connection that failed before any answer arrived.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+public class RemotingErrorException extends RemotingException {
+
+    @Serial
+    private static final long serialVersionUID = -6402153177218370412L;
+
+    public RemotingErrorException(String message) {
+        super(message);
+    }
+}
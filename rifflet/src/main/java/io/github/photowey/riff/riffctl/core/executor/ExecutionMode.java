@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+/**
+ * {@code ExecutionMode}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public enum ExecutionMode {
+
+    /**
+     * One virtual thread per trigger; for handlers that mostly wait on I/O.
+     */
+    VIRTUAL,
+
+    /**
+     * A bounded pool of platform threads; for CPU-heavy handlers, or ones that pin their carrier
+     * thread (long {@code synchronized} blocks, native calls).
+     */
+    PLATFORM,
+}
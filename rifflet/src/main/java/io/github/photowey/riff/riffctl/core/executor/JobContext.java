@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.log.JobLogAppender;
+
+/**
+ * {@code JobContext}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class JobContext {
+
+    private final TriggerRequest request;
+    private final JobLogAppender log;
+
+    public JobContext(TriggerRequest request) {
+        this(request, null);
+    }
+
+    public JobContext(TriggerRequest request, JobLogAppender log) {
+        this.request = request;
+        this.log = log;
+    }
+
+    /**
+     * Appends a line to this run's log, which the apiserver can tail while the job runs.
+     * A no-op when the executor keeps no logs.
+     *
+     * @param line the line
+     */
+    public void log(CharSequence line) {
+        if (this.log != null) {
+            this.log.append(line);
+        }
+    }
+
+    public long jobId() {
+        return this.request.getJobId();
+    }
+
+    public long logId() {
+        return this.request.getLogId();
+    }
+
+    public String handler() {
+        return this.request.getHandler();
+    }
+
+    public String params() {
+        return this.request.getParams();
+    }
+
+    public int shardIndex() {
+        return this.request.getShardIndex();
+    }
+
+    public int shardTotal() {
+        return this.request.getShardTotal();
+    }
+
+    public long plannedAt() {
+        return this.request.getPlannedAt();
+    }
+
+    public TriggerRequest request() {
+        return this.request;
+    }
+
+    void closeLog() {
+        if (this.log != null) {
+            this.log.close();
+        }
+    }
+}
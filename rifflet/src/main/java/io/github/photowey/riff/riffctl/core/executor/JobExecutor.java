@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.core.limit.AdaptiveLimit;
+import io.github.photowey.riff.core.metric.Ewma;
+import io.github.photowey.riff.core.metric.MetricNames;
+import io.github.photowey.riff.core.metric.MetricTimer;
+import io.github.photowey.riff.core.metric.RiffMetrics;
+import io.github.photowey.riff.core.protocol.BlockStrategy;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.log.JobLogAppender;
+import io.github.photowey.riff.riffctl.core.log.JobLogStore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code JobExecutor}.
+ *
+ * <p>Runs every trigger on its own virtual thread, so tens of thousands of jobs blocked on HTTP or
+ * JDBC cost a few KB of heap each instead of a platform thread each. The virtual thread first
+ * takes a permit from the handler's {@link Semaphore}, if it has a concurrency limit, so excess
+ * triggers queue cheaply as parked virtual threads. A {@link ExecutionMode#PLATFORM} handler is
+ * then handed to a bounded platform pool while the virtual thread waits for it; when that pool and
+ * its queue are full the trigger is rejected.
+ *
+ * <p>Runs of the same job go through a {@link JobLane}, which applies the trigger's
+ * {@link BlockStrategy} and never runs a job on two threads at once.
+ *
+ * <p>With an {@link AdaptiveLimit}, every admitted trigger holds one of its permits until its
+ * result is out, and triggers beyond the limit are rejected up front instead of queueing. The
+ * limit learns from handler latency and is published on {@link #heartbeat(String, String)}, so
+ * scheduler routing can pick another executor, or refuse the trigger, before this executor has
+ * to reject anything.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class JobExecutor {
+
+    public static final int UNLIMITED = 0;
+    public static final int DEFAULT_MAX_PENDING_PER_JOB = 1_024;
+    public static final double LATENCY_EWMA_ALPHA = 0.2D;
+
+    private static final Consumer<CallbackResult> NO_CALLBACK = result -> {
+    };
+
+    private final Map<String, Registration> handlers = new ConcurrentHashMap<>();
+    private final Map<Long, JobLane> lanes = new ConcurrentHashMap<>();
+    private final ExecutorService virtualExecutor;
+    private final ThreadPoolExecutor platformExecutor;
+    private final Consumer<CallbackResult> callback;
+    private final int maxPendingPerJob;
+    private final JobLogStore logStore;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Ewma latency = new Ewma(LATENCY_EWMA_ALPHA);
+    private final MetricTimer callbackTimer;
+    private final AdaptiveLimit limit;
+
+    public JobExecutor() {
+        this(Runtime.getRuntime().availableProcessors(), 1_024, NO_CALLBACK);
+    }
+
+    public JobExecutor(int platformThreads, int platformQueueCapacity, Consumer<CallbackResult> callback) {
+        this(platformThreads, platformQueueCapacity, DEFAULT_MAX_PENDING_PER_JOB, callback);
+    }
+
+    public JobExecutor(
+        int platformThreads, int platformQueueCapacity, int maxPendingPerJob, Consumer<CallbackResult> callback) {
+        this(platformThreads, platformQueueCapacity, maxPendingPerJob, null, callback);
+    }
+
+    /**
+     * @param platformThreads       the size of the pool for {@link ExecutionMode#PLATFORM} handlers
+     * @param platformQueueCapacity the queue capacity of that pool
+     * @param maxPendingPerJob      the maximum number of queued and running triggers per job
+     * @param logStore              where {@link JobContext#log(CharSequence)} writes to, {@code null} for nowhere
+     * @param callback              receives every result, on the job's virtual thread
+     */
+    public JobExecutor(
+        int platformThreads,
+        int platformQueueCapacity,
+        int maxPendingPerJob,
+        JobLogStore logStore,
+        Consumer<CallbackResult> callback) {
+        this(platformThreads, platformQueueCapacity, maxPendingPerJob, logStore, callback, RiffMetrics.NOOP);
+    }
+
+    public JobExecutor(
+        int platformThreads,
+        int platformQueueCapacity,
+        int maxPendingPerJob,
+        JobLogStore logStore,
+        Consumer<CallbackResult> callback,
+        RiffMetrics metrics) {
+        this(platformThreads, platformQueueCapacity, maxPendingPerJob, logStore, callback, metrics, null);
+    }
+
+    /**
+     * @param limit the adaptive limit on admitted triggers, {@code null} for none
+     */
+    public JobExecutor(
+        int platformThreads,
+        int platformQueueCapacity,
+        int maxPendingPerJob,
+        JobLogStore logStore,
+        Consumer<CallbackResult> callback,
+        RiffMetrics metrics,
+        AdaptiveLimit limit) {
+        this.virtualExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("riff-job-", 0).factory());
+        AtomicInteger platformIds = new AtomicInteger();
+        this.platformExecutor = new ThreadPoolExecutor(platformThreads, platformThreads, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(platformQueueCapacity),
+            task -> {
+                Thread thread = new Thread(task, "riff-job-platform-" + platformIds.getAndIncrement());
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        this.callback = callback;
+        this.maxPendingPerJob = maxPendingPerJob;
+        this.logStore = logStore;
+        this.callbackTimer = metrics.timer(MetricNames.RIFFLET_CALLBACK);
+        metrics.gauge(MetricNames.RIFFLET_QUEUE_DEPTH, this, JobExecutor::queued);
+        metrics.gauge(MetricNames.RIFFLET_IN_FLIGHT, this, JobExecutor::running);
+        this.limit = limit;
+        if (limit != null) {
+            metrics.gauge(MetricNames.RIFFLET_CONCURRENCY_LIMIT, limit, AdaptiveLimit::limit);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public void register(String name, JobHandler handler) {
+        this.register(name, handler, ExecutionMode.VIRTUAL, UNLIMITED);
+    }
+
+    /**
+     * Registers a handler.
+     *
+     * @param name           the handler name referenced by {@link TriggerRequest#getHandler()}
+     * @param handler        the handler
+     * @param mode           where the handler runs
+     * @param maxConcurrency the maximum number of concurrent runs, {@link #UNLIMITED} for none
+     */
+    public void register(String name, JobHandler handler, ExecutionMode mode, int maxConcurrency) {
+        Semaphore permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        this.handlers.put(name, new Registration(handler, mode, permits));
+    }
+
+    /**
+     * Starts or queues a trigger without blocking the caller.
+     *
+     * @param request the trigger
+     * @return the result, also handed to the callback
+     */
+    public CompletableFuture<CallbackResult> execute(TriggerRequest request) {
+        CompletableFuture<CallbackResult> future = new CompletableFuture<>();
+        if (!this.handlers.containsKey(request.getHandler())) {
+            this.complete(future, result(request, CallbackResult.NOT_FOUND, "no handler:" + request.getHandler(), 0L));
+
+            return future;
+        }
+        if (this.limit != null) {
+            if (!this.limit.tryAcquire()) {
+                this.complete(future,
+                    result(request, CallbackResult.REJECTED, "over concurrency limit:" + this.limit.limit(), 0L));
+
+                return future;
+            }
+            future.whenComplete((result, e) -> this.limit.release());
+        }
+
+        JobRun run = new JobRun(request, future);
+        BlockStrategy strategy = request.getBlockStrategy() == null
+            ? BlockStrategy.SERIAL_EXECUTION
+            : request.getBlockStrategy();
+        JobLane lane = this.lanes.computeIfAbsent(request.getJobId(), JobLane::new);
+        JobLane.Admission admission = lane.admit(run, strategy, this.maxPendingPerJob);
+        while (admission == JobLane.Admission.RETIRED) {
+            lane = this.lanes.computeIfAbsent(request.getJobId(), JobLane::new);
+            admission = lane.admit(run, strategy, this.maxPendingPerJob);
+        }
+
+        switch (admission) {
+            case STARTED -> this.startDrainer(lane);
+            case DISCARDED -> this.complete(future,
+                result(request, CallbackResult.REJECTED, "discarded, previous run still executing", 0L));
+            case FULL -> this.complete(future,
+                result(request, CallbackResult.REJECTED, "too many pending runs of job:" + request.getJobId(), 0L));
+            default -> {
+                // queued behind the running trigger
+            }
+        }
+
+        return future;
+    }
+
+    /**
+     * @return the number of queued and running triggers of a job
+     */
+    public int pending(long jobId) {
+        JobLane lane = this.lanes.get(jobId);
+
+        return lane == null ? 0 : lane.pending();
+    }
+
+    /**
+     * @return the number of triggers that hold a permit and are executing
+     */
+    public int running() {
+        return this.running.get();
+    }
+
+    /**
+     * Counts the admitted triggers that are not executing yet: queued in a job's lane or waiting
+     * for a handler permit. Walks all lanes, so it is meant for sampling, not for the hot path.
+     *
+     * @return the number of queued triggers
+     */
+    public int queued() {
+        int pending = 0;
+        for (JobLane lane : this.lanes.values()) {
+            pending += lane.pending();
+        }
+
+        return Math.max(0, pending - this.running.get());
+    }
+
+    public int waiting(String name) {
+        Registration registration = this.handlers.get(name);
+
+        return registration == null || registration.permits() == null ? 0 : registration.permits().getQueueLength();
+    }
+
+    /**
+     * Returns the moving average latency of finished runs.
+     *
+     * @return the latency in microseconds, {@code 0} before the first run
+     */
+    public long latencyMicros() {
+        return (long) this.latency.value();
+    }
+
+    /**
+     * @return the current adaptive limit, {@link #UNLIMITED} without one
+     */
+    public int concurrencyLimit() {
+        return this.limit == null ? UNLIMITED : this.limit.limit();
+    }
+
+    /**
+     * @return the concurrency this executor admits: the adaptive limit when configured, otherwise the size of
+     *     the platform pool
+     */
+    public int capacity() {
+        return this.limit == null ? this.platformExecutor.getMaximumPoolSize() : this.limit.limit();
+    }
+
+    /**
+     * Snapshots this executor's load for the scheduler's load-aware routing.
+     *
+     * @param app     the application name
+     * @param address this rifflet's address, {@code host:port}
+     * @return the heartbeat
+     */
+    public Heartbeat heartbeat(String app, String address) {
+        return Heartbeat.builder()
+            .app(app)
+            .address(address)
+            .timestamp(System.currentTimeMillis())
+            .inFlight(this.running.get())
+            .capacity(this.capacity())
+            .latencyMicros(this.latencyMicros())
+            .concurrencyLimit(this.concurrencyLimit())
+            .build();
+    }
+
+    public void shutdown() {
+        this.virtualExecutor.shutdownNow();
+        this.platformExecutor.shutdownNow();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void startDrainer(JobLane lane) {
+        try {
+            this.virtualExecutor.execute(() -> {
+                if (lane.drain(this::run, this::cover)) {
+                    this.lanes.remove(lane.jobId(), lane);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.lanes.remove(lane.jobId(), lane);
+            lane.drain(run -> this.complete(run.future,
+                result(run.request, CallbackResult.REJECTED, "executor is shut down", 0L)), this::cover);
+        }
+    }
+
+    private void cover(JobRun run) {
+        this.complete(run.future, result(run.request, CallbackResult.REJECTED, "covered by a later trigger", 0L));
+    }
+
+    private void run(JobRun run) {
+        TriggerRequest request = run.request;
+        long startedAt = System.currentTimeMillis();
+        Registration registration = this.handlers.get(request.getHandler());
+        if (registration == null) {
+            this.complete(run.future,
+                result(request, CallbackResult.NOT_FOUND, "no handler:" + request.getHandler(), 0L));
+
+            return;
+        }
+
+        Semaphore permits = registration.permits();
+        try {
+            if (permits != null) {
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.interrupted();
+            this.complete(run.future, result(request, CallbackResult.REJECTED, "interrupted while queued", startedAt));
+
+            return;
+        }
+
+        this.running.incrementAndGet();
+        try {
+            if (!run.start()) {
+                this.cover(run);
+
+                return;
+            }
+            long started = System.nanoTime();
+            CallbackResult result = this.invoke(run, registration, startedAt);
+            long elapsed = System.nanoTime() - started;
+            this.latency.update(elapsed / 1_000D);
+            if (this.limit != null) {
+                this.limit.onSample(elapsed);
+            }
+            this.complete(run.future, result);
+        } finally {
+            run.finish();
+            this.running.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private CallbackResult invoke(JobRun run, Registration registration, long startedAt) {
+        TriggerRequest request = run.request;
+        JobContext context = new JobContext(request, this.openLog(request));
+        try {
+            if (registration.mode() == ExecutionMode.VIRTUAL) {
+                registration.handler().execute(context);
+            } else {
+                this.invokeOnPlatform(registration.handler(), context);
+            }
+
+            return result(request, CallbackResult.SUCCESS, null, startedAt);
+        } catch (RejectedExecutionException e) {
+            return result(request, CallbackResult.REJECTED, "platform pool saturated", startedAt);
+        } catch (InterruptedException e) {
+            return run.isCancelled()
+                ? result(request, CallbackResult.REJECTED, "covered by a later trigger", startedAt)
+                : result(request, CallbackResult.FAILURE, "interrupted", startedAt);
+        } catch (Throwable e) {
+            log.warn("riff: job:[{}] log:[{}] handler:[{}] failed",
+                request.getJobId(), request.getLogId(), request.getHandler(), e);
+
+            return result(request, CallbackResult.FAILURE, String.valueOf(e.getMessage()), startedAt);
+        } finally {
+            context.closeLog();
+        }
+    }
+
+    private JobLogAppender openLog(TriggerRequest request) {
+        if (this.logStore == null) {
+            return null;
+        }
+
+        try {
+            return this.logStore.open(request.getLogId());
+        } catch (RuntimeException e) {
+            log.warn("riff: job:[{}] log:[{}] open log failed, running without it",
+                request.getJobId(), request.getLogId(), e);
+
+            return null;
+        }
+    }
+
+    private void invokeOnPlatform(JobHandler handler, JobContext context) throws Exception {
+        Future<?> task = this.platformExecutor.submit(() -> {
+            handler.execute(context);
+
+            return null;
+        });
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            throw e;
+        }
+    }
+
+    private void complete(CompletableFuture<CallbackResult> future, CallbackResult result) {
+        final long start = System.nanoTime();
+        try {
+            this.callback.accept(result);
+        } catch (Throwable e) {
+            log.error("riff: job callback failed, log:[{}]", result.getLogId(), e);
+        }
+        this.callbackTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        future.complete(result);
+    }
+
+    private static CallbackResult result(TriggerRequest request, int code, String message, long startedAt) {
+        return new CallbackResult(request.getJobId(), request.getLogId(), code, message, startedAt,
+            System.currentTimeMillis(), request.getShardIndex());
+    }
+
+    /**
+     * {@code Registration}.
+     *
+     * @param handler the handler
+     * @param mode    where it runs
+     * @param permits the concurrency limit, {@code null} for none
+     */
+    private record Registration(JobHandler handler, ExecutionMode mode, Semaphore permits) {
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.github.photowey.riff.core.protocol.BlockStrategy;
+import io.github.photowey.riff.core.queue.MpscLinkedQueue;
+
+/**
+ * {@code JobLane}.
+ *
+ * <p>The runs of one job. Triggering threads claim a slot in {@code pending} with a CAS and append
+ * to a lock-free MPSC queue; whoever moves {@code pending} from {@code 0} to {@code 1} starts the
+ * single drainer, which runs the queue in order until {@code pending} drops back to {@code 0}.
+ * So a job never runs on more than one thread, and a hot job costs one parked virtual thread plus
+ * its queued triggers, not one thread per trigger.
+ *
+ * <p>An idle lane retires itself by moving {@code pending} from {@code 0} to {@link #RETIRED}; a
+ * trigger that races with retirement sees that value and asks for a fresh lane.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+final class JobLane {
+
+    private static final int RETIRED = -1;
+
+    private final long jobId;
+    private final MpscLinkedQueue<JobRun> queue = new MpscLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong coverBefore = new AtomicLong();
+
+    private volatile JobRun current;
+
+    JobLane(long jobId) {
+        this.jobId = jobId;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Admits a trigger according to its block strategy.
+     *
+     * @param run        the run
+     * @param strategy   the block strategy
+     * @param maxPending the maximum number of admitted, unfinished runs
+     * @return the admission
+     */
+    Admission admit(JobRun run, BlockStrategy strategy, int maxPending) {
+        int claimed;
+        while (true) {
+            claimed = this.pending.get();
+            if (claimed == RETIRED) {
+                return Admission.RETIRED;
+            }
+            if (strategy == BlockStrategy.DISCARD_LATER && claimed > 0) {
+                return Admission.DISCARDED;
+            }
+            if (claimed >= maxPending) {
+                return Admission.FULL;
+            }
+            if (this.pending.compareAndSet(claimed, claimed + 1)) {
+                break;
+            }
+        }
+
+        run.sequence = this.sequence.incrementAndGet();
+        if (strategy == BlockStrategy.COVER_EARLY) {
+            this.coverBefore.accumulateAndGet(run.sequence, Math::max);
+            JobRun running = this.current;
+            if (running != null && running.sequence < run.sequence) {
+                running.cancel();
+            }
+        }
+        this.queue.offer(run);
+
+        return claimed == 0 ? Admission.STARTED : Admission.QUEUED;
+    }
+
+    /**
+     * Runs queued triggers until the lane is empty; only the thread that got
+     * {@link Admission#STARTED} may call this.
+     *
+     * @param runner  executes a run
+     * @param covered completes a run superseded by a later {@link BlockStrategy#COVER_EARLY} trigger
+     * @return {@code true} if the lane retired and must be dropped
+     */
+    boolean drain(Consumer<JobRun> runner, Consumer<JobRun> covered) {
+        int remaining = 1;
+        while (remaining > 0) {
+            JobRun run;
+            while ((run = this.queue.poll()) == null) {
+                Thread.onSpinWait();
+            }
+
+            // publish before checking: a COVER_EARLY admit raises coverBefore before it reads
+            // current, so either this check sees the newer trigger or admit sees and cancels run
+            this.current = run;
+            if (run.sequence < this.coverBefore.get()) {
+                this.current = null;
+                covered.accept(run);
+            } else {
+                try {
+                    runner.accept(run);
+                } finally {
+                    this.current = null;
+                }
+            }
+            remaining = this.pending.decrementAndGet();
+        }
+
+        return this.pending.compareAndSet(0, RETIRED);
+    }
+
+    long jobId() {
+        return this.jobId;
+    }
+
+    int pending() {
+        return Math.max(0, this.pending.get());
+    }
+
+    /**
+     * {@code Admission}.
+     */
+    enum Admission {
+
+        /**
+         * Admitted into an idle lane; the caller must start the drainer.
+         */
+        STARTED,
+        QUEUED,
+        DISCARDED,
+        FULL,
+
+        /**
+         * The lane retired concurrently; retry with a fresh lane.
+         */
+        RETIRED,
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+
+/**
+ * {@code JobRun}.
+ *
+ * <p>One admitted trigger. Cancellation interrupts the thread only while this run owns it, so a
+ * late cancel never hits the next run of the same lane.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+final class JobRun {
+
+    final TriggerRequest request;
+    final CompletableFuture<CallbackResult> future;
+
+    long sequence;
+
+    private Thread thread;
+    private boolean cancelled;
+
+    JobRun(TriggerRequest request, CompletableFuture<CallbackResult> future) {
+        this.request = request;
+        this.future = future;
+    }
+
+    /**
+     * Binds the run to the current thread.
+     *
+     * @return {@code false} if it was cancelled before it started
+     */
+    synchronized boolean start() {
+        if (this.cancelled) {
+            return false;
+        }
+
+        this.thread = Thread.currentThread();
+
+        return true;
+    }
+
+    synchronized void finish() {
+        this.thread = null;
+        Thread.interrupted();
+    }
+
+    synchronized void cancel() {
+        this.cancelled = true;
+        if (this.thread != null) {
+            this.thread.interrupt();
+        }
+    }
+
+    synchronized boolean isCancelled() {
+        return this.cancelled;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.github.photowey.riff.core.codec.CodecException;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.server.RequestProcessor;
+
+/**
+ * {@code TriggerProcessor}.
+ *
+ * <p>Serves {@link io.github.photowey.riff.riffctl.core.protocol.RequestCode#TRIGGER}: starts the job
+ * and acknowledges at once; the outcome travels back through the executor's callback, so a long job
+ * never holds a request slot on the scheduler's connection.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class TriggerProcessor implements RequestProcessor {
+
+    private static final CompletableFuture<byte[]> ACCEPTED = CompletableFuture.completedFuture(new byte[0]);
+
+    private final JobExecutor executor;
+
+    public TriggerProcessor(JobExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<?> process(RemotingCommand request) {
+        if (!(request.message() instanceof TriggerRequest trigger)) {
+            return CompletableFuture.failedFuture(new CodecException("riff: expected a TriggerRequest"));
+        }
+
+        this.executor.execute(trigger);
+
+        return ACCEPTED;
+    }
+}
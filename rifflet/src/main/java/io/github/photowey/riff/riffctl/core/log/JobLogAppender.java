@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@code JobLogAppender}.
+ *
+ * <p>The writer of one job log. Appends are serialized on the appender and roll over to a new
+ * {@link LogSegment} when the active one is full. Readers may read the log concurrently up to
+ * {@link #endOffset()}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class JobLogAppender implements Closeable {
+
+    private final long logId;
+    private final Path directory;
+    private final int segmentBytes;
+    private final JobLogStore store;
+    private final List<LogSegment> segments;
+
+    private LogSegment active;
+    private boolean closed;
+
+    JobLogAppender(long logId, Path directory, int segmentBytes, JobLogStore store, List<LogSegment> segments) {
+        this.logId = logId;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.store = store;
+        this.segments = new CopyOnWriteArrayList<>(segments);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Appends a line, terminated by a line feed.
+     *
+     * @param line the line
+     */
+    public void append(CharSequence line) {
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        this.append(bytes, 0, bytes.length);
+    }
+
+    public synchronized void append(byte[] source, int offset, int length) {
+        if (this.closed) {
+            throw new IllegalStateException("riff: job log:[" + this.logId + "] is closed");
+        }
+
+        int remaining = length;
+        int next = offset;
+        while (remaining > 0) {
+            if (this.active == null || this.active.isFull()) {
+                this.roll();
+            }
+            int written = this.active.append(source, next, remaining);
+            next += written;
+            remaining -= written;
+        }
+    }
+
+    public long logId() {
+        return this.logId;
+    }
+
+    public long endOffset() {
+        List<LogSegment> snapshot = this.segments;
+
+        return snapshot.isEmpty() ? 0L : snapshot.get(snapshot.size() - 1).endOffset();
+    }
+
+    /**
+     * Seals the active segment; the log is finished afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+        try {
+            if (this.active != null) {
+                this.active.seal();
+            }
+        } finally {
+            this.store.release(this);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    List<LogSegment> segments() {
+        return this.segments;
+    }
+
+    private void roll() {
+        long baseOffset = this.endOffset();
+        if (this.active != null) {
+            this.active.seal();
+        }
+
+        this.active = LogSegment.create(this.directory, baseOffset, this.segmentBytes);
+        this.segments.add(this.active);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * {@code JobLogStore}.
+ *
+ * <p>Job logs on local disk, one directory per {@code logId} holding its {@link LogSegment}s.
+ * Logs are read by offset in slices of at most one segment and {@link #MAX_READ_BYTES}, so a
+ * reader tailing a multi-gigabyte log never holds more than one slice, and the slice can be
+ * sent with {@code FileChannel.transferTo} instead of being copied through the heap.
+ *
+ * <p>A log is finished once its {@link JobLogAppender} is closed, or when no appender is open
+ * for it, e.g. after a restart.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class JobLogStore {
+
+    public static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+    public static final int MAX_READ_BYTES = 1024 * 1024;
+
+    private final Path root;
+    private final int segmentBytes;
+    private final Map<Long, JobLogAppender> appenders = new ConcurrentHashMap<>();
+
+    public JobLogStore(Path root) {
+        this(root, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public JobLogStore(Path root, int segmentBytes) {
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("segmentBytes must be positive");
+        }
+
+        this.root = root;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: create job log root failed:" + root, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Opens the appender of a log, continuing after its existing segments.
+     *
+     * @param logId the log id
+     * @return the appender, to be closed when the job finishes
+     * @throws IllegalStateException if the log is already open
+     */
+    public JobLogAppender open(long logId) {
+        return this.appenders.compute(logId, (key, current) -> {
+            if (current != null) {
+                throw new IllegalStateException("riff: job log:[" + logId + "] is already open");
+            }
+
+            Path directory = this.directory(logId);
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("riff: create job log failed:" + directory, e);
+            }
+
+            return new JobLogAppender(logId, directory, this.segmentBytes, this, recover(directory));
+        });
+    }
+
+    /**
+     * Reads from {@code offset}.
+     *
+     * @param logId    the log id
+     * @param offset   the log offset, clamped to the end of the log
+     * @param maxBytes the maximum slice length, capped at {@link #MAX_READ_BYTES}
+     * @return the slice, empty if there is nothing after {@code offset} yet
+     * @throws IllegalArgumentException if the log does not exist
+     */
+    public LogSlice read(long logId, long offset, int maxBytes) {
+        if (offset < 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("riff: invalid log read, offset:" + offset + " maxBytes:" + maxBytes);
+        }
+
+        int limit = Math.min(maxBytes, MAX_READ_BYTES);
+        JobLogAppender appender = this.appenders.get(logId);
+        if (appender != null) {
+            LogSegment[] segments = appender.segments().toArray(new LogSegment[0]);
+            if (segments.length == 0) {
+                return LogSlice.empty(0L, 0L, false);
+            }
+
+            long[] bases = new long[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                bases[i] = segments[i].baseOffset();
+            }
+
+            long endOffset = segments[segments.length - 1].endOffset();
+
+            return slice(segments[floor(bases, offset)], offset, endOffset, false, limit);
+        }
+
+        return this.readFinished(logId, offset, limit);
+    }
+
+    public boolean isOpen(long logId) {
+        return this.appenders.containsKey(logId);
+    }
+
+    /**
+     * Deletes a finished log.
+     *
+     * @param logId the log id
+     * @return {@code false} if the log is still open or does not exist
+     */
+    public boolean delete(long logId) {
+        Path directory = this.directory(logId);
+        if (this.isOpen(logId) || !Files.isDirectory(directory)) {
+            return false;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+            Files.delete(directory);
+
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: delete job log failed:" + directory, e);
+        }
+    }
+
+    public Path root() {
+        return this.root;
+    }
+
+    // ----------------------------------------------------------------
+
+    void release(JobLogAppender appender) {
+        this.appenders.remove(appender.logId(), appender);
+    }
+
+    /**
+     * Reads a finished log, opening only the last segment, for the end offset, and the one
+     * holding {@code offset}.
+     */
+    private LogSlice readFinished(long logId, long offset, int limit) {
+        Path directory = this.directory(logId);
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("riff: no job log:" + logId);
+        }
+
+        long[] bases = baseOffsets(directory);
+        if (bases.length == 0) {
+            return LogSlice.empty(0L, 0L, true);
+        }
+
+        LogSegment last = LogSegment.open(directory.resolve(LogSegment.fileName(bases[bases.length - 1])));
+        int index = floor(bases, offset);
+        LogSegment segment = index == bases.length - 1
+            ? last
+            : LogSegment.open(directory.resolve(LogSegment.fileName(bases[index])));
+
+        return slice(segment, offset, last.endOffset(), true, limit);
+    }
+
+    private Path directory(long logId) {
+        return this.root.resolve(Long.toString(logId));
+    }
+
+    private static LogSlice slice(LogSegment segment, long offset, long endOffset, boolean finished, int limit) {
+        long from = Math.min(offset, endOffset);
+        long position = from - segment.baseOffset();
+        long available = Math.min(segment.size(), endOffset - segment.baseOffset()) - position;
+        int length = (int) Math.min(limit, available);
+        if (length <= 0) {
+            return LogSlice.empty(from, endOffset, finished);
+        }
+
+        return new LogSlice(from, endOffset, finished, segment.path(), position, length);
+    }
+
+    /**
+     * Opens the existing segments of a log in offset order, dropping empty ones left by a crash.
+     */
+    private static List<LogSegment> recover(Path directory) {
+        List<LogSegment> segments = new ArrayList<>();
+        for (long base : baseOffsets(directory)) {
+            LogSegment segment = LogSegment.open(directory.resolve(LogSegment.fileName(base)));
+            if (segment.size() > 0) {
+                segments.add(segment);
+                continue;
+            }
+
+            try {
+                Files.delete(segment.path());
+            } catch (IOException e) {
+                throw new UncheckedIOException("riff: drop empty log segment failed:" + segment.path(), e);
+            }
+        }
+
+        return segments;
+    }
+
+    private static long[] baseOffsets(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(LogSegment::isSegment)
+                .map(file -> file.getFileName().toString())
+                .sorted(Comparator.naturalOrder())
+                .mapToLong(name -> Long.parseLong(name.substring(0, name.length() - LogSegment.SUFFIX.length())))
+                .toArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: list job log failed:" + directory, e);
+        }
+    }
+
+    private static int floor(long[] bases, long offset) {
+        int index = Arrays.binarySearch(bases, offset);
+
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+}
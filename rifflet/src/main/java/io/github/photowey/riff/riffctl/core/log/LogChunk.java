@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * {@code LogChunk}.
+ *
+ * <p>The raw body of a {@code LOG_READ} response: a fixed head of {@code offset},
+ * {@code endOffset} and {@code finished}, followed by the log bytes. The rifflet sends the bytes
+ * from the segment file; see {@link LogReadProcessor}.
+ *
+ * @param offset    the log offset of {@code data}
+ * @param endOffset the end of the log when the chunk was read
+ * @param finished  whether the log will not grow any more
+ * @param data      the log bytes
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public record LogChunk(long offset, long endOffset, boolean finished, byte[] data) {
+
+    public static final int HEAD_LENGTH = 8 + 8 + 1;
+
+    /**
+     * Returns the offset to continue reading from.
+     *
+     * @return {@code offset + data.length}
+     */
+    public long nextOffset() {
+        return this.offset + this.data.length;
+    }
+
+    /**
+     * Tells whether a reader at {@link #nextOffset()} has seen the whole log.
+     *
+     * @return {@code true} if the log is finished and fully read
+     */
+    public boolean isComplete() {
+        return this.finished && this.nextOffset() >= this.endOffset;
+    }
+
+    public static byte[] head(LogSlice slice) {
+        return ByteBuffer.allocate(HEAD_LENGTH)
+            .putLong(slice.offset())
+            .putLong(slice.endOffset())
+            .put((byte) (slice.finished() ? 1 : 0))
+            .array();
+    }
+
+    public static LogChunk decode(byte[] body) {
+        if (body.length < HEAD_LENGTH) {
+            throw new IllegalArgumentException("riff: malformed log chunk, length:" + body.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+
+        return new LogChunk(buffer.getLong(), buffer.getLong(), buffer.get() != 0,
+            Arrays.copyOfRange(body, HEAD_LENGTH, body.length));
+    }
+
+    @Override
+    public String toString() {
+        return "LogChunk{offset=" + this.offset + ", endOffset=" + this.endOffset
+            + ", finished=" + this.finished + ", data=" + this.data.length + "B}";
+    }
+}
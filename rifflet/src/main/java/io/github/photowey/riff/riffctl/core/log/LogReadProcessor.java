@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.github.photowey.riff.riffctl.core.protocol.FileBody;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.server.RequestProcessor;
+import io.netty.channel.DefaultFileRegion;
+
+/**
+ * {@code LogReadProcessor}.
+ *
+ * <p>Serves {@link io.github.photowey.riff.riffctl.core.protocol.RequestCode#LOG_READ} on the
+ * rifflet. The answer is a {@link LogChunk}, whose log bytes go out as a {@link FileBody}, i.e.
+ * with {@code FileChannel.transferTo} from the segment file, both for finished logs and for the
+ * already written part of a running one.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class LogReadProcessor implements RequestProcessor {
+
+    private final JobLogStore store;
+
+    public LogReadProcessor(JobLogStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public CompletionStage<?> process(RemotingCommand request) {
+        LogReadRequest read = LogReadRequest.decode(request.body());
+        LogSlice slice = this.store.read(read.logId(), read.offset(), read.maxBytes());
+        if (slice.length() == 0) {
+            return CompletableFuture.completedFuture(LogChunk.head(slice));
+        }
+
+        DefaultFileRegion region = new DefaultFileRegion(slice.file().toFile(), slice.position(), slice.length());
+
+        return CompletableFuture.completedFuture(new FileBody(LogChunk.head(slice), region));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@code LogReadRequest}.
+ *
+ * <p>The raw body of a {@code LOG_READ} request: {@code logId}, {@code offset} and
+ * {@code maxBytes}, big-endian.
+ *
+ * @param logId    the log id
+ * @param offset   the log offset to read from
+ * @param maxBytes the maximum number of bytes to return
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public record LogReadRequest(long logId, long offset, int maxBytes) {
+
+    public static final int LENGTH = 8 + 8 + 4;
+
+    public byte[] encode() {
+        return ByteBuffer.allocate(LENGTH).putLong(this.logId).putLong(this.offset).putInt(this.maxBytes).array();
+    }
+
+    public static LogReadRequest decode(byte[] body) {
+        if (body.length != LENGTH) {
+            throw new IllegalArgumentException("riff: malformed log read request, length:" + body.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+
+        return new LogReadRequest(buffer.getLong(), buffer.getLong(), buffer.getInt());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code LogSegment}.
+ *
+ * <p>One append-only file of a job log, named after the log offset of its first byte. An active
+ * segment is preallocated to its capacity and written through a {@link MappedByteBuffer}, so an
+ * append is a memory copy with no system call; readers see the bytes through the page cache
+ * as soon as {@link #size()} covers them. {@link #seal()} flushes and trims the file to its data.
+ *
+ * <p>A segment that was never sealed, because the process died, still carries its zero-filled
+ * tail; {@link #open(Path)} recovers its size by skipping the trailing zero bytes.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class LogSegment implements Closeable {
+
+    static final String SUFFIX = ".log";
+
+    private static final int RECOVERY_BLOCK = 8 * 1024;
+
+    private final Path path;
+    private final long baseOffset;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private volatile int size;
+
+    private LogSegment(Path path, long baseOffset, FileChannel channel, MappedByteBuffer buffer, int size) {
+        this.path = path;
+        this.baseOffset = baseOffset;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Creates an active segment.
+     *
+     * @param directory  the log directory
+     * @param baseOffset the log offset of the segment's first byte
+     * @param capacity   the preallocated size in bytes
+     * @return the segment
+     */
+    public static LogSegment create(Path directory, long baseOffset, int capacity) {
+        Path path = directory.resolve(fileName(baseOffset));
+        try {
+            FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+            return new LogSegment(path, baseOffset, channel, buffer, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: create log segment failed:" + path, e);
+        }
+    }
+
+    /**
+     * Opens a sealed segment, or a crashed active one, for reading.
+     *
+     * @param path the segment file
+     * @return the segment
+     */
+    public static LogSegment open(Path path) {
+        String name = path.getFileName().toString();
+        long baseOffset = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LogSegment(path, baseOffset, null, null, recoverSize(channel));
+        } catch (IOException e) {
+            throw new UncheckedIOException("riff: open log segment failed:" + path, e);
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Appends as many bytes as still fit; only the owning appender may call this.
+     *
+     * @return the number of bytes written, less than {@code length} once the segment is full
+     */
+    int append(byte[] source, int offset, int length) {
+        int written = Math.min(length, this.buffer.capacity() - this.size);
+        this.buffer.put(this.size, source, offset, written);
+        this.size += written;
+
+        return written;
+    }
+
+    boolean isFull() {
+        return this.buffer == null || this.size == this.buffer.capacity();
+    }
+
+    /**
+     * Flushes the written bytes and trims the file to them; the segment is read-only afterwards.
+     */
+    void seal() {
+        if (this.channel == null) {
+            return;
+        }
+
+        try {
+            this.buffer.force();
+            this.buffer = null;
+            this.channel.truncate(this.size);
+        } catch (IOException e) {
+            // the zero-filled tail left behind is skipped by open(Path)
+            throw new UncheckedIOException("riff: seal log segment failed:" + this.path, e);
+        } finally {
+            this.closeQuietly();
+        }
+    }
+
+    public Path path() {
+        return this.path;
+    }
+
+    public long baseOffset() {
+        return this.baseOffset;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public long endOffset() {
+        return this.baseOffset + this.size;
+    }
+
+    @Override
+    public void close() {
+        this.seal();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void closeQuietly() {
+        try {
+            this.channel.close();
+        } catch (IOException ignored) {
+            // nothing left to release
+        }
+        this.channel = null;
+    }
+
+    static String fileName(long baseOffset) {
+        return String.format("%020d", baseOffset) + SUFFIX;
+    }
+
+    private static int recoverSize(FileChannel channel) throws IOException {
+        long end = channel.size();
+        ByteBuffer block = ByteBuffer.allocate(RECOVERY_BLOCK);
+        while (end > 0) {
+            long start = Math.max(0L, end - RECOVERY_BLOCK);
+            block.clear().limit((int) (end - start));
+            int read = 0;
+            while (block.hasRemaining() && read >= 0) {
+                read = channel.read(block, start + block.position());
+            }
+            for (int i = block.position() - 1; i >= 0; i--) {
+                if (block.get(i) != 0) {
+                    return (int) (start + i + 1);
+                }
+            }
+            end = start;
+        }
+
+        return 0;
+    }
+}
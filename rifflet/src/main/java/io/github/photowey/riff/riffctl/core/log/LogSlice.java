@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.nio.file.Path;
+
+/**
+ * {@code LogSlice}.
+ *
+ * <p>A readable range of a job log, always within one segment file, so that it can be sent with
+ * a single {@code FileChannel.transferTo}.
+ *
+ * @param offset    the log offset of the first byte
+ * @param endOffset the end of the log when the slice was taken
+ * @param finished  whether the log will not grow any more
+ * @param file      the segment file, {@code null} if the slice is empty
+ * @param position  the position of the first byte within {@code file}
+ * @param length    the number of bytes
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public record LogSlice(long offset, long endOffset, boolean finished, Path file, long position, int length) {
+
+    static LogSlice empty(long offset, long endOffset, boolean finished) {
+        return new LogSlice(offset, endOffset, finished, null, 0L, 0);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.protocol;
+
+import io.netty.channel.FileRegion;
+
+/**
+ * {@code FileBody}.
+ *
+ * <p>A raw response body whose tail is sent straight from a file. A {@code RequestProcessor} may
+ * complete with it instead of a {@code byte[]}; the server then writes the header and
+ * {@code head} from a buffer and {@code region} with {@code FileChannel.transferTo}, so the file
+ * bytes never enter the JVM heap.
+ *
+ * @param head   the leading body bytes
+ * @param region the file range that follows, released by the server
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public record FileBody(byte[] head, FileRegion region) {
+
+    public int length() {
+        return this.head.length + (int) this.region.count();
+    }
+}
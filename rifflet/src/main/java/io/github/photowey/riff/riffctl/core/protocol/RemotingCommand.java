@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.protocol;
+
+import java.nio.charset.StandardCharsets;
+
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.protocol.RiffMessage;
+
+/**
+ * {@code RemotingCommand}.
+ *
+ * <p>One frame on a multiplexed connection. Responses carry the {@code requestId} of their request,
+ * so any number of requests can be in flight on the same socket and complete out of order.
+ *
+ * <pre>
+ * +--------+-------+-------+-------+--------+-----------+--------+
+ * | length | magic | flags | codec | code   | requestId | body   |
+ * | int    | byte  | byte  | byte  | int    | long      | bytes  |
+ * +--------+-------+-------+-------+--------+-----------+--------+
+ * </pre>
+ *
+ * <p>With {@code codec == 0} the body is opaque bytes; otherwise it is a {@link RiffMessage}
+ * encoded by the {@link MessageCodec} of that id, directly into the outbound buffer.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class RemotingCommand {
+
+    public static final byte MAGIC = (byte) 0x52;
+    public static final int HEADER_LENGTH = 1 + 1 + 1 + 4 + 8;
+    public static final byte RAW = 0;
+
+    public static final byte FLAG_RESPONSE = 1;
+    public static final byte FLAG_ONEWAY = 1 << 1;
+    public static final byte FLAG_ERROR = 1 << 2;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final long requestId;
+    private final int code;
+    private final byte flags;
+    private final byte codec;
+    private final byte[] body;
+    private final RiffMessage message;
+
+    public RemotingCommand(long requestId, int code, byte flags, byte[] body) {
+        this(requestId, code, flags, RAW, body, null);
+    }
+
+    public RemotingCommand(long requestId, int code, byte flags, byte codec, RiffMessage message) {
+        this(requestId, code, flags, codec, null, message);
+    }
+
+    private RemotingCommand(long requestId, int code, byte flags, byte codec, byte[] body, RiffMessage message) {
+        this.requestId = requestId;
+        this.code = code;
+        this.flags = flags;
+        this.codec = codec;
+        this.body = body == null ? EMPTY : body;
+        this.message = message;
+    }
+
+    // ----------------------------------------------------------------
+
+    public static RemotingCommand request(long requestId, int code, byte[] body) {
+        return new RemotingCommand(requestId, code, (byte) 0, body);
+    }
+
+    public static RemotingCommand request(long requestId, int code, MessageCodec codec, RiffMessage message) {
+        return new RemotingCommand(requestId, code, (byte) 0, codec.id(), message);
+    }
+
+    public static RemotingCommand oneway(long requestId, int code, byte[] body) {
+        return new RemotingCommand(requestId, code, FLAG_ONEWAY, body);
+    }
+
+    public static RemotingCommand oneway(long requestId, int code, MessageCodec codec, RiffMessage message) {
+        return new RemotingCommand(requestId, code, FLAG_ONEWAY, codec.id(), message);
+    }
+
+    public static RemotingCommand response(RemotingCommand request, byte[] body) {
+        return new RemotingCommand(request.requestId, request.code, FLAG_RESPONSE, body);
+    }
+
+    /**
+     * Answers with a message, encoded with the codec the request was sent with, or binary if the
+     * request was raw.
+     */
+    public static RemotingCommand response(RemotingCommand request, RiffMessage message) {
+        byte codec = request.codec == RAW ? MessageCodec.BINARY : request.codec;
+
+        return new RemotingCommand(request.requestId, request.code, FLAG_RESPONSE, codec, message);
+    }
+
+    public static RemotingCommand error(RemotingCommand request, String message) {
+        byte[] body = message == null ? EMPTY : message.getBytes(StandardCharsets.UTF_8);
+
+        return new RemotingCommand(request.requestId, request.code, (byte) (FLAG_RESPONSE | FLAG_ERROR), body);
+    }
+
+    // ----------------------------------------------------------------
+
+    public long requestId() {
+        return this.requestId;
+    }
+
+    public int code() {
+        return this.code;
+    }
+
+    public byte flags() {
+        return this.flags;
+    }
+
+    public byte codec() {
+        return this.codec;
+    }
+
+    /**
+     * @return the raw body, empty for message commands
+     */
+    public byte[] body() {
+        return this.body;
+    }
+
+    /**
+     * @return the decoded message, {@code null} for raw commands
+     */
+    public RiffMessage message() {
+        return this.message;
+    }
+
+    /**
+     * @param type the expected message type
+     * @return the decoded message
+     */
+    public <T extends RiffMessage> T message(Class<T> type) {
+        return type.cast(this.message);
+    }
+
+    public boolean isResponse() {
+        return (this.flags & FLAG_RESPONSE) != 0;
+    }
+
+    public boolean isOneway() {
+        return (this.flags & FLAG_ONEWAY) != 0;
+    }
+
+    public boolean isError() {
+        return (this.flags & FLAG_ERROR) != 0;
+    }
+
+    public String errorMessage() {
+        return this.isError() ? new String(this.body, StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "RemotingCommand{requestId=" + this.requestId + ", code=" + this.code
+            + ", flags=" + this.flags + ", codec=" + this.codec
+            + (this.message == null ? ", body=" + this.body.length + "B}" : ", message=" + this.message + "}");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.protocol;
+
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+
+/**
+ * {@code RemotingCommandDecoder}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public class RemotingCommandDecoder extends LengthFieldBasedFrameDecoder {
+
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    public RemotingCommandDecoder() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    public RemotingCommandDecoder(int maxFrameLength) {
+        super(maxFrameLength, 0, 4, 0, 4);
+    }
+
+    @Override
+    protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+        ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+        if (frame == null) {
+            return null;
+        }
+
+        try {
+            if (frame.readableBytes() < RemotingCommand.HEADER_LENGTH) {
+                throw new CorruptedFrameException("riff: frame too short: " + frame.readableBytes());
+            }
+            if (frame.readByte() != RemotingCommand.MAGIC) {
+                throw new CorruptedFrameException("riff: bad magic");
+            }
+
+            byte flags = frame.readByte();
+            byte codec = frame.readByte();
+            int code = frame.readInt();
+            long requestId = frame.readLong();
+            if (codec != RemotingCommand.RAW) {
+                return new RemotingCommand(requestId, code, flags, codec, MessageCodecs.get(codec).decode(frame));
+            }
+
+            byte[] body = new byte[frame.readableBytes()];
+            frame.readBytes(body);
+
+            return new RemotingCommand(requestId, code, flags, body);
+        } finally {
+            frame.release();
+        }
+    }
+}
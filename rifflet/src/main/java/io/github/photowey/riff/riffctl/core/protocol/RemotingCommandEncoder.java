@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.protocol;
+
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * {@code RemotingCommandEncoder}.
+ *
+ * <p>Message commands are encoded straight into the pooled outbound buffer and the frame length
+ * is patched afterwards.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@ChannelHandler.Sharable
+public class RemotingCommandEncoder extends MessageToByteEncoder<RemotingCommand> {
+
+    private static final int ESTIMATED_MESSAGE_LENGTH = 128;
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, RemotingCommand command, boolean preferDirect) {
+        int capacity = 4 + RemotingCommand.HEADER_LENGTH
+            + (command.message() == null ? command.body().length : ESTIMATED_MESSAGE_LENGTH);
+
+        return preferDirect ? ctx.alloc().ioBuffer(capacity) : ctx.alloc().heapBuffer(capacity);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, RemotingCommand command, ByteBuf out) {
+        int start = out.writerIndex();
+        writeHeader(command, 0, out);
+        if (command.message() == null) {
+            out.writeBytes(command.body());
+        } else {
+            MessageCodecs.get(command.codec()).encode(command.message(), out);
+        }
+        out.setInt(start, out.writerIndex() - start - 4);
+    }
+
+    /**
+     * Writes the length prefix and header of a frame whose body follows separately, e.g. as a
+     * {@link io.netty.channel.FileRegion}.
+     *
+     * @param command    the command, its own body is not written
+     * @param bodyLength the length of the body that follows
+     * @param out        the buffer
+     */
+    public static void writeHeader(RemotingCommand command, int bodyLength, ByteBuf out) {
+        out.writeInt(RemotingCommand.HEADER_LENGTH + bodyLength)
+            .writeByte(RemotingCommand.MAGIC)
+            .writeByte(command.flags())
+            .writeByte(command.codec())
+            .writeInt(command.code())
+            .writeLong(command.requestId());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.protocol;
+
+/**
+ * {@code RequestCode}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+public final class RequestCode {
+
+    /**
+     * Answered by every server with the request body, used for health checks and benchmarks.
+     */
+    public static final int ECHO = 0;
+    public static final int HEARTBEAT = 1;
+    public static final int TRIGGER = 2;
+    public static final int CALLBACK = 3;
+    public static final int REGISTRY = 4;
+    /**
+     * Scheduler -> scheduler membership changes: a raw body of back-to-back binary
+     * {@code RegistryRequest} envelopes.
+     */
+    public static final int REGISTRY_SYNC = 5;
+    /**
+     * Apiserver -> rifflet: reads a job log by offset, see {@code LogReadProcessor}.
+     */
+    public static final int LOG_READ = 6;
+    /**
+     * Rifflet -> scheduler: a raw body of back-to-back binary {@code CallbackResult} envelopes,
+     * see {@code CallbackBatcher}. Answered once every result in it was processed.
+     */
+    public static final int CALLBACK_BATCH = 7;
+
+    private RequestCode() {
+        throw new AssertionError("No " + RequestCode.class.getName() + " instances for you!");
+    }
+}
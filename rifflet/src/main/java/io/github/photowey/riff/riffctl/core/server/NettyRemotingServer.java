@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.server;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.core.protocol.RiffMessage;
+import io.github.photowey.riff.riffctl.core.protocol.FileBody;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommandDecoder;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommandEncoder;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code NettyRemotingServer}.
+ *
+ * <p>Serves {@link RemotingCommand} frames and routes requests to a {@link RequestProcessor} by
+ * request code. {@link RequestCode#ECHO} is always answered with the request body, which makes any
+ * server usable as a loopback echo peer.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@Slf4j
+public class NettyRemotingServer {
+
+    private static final RequestProcessor ECHO = request -> CompletableFuture.completedFuture(
+        request.message() != null ? request.message() : request.body());
+
+    private final String host;
+    private final int port;
+    private final int ioThreads;
+    private final Map<Integer, RequestProcessor> processors = new ConcurrentHashMap<>();
+    private final ServerHandler handler = new ServerHandler();
+    private final RemotingCommandEncoder encoder = new RemotingCommandEncoder();
+
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private Channel serverChannel;
+
+    public NettyRemotingServer(int port) {
+        this("0.0.0.0", port, 0);
+    }
+
+    /**
+     * @param host      the bind host
+     * @param port      the bind port, {@code 0} for an ephemeral port
+     * @param ioThreads the number of I/O threads, {@code 0} for Netty's default
+     */
+    public NettyRemotingServer(String host, int port, int ioThreads) {
+        this.host = host;
+        this.port = port;
+        this.ioThreads = ioThreads;
+        this.processors.put(RequestCode.ECHO, ECHO);
+    }
+
+    // ----------------------------------------------------------------
+
+    public void registerProcessor(int code, RequestProcessor processor) {
+        this.processors.put(code, processor);
+    }
+
+    public synchronized void start() {
+        if (this.serverChannel != null) {
+            return;
+        }
+
+        this.bossGroup = new NioEventLoopGroup(1);
+        this.workerGroup = new NioEventLoopGroup(this.ioThreads);
+        this.serverChannel = new ServerBootstrap()
+            .group(this.bossGroup, this.workerGroup)
+            .channel(NioServerSocketChannel.class)
+            .childOption(ChannelOption.TCP_NODELAY, true)
+            .childOption(ChannelOption.SO_KEEPALIVE, true)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel channel) {
+                    channel.pipeline()
+                        .addLast(new FlushConsolidationHandler(
+                            FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true))
+                        .addLast(new RemotingCommandDecoder())
+                        .addLast(NettyRemotingServer.this.encoder)
+                        .addLast(NettyRemotingServer.this.handler);
+                }
+            })
+            .bind(this.host, this.port)
+            .syncUninterruptibly()
+            .channel();
+        log.info("riff: remoting server started on:[{}]", this.serverChannel.localAddress());
+    }
+
+    public synchronized void shutdown() {
+        if (this.serverChannel == null) {
+            return;
+        }
+
+        this.serverChannel.close().syncUninterruptibly();
+        this.bossGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+        this.workerGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+        this.serverChannel = null;
+    }
+
+    /**
+     * @return the bound port, useful when started on port {@code 0}
+     */
+    public int port() {
+        return ((InetSocketAddress) this.serverChannel.localAddress()).getPort();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * {@code ServerHandler}.
+     */
+    @ChannelHandler.Sharable
+    private final class ServerHandler extends SimpleChannelInboundHandler<RemotingCommand> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, RemotingCommand request) {
+            if (request.isResponse()) {
+                return;
+            }
+
+            RequestProcessor processor = NettyRemotingServer.this.processors.get(request.code());
+            if (processor == null) {
+                this.reply(ctx, request, null, new UnsupportedOperationException("unsupported code:" + request.code()));
+
+                return;
+            }
+
+            CompletionStage<?> stage;
+            try {
+                stage = processor.process(request);
+            } catch (Throwable e) {
+                this.reply(ctx, request, null, e);
+
+                return;
+            }
+            stage.whenComplete((payload, cause) -> this.reply(ctx, request, payload, cause));
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            log.warn("riff: remoting server channel:[{}] failed, closing", ctx.channel().remoteAddress(), cause);
+            ctx.close();
+        }
+
+        private void reply(ChannelHandlerContext ctx, RemotingCommand request, Object payload, Throwable cause) {
+            if (request.isOneway()) {
+                if (payload instanceof FileBody file) {
+                    file.region().release();
+                }
+
+                return;
+            }
+            if (cause == null && payload instanceof FileBody file) {
+                this.replyFile(ctx, request, file);
+
+                return;
+            }
+
+            RemotingCommand response;
+            if (cause != null) {
+                response = RemotingCommand.error(request, String.valueOf(cause.getMessage()));
+            } else if (payload instanceof RiffMessage message) {
+                response = RemotingCommand.response(request, message);
+            } else {
+                response = RemotingCommand.response(request, (byte[]) payload);
+            }
+            ctx.writeAndFlush(response, ctx.voidPromise());
+        }
+
+        /**
+         * Writes the header and the head bytes from a buffer, then lets the transport send the
+         * file region, with {@code transferTo} on NIO. Both writes are issued from the event
+         * loop, so no other response can slip in between them.
+         */
+        private void replyFile(ChannelHandlerContext ctx, RemotingCommand request, FileBody file) {
+            if (!ctx.executor().inEventLoop()) {
+                ctx.executor().execute(() -> this.replyFile(ctx, request, file));
+
+                return;
+            }
+
+            RemotingCommand response = RemotingCommand.response(request, file.head());
+            ByteBuf header = ctx.alloc().ioBuffer(4 + RemotingCommand.HEADER_LENGTH + file.head().length);
+            RemotingCommandEncoder.writeHeader(response, file.length(), header);
+            header.writeBytes(file.head());
+            ctx.write(header, ctx.voidPromise());
+            ctx.writeAndFlush(file.region(), ctx.voidPromise());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code RemotingClientBenchmark}.
+ *
+ * <p>Loopback echo over one multiplexed connection shared by all benchmark threads.
+ * {@code roundTrip} samples the latency of a blocking call (JMH prints p50/p90/p99/p99.9);
+ * {@code pipelined} keeps {@value #WINDOW} requests in flight per thread and reports messages/sec.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RemotingClientBenchmark {
+
+    static final int WINDOW = 256;
+
+    @Param({"64", "1024"})
+    int payloadBytes;
+
+    NettyRemotingServer server;
+    NettyRemotingClient client;
+    String address;
+    byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.server = new NettyRemotingServer("127.0.0.1", 0, 2);
+        this.server.start();
+        this.address = "127.0.0.1:" + this.server.port();
+        this.client = new NettyRemotingClient(2, 3_000);
+        this.client.start();
+        this.payload = new byte[this.payloadBytes];
+        this.client.invoke(this.address, RequestCode.ECHO, this.payload).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.client.shutdown();
+        this.server.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RemotingCommand roundTrip() {
+        return this.client.invoke(this.address, RequestCode.ECHO, this.payload).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(WINDOW)
+    public Object pipelined() {
+        CompletableFuture<?>[] window = new CompletableFuture<?>[WINDOW];
+        for (int i = 0; i < WINDOW; i++) {
+            window[i] = this.client.invoke(this.address, RequestCode.ECHO, this.payload);
+        }
+
+        return CompletableFuture.allOf(window).join();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.callback;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code CallbackBatcherTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class CallbackBatcherTest {
+
+    private static final int RESULTS = 10_000;
+    private static final long POISON = -1L;
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicBoolean down = new AtomicBoolean();
+    private final List<Long> received = new CopyOnWriteArrayList<>();
+
+    private NettyRemotingServer server;
+    private NettyRemotingClient client;
+    private String address;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new NettyRemotingServer("127.0.0.1", 0, 1);
+        this.server.registerProcessor(RequestCode.CALLBACK_BATCH, request -> {
+            this.requests.incrementAndGet();
+            if (this.down.get()) {
+                // never answered, the sender times out
+                return new CompletableFuture<>();
+            }
+
+            MessageCodec codec = MessageCodecs.binary();
+            ByteBuf in = Unpooled.wrappedBuffer(request.body());
+            List<Long> logIds = new ArrayList<>();
+            while (in.isReadable()) {
+                logIds.add(((CallbackResult) codec.decode(in)).getLogId());
+            }
+            if (logIds.contains(POISON)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("riff: malformed callback"));
+            }
+            this.received.addAll(logIds);
+
+            return CompletableFuture.completedFuture(new byte[0]);
+        });
+        this.server.start();
+        this.address = "127.0.0.1:" + this.server.port();
+
+        this.client = new NettyRemotingClient();
+        this.client.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.client.shutdown();
+        this.server.shutdown();
+    }
+
+    @Test
+    void testAccept_coalescesConcurrentResults() throws Exception {
+        CallbackBatcher batcher = this.batcher("coalesce.spool");
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < RESULTS; i++) {
+                long logId = i;
+                workers.execute(() -> batcher.accept(result(logId)));
+            }
+            workers.shutdown();
+            Assertions.assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+
+            await(() -> this.received.size() == RESULTS);
+        } finally {
+            batcher.close();
+        }
+
+        Assertions.assertEquals(RESULTS, batcher.sent());
+        Assertions.assertEquals(0, batcher.spooled());
+        // one RPC per result before; batches must cut that by at least an order of magnitude
+        Assertions.assertTrue(this.requests.get() <= RESULTS / 10, "requests:" + this.requests.get());
+    }
+
+    @Test
+    void testAccept_spoolsWhileDownAndReplaysInOrder() {
+        this.down.set(true);
+        CallbackBatcher batcher = this.batcher("replay.spool");
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                batcher.accept(result(i));
+            }
+            await(() -> batcher.spooled() == 1_000);
+            Assertions.assertTrue(batcher.spoolDepth() > 0);
+            Assertions.assertTrue(this.received.isEmpty());
+
+            this.down.set(false);
+            for (int i = 1_000; i < 1_100; i++) {
+                batcher.accept(result(i));
+            }
+            await(() -> this.received.size() == 1_100);
+        } finally {
+            batcher.close();
+        }
+
+        Assertions.assertEquals(0, batcher.spoolDepth());
+        Assertions.assertEquals(0, batcher.dropped());
+        for (int i = 0; i < 1_100; i++) {
+            Assertions.assertEquals(i, this.received.get(i));
+        }
+    }
+
+    @Test
+    void testClose_spoolsPendingForNextRun() {
+        this.down.set(true);
+        CallbackBatcher batcher = this.batcher("restart.spool");
+        for (int i = 0; i < 10; i++) {
+            batcher.accept(result(i));
+        }
+        batcher.close();
+
+        this.down.set(false);
+        CallbackBatcher restarted = this.batcher("restart.spool");
+        try {
+            await(() -> this.received.size() == 10);
+        } finally {
+            restarted.close();
+        }
+
+        Assertions.assertTrue(restarted.replayed() > 0);
+    }
+
+    @Test
+    void testReplay_dropsRejectedBatchWithoutBlockingLaterOnes() {
+        this.down.set(true);
+        CallbackBatcher batcher = this.batcher("rejected.spool");
+        try {
+            batcher.accept(result(POISON));
+            await(() -> batcher.spooled() == 1);
+            for (int i = 0; i < 100; i++) {
+                batcher.accept(result(i));
+            }
+            await(() -> batcher.spooled() == 101);
+
+            this.down.set(false);
+            await(() -> this.received.size() == 100);
+        } finally {
+            batcher.close();
+        }
+
+        Assertions.assertEquals(1, batcher.rejected());
+        Assertions.assertEquals(0, batcher.spoolDepth());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, this.received.get(i));
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private CallbackBatcher batcher(String spool) {
+        CallbackBatcherOptions options = CallbackBatcherOptions.builder()
+            .retryBackoffMillis(10)
+            .maxBackoffMillis(50)
+            .sendTimeoutMillis(100)
+            .spoolFile(this.dir.resolve(spool))
+            .spoolCapacity(1 << 20)
+            .build();
+        CallbackBatcher batcher = new CallbackBatcher(this.client, this.address, options);
+        batcher.start();
+
+        return batcher;
+    }
+
+    private static CallbackResult result(long logId) {
+        return CallbackResult.builder()
+            .jobId(1L)
+            .logId(logId)
+            .code(CallbackResult.SUCCESS)
+            .build();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.onSpinWait();
+        }
+    }
+}
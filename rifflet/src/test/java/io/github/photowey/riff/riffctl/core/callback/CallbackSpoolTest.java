@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.callback;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code CallbackSpoolTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/18
+ */
+class CallbackSpoolTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testAppend_survivesReopen() {
+        Path file = this.dir.resolve("callback.spool");
+        try (CallbackSpool spool = CallbackSpool.open(file, 1024)) {
+            Assertions.assertTrue(spool.append(bytes("a")));
+            Assertions.assertTrue(spool.append(bytes("b")));
+            spool.remove();
+        }
+
+        try (CallbackSpool spool = CallbackSpool.open(file, 1024)) {
+            Assertions.assertEquals(1, spool.batches());
+            Assertions.assertEquals("b", text(spool.peek()));
+            spool.remove();
+            Assertions.assertTrue(spool.isEmpty());
+            Assertions.assertNull(spool.peek());
+        }
+    }
+
+    @Test
+    void testAppend_wrapsInOrder() {
+        // room for three 60-byte records after the header
+        try (CallbackSpool spool = CallbackSpool.open(this.dir.resolve("wrap.spool"), CallbackSpool.HEADER + 200)) {
+            byte[] record = new byte[56];
+            for (int i = 0; i < 3; i++) {
+                record[0] = (byte) i;
+                Assertions.assertTrue(spool.append(record.clone()));
+            }
+            Assertions.assertFalse(spool.append(record));
+
+            spool.remove();
+            spool.remove();
+            record[0] = 3;
+            Assertions.assertTrue(spool.append(record.clone()));
+
+            Assertions.assertEquals(2, spool.batches());
+            Assertions.assertEquals(2, spool.peek()[0]);
+            spool.remove();
+            Assertions.assertEquals(3, spool.peek()[0]);
+        }
+    }
+
+    @Test
+    void testOpen_resetsCorruptFile() throws Exception {
+        Path file = this.dir.resolve("corrupt.spool");
+        Files.write(file, new byte[256]);
+
+        try (CallbackSpool spool = CallbackSpool.open(file, 256)) {
+            Assertions.assertTrue(spool.isEmpty());
+            Assertions.assertTrue(spool.append(bytes("c")));
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
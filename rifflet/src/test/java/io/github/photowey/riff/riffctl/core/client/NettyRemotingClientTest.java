@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.client;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.github.photowey.riff.core.codec.MessageCodec;
+import io.github.photowey.riff.core.codec.MessageCodecs;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code NettyRemotingClientTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class NettyRemotingClientTest {
+
+    private NettyRemotingServer server;
+    private NettyRemotingClient client;
+    private String address;
+
+    @BeforeEach
+    void setUp() {
+        this.server = new NettyRemotingServer("127.0.0.1", 0, 1);
+        this.server.registerProcessor(RequestCode.TRIGGER, request -> new CompletableFuture<>());
+        this.server.registerProcessor(RequestCode.CALLBACK, request -> {
+            throw new IllegalStateException("callback rejected");
+        });
+        this.server.start();
+        this.address = "127.0.0.1:" + this.server.port();
+
+        this.client = new NettyRemotingClient();
+        this.client.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.client.shutdown();
+        this.server.shutdown();
+    }
+
+    @Test
+    void testInvoke_echo() {
+        RemotingCommand response = this.client.invoke(
+            this.address, RequestCode.ECHO, "hello".getBytes(StandardCharsets.UTF_8)).join();
+
+        Assertions.assertTrue(response.isResponse());
+        Assertions.assertEquals("hello", new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testInvoke_messageWithEachCodec() {
+        TriggerRequest request = TriggerRequest.builder().jobId(7L).logId(42L).handler("demo").build();
+        RemotingCommand binary = this.client.invoke(this.address, RequestCode.ECHO, request).join();
+        Assertions.assertEquals(MessageCodec.BINARY, binary.codec());
+        Assertions.assertEquals(request, binary.message(TriggerRequest.class));
+
+        NettyRemotingClient jsonClient = new NettyRemotingClient(1, 3_000, MessageCodecs.json());
+        jsonClient.start();
+        try {
+            RemotingCommand json = jsonClient.invoke(this.address, RequestCode.ECHO, request).join();
+            Assertions.assertEquals(MessageCodec.JSON, json.codec());
+            Assertions.assertEquals(request, json.message(TriggerRequest.class));
+        } finally {
+            jsonClient.shutdown();
+        }
+    }
+
+    @Test
+    void testInvoke_pipelinesOverOneConnection() {
+        List<CompletableFuture<RemotingCommand>> futures = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            byte[] body = ByteBuffer.allocate(4).putInt(i).array();
+            futures.add(this.client.invoke(this.address, RequestCode.ECHO, body));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            Assertions.assertEquals(i, ByteBuffer.wrap(futures.get(i).join().body()).getInt());
+        }
+        Assertions.assertEquals(1, this.client.connectionCount());
+    }
+
+    @Test
+    void testInvoke_timesOutAndErrors() {
+        CompletableFuture<RemotingCommand> never = this.client.invoke(
+            this.address, RequestCode.TRIGGER, new byte[0], 50);
+        ExecutionException timeout = Assertions.assertThrows(
+            ExecutionException.class, () -> never.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(TimeoutException.class, timeout.getCause());
+
+        CompletionException rejected = Assertions.assertThrows(CompletionException.class,
+            () -> this.client.invoke(this.address, RequestCode.CALLBACK, new byte[0]).join());
+        Assertions.assertEquals("callback rejected", rejected.getCause().getMessage());
+
+        CompletionException unsupported = Assertions.assertThrows(CompletionException.class,
+            () -> this.client.invoke(this.address, 99, new byte[0]).join());
+        Assertions.assertInstanceOf(RemotingException.class, unsupported.getCause());
+    }
+
+    @Test
+    void testInvoke_failsInFlightWhenPeerDiesAndReconnects() {
+        CompletableFuture<RemotingCommand> inFlight = this.client.invoke(
+            this.address, RequestCode.TRIGGER, new byte[0], 60_000);
+        this.client.invoke(this.address, RequestCode.ECHO, new byte[0]).join();
+
+        int port = this.server.port();
+        this.server.shutdown();
+        CompletionException closed = Assertions.assertThrows(CompletionException.class, inFlight::join);
+        Assertions.assertInstanceOf(RemotingException.class, closed.getCause());
+
+        this.server = new NettyRemotingServer("127.0.0.1", port, 1);
+        this.server.start();
+        Assertions.assertNotNull(this.client.invoke(this.address, RequestCode.ECHO, new byte[0]).join());
+        Assertions.assertEquals(1, this.client.connectionCount());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.Heartbeat;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JobExecutorTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JobExecutorTest {
+
+    private final List<JobExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        this.executors.forEach(JobExecutor::shutdown);
+    }
+
+    @Test
+    void testExecute_fiftyThousandConcurrentSleepingJobs() {
+        int jobs = 50_000;
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        JobExecutor executor = this.executor(1, 1);
+        executor.register("sleep", context -> probe.around(() -> Thread.sleep(2_000L)));
+
+        long start = System.nanoTime();
+        List<CompletableFuture<CallbackResult>> futures = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            futures.add(executor.execute(trigger(i, "sleep")));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertEquals(jobs, probe.peak.get());
+        Assertions.assertTrue(futures.stream().allMatch(f -> f.join().getCode() == CallbackResult.SUCCESS));
+        Assertions.assertTrue(elapsedMillis < 20_000L, "50k sleeping jobs took " + elapsedMillis + "ms");
+        Assertions.assertEquals(0, executor.running());
+    }
+
+    @Test
+    void testExecute_enforcesPerHandlerLimit() {
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        JobExecutor executor = this.executor(1, 1);
+        executor.register("limited", context -> probe.around(() -> Thread.sleep(10L)), ExecutionMode.VIRTUAL, 4);
+
+        List<CompletableFuture<CallbackResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(executor.execute(trigger(i, "limited")));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.waiting("limited") == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        Assertions.assertTrue(executor.waiting("limited") > 0);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        Assertions.assertEquals(4, probe.peak.get());
+        Assertions.assertEquals(0, executor.waiting("limited"));
+    }
+
+    @Test
+    void testExecute_platformModeRunsOnBoundedPool() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        LinkedBlockingQueue<Boolean> virtual = new LinkedBlockingQueue<>();
+        JobExecutor executor = this.executor(1, 1);
+        executor.register("cpu", context -> {
+            virtual.add(Thread.currentThread().isVirtual());
+            release.await();
+        }, ExecutionMode.PLATFORM, JobExecutor.UNLIMITED);
+
+        List<CompletableFuture<CallbackResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(executor.execute(trigger(i, "cpu")));
+        }
+        Assertions.assertEquals(Boolean.FALSE, virtual.poll(5, TimeUnit.SECONDS));
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        long rejected = futures.stream().filter(f -> f.join().getCode() == CallbackResult.REJECTED).count();
+        long succeeded = futures.stream().filter(f -> f.join().getCode() == CallbackResult.SUCCESS).count();
+        Assertions.assertTrue(succeeded >= 2, "pool thread plus queue slot must succeed");
+        Assertions.assertEquals(5L, succeeded + rejected);
+    }
+
+    @Test
+    void testExecute_reportsFailureAndMissingHandler() {
+        LinkedBlockingQueue<CallbackResult> callbacks = new LinkedBlockingQueue<>();
+        JobExecutor executor = new JobExecutor(1, 1, callbacks::add);
+        this.executors.add(executor);
+        executor.register("boom", context -> {
+            throw new IllegalStateException("boom:" + context.jobId());
+        });
+
+        CallbackResult failed = executor.execute(trigger(7L, "boom")).join();
+        Assertions.assertEquals(CallbackResult.FAILURE, failed.getCode());
+        Assertions.assertEquals("boom:7", failed.getMessage());
+        Assertions.assertEquals(CallbackResult.NOT_FOUND, executor.execute(trigger(8L, "missing")).join().getCode());
+        Assertions.assertEquals(2, callbacks.size());
+    }
+
+    @Test
+    void testHeartbeat_publishesPlatformPoolSizeAsCapacity() {
+        JobExecutor executor = this.executor(4, 16);
+
+        Heartbeat heartbeat = executor.heartbeat("app", "127.0.0.1:1");
+        Assertions.assertEquals(4, heartbeat.getCapacity());
+        Assertions.assertEquals(0, heartbeat.getInFlight());
+        Assertions.assertEquals(executor.capacity(), heartbeat.getCapacity());
+    }
+
+    @Test
+    void testTriggerProcessor_acknowledgesAndCallsBack() throws InterruptedException {
+        LinkedBlockingQueue<CallbackResult> callbacks = new LinkedBlockingQueue<>();
+        JobExecutor executor = new JobExecutor(1, 1, callbacks::add);
+        this.executors.add(executor);
+        executor.register("echo", context -> Assertions.assertEquals("p", context.params()));
+
+        NettyRemotingServer server = new NettyRemotingServer("127.0.0.1", 0, 1);
+        server.registerProcessor(RequestCode.TRIGGER, new TriggerProcessor(executor));
+        server.start();
+        NettyRemotingClient client = new NettyRemotingClient();
+        client.start();
+        try {
+            TriggerRequest request = trigger(9L, "echo");
+            request.setParams("p");
+            Assertions.assertNotNull(client.invoke("127.0.0.1:" + server.port(), RequestCode.TRIGGER, request).join());
+
+            CallbackResult result = callbacks.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(result);
+            Assertions.assertEquals(CallbackResult.SUCCESS, result.getCode());
+            Assertions.assertEquals(9L, result.getLogId());
+        } finally {
+            client.shutdown();
+            server.shutdown();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private JobExecutor executor(int platformThreads, int platformQueueCapacity) {
+        JobExecutor executor = new JobExecutor(platformThreads, platformQueueCapacity, result -> {
+        });
+        this.executors.add(executor);
+
+        return executor;
+    }
+
+    private static TriggerRequest trigger(long id, String handler) {
+        return TriggerRequest.builder().jobId(id).logId(id).handler(handler).build();
+    }
+
+    /**
+     * {@code ConcurrencyProbe}.
+     */
+    private static final class ConcurrencyProbe {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        void around(Blocking body) throws Exception {
+            this.peak.accumulateAndGet(this.current.incrementAndGet(), Math::max);
+            try {
+                body.run();
+            } finally {
+                this.current.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * {@code Blocking}.
+     */
+    @FunctionalInterface
+    private interface Blocking {
+
+        void run() throws Exception;
+    }
+}
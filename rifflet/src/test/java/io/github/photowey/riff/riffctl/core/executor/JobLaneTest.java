@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.photowey.riff.core.protocol.BlockStrategy;
+import io.github.photowey.riff.core.protocol.CallbackResult;
+import io.github.photowey.riff.core.protocol.TriggerRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code JobLaneTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JobLaneTest {
+
+    private static final long JOB_ID = 1L;
+
+    private final JobExecutor executor = new JobExecutor(1, 1, 16, result -> {
+    });
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdown();
+    }
+
+    @Test
+    void testSerialExecution_runsOneAtATimeInOrder() throws InterruptedException {
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Long> order = new CopyOnWriteArrayList<>();
+        this.executor.register("serial", context -> {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            order.add(context.logId());
+            Thread.sleep(1L);
+            current.decrementAndGet();
+        });
+
+        List<CompletableFuture<CallbackResult>> futures = new ArrayList<>();
+        for (long logId = 0; logId < 16; logId++) {
+            futures.add(this.executor.execute(trigger(logId, "serial", BlockStrategy.SERIAL_EXECUTION)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        Assertions.assertEquals(1, peak.get());
+        Assertions.assertEquals(16, order.size());
+        for (int i = 0; i < order.size(); i++) {
+            Assertions.assertEquals(i, order.get(i));
+        }
+        awaitIdle(this.executor);
+    }
+
+    @Test
+    void testSerialExecution_boundsPendingRunsOfHotJob() {
+        this.executor.register("hot", context -> Thread.sleep(2L));
+
+        List<CompletableFuture<CallbackResult>> futures = new ArrayList<>();
+        for (long logId = 0; logId < 200; logId++) {
+            futures.add(this.executor.execute(trigger(logId, "hot", BlockStrategy.SERIAL_EXECUTION)));
+            Assertions.assertTrue(this.executor.pending(JOB_ID) <= 16);
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        long rejected = futures.stream().filter(f -> f.join().getCode() == CallbackResult.REJECTED).count();
+        Assertions.assertTrue(rejected > 0);
+        Assertions.assertEquals(200L - rejected,
+            futures.stream().filter(f -> f.join().getCode() == CallbackResult.SUCCESS).count());
+    }
+
+    @Test
+    void testDiscardLater_dropsTriggersWhileRunning() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        this.executor.register("discard", context -> {
+            started.countDown();
+            release.await();
+        });
+
+        final CompletableFuture<CallbackResult> first = this.executor.execute(
+            trigger(1L, "discard", BlockStrategy.DISCARD_LATER));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (long logId = 2; logId < 6; logId++) {
+            CallbackResult discarded = this.executor.execute(trigger(logId, "discard", BlockStrategy.DISCARD_LATER))
+                .join();
+            Assertions.assertEquals(CallbackResult.REJECTED, discarded.getCode());
+        }
+
+        release.countDown();
+        Assertions.assertEquals(CallbackResult.SUCCESS, first.join().getCode());
+        awaitIdle(this.executor);
+        Assertions.assertEquals(CallbackResult.SUCCESS,
+            this.executor.execute(trigger(6L, "discard", BlockStrategy.DISCARD_LATER)).join().getCode());
+    }
+
+    @Test
+    void testCoverEarly_cancelsRunningAndQueuedRuns() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        List<Long> completed = new CopyOnWriteArrayList<>();
+        this.executor.register("cover", context -> {
+            started.countDown();
+            if (context.logId() == 1L) {
+                Thread.sleep(60_000L);
+            }
+            completed.add(context.logId());
+        });
+
+        CompletableFuture<CallbackResult> running = this.executor.execute(
+            trigger(1L, "cover", BlockStrategy.SERIAL_EXECUTION));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<CallbackResult> queued = this.executor.execute(
+            trigger(2L, "cover", BlockStrategy.SERIAL_EXECUTION));
+        CompletableFuture<CallbackResult> latest = this.executor.execute(
+            trigger(3L, "cover", BlockStrategy.COVER_EARLY));
+
+        Assertions.assertEquals(CallbackResult.REJECTED, running.get(5, TimeUnit.SECONDS).getCode());
+        Assertions.assertEquals(CallbackResult.REJECTED, queued.join().getCode());
+        Assertions.assertEquals(CallbackResult.SUCCESS, latest.join().getCode());
+        Assertions.assertEquals(List.of(3L), completed);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static TriggerRequest trigger(long logId, String handler, BlockStrategy strategy) {
+        return TriggerRequest.builder()
+            .jobId(JOB_ID)
+            .logId(logId)
+            .handler(handler)
+            .blockStrategy(strategy)
+            .build();
+    }
+
+    private static void awaitIdle(JobExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.pending(JOB_ID) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+        Assertions.assertEquals(0, executor.pending(JOB_ID));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025-present
+ * the original author(photowey<photowey@gmail.com>) or authors All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.riff.riffctl.core.log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.github.photowey.riff.riffctl.core.client.NettyRemotingClient;
+import io.github.photowey.riff.riffctl.core.protocol.RemotingCommand;
+import io.github.photowey.riff.riffctl.core.protocol.RequestCode;
+import io.github.photowey.riff.riffctl.core.server.NettyRemotingServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code JobLogStoreTest}.
+ *
+ * @author photowey
+ * @version 1.0.0
+ * @since 2026/10/17
+ */
+class JobLogStoreTest {
+
+    private static final int SEGMENT_BYTES = 64;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testRead_slicesStayWithinOneSegment() throws IOException {
+        JobLogStore store = new JobLogStore(this.root, SEGMENT_BYTES);
+        String expected = lines(20);
+        try (JobLogAppender appender = store.open(7L)) {
+            expected.lines().forEach(appender::append);
+            Assertions.assertEquals(expected.length(), appender.endOffset());
+
+            LogSlice live = store.read(7L, 60L, 1_024);
+            Assertions.assertFalse(live.finished());
+            Assertions.assertEquals(4, live.length());
+        }
+
+        Assertions.assertFalse(store.isOpen(7L));
+        Assertions.assertEquals(SEGMENT_BYTES, Files.size(this.root.resolve("7").resolve(LogSegment.fileName(0L))));
+        Assertions.assertEquals(expected, this.readAll(store, 7L, 1_024));
+        Assertions.assertEquals(expected, this.readAll(store, 7L, 5));
+
+        LogSlice end = store.read(7L, Long.MAX_VALUE, 16);
+        Assertions.assertTrue(end.finished());
+        Assertions.assertEquals(expected.length(), end.offset());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> store.read(8L, 0L, 16));
+        Assertions.assertTrue(store.delete(7L));
+    }
+
+    @Test
+    void testOpen_recoversUnsealedSegmentAfterCrash() throws IOException {
+        Path directory = Files.createDirectories(this.root.resolve("9"));
+        LogSegment crashed = LogSegment.create(directory, 0L, SEGMENT_BYTES);
+        byte[] written = "before crash\n".getBytes(StandardCharsets.UTF_8);
+        crashed.append(written, 0, written.length);
+        LogSegment.create(directory, written.length, SEGMENT_BYTES);
+
+        JobLogStore store = new JobLogStore(this.root, SEGMENT_BYTES);
+        Assertions.assertEquals("before crash\n", this.readAll(store, 9L, 1_024));
+
+        try (JobLogAppender appender = store.open(9L)) {
+            Assertions.assertEquals(written.length, appender.endOffset());
+            appender.append("after restart");
+        }
+        Assertions.assertEquals("before crash\nafter restart\n", this.readAll(store, 9L, 1_024));
+    }
+
+    @Test
+    void testLogRead_tailsRunningLogOverRemoting() throws Exception {
+        JobLogStore store = new JobLogStore(this.root, SEGMENT_BYTES);
+        NettyRemotingServer server = new NettyRemotingServer("127.0.0.1", 0, 1);
+        server.registerProcessor(RequestCode.LOG_READ, new LogReadProcessor(store));
+        server.start();
+        NettyRemotingClient client = new NettyRemotingClient();
+        client.start();
+
+        String expected = lines(200);
+        JobLogAppender appender = store.open(11L);
+        Thread writer = Thread.ofVirtual().start(() -> {
+            expected.lines().forEach(appender::append);
+            appender.close();
+        });
+
+        try {
+            ByteArrayOutputStream tailed = new ByteArrayOutputStream();
+            long offset = 0L;
+            while (true) {
+                RemotingCommand response = client.invoke("127.0.0.1:" + server.port(), RequestCode.LOG_READ,
+                    new LogReadRequest(11L, offset, 100).encode()).join();
+                LogChunk chunk = LogChunk.decode(response.body());
+                Assertions.assertEquals(offset, chunk.offset());
+                tailed.write(chunk.data());
+                offset = chunk.nextOffset();
+                if (chunk.isComplete()) {
+                    break;
+                }
+            }
+            writer.join();
+
+            Assertions.assertEquals(expected, tailed.toString(StandardCharsets.UTF_8));
+        } finally {
+            client.shutdown();
+            server.shutdown();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private String readAll(JobLogStore store, long logId, int maxBytes) throws IOException {
+        StringBuilder out = new StringBuilder();
+        long offset = 0L;
+        while (true) {
+            LogSlice slice = store.read(logId, offset, maxBytes);
+            if (slice.length() == 0) {
+                return out.toString();
+            }
+
+            byte[] bytes = Files.readAllBytes(slice.file());
+            out.append(new String(bytes, (int) slice.position(), slice.length(), StandardCharsets.UTF_8));
+            offset += slice.length();
+        }
+    }
+
+    private static String lines(int count) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            lines.append("line-").append(i).append('\n');
+        }
+
+        return lines.toString();
+    }
+}